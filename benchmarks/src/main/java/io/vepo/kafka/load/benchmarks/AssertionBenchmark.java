@@ -0,0 +1,65 @@
+package io.vepo.kafka.load.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.assertion.AssertionCompiler;
+import io.vepo.kafka.load.engine.assertion.AssertionEvaluator;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.MessageAssertion;
+import io.vepo.kafka.load.parser.Operator;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark {
+    private AssertionEvaluator evaluator;
+    private byte[] key;
+    private byte[] passing;
+    private byte[] failing;
+
+    @Setup
+    public void setup() {
+        evaluator = new AssertionCompiler(Configuration.empty()).compile(Assertion.builder()
+                .topic(PropertyValue.fromText("topic-1"))
+                .assertion(MessageAssertion.builder()
+                        .path("$.value.id")
+                        .operator(Operator.GREATER_THAN_OR_EQUAL_TO)
+                        .value(PropertyValue.fromNumber("0"))
+                        .build())
+                .assertion(MessageAssertion.builder()
+                        .path("$.value.name")
+                        .operator(Operator.CONTAINS)
+                        .value(PropertyValue.fromText("load"))
+                        .build())
+                .build());
+        key = "42".getBytes(UTF_8);
+        passing = Plans.VALUE.replace("${index}", "42").getBytes(UTF_8);
+        failing = Plans.VALUE.replace("${index}", "-42").getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public boolean passing() {
+        return evaluator.test(key, passing);
+    }
+
+    @Benchmark
+    public boolean failing() {
+        return evaluator.test(key, failing);
+    }
+}
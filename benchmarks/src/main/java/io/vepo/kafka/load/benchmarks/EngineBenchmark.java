@@ -0,0 +1,89 @@
+package io.vepo.kafka.load.benchmarks;
+
+import io.vepo.kafka.load.engine.compiler.PlanCompiler;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.internal.CorrelationTracker;
+import io.vepo.kafka.load.engine.internal.ExecutionStats;
+import io.vepo.kafka.load.engine.internal.IterationRunner;
+import io.vepo.kafka.load.engine.internal.MessageSender;
+import io.vepo.kafka.load.engine.internal.MetricsRegistry;
+import io.vepo.kafka.load.engine.internal.ReplyTracker;
+import io.vepo.kafka.load.engine.internal.Transactions;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.engine.transport.Transports;
+import io.vepo.kafka.load.parser.TestPlanFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Engine {
+        private final AtomicInteger clients = new AtomicInteger();
+        private Transport transport;
+        private MessageSender sender;
+        private IterationRunner runner;
+
+        @Setup
+        public void setup() {
+            var configuration = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+            var testPlan = TestPlanFactory.parseTestPlan(Plans.plan(1));
+            var compiledPlan = new PlanCompiler(configuration).compile(testPlan);
+            var settings = TransportSettings.of(testPlan.connection(), configuration);
+            transport = Transports.open(settings, configuration);
+            sender = new MessageSender(testPlan.name(), settings, testPlan.clients(), transport);
+            runner = new IterationRunner(compiledPlan, sender,
+                    new MetricsRegistry(compiledPlan.steps(), testPlan.clients()), new ExecutionStats(),
+                    CorrelationTracker.of(compiledPlan.steps()),
+                    ReplyTracker.of(compiledPlan.steps(), testPlan.clients()),
+                    Transactions.of(compiledPlan, transport).trackers());
+        }
+
+        @TearDown
+        public void tearDown() {
+            sender.close();
+            transport.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private RenderContext context;
+        private long index;
+
+        @Setup
+        public void setup(Engine engine) {
+            context = engine.runner.context(engine.clients.getAndIncrement());
+        }
+    }
+
+    @Benchmark
+    public void iteration(Engine engine, Client client) throws InterruptedException {
+        engine.runner.run(client.context, client.index++, System.nanoTime(), true);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void contendedIteration(Engine engine, Client client) throws InterruptedException {
+        engine.runner.run(client.context, client.index++, System.nanoTime(), true);
+    }
+}
@@ -0,0 +1,39 @@
+package io.vepo.kafka.load.benchmarks;
+
+import io.vepo.kafka.load.parser.TestPlan;
+import io.vepo.kafka.load.parser.TestPlanFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"1", "1000"})
+    private int steps;
+
+    private String plan;
+
+    @Setup
+    public void setup() {
+        plan = Plans.plan(steps);
+    }
+
+    @Benchmark
+    public TestPlan parse() {
+        return TestPlanFactory.parseTestPlan(plan);
+    }
+}
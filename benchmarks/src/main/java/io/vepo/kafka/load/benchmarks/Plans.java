@@ -0,0 +1,49 @@
+package io.vepo.kafka.load.benchmarks;
+
+final class Plans {
+    static final String VALUE = """
+            {"id": ${index}, "name": "kafka-load", "tags": ["load", "benchmark"], "enabled": true}""";
+
+    private Plans() {
+    }
+
+    static String plan(int steps) {
+        var plan = new StringBuilder();
+        plan.append("""
+                TestPlan Benchmark {
+                    clients:   100
+                    cycleTime: 10ms
+                    warmUp:    10s
+                    execution: 60s
+                    rampDown:  10s
+
+                    connection {
+                        bootstrapServer: "localhost:9092"
+                        producers: 8
+                        lingerMs: 5
+                    }
+                """);
+        for (int step = 0; step < steps; ++step) {
+            plan.append("""
+                        Step%d {
+                            message {
+                                topic: "topic-%d"
+                                key:   ${index}
+                                value: ""\"
+                                        {
+                                            "id": ${index},
+                                            "name": "kafka-load"
+                                        }
+                                        ""\"
+                            }
+                            assertion {
+                                topic: "topic-%d"
+                                $.value.id >= 0
+                                $.value.name contains "load"
+                            }
+                        }
+                    """.formatted(step, step, step));
+        }
+        return plan.append("}\n").toString();
+    }
+}
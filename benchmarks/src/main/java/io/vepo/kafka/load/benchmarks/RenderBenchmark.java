@@ -0,0 +1,62 @@
+package io.vepo.kafka.load.benchmarks;
+
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.config.Configuration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+    private Template key;
+    private Template value;
+    private Template generators;
+    private RenderContext context;
+    private long index;
+
+    @Setup
+    public void setup() {
+        var compiler = new TemplateCompiler(Configuration.empty());
+        key = compiler.compile("${index}");
+        value = compiler.compile(Plans.VALUE);
+        generators = compiler.compile("{\"id\": \"${random.uuid}\", \"sequence\": ${sequence}, "
+                + "\"score\": ${random.int(1,1000)}, \"name\": \"${random.string(64)}\"}");
+        context = new RenderContext(0);
+    }
+
+    @Benchmark
+    public int render() {
+        context.index(index++);
+        key.render(context, context.key());
+        value.render(context, context.value());
+        return context.key().length() + context.value().length();
+    }
+
+    @Benchmark
+    public int renderGenerators() {
+        generators.render(context, context.value());
+        return context.value().length();
+    }
+
+    @Benchmark
+    public byte[] renderAndCopy() {
+        context.index(index++);
+        value.render(context, context.value());
+        return context.value().toByteArray();
+    }
+}
@@ -0,0 +1,77 @@
+package io.vepo.kafka.load.engine;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Idempotence;
+import java.util.List;
+
+public record BenchmarkMatrix(List<Compression> compressions, List<Integer> lingerMs, List<Integer> batchSizes,
+                              List<Idempotence> idempotence, List<Integer> transactionSizes, int repetitions) {
+
+    public static BenchmarkMatrixBuilder builder() {
+        return new BenchmarkMatrixBuilder();
+    }
+
+    public int cells() {
+        return compressions.size() * lingerMs.size() * batchSizes.size() * Math.max(idempotence.size(), 1)
+                * Math.max(transactionSizes.size(), 1);
+    }
+
+    public static class BenchmarkMatrixBuilder {
+        private List<Compression> compressions = List.of(Compression.values());
+        private List<Integer> lingerMs = List.of(0, 5, 20);
+        private List<Integer> batchSizes = List.of(16384, 65536, 262144);
+        private List<Idempotence> idempotence = List.of();
+        private List<Integer> transactionSizes = List.of();
+        private int repetitions = 1;
+
+        private BenchmarkMatrixBuilder() {
+        }
+
+        public BenchmarkMatrixBuilder compressions(List<Compression> compressions) {
+            this.compressions = List.copyOf(compressions);
+            return this;
+        }
+
+        public BenchmarkMatrixBuilder lingerMs(List<Integer> lingerMs) {
+            this.lingerMs = List.copyOf(lingerMs);
+            return this;
+        }
+
+        public BenchmarkMatrixBuilder batchSizes(List<Integer> batchSizes) {
+            this.batchSizes = List.copyOf(batchSizes);
+            return this;
+        }
+
+        public BenchmarkMatrixBuilder idempotence(List<Idempotence> idempotence) {
+            this.idempotence = List.copyOf(idempotence);
+            return this;
+        }
+
+        public BenchmarkMatrixBuilder transactionSizes(List<Integer> transactionSizes) {
+            this.transactionSizes = List.copyOf(transactionSizes);
+            return this;
+        }
+
+        public BenchmarkMatrixBuilder repetitions(int repetitions) {
+            this.repetitions = repetitions;
+            return this;
+        }
+
+        public BenchmarkMatrix build() {
+            if (compressions.isEmpty() || lingerMs.isEmpty() || batchSizes.isEmpty()) {
+                throw new ExecutorException("Empty benchmark matrix!");
+            } else if (lingerMs.stream().anyMatch(linger -> linger < 0)) {
+                throw new ExecutorException("Linger should not be negative! lingerMs=" + lingerMs);
+            } else if (batchSizes.stream().anyMatch(batchSize -> batchSize <= 0)) {
+                throw new ExecutorException("Batch size should be greater than 0! batchSizes=" + batchSizes);
+            } else if (transactionSizes.stream().anyMatch(transactionSize -> transactionSize < 0)) {
+                throw new ExecutorException("Transaction size should not be negative! transactionSizes="
+                        + transactionSizes);
+            } else if (repetitions <= 0) {
+                throw new ExecutorException("Repetitions should be greater than 0! repetitions=" + repetitions);
+            }
+            return new BenchmarkMatrix(compressions, lingerMs, batchSizes, idempotence, transactionSizes, repetitions);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.vepo.kafka.load.engine;
+
+import io.vepo.kafka.load.engine.events.ExecutionEvent;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.metrics.GeneratorProfile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class GeneratorProfiler {
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    private static final String SAFEPOINT_BEGIN = "jdk.SafepointBegin";
+    private static final String SAFEPOINT_END = "jdk.SafepointEnd";
+    private static final String EXECUTION = EventType.getEventType(ExecutionEvent.class).getName();
+
+    private record Window(String testPlan, Instant start, Instant end) {
+        boolean contains(Instant instant) {
+            return !instant.isBefore(start) && !instant.isAfter(end);
+        }
+    }
+
+    private static final class Totals {
+        private Duration duration = Duration.ZERO;
+        private long messages;
+        private long allocated;
+        private long collections;
+        private Duration gcPauses = Duration.ZERO;
+        private Duration longestGcPause = Duration.ZERO;
+        private long safepoints;
+        private Duration safepointTime = Duration.ZERO;
+
+        private void add(String name, RecordedEvent event) {
+            if (name.equals(ALLOCATION_SAMPLE)) {
+                allocated += event.getLong("weight");
+            } else if (name.equals(GARBAGE_COLLECTION)) {
+                collections++;
+                gcPauses = gcPauses.plus(event.getDuration("sumOfPauses"));
+                var longest = event.getDuration("longestPause");
+                if (longest.compareTo(longestGcPause) > 0) {
+                    longestGcPause = longest;
+                }
+            }
+        }
+
+        private void safepoint(Duration time) {
+            safepoints++;
+            safepointTime = safepointTime.plus(time);
+        }
+
+        private GeneratorProfile profile(Path file) {
+            return new GeneratorProfile(file, duration, messages, allocated, collections, gcPauses, longestGcPause,
+                    safepoints, safepointTime);
+        }
+    }
+
+    private final Path file;
+    private final Recording recording;
+    private final Map<String, GeneratorProfile> testPlans = new HashMap<>();
+    private GeneratorProfile profile;
+
+    private GeneratorProfiler(Path file, Recording recording) {
+        this.file = file;
+        this.recording = recording;
+    }
+
+    public static GeneratorProfiler start(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            var recording = new Recording(jdk.jfr.Configuration.getConfiguration("profile"));
+            recording.setName("kafka-load");
+            recording.enable(SAFEPOINT_BEGIN).withThreshold(Duration.ZERO);
+            recording.enable(SAFEPOINT_END).withThreshold(Duration.ZERO);
+            recording.enable(ExecutionEvent.class);
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.start();
+            return new GeneratorProfiler(file, recording);
+        } catch (IOException | ParseException e) {
+            throw new ExecutorException("Could not start the recording! file=" + file, e);
+        }
+    }
+
+    public synchronized GeneratorProfile stop() {
+        if (profile == null) {
+            try (recording) {
+                recording.stop();
+                summarize();
+            } catch (IOException e) {
+                throw new ExecutorException("Could not read the recording! file=" + file, e);
+            }
+        }
+        return profile;
+    }
+
+    public synchronized Result attach(Result result) {
+        if (profile == null) {
+            throw new ExecutorException("The recording is still running! file=" + file);
+        }
+        return result.withProfile(testPlans.get(result.testPlan()));
+    }
+
+    private void summarize() throws IOException {
+        var windows = new ArrayList<Window>();
+        var plans = new HashMap<String, Totals>();
+        try (var recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                var event = recordingFile.readEvent();
+                if (event.getEventType().getName().equals(EXECUTION)) {
+                    var testPlan = event.getString("testPlan");
+                    windows.add(new Window(testPlan, event.getStartTime(), event.getEndTime()));
+                    var totals = plans.computeIfAbsent(testPlan, key -> new Totals());
+                    totals.duration = totals.duration.plus(event.getDuration());
+                    totals.messages += event.getLong("messages");
+                }
+            }
+        }
+        var run = new Totals();
+        var first = Instant.MAX;
+        var last = Instant.MIN;
+        var safepointStarts = new HashMap<Long, Instant>();
+        try (var recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                var event = recordingFile.readEvent();
+                if (event.getStartTime().isBefore(first)) {
+                    first = event.getStartTime();
+                }
+                if (event.getEndTime().isAfter(last)) {
+                    last = event.getEndTime();
+                }
+                var name = event.getEventType().getName();
+                if (name.equals(EXECUTION)) {
+                    run.messages += event.getLong("messages");
+                } else if (name.equals(SAFEPOINT_BEGIN)) {
+                    safepointStarts.put(event.getLong("safepointId"), event.getStartTime());
+                } else if (name.equals(SAFEPOINT_END)) {
+                    var start = safepointStarts.remove(event.getLong("safepointId"));
+                    if (start != null) {
+                        var time = Duration.between(start, event.getEndTime());
+                        run.safepoint(time);
+                        windows(windows, start, plans).forEach(totals -> totals.safepoint(time));
+                    }
+                } else {
+                    run.add(name, event);
+                    windows(windows, event.getStartTime(), plans).forEach(totals -> totals.add(name, event));
+                }
+            }
+        }
+        run.duration = first.isBefore(last) ? Duration.between(first, last) : Duration.ZERO;
+        profile = run.profile(file);
+        plans.forEach((testPlan, totals) -> testPlans.put(testPlan, totals.profile(file)));
+    }
+
+    private static Stream<Totals> windows(List<Window> windows, Instant instant, Map<String, Totals> plans) {
+        return windows.stream()
+                .filter(window -> window.contains(instant))
+                .map(Window::testPlan)
+                .distinct()
+                .map(plans::get);
+    }
+}
@@ -0,0 +1,111 @@
+package io.vepo.kafka.load.engine;
+
+import static java.lang.System.Logger.Level.INFO;
+
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.compiler.PlanCompiler;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.internal.MessageMetrics;
+import io.vepo.kafka.load.engine.internal.MessageSender;
+import io.vepo.kafka.load.engine.metrics.LatencyDistribution;
+import io.vepo.kafka.load.engine.metrics.MatrixCell;
+import io.vepo.kafka.load.engine.metrics.Statistics;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.engine.transport.Transports;
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Idempotence;
+import io.vepo.kafka.load.parser.TestPlan;
+import java.lang.System.Logger;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class MatrixBenchmark {
+    private static final Logger LOGGER = System.getLogger(MatrixBenchmark.class.getName());
+
+    private final Configuration configuration;
+    private final TestPanExecutor executor;
+
+    public MatrixBenchmark(Configuration configuration) {
+        this.configuration = configuration;
+        this.executor = new TestPanExecutor(configuration);
+    }
+
+    public void abort() {
+        executor.abort();
+    }
+
+    public MatrixResult run(TestPlan testPlan, BenchmarkMatrix matrix) {
+        var compiledPlan = new PlanCompiler(configuration).compile(testPlan);
+        var settings = TransportSettings.of(testPlan.connection(), configuration);
+        var idempotence = matrix.idempotence().isEmpty() ? List.of(settings.idempotence()) : matrix.idempotence();
+        var plans = matrix.transactionSizes().isEmpty() ? List.of(compiledPlan)
+                : matrix.transactionSizes().stream().map(compiledPlan::withTransactionSize).toList();
+        var cells = new ArrayList<MatrixCell>();
+        for (Compression compression : matrix.compressions()) {
+            for (int lingerMs : matrix.lingerMs()) {
+                for (int batchSize : matrix.batchSizes()) {
+                    for (Idempotence idempotent : idempotence) {
+                        for (CompiledPlan plan : plans) {
+                            if (executor.aborted()) {
+                                return new MatrixResult(testPlan.name(), matrix, cells);
+                            }
+                            cells.add(cell(plan, settings.withBatching(compression, lingerMs, batchSize)
+                                    .withIdempotence(idempotent), matrix.repetitions()));
+                        }
+                    }
+                }
+            }
+        }
+        return new MatrixResult(testPlan.name(), matrix, cells);
+    }
+
+    private MatrixCell cell(CompiledPlan compiledPlan, TransportSettings settings, int repetitions) {
+        var testPlan = compiledPlan.testPlan();
+        try (var transport = Transports.open(settings, configuration);
+             var sender = new MessageSender(testPlan.name(), settings, testPlan.clients(), transport)) {
+            var results = new ArrayList<Result>();
+            var cpuTime = cpuTime();
+            var start = System.nanoTime();
+            for (int repetition = 0; repetition < repetitions && !executor.aborted(); ++repetition) {
+                results.add(executor.execute(compiledPlan, transport, sender));
+            }
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            var cpuTimeEnd = cpuTime();
+            var successful = results.size() == repetitions && results.stream().allMatch(Result::successful);
+            var cell = new MatrixCell(settings.compression(), settings.lingerMs(), settings.batchSize(),
+                    settings.idempotence(), compiledPlan.transactionSize(), successful, total(testPlan.name(), results),
+                    sender.records(), sender.bytes(), transport.bytesSent(),
+                    cpuTime < 0 || cpuTimeEnd < 0 ? Duration.ofNanos(-1) : Duration.ofNanos(cpuTimeEnd - cpuTime),
+                    elapsed);
+            LOGGER.log(INFO, "Matrix cell {0}: compression={1} lingerMs={2} batchSize={3} idempotence={4} "
+                            + "transactionSize={5} throughput={6}/s latency={7} bytesPerRecord={8} cpuCores={9}",
+                    testPlan.name(), cell.compression(), cell.lingerMs(), cell.batchSize(), cell.idempotence(),
+                    cell.transactionSize(), Math.round(cell.total().throughput()), cell.total().latency(),
+                    Math.round(cell.wireBytesPerRecord()), String.format(Locale.ROOT, "%.2f", cell.cpuCores()));
+            return cell;
+        }
+    }
+
+    private static Statistics total(String name, List<Result> results) {
+        var histogram = MessageMetrics.newHistogram();
+        var count = 0L;
+        var errors = 0L;
+        var throughput = 0.0;
+        for (Result result : results) {
+            histogram.add(result.total().latency().histogram());
+            count += result.total().count();
+            errors += result.total().errors();
+            throughput += result.total().throughput();
+        }
+        return new Statistics(name, count, errors, results.isEmpty() ? 0.0 : throughput / results.size(),
+                LatencyDistribution.of(histogram));
+    }
+
+    private static long cpuTime() {
+        return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                ? os.getProcessCpuTime() : -1;
+    }
+}
@@ -0,0 +1,20 @@
+package io.vepo.kafka.load.engine;
+
+import io.vepo.kafka.load.engine.metrics.MatrixCell;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public record MatrixResult(String testPlan, BenchmarkMatrix matrix, List<MatrixCell> cells) {
+
+    public boolean successful() {
+        return cells.size() == matrix.cells() && cells.stream().allMatch(MatrixCell::successful);
+    }
+
+    public Optional<MatrixCell> best() {
+        return cells.stream()
+                .filter(MatrixCell::successful)
+                .max(Comparator.<MatrixCell>comparingDouble(cell -> cell.total().throughput())
+                        .thenComparing(cell -> cell.total().latency().p99(), Comparator.reverseOrder()));
+    }
+}
@@ -1,5 +1,144 @@
 package io.vepo.kafka.load.engine;
 
-public enum Result {
-    SUCCESS, ERROR
+import io.vepo.kafka.load.engine.metrics.AssertionStatistics;
+import io.vepo.kafka.load.engine.metrics.Backpressure;
+import io.vepo.kafka.load.engine.metrics.ConsumerStatistics;
+import io.vepo.kafka.load.engine.metrics.GeneratorProfile;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+import io.vepo.kafka.load.engine.metrics.RateSample;
+import io.vepo.kafka.load.engine.metrics.ReplyStatistics;
+import io.vepo.kafka.load.engine.metrics.Statistics;
+import io.vepo.kafka.load.engine.metrics.TransactionStatistics;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record Result(String testPlan, Status status, Duration duration, Statistics total,
+                     Map<String, Statistics> steps, Map<String, Statistics> topics,
+                     List<AssertionStatistics> assertions, List<ReplyStatistics> replies,
+                     List<ConsumerStatistics> consumers, List<TransactionStatistics> transactions,
+                     Backpressure backpressure, List<RateSample> rates, List<GeneratorSample> generator,
+                     GeneratorProfile profile) {
+
+    public enum Status {
+        SUCCESS, ERROR, ABORTED, GENERATOR_BOUND
+    }
+
+    public static class ResultBuilder {
+        private String testPlan;
+        private Status status = Status.SUCCESS;
+        private Duration duration = Duration.ZERO;
+        private Statistics total;
+        private Map<String, Statistics> steps = Map.of();
+        private Map<String, Statistics> topics = Map.of();
+        private List<AssertionStatistics> assertions = List.of();
+        private List<ReplyStatistics> replies = List.of();
+        private List<ConsumerStatistics> consumers = List.of();
+        private List<TransactionStatistics> transactions = List.of();
+        private Backpressure backpressure = new Backpressure(1, 0, 0, Duration.ZERO);
+        private List<RateSample> rates = List.of();
+        private List<GeneratorSample> generator = List.of();
+        private GeneratorProfile profile;
+
+        private ResultBuilder() {
+        }
+
+        public ResultBuilder testPlan(String testPlan) {
+            this.testPlan = testPlan;
+            return this;
+        }
+
+        public ResultBuilder status(Status status) {
+            this.status = status;
+            return this;
+        }
+
+        public ResultBuilder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public ResultBuilder total(Statistics total) {
+            this.total = total;
+            return this;
+        }
+
+        public ResultBuilder steps(Map<String, Statistics> steps) {
+            this.steps = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+            return this;
+        }
+
+        public ResultBuilder topics(Map<String, Statistics> topics) {
+            this.topics = Collections.unmodifiableMap(new LinkedHashMap<>(topics));
+            return this;
+        }
+
+        public ResultBuilder assertions(List<AssertionStatistics> assertions) {
+            this.assertions = List.copyOf(assertions);
+            return this;
+        }
+
+        public ResultBuilder replies(List<ReplyStatistics> replies) {
+            this.replies = List.copyOf(replies);
+            return this;
+        }
+
+        public ResultBuilder consumers(List<ConsumerStatistics> consumers) {
+            this.consumers = List.copyOf(consumers);
+            return this;
+        }
+
+        public ResultBuilder transactions(List<TransactionStatistics> transactions) {
+            this.transactions = List.copyOf(transactions);
+            return this;
+        }
+
+        public ResultBuilder backpressure(Backpressure backpressure) {
+            this.backpressure = backpressure;
+            return this;
+        }
+
+        public ResultBuilder rates(List<RateSample> rates) {
+            this.rates = List.copyOf(rates);
+            return this;
+        }
+
+        public ResultBuilder generator(List<GeneratorSample> generator) {
+            this.generator = List.copyOf(generator);
+            return this;
+        }
+
+        public ResultBuilder profile(GeneratorProfile profile) {
+            this.profile = profile;
+            return this;
+        }
+
+        public Result build() {
+            return new Result(testPlan, status, duration, total, steps, topics, assertions, replies, consumers,
+                    transactions, backpressure, rates, generator, profile);
+        }
+    }
+
+    public static ResultBuilder builder() {
+        return new ResultBuilder();
+    }
+
+    public Result withProfile(GeneratorProfile profile) {
+        return new Result(testPlan, status, duration, total, steps, topics, assertions, replies, consumers,
+                transactions, backpressure, rates, generator, profile);
+    }
+
+    public boolean successful() {
+        return status == Status.SUCCESS;
+    }
+
+    public boolean generatorBound() {
+        return generator.stream().anyMatch(sample -> sample.measured() && sample.bound());
+    }
+
+    public long generatorBoundIntervals() {
+        return generator.stream().filter(sample -> sample.measured() && sample.bound()).count();
+    }
 }
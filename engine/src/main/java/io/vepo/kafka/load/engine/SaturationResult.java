@@ -0,0 +1,18 @@
+package io.vepo.kafka.load.engine;
+
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.metrics.SaturationTrial;
+import java.util.Comparator;
+import java.util.List;
+
+public record SaturationResult(String testPlan, Slo slo, int rate, List<SaturationTrial> trials) {
+
+    public boolean found() {
+        return rate > 0;
+    }
+
+    public List<SaturationTrial> curve() {
+        return trials.stream().sorted(Comparator.comparingInt(SaturationTrial::rate)).collect(toList());
+    }
+}
@@ -0,0 +1,149 @@
+package io.vepo.kafka.load.engine;
+
+import static java.lang.System.Logger.Level.INFO;
+
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.compiler.PlanCompiler;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.internal.MessageSender;
+import io.vepo.kafka.load.engine.metrics.RateSample;
+import io.vepo.kafka.load.engine.metrics.SaturationTrial;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.engine.transport.Transports;
+import io.vepo.kafka.load.parser.Feeder;
+import io.vepo.kafka.load.parser.Step;
+import io.vepo.kafka.load.parser.TestPlan;
+import java.lang.System.Logger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class SaturationSearch {
+    private static final Logger LOGGER = System.getLogger(SaturationSearch.class.getName());
+    private static final int DEFAULT_START_RATE = 100;
+    private static final int MAX_TRIALS = 20;
+    private static final double PRECISION = 0.05;
+    private static final double MIN_ACHIEVED = 0.95;
+    private static final Duration TRIAL_WARM_UP = Duration.ofSeconds(1);
+
+    private final Configuration configuration;
+    private final TestPanExecutor executor;
+    private final int maxRate;
+
+    public SaturationSearch(Configuration configuration) {
+        this.configuration = configuration;
+        this.executor = new TestPanExecutor(configuration);
+        this.maxRate = rate(Configuration.SATURATION_MAX_RATE).orElse(Integer.MAX_VALUE);
+    }
+
+    public void abort() {
+        executor.abort();
+    }
+
+    public SaturationResult search(TestPlan testPlan, Slo slo) {
+        var compiledPlan = new PlanCompiler(configuration).compile(testPlan);
+        var settings = TransportSettings.of(testPlan.connection(), configuration);
+        var trials = new ArrayList<SaturationTrial>();
+        var within = 0;
+        var out = 0;
+        try (var transport = Transports.open(settings, configuration);
+             var sender = new MessageSender(testPlan.name(), settings, testPlan.clients(), transport)) {
+            var rate = Math.min(startRate(testPlan), maxRate);
+            while (rate > 0 && trials.size() < MAX_TRIALS && !executor.aborted()) {
+                var trial = trial(compiledPlan, transport, sender, rate, slo, trials.isEmpty());
+                trials.add(trial);
+                if (trial.withinSlo()) {
+                    within = rate;
+                } else {
+                    out = rate;
+                }
+                rate = next(within, out);
+            }
+        }
+        LOGGER.log(INFO, "Saturation search {0}: rate={1}/s slo={2} trials={3}", testPlan.name(), within, slo,
+                trials.size());
+        return new SaturationResult(testPlan.name(), slo, within, trials);
+    }
+
+    private int startRate(TestPlan testPlan) {
+        return rate(Configuration.SATURATION_START_RATE)
+                .orElse(testPlan.rate() > 0 ? (int) Math.ceil(testPlan.rate()) : DEFAULT_START_RATE);
+    }
+
+    private Optional<Integer> rate(String key) {
+        return configuration.get(key)
+                .map(String::trim)
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new ExecutorException("Invalid rate! key=" + key + " value=" + value, e);
+                    }
+                })
+                .map(rate -> {
+                    if (rate <= 0) {
+                        throw new ExecutorException("Rate should be greater than 0! key=" + key);
+                    }
+                    return rate;
+                });
+    }
+
+    private int next(int within, int out) {
+        if (out == 0) {
+            return within < maxRate ? (int) Math.min(2L * within, maxRate) : 0;
+        } else if (out - within <= Math.max(1, within * PRECISION)) {
+            return 0;
+        } else {
+            return within + (out - within) / 2;
+        }
+    }
+
+    private SaturationTrial trial(CompiledPlan compiledPlan, Transport transport, MessageSender sender, int rate,
+                                  Slo slo, boolean first) {
+        var testPlan = trialPlan(compiledPlan.testPlan(), rate, first);
+        var result = executor.execute(new CompiledPlan(testPlan, compiledPlan.feeders(), compiledPlan.steps(),
+                compiledPlan.consumers()), transport, sender);
+        var achieved = achieved(result.rates());
+        var trial = new SaturationTrial(rate, result.status() != Result.Status.ABORTED
+                && result.status() != Result.Status.GENERATOR_BOUND && slo.met(result.total())
+                && achieved >= MIN_ACHIEVED, achieved, result.total());
+        LOGGER.log(INFO, "Saturation trial {0}: rate={1}/s withinSlo={2} achieved={3}% errors={4} latency={5}",
+                testPlan.name(), rate, trial.withinSlo(), Math.round(achieved * 100), result.total().errors(),
+                result.total().latency());
+        return trial;
+    }
+
+    private static TestPlan trialPlan(TestPlan testPlan, int rate, boolean first) {
+        var builder = TestPlan.builder()
+                .name(testPlan.name())
+                .connection(testPlan.connection())
+                .clients(testPlan.clients())
+                .cycleTime(testPlan.cycleTime())
+                .rate(rate)
+                .warmUp(first || testPlan.warmUp().compareTo(TRIAL_WARM_UP) < 0 ? testPlan.warmUp() : TRIAL_WARM_UP)
+                .execution(testPlan.execution());
+        for (Feeder feeder : testPlan.feeders()) {
+            builder.feeder(feeder);
+        }
+        for (Step step : testPlan.steps()) {
+            builder.step(step);
+        }
+        return builder.build();
+    }
+
+    private static double achieved(List<RateSample> rates) {
+        var target = 0.0;
+        var achieved = 0.0;
+        var previous = Duration.ZERO;
+        for (var sample : rates) {
+            var seconds = sample.elapsed().minus(previous).toNanos() / 1_000_000_000.0;
+            target += sample.target() * seconds;
+            achieved += sample.achieved() * seconds;
+            previous = sample.elapsed();
+        }
+        return target > 0 ? achieved / target : 0.0;
+    }
+}
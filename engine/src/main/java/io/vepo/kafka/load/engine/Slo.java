@@ -0,0 +1,79 @@
+package io.vepo.kafka.load.engine;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.metrics.Statistics;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public record Slo(Map<Double, Duration> percentiles, double errorRate) {
+    private static final Pattern PERCENTILE = Pattern.compile("p([0-9]+(?:\\.[0-9]+)?)\\s*<\\s*([0-9]+(?:\\.[0-9]+)?)"
+            + "\\s*(us|ms|s)");
+    private static final Pattern ERRORS = Pattern.compile("errors\\s*<\\s*([0-9]+(?:\\.[0-9]+)?)\\s*%");
+
+    public static Slo parse(String slo) {
+        var percentiles = new LinkedHashMap<Double, Duration>();
+        var errorRate = Double.POSITIVE_INFINITY;
+        for (var objective : slo.split(",")) {
+            var text = objective.strip();
+            var percentile = PERCENTILE.matcher(text);
+            var errors = ERRORS.matcher(text);
+            if (percentile.matches()) {
+                percentiles.put(percentile(percentile.group(1)), duration(percentile.group(2), percentile.group(3)));
+            } else if (errors.matches()) {
+                errorRate = Double.parseDouble(errors.group(1)) / 100;
+            } else {
+                throw new ExecutorException("Invalid SLO! objective=" + text);
+            }
+        }
+        if (percentiles.isEmpty() && Double.isInfinite(errorRate)) {
+            throw new ExecutorException("Empty SLO! slo=" + slo);
+        }
+        return new Slo(Collections.unmodifiableMap(percentiles), errorRate);
+    }
+
+    private static double percentile(String text) {
+        if (!text.contains(".") && text.length() > 2 && text.startsWith("99")) {
+            text = text.substring(0, 2) + "." + text.substring(2);
+        }
+        var percentile = Double.parseDouble(text);
+        if (percentile <= 0 || percentile > 100) {
+            throw new ExecutorException("Invalid percentile on SLO! percentile=" + text);
+        }
+        return percentile;
+    }
+
+    private static Duration duration(String value, String unit) {
+        var nanos = Double.parseDouble(value) * switch (unit) {
+            case "us" -> 1_000;
+            case "ms" -> 1_000_000;
+            case "s" -> 1_000_000_000;
+            default -> throw new IllegalStateException("Time unit not implemented: unit=" + unit);
+        };
+        return Duration.ofNanos((long) nanos);
+    }
+
+    public boolean met(Statistics statistics) {
+        var requests = statistics.count() + statistics.errors();
+        if (requests == 0 || (double) statistics.errors() / requests >= errorRate) {
+            return false;
+        }
+        return percentiles.entrySet()
+                .stream()
+                .allMatch(entry -> statistics.latency().percentile(entry.getKey()).compareTo(entry.getValue()) < 0);
+    }
+
+    @Override
+    public String toString() {
+        var objectives = new StringBuilder();
+        percentiles.forEach((percentile, bound) -> objectives.append(objectives.length() > 0 ? ", " : "")
+                .append("p").append(percentile).append(" < ").append(bound.toNanos() / 1_000_000.0).append("ms"));
+        if (!Double.isInfinite(errorRate)) {
+            objectives.append(objectives.length() > 0 ? ", " : "").append("errors < ").append(errorRate * 100)
+                    .append("%");
+        }
+        return objectives.toString();
+    }
+}
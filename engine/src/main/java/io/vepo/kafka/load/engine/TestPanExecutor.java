@@ -1,16 +1,300 @@
 package io.vepo.kafka.load.engine;
 
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.Result.Status;
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.compiler.PlanCompiler;
 import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.events.ExecutionEvent;
+import io.vepo.kafka.load.engine.internal.ArrivalScheduler;
+import io.vepo.kafka.load.engine.internal.AssertionRunner;
+import io.vepo.kafka.load.engine.internal.ClientThreads;
+import io.vepo.kafka.load.engine.internal.ClosedModelClient;
+import io.vepo.kafka.load.engine.internal.ConsumerRunner;
+import io.vepo.kafka.load.engine.internal.CorrelationTracker;
+import io.vepo.kafka.load.engine.internal.ExecutionStats;
+import io.vepo.kafka.load.engine.internal.GeneratorWatchdog;
+import io.vepo.kafka.load.engine.internal.HashedWheelTimer;
+import io.vepo.kafka.load.engine.internal.IterationRunner;
+import io.vepo.kafka.load.engine.internal.MessageSender;
+import io.vepo.kafka.load.engine.internal.MetricsCollector;
+import io.vepo.kafka.load.engine.internal.MetricsRegistry;
+import io.vepo.kafka.load.engine.internal.OpenModelClient;
+import io.vepo.kafka.load.engine.internal.RateProfile;
+import io.vepo.kafka.load.engine.internal.RateRecorder;
+import io.vepo.kafka.load.engine.internal.ReplyTracker;
+import io.vepo.kafka.load.engine.internal.StartGate;
+import io.vepo.kafka.load.engine.internal.Timeline;
+import io.vepo.kafka.load.engine.internal.Transactions;
+import io.vepo.kafka.load.engine.metrics.AssertionStatistics;
+import io.vepo.kafka.load.engine.metrics.Backpressure;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+import io.vepo.kafka.load.engine.report.IntervalReporter;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.engine.transport.Transports;
 import io.vepo.kafka.load.parser.TestPlan;
+import java.lang.System.Logger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class TestPanExecutor {
+    private static final Logger LOGGER = System.getLogger(TestPanExecutor.class.getName());
+    private static final long START_DELAY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long TICK_DURATION = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MAX_ACCEPTABLE_JITTER_RATIO = 10;
+    private static final long DEFAULT_COLLECT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final Configuration configuration;
+    private volatile boolean aborted;
 
     public TestPanExecutor(Configuration configuration) {
+        this.configuration = configuration;
+    }
 
+    public void abort() {
+        aborted = true;
     }
 
+    public boolean aborted() {
+        return aborted;
+    }
 
     public Result execute(TestPlan testPlan) {
-        return Result.SUCCESS;
+        var compiledPlan = new PlanCompiler(configuration).compile(testPlan);
+        var settings = TransportSettings.of(testPlan.connection(), configuration);
+        try (var transport = Transports.open(settings, configuration);
+             var sender = new MessageSender(testPlan.name(), settings, testPlan.clients(), transport)) {
+            return execute(compiledPlan, transport, sender);
+        }
+    }
+
+    Result execute(CompiledPlan compiledPlan, Transport transport, MessageSender sender) {
+        var testPlan = compiledPlan.testPlan();
+        var stats = new ExecutionStats();
+        var watchdog = new GeneratorWatchdog(configuration, stats,
+                testPlan.openModel() ? 0 : testPlan.cycleTime().toNanos());
+        var metrics = new MetricsRegistry(compiledPlan.steps(), testPlan.clients());
+        var trackers = CorrelationTracker.of(compiledPlan.steps());
+        var replies = ReplyTracker.of(compiledPlan.steps(), testPlan.clients());
+        var assertions = AssertionRunner.start(compiledPlan, transport, trackers, replies);
+        var consumers = startConsumers(compiledPlan, transport, assertions);
+        var transactions = Transactions.of(compiledPlan, transport);
+        var rates = new RateRecorder(stats, collectInterval());
+        boolean completed;
+        var event = new ExecutionEvent();
+        event.begin();
+        var started = System.nanoTime();
+        try (assertions;
+             consumers;
+             transactions;
+             var reporter = IntervalReporter.create(testPlan.name(), configuration)) {
+            var runner = new IterationRunner(compiledPlan, sender, metrics, stats, trackers, replies,
+                    transactions.trackers());
+            var collector = new MetricsCollector(metrics, reporter, watchdog, collectInterval(), this::aborted);
+            if (testPlan.openModel()) {
+                completed = executeOpenModel(testPlan, runner, collector, stats, rates, consumers, watchdog);
+            } else {
+                completed = executeClosedModel(testPlan, runner, collector, stats, consumers, watchdog);
+            }
+        }
+        var measured = completed ? testPlan.execution() : measured(testPlan, System.nanoTime() - started);
+        var result = Result.builder()
+                .testPlan(testPlan.name())
+                .status(status(completed, stats, assertions.statistics(), consumers.errors(), watchdog.bound()))
+                .duration(measured)
+                .total(metrics.total(testPlan.name(), measured))
+                .steps(metrics.steps(measured))
+                .topics(metrics.topics(measured))
+                .assertions(assertions.statistics())
+                .replies(Stream.of(replies).filter(Objects::nonNull).map(ReplyTracker::statistics).collect(toList()))
+                .consumers(consumers.statistics(measured))
+                .transactions(transactions.statistics(measured))
+                .backpressure(new Backpressure(sender.window(), stats.pipelined(), stats.backpressureWaits(),
+                        Duration.ofNanos(stats.backpressureTime())))
+                .rates(rates.samples())
+                .generator(watchdog.samples())
+                .build();
+        event.end();
+        if (event.shouldCommit()) {
+            event.testPlan = testPlan.name();
+            event.clients = testPlan.clients();
+            event.iterations = stats.iterations();
+            event.messages = stats.messages();
+            event.errors = stats.errors();
+            event.commit();
+        }
+        report(testPlan, stats, result);
+        return result;
+    }
+
+    private ConsumerRunner startConsumers(CompiledPlan compiledPlan, Transport transport, AssertionRunner assertions) {
+        try {
+            return ConsumerRunner.start(compiledPlan, transport, collectInterval());
+        } catch (RuntimeException e) {
+            assertions.close();
+            throw e;
+        }
+    }
+
+    private static Duration measured(TestPlan testPlan, long elapsed) {
+        var execution = elapsed - START_DELAY - testPlan.warmUp().toNanos();
+        return Duration.ofNanos(Math.max(0, Math.min(execution, testPlan.execution().toNanos())));
+    }
+
+    private Status status(boolean completed, ExecutionStats stats, List<AssertionStatistics> assertions,
+                          long consumerErrors, boolean generatorBound) {
+        if (aborted) {
+            return Status.ABORTED;
+        } else if (!completed || stats.errors() > 0 || !assertionsPassed(assertions) || consumerErrors > 0) {
+            return Status.ERROR;
+        } else if (generatorBound && invalidateGeneratorBound()) {
+            return Status.GENERATOR_BOUND;
+        } else {
+            return Status.SUCCESS;
+        }
+    }
+
+    private boolean invalidateGeneratorBound() {
+        return configuration.get(Configuration.WATCHDOG_INVALIDATE).map(String::trim).map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
+    private static boolean assertionsPassed(List<AssertionStatistics> assertions) {
+        return assertions.stream().allMatch(assertion -> assertion.failed() == 0);
+    }
+
+    private long collectInterval() {
+        return configuration.get(Configuration.REPORT_INTERVAL)
+                .map(Long::parseLong)
+                .map(TimeUnit.SECONDS::toNanos)
+                .orElse(DEFAULT_COLLECT_INTERVAL);
+    }
+
+    private static boolean executeClosedModel(TestPlan testPlan, IterationRunner runner, MetricsCollector collector,
+                                              ExecutionStats stats, ConsumerRunner consumers,
+                                              GeneratorWatchdog watchdog) {
+        var startGate = new StartGate();
+        var cycleTime = testPlan.cycleTime().toNanos();
+        var clients = startClients(testPlan, id -> new ClosedModelClient(id, cycleTime, startGate, runner, stats));
+        var timeline = Timeline.of(testPlan, System.nanoTime() + START_DELAY);
+        consumers.measure(timeline);
+        watchdog.measure(timeline);
+        startGate.open(timeline);
+        var completed = collector.await(clients);
+        reportClosedModel(testPlan, stats);
+        return completed;
+    }
+
+    private static boolean executeOpenModel(TestPlan testPlan, IterationRunner runner, MetricsCollector collector,
+                                            ExecutionStats stats, RateRecorder rates, ConsumerRunner consumers,
+                                            GeneratorWatchdog watchdog) {
+        try (var timer = new HashedWheelTimer(testPlan.name() + "-scheduler", TICK_DURATION, WHEEL_SIZE)) {
+            var startGate = new StartGate();
+            var scheduler = new ArrivalScheduler(timer, RateProfile.of(testPlan), testPlan.clients(), stats);
+            var clients = startClients(testPlan,
+                    id -> new OpenModelClient(id, startGate, scheduler, runner, stats));
+            var timeline = Timeline.of(testPlan, System.nanoTime() + START_DELAY);
+            scheduler.start(timeline);
+            consumers.measure(timeline);
+            watchdog.measure(timeline);
+            rates.start(timer, scheduler, timeline);
+            startGate.open(timeline);
+            var completed = collector.await(clients);
+            rates.finish();
+            reportOpenModel(testPlan, scheduler, stats, rates);
+            return completed;
+        }
+    }
+
+    private static List<Thread> startClients(TestPlan testPlan, IntFunction<Runnable> clientFactory) {
+        return IntStream.range(0, testPlan.clients())
+                .mapToObj(id -> ClientThreads.start(testPlan.name() + "-client-" + id, clientFactory.apply(id)))
+                .collect(toList());
+    }
+
+    private static void reportClosedModel(TestPlan testPlan, ExecutionStats stats) {
+        var cycleTime = testPlan.cycleTime().toNanos();
+        if (stats.overruns() > 0) {
+            LOGGER.log(WARNING, "Test Plan {0} could not keep up with cycleTime={1}: {2} of {3} iterations overran",
+                    testPlan.name(), testPlan.cycleTime(), stats.overruns(), stats.iterations());
+        }
+        if (stats.maxLag() > cycleTime / MAX_ACCEPTABLE_JITTER_RATIO) {
+            LOGGER.log(WARNING, "Test Plan {0} scheduling lag reached {1}µs for cycleTime={2}",
+                    testPlan.name(), TimeUnit.NANOSECONDS.toMicros(stats.maxLag()), testPlan.cycleTime());
+        }
+    }
+
+    private static void reportOpenModel(TestPlan testPlan, ArrivalScheduler scheduler, ExecutionStats stats,
+                                        RateRecorder rates) {
+        var missed = scheduler.totalArrivals() - stats.iterations();
+        if (missed > 0) {
+            LOGGER.log(WARNING, "Test Plan {0} could not keep up with {1}: {2} of {3} arrivals were not started, up "
+                    + "to {4} arrivals were waiting for a client", testPlan.name(), testPlan.profile() != null
+                    ? testPlan.profile() : "rate=" + testPlan.rate() + "/s", missed, scheduler.totalArrivals(),
+                    stats.maxBacklog());
+        }
+        rates.samples().forEach(sample -> LOGGER.log(DEBUG, "Test Plan {0} rate at {1}: target={2}/s achieved={3}/s",
+                testPlan.name(), sample.elapsed(), Math.round(sample.target()), Math.round(sample.achieved())));
+    }
+
+    private static void report(TestPlan testPlan, ExecutionStats stats, Result result) {
+        LOGGER.log(INFO, "Test Plan {0} executed: clients={1} virtualThreads={2} iterations={3} messages={4} "
+                + "errors={5}", testPlan.name(), testPlan.clients(), ClientThreads.virtual(), stats.iterations(),
+                stats.messages(), stats.errors());
+        if (result.backpressure().sends() > 0) {
+            var backpressure = result.backpressure();
+            LOGGER.log(INFO, "Test Plan {0} pipelined {1} sends with window={2}: full on {3}% of the sends, clients "
+                    + "waited {4} ({5}% of their time)", testPlan.name(), backpressure.sends(), backpressure.window(),
+                    Math.round(backpressure.waitRate() * 100), backpressure.time(),
+                    Math.round(backpressure.share(result.duration(), testPlan.clients()) * 100));
+        }
+        if (result.generatorBound()) {
+            var measured = result.generator().stream().filter(GeneratorSample::measured).collect(toList());
+            LOGGER.log(WARNING, "Test Plan {0} was generator bound on {1} of {2} measured intervals, latencies may "
+                    + "describe the load generator and not Kafka: maxCpu={3}% maxGc={4}% maxLag={5}", testPlan.name(),
+                    result.generatorBoundIntervals(), measured.size(),
+                    Math.round(measured.stream().mapToDouble(GeneratorSample::cpu).max().orElse(0) * 100),
+                    Math.round(measured.stream().mapToDouble(GeneratorSample::gc).max().orElse(0) * 100),
+                    measured.stream().map(GeneratorSample::schedulerLag).max(Duration::compareTo)
+                            .orElse(Duration.ZERO));
+        }
+        result.generator().forEach(sample -> LOGGER.log(DEBUG, "Test Plan {0} generator at {1}: cpu={2}% gc={3}% "
+                + "lag={4} bound={5}", testPlan.name(), sample.elapsed(), Math.round(sample.cpu() * 100),
+                Math.round(sample.gc() * 100), sample.schedulerLag(), sample.bound()));
+        result.steps().values().forEach(step -> LOGGER.log(INFO, "Step {0}: count={1} errors={2} throughput={3}/s "
+                + "latency={4}", step.name(), step.count(), step.errors(), step.throughput(), step.latency()));
+        result.assertions().forEach(assertion -> LOGGER.log(assertion.failed() == 0 ? INFO : WARNING,
+                "Assertion {0} on {1}: evaluated={2} failed={3}", assertion.step(), assertion.topic(),
+                assertion.evaluated(), assertion.failed()));
+        result.assertions().stream()
+                .filter(assertion -> assertion.endToEnd() != null)
+                .forEach(assertion -> LOGGER.log(INFO, "End to end {0} to {1}: matched={2} uncorrelated={3} "
+                        + "pending={4} latency={5}", assertion.step(), assertion.topic(),
+                        assertion.endToEnd().matched(), assertion.endToEnd().uncorrelated(),
+                        assertion.endToEnd().pending(), assertion.endToEnd().latency()));
+        result.replies().forEach(reply -> LOGGER.log(reply.timeouts() == 0 ? INFO : WARNING, "Replies {0} on {1}: "
+                + "replies={2} timeouts={3} unmatched={4} latency={5}", reply.step(), reply.topic(), reply.replies(),
+                reply.timeouts(), reply.unmatched(), reply.latency()));
+        result.transactions().forEach(transaction -> LOGGER.log(transaction.failed() == 0 ? INFO : WARNING,
+                "Transactions {0}: size={1} committed={2} failed={3} aborted={4} throughput={5}/s commit={6} "
+                + "abort={7}", transaction.step(), transaction.transactionSize(), transaction.committed(),
+                transaction.failed(), transaction.aborted(), Math.round(transaction.recordsPerSecond()),
+                transaction.commitLatency(), transaction.abortLatency()));
+        result.consumers().forEach(consumer -> LOGGER.log(consumer.errors() == 0 ? INFO : WARNING, "Consumer {0} on "
+                + "{1}: group={2} consumers={3} records={4} errors={5} throughput={6}/s poll={7} rebalances={8} "
+                + "maxLag={9}", consumer.step(), consumer.topic(), consumer.group(), consumer.consumers(),
+                consumer.records(), consumer.errors(), Math.round(consumer.recordsPerSecond()),
+                consumer.pollLatency(), consumer.rebalances(), consumer.maxLag()));
     }
 }
@@ -0,0 +1,91 @@
+package io.vepo.kafka.load.engine.assertion;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.Correlation;
+import io.vepo.kafka.load.parser.CorrelationSource;
+import io.vepo.kafka.load.parser.MessageAssertion;
+import io.vepo.kafka.load.parser.Operator;
+import io.vepo.kafka.load.parser.PropertyNumberValue;
+import io.vepo.kafka.load.parser.PropertyReferenceValue;
+import io.vepo.kafka.load.parser.PropertyStringValue;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public class AssertionCompiler {
+    private static final String ROOT = "$.";
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private final Configuration configuration;
+
+    public AssertionCompiler(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    public AssertionEvaluator compile(Assertion assertion) {
+        var key = new JsonMatcher();
+        var value = new JsonMatcher();
+        for (MessageAssertion messageAssertion : assertion.assertions()) {
+            var path = messageAssertion.path();
+            var fields = fields(path);
+            var predicate = predicate(messageAssertion.operator(), messageAssertion.value());
+            var jsonFields = Arrays.copyOfRange(fields, 1, fields.length);
+            if (fields[0].equals("key")) {
+                key.add(jsonFields, predicate);
+            } else {
+                value.add(jsonFields, predicate);
+            }
+        }
+        return new AssertionEvaluator(key, value);
+    }
+
+    public CorrelationExtractor compile(Correlation correlation) {
+        if (correlation == null) {
+            return null;
+        } else if (correlation.source() == CorrelationSource.HEADER) {
+            return CorrelationExtractor.fromHeader();
+        }
+        var fields = fields(correlation.path());
+        return CorrelationExtractor.fromField(fields[0].equals("key"),
+                Arrays.copyOfRange(fields, 1, fields.length));
+    }
+
+    private static String[] fields(String path) {
+        var fields = (path.startsWith(ROOT) ? path.substring(ROOT.length()) : path).split("\\.");
+        if (!fields[0].equals("key") && !fields[0].equals("value")) {
+            throw new ExecutorException("Invalid path! It should start with $.key or $.value. path=" + path);
+        }
+        return fields;
+    }
+
+    private ValuePredicate predicate(Operator operator, PropertyValue expected) {
+        if (expected instanceof PropertyNumberValue number) {
+            return Predicates.number(operator, number.value());
+        } else if (expected instanceof PropertyStringValue text) {
+            return Predicates.string(operator, text.content());
+        } else if (expected instanceof PropertyReferenceValue reference) {
+            var value = configuration.get(reference.property())
+                    .orElseThrow(() -> new ExecutorException(
+                            "Property not defined! property=" + reference.property()));
+            return parseNumber(value).map(number -> Predicates.number(operator, number))
+                    .orElseGet(() -> Predicates.string(operator, value));
+        } else {
+            return Predicates.isNull(operator);
+        }
+    }
+
+    private static Optional<Number> parseNumber(String value) {
+        var trimmed = value.trim();
+        if (!JSON_NUMBER.matcher(trimmed).matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(trimmed));
+        } catch (NumberFormatException notLong) {
+            return Optional.of(Double.parseDouble(trimmed));
+        }
+    }
+}
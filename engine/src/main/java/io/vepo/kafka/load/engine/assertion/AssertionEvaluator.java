@@ -0,0 +1,15 @@
+package io.vepo.kafka.load.engine.assertion;
+
+public class AssertionEvaluator {
+    private final JsonMatcher key;
+    private final JsonMatcher value;
+
+    AssertionEvaluator(JsonMatcher key, JsonMatcher value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public boolean test(byte[] key, byte[] value) {
+        return this.key.matches(key) && this.value.matches(value);
+    }
+}
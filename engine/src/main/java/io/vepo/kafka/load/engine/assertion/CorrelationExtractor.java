@@ -0,0 +1,77 @@
+package io.vepo.kafka.load.engine.assertion;
+
+public abstract class CorrelationExtractor {
+    long id;
+
+    public abstract boolean extract(byte[] key, byte[] value, byte[] header);
+
+    public long id() {
+        return id;
+    }
+
+    public boolean header() {
+        return false;
+    }
+
+    public static long decode(byte[] header) {
+        long id = 0;
+        for (int i = 0; i < Long.BYTES; ++i) {
+            id = (id << 8) | (header[i] & 0xFF);
+        }
+        return id;
+    }
+
+    static CorrelationExtractor fromHeader() {
+        return new CorrelationExtractor() {
+            @Override
+            public boolean header() {
+                return true;
+            }
+
+            @Override
+            public boolean extract(byte[] key, byte[] value, byte[] header) {
+                if (header == null || header.length != Long.BYTES) {
+                    return false;
+                }
+                id = decode(header);
+                return true;
+            }
+        };
+    }
+
+    static CorrelationExtractor fromField(boolean fromKey, String[] fields) {
+        var matcher = new JsonMatcher();
+        var extractor = new FieldExtractor(fromKey, matcher);
+        matcher.add(fields, extractor);
+        return extractor;
+    }
+
+    private static final class FieldExtractor extends CorrelationExtractor implements ValuePredicate {
+        private final boolean fromKey;
+        private final JsonMatcher matcher;
+
+        private FieldExtractor(boolean fromKey, JsonMatcher matcher) {
+            this.fromKey = fromKey;
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean extract(byte[] key, byte[] value, byte[] header) {
+            return matcher.matches(fromKey ? key : value);
+        }
+
+        @Override
+        public boolean testNumber(byte[] source, int start, int end) {
+            if (!JsonNumbers.integral(source, start, end)) {
+                return false;
+            }
+            id = JsonNumbers.parseLong(source, start, end);
+            return true;
+        }
+
+        @Override
+        public boolean testString(byte[] source, int start, int end) {
+            return testNumber(source, start, end);
+        }
+    }
+}
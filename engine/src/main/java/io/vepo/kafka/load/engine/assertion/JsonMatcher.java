@@ -0,0 +1,281 @@
+package io.vepo.kafka.load.engine.assertion;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class JsonMatcher {
+    private static final int STOP = -1;
+    private static final int MALFORMED = -2;
+
+    private final PathNode root = new PathNode(null);
+    private ValuePredicate[] predicates = new ValuePredicate[0];
+    private boolean[] matched = new boolean[0];
+    private byte[] source;
+    private int end;
+    private int pending;
+    private boolean failed;
+    private boolean escaped;
+    private final RenderBuffer scratch = new RenderBuffer(64);
+    private ByteBuffer wrapped;
+
+    public void add(String[] fields, ValuePredicate predicate) {
+        var node = root;
+        for (String field : fields) {
+            node = node.child(field.getBytes(UTF_8));
+        }
+        node.addPredicate(predicates.length);
+        predicates = Arrays.copyOf(predicates, predicates.length + 1);
+        predicates[predicates.length - 1] = predicate;
+        matched = new boolean[predicates.length];
+    }
+
+    public boolean matches(byte[] data) {
+        if (predicates.length == 0) {
+            return true;
+        }
+        pending = predicates.length;
+        failed = false;
+        Arrays.fill(matched, false);
+        if (data == null) {
+            if (root.leaf()) {
+                testNull(root);
+            }
+            return !failed && pending == 0;
+        }
+        source = data;
+        end = data.length;
+        try {
+            var position = value(whitespace(0), root);
+            if (position == MALFORMED && root.leaf() && pending == predicates.length) {
+                testString(root, data, 0, data.length);
+            }
+            return !failed && pending == 0;
+        } finally {
+            source = null;
+            wrapped = null;
+        }
+    }
+
+    private int value(int position, PathNode node) {
+        if (position >= end) {
+            return MALFORMED;
+        } else if (node == null) {
+            return skip(position);
+        }
+        var next = position;
+        if (node.leaf()) {
+            next = test(position, node);
+            if (next < 0 || failed || pending == 0) {
+                return next < 0 ? next : STOP;
+            }
+        }
+        if (source[position] == '{' && node.hasChildren()) {
+            return object(position, node);
+        }
+        return node.leaf() ? next : skip(position);
+    }
+
+    private int object(int position, PathNode node) {
+        position = whitespace(position + 1);
+        if (position < end && source[position] == '}') {
+            return position + 1;
+        }
+        while (position < end && source[position] == '"') {
+            var keyEnd = stringEnd(position + 1);
+            if (keyEnd < 0) {
+                return MALFORMED;
+            }
+            PathNode child;
+            if (escaped) {
+                var length = unescape(position + 1, keyEnd);
+                if (length < 0) {
+                    return MALFORMED;
+                }
+                child = node.find(scratch.bytes(), 0, length);
+            } else {
+                child = node.find(source, position + 1, keyEnd);
+            }
+            position = whitespace(keyEnd + 1);
+            if (position >= end || source[position] != ':') {
+                return MALFORMED;
+            }
+            position = value(whitespace(position + 1), child);
+            if (position < 0) {
+                return position;
+            }
+            position = whitespace(position);
+            if (position < end && source[position] == ',') {
+                position = whitespace(position + 1);
+            } else if (position < end && source[position] == '}') {
+                return position + 1;
+            } else {
+                return MALFORMED;
+            }
+        }
+        return MALFORMED;
+    }
+
+    private int test(int position, PathNode node) {
+        switch (source[position]) {
+            case '"' -> {
+                var stringEnd = stringEnd(position + 1);
+                if (stringEnd < 0) {
+                    return MALFORMED;
+                } else if (escaped) {
+                    var length = unescape(position + 1, stringEnd);
+                    if (length < 0) {
+                        return MALFORMED;
+                    }
+                    testString(node, scratch.bytes(), 0, length);
+                } else {
+                    testString(node, source, position + 1, stringEnd);
+                }
+                return stringEnd + 1;
+            }
+            case 't' -> {
+                return literal(position, "true") ? testBoolean(node, true, position + 4) : MALFORMED;
+            }
+            case 'f' -> {
+                return literal(position, "false") ? testBoolean(node, false, position + 5) : MALFORMED;
+            }
+            case 'n' -> {
+                if (literal(position, "null")) {
+                    testNull(node);
+                    return position + 4;
+                }
+                return MALFORMED;
+            }
+            case '{', '[' -> {
+                for (int predicate : node.predicates()) {
+                    record(predicate, false);
+                }
+                return STOP;
+            }
+            default -> {
+                var first = source[position];
+                if (first != '-' && (first < '0' || first > '9')) {
+                    return MALFORMED;
+                }
+                var numberEnd = scalarEnd(position);
+                for (int predicate : node.predicates()) {
+                    record(predicate, predicates[predicate].testNumber(source, position, numberEnd));
+                }
+                return numberEnd;
+            }
+        }
+    }
+
+    private void testString(PathNode node, byte[] data, int start, int stringEnd) {
+        for (int predicate : node.predicates()) {
+            record(predicate, predicates[predicate].testString(data, start, stringEnd));
+        }
+    }
+
+    private int testBoolean(PathNode node, boolean value, int next) {
+        for (int predicate : node.predicates()) {
+            record(predicate, predicates[predicate].testBoolean(value));
+        }
+        return next;
+    }
+
+    private void testNull(PathNode node) {
+        for (int predicate : node.predicates()) {
+            record(predicate, predicates[predicate].testNull());
+        }
+    }
+
+    private void record(int predicate, boolean result) {
+        if (!matched[predicate]) {
+            matched[predicate] = true;
+            pending--;
+        }
+        failed |= !result;
+    }
+
+    private boolean literal(int position, String literal) {
+        if (position + literal.length() > end) {
+            return false;
+        }
+        for (int index = 0; index < literal.length(); ++index) {
+            if (source[position + index] != literal.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skip(int position) {
+        var first = source[position];
+        if (first == '"') {
+            var stringEnd = stringEnd(position + 1);
+            return stringEnd < 0 ? MALFORMED : stringEnd + 1;
+        } else if (first == '{' || first == '[') {
+            var depth = 0;
+            while (position < end) {
+                var current = source[position];
+                if (current == '"') {
+                    position = stringEnd(position + 1);
+                    if (position < 0) {
+                        return MALFORMED;
+                    }
+                } else if (current == '{' || current == '[') {
+                    depth++;
+                } else if ((current == '}' || current == ']') && --depth == 0) {
+                    return position + 1;
+                }
+                position++;
+            }
+            return MALFORMED;
+        } else {
+            return scalarEnd(position);
+        }
+    }
+
+    private int scalarEnd(int position) {
+        while (position < end) {
+            var current = source[position];
+            if (current == ',' || current == '}' || current == ']' || whitespace(current)) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private int stringEnd(int position) {
+        escaped = false;
+        while (position < end) {
+            var current = source[position];
+            if (current == '"') {
+                return position;
+            } else if (current == '\\') {
+                escaped = true;
+                position++;
+            }
+            position++;
+        }
+        return MALFORMED;
+    }
+
+    private int whitespace(int position) {
+        while (position < end && whitespace(source[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean whitespace(byte value) {
+        return value == ' ' || value == '\n' || value == '\r' || value == '\t';
+    }
+
+    private int unescape(int start, int stringEnd) {
+        if (wrapped == null) {
+            wrapped = ByteBuffer.wrap(source);
+        }
+        scratch.reset();
+        return scratch.writeJsonString(wrapped, start, stringEnd) ? scratch.length() : MALFORMED;
+    }
+}
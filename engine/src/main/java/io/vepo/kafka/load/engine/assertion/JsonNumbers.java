@@ -0,0 +1,102 @@
+package io.vepo.kafka.load.engine.assertion;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+final class JsonNumbers {
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private JsonNumbers() {
+    }
+
+    static boolean integral(byte[] source, int start, int end) {
+        var negative = end > start && source[start] == '-';
+        var index = negative ? start + 1 : start;
+        if (index == end) {
+            return false;
+        }
+        var value = 0L;
+        for (; index < end; ++index) {
+            var digit = source[index] - '0';
+            if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+                return false;
+            }
+            value = value * 10 - digit;
+        }
+        return negative || value != Long.MIN_VALUE;
+    }
+
+    static boolean digits(byte[] source, int start, int end) {
+        var index = end > start && source[start] == '-' ? start + 1 : start;
+        if (index == end) {
+            return false;
+        }
+        for (; index < end; ++index) {
+            if (source[index] < '0' || source[index] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long parseLong(byte[] source, int start, int end) {
+        var negative = source[start] == '-';
+        var value = 0L;
+        for (int index = negative ? start + 1 : start; index < end; ++index) {
+            value = value * 10 - (source[index] - '0');
+        }
+        return negative ? value : -value;
+    }
+
+    /* Mantissa and power of ten are exact, so a single multiplication or division is correctly rounded. */
+    static double parseDouble(byte[] source, int start, int end) {
+        var index = start;
+        var negative = source[index] == '-';
+        if (negative) {
+            index++;
+        }
+        var mantissa = 0L;
+        var exponent = 0;
+        var digits = 0;
+        for (; index < end && source[index] >= '0' && source[index] <= '9'; ++index) {
+            mantissa = mantissa * 10 + (source[index] - '0');
+            digits++;
+        }
+        if (index < end && source[index] == '.') {
+            for (index++; index < end && source[index] >= '0' && source[index] <= '9'; ++index) {
+                mantissa = mantissa * 10 + (source[index] - '0');
+                exponent--;
+                digits++;
+            }
+        }
+        if (index < end && (source[index] == 'e' || source[index] == 'E')) {
+            index++;
+            var negativeExponent = index < end && source[index] == '-';
+            if (index < end && (source[index] == '-' || source[index] == '+')) {
+                index++;
+            }
+            var explicitExponent = 0;
+            for (; index < end && source[index] >= '0' && source[index] <= '9' && explicitExponent < 10_000; ++index) {
+                explicitExponent = explicitExponent * 10 + (source[index] - '0');
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index != end || digits > 18 || mantissa > MAX_EXACT_MANTISSA
+                || Math.abs(exponent) >= POWERS_OF_TEN.length) {
+            return slowParseDouble(source, start, end);
+        }
+        var value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private static double slowParseDouble(byte[] source, int start, int end) {
+        try {
+            return Double.parseDouble(new String(source, start, end - start, US_ASCII));
+        } catch (NumberFormatException nfe) {
+            return Double.NaN;
+        }
+    }
+}
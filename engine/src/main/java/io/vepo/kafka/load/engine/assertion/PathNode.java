@@ -0,0 +1,54 @@
+package io.vepo.kafka.load.engine.assertion;
+
+import java.util.Arrays;
+
+final class PathNode {
+    private static final PathNode[] NO_CHILDREN = new PathNode[0];
+    private static final int[] NO_PREDICATES = new int[0];
+
+    private final byte[] name;
+    private PathNode[] children = NO_CHILDREN;
+    private int[] predicates = NO_PREDICATES;
+
+    PathNode(byte[] name) {
+        this.name = name;
+    }
+
+    PathNode child(byte[] name) {
+        for (PathNode child : children) {
+            if (Arrays.equals(child.name, name)) {
+                return child;
+            }
+        }
+        var child = new PathNode(name);
+        children = Arrays.copyOf(children, children.length + 1);
+        children[children.length - 1] = child;
+        return child;
+    }
+
+    PathNode find(byte[] source, int start, int end) {
+        for (PathNode child : children) {
+            if (Arrays.equals(child.name, 0, child.name.length, source, start, end)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    void addPredicate(int predicate) {
+        predicates = Arrays.copyOf(predicates, predicates.length + 1);
+        predicates[predicates.length - 1] = predicate;
+    }
+
+    int[] predicates() {
+        return predicates;
+    }
+
+    boolean hasChildren() {
+        return children.length > 0;
+    }
+
+    boolean leaf() {
+        return predicates.length > 0;
+    }
+}
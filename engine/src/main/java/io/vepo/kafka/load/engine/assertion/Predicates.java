@@ -0,0 +1,152 @@
+package io.vepo.kafka.load.engine.assertion;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.Operator;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+public final class Predicates {
+    private Predicates() {
+    }
+
+    public static ValuePredicate isNull(Operator operator) {
+        if (operator != Operator.EQUALS) {
+            throw new ExecutorException("Operator not supported for null! operator=" + operator);
+        }
+        return new ValuePredicate() {
+            @Override
+            public boolean testNull() {
+                return true;
+            }
+        };
+    }
+
+    public static ValuePredicate string(Operator operator, String expected) {
+        var bytes = expected.getBytes(UTF_8);
+        return switch (operator) {
+            case EQUALS -> new ValuePredicate() {
+                @Override
+                public boolean testString(byte[] source, int start, int end) {
+                    return Arrays.equals(source, start, end, bytes, 0, bytes.length);
+                }
+
+                @Override
+                public boolean testBoolean(boolean value) {
+                    return Boolean.toString(value).equals(expected);
+                }
+            };
+            case CONTAINS -> new Contains(bytes);
+            default -> {
+                var comparison = comparison(operator);
+                yield new ValuePredicate() {
+                    @Override
+                    public boolean testString(byte[] source, int start, int end) {
+                        return comparison.test(Arrays.compareUnsigned(source, start, end, bytes, 0, bytes.length));
+                    }
+                };
+            }
+        };
+    }
+
+    public static ValuePredicate number(Operator operator, Number expected) {
+        var doubleTest = doubleComparison(operator, expected.doubleValue());
+        if (expected instanceof Long || expected instanceof Integer) {
+            var longTest = longComparison(operator, expected.longValue());
+            var bigTest = comparison(operator);
+            var bigExpected = BigInteger.valueOf(expected.longValue());
+            return new ValuePredicate() {
+                @Override
+                public boolean testNumber(byte[] source, int start, int end) {
+                    if (JsonNumbers.integral(source, start, end)) {
+                        return longTest.test(JsonNumbers.parseLong(source, start, end));
+                    } else if (JsonNumbers.digits(source, start, end)) {
+                        /* Out of the long range, a double would round it to the expected value. */
+                        return bigTest.test(new BigInteger(new String(source, start, end - start, US_ASCII))
+                                .compareTo(bigExpected));
+                    }
+                    return doubleTest.test(JsonNumbers.parseDouble(source, start, end));
+                }
+            };
+        }
+        return new ValuePredicate() {
+            @Override
+            public boolean testNumber(byte[] source, int start, int end) {
+                return doubleTest.test(JsonNumbers.parseDouble(source, start, end));
+            }
+        };
+    }
+
+    private static LongPredicate longComparison(Operator operator, long expected) {
+        return switch (operator) {
+            case EQUALS -> value -> value == expected;
+            case LESS_THAN -> value -> value < expected;
+            case LESS_THAN_OR_EQUAL_TO -> value -> value <= expected;
+            case GREATER_THAN -> value -> value > expected;
+            case GREATER_THAN_OR_EQUAL_TO -> value -> value >= expected;
+            case CONTAINS -> throw notSupportedForNumbers(operator);
+        };
+    }
+
+    private static DoublePredicate doubleComparison(Operator operator, double expected) {
+        return switch (operator) {
+            case EQUALS -> value -> value == expected;
+            case LESS_THAN -> value -> value < expected;
+            case LESS_THAN_OR_EQUAL_TO -> value -> value <= expected;
+            case GREATER_THAN -> value -> value > expected;
+            case GREATER_THAN_OR_EQUAL_TO -> value -> value >= expected;
+            case CONTAINS -> throw notSupportedForNumbers(operator);
+        };
+    }
+
+    private static IntPredicate comparison(Operator operator) {
+        return switch (operator) {
+            case EQUALS -> result -> result == 0;
+            case LESS_THAN -> result -> result < 0;
+            case LESS_THAN_OR_EQUAL_TO -> result -> result <= 0;
+            case GREATER_THAN -> result -> result > 0;
+            case GREATER_THAN_OR_EQUAL_TO -> result -> result >= 0;
+            case CONTAINS -> throw new IllegalStateException("CONTAINS is not a comparison!");
+        };
+    }
+
+    private static ExecutorException notSupportedForNumbers(Operator operator) {
+        return new ExecutorException("Operator not supported for numbers! operator=" + operator);
+    }
+
+    private static final class Contains implements ValuePredicate {
+        private final byte[] pattern;
+        private final int[] shift;
+
+        private Contains(byte[] pattern) {
+            this.pattern = pattern;
+            this.shift = new int[256];
+            Arrays.fill(shift, pattern.length);
+            for (int i = 0; i < pattern.length - 1; ++i) {
+                shift[pattern[i] & 0xFF] = pattern.length - 1 - i;
+            }
+        }
+
+        @Override
+        public boolean testString(byte[] source, int start, int end) {
+            var last = pattern.length - 1;
+            if (last < 0) {
+                return true;
+            }
+            for (int position = start; position + last < end; position += shift[source[position + last] & 0xFF]) {
+                int i = last;
+                while (source[position + i] == pattern[i]) {
+                    if (i-- == 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
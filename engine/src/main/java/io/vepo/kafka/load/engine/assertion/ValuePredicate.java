@@ -0,0 +1,20 @@
+package io.vepo.kafka.load.engine.assertion;
+
+public interface ValuePredicate {
+
+    default boolean testString(byte[] source, int start, int end) {
+        return false;
+    }
+
+    default boolean testNumber(byte[] source, int start, int end) {
+        return false;
+    }
+
+    default boolean testBoolean(boolean value) {
+        return false;
+    }
+
+    default boolean testNull() {
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.engine.compiler;
+
+final class ClientIdSegment implements Segment {
+    static final ClientIdSegment INSTANCE = new ClientIdSegment();
+
+    private ClientIdSegment() {
+    }
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        buffer.writeDecimal(context.clientId());
+    }
+}
@@ -0,0 +1,7 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import io.vepo.kafka.load.engine.assertion.AssertionEvaluator;
+import io.vepo.kafka.load.engine.assertion.CorrelationExtractor;
+
+public record CompiledAssertion(String topic, AssertionEvaluator evaluator, CorrelationExtractor correlation) {
+}
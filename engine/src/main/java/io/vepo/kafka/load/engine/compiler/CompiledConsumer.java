@@ -0,0 +1,7 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import io.vepo.kafka.load.engine.serde.ValueDecoder;
+import io.vepo.kafka.load.engine.transport.ConsumerSettings;
+
+public record CompiledConsumer(String step, ConsumerSettings settings, int members, ValueDecoder decoder) {
+}
@@ -0,0 +1,4 @@
+package io.vepo.kafka.load.engine.compiler;
+
+public record CompiledMessage(String topic, Template key, Template value) {
+}
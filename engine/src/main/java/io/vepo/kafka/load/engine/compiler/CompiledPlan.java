@@ -0,0 +1,19 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import io.vepo.kafka.load.engine.feeder.DataFeeder;
+import io.vepo.kafka.load.parser.TestPlan;
+import java.util.stream.Stream;
+
+public record CompiledPlan(TestPlan testPlan, DataFeeder[] feeders, CompiledStep[] steps,
+                           CompiledConsumer[] consumers) {
+
+    public CompiledPlan withTransactionSize(int transactionSize) {
+        return new CompiledPlan(testPlan, feeders, Stream.of(steps)
+                .map(step -> step.withTransactionSize(transactionSize))
+                .toArray(CompiledStep[]::new), consumers);
+    }
+
+    public int transactionSize() {
+        return Stream.of(steps).mapToInt(CompiledStep::transactionSize).max().orElse(0);
+    }
+}
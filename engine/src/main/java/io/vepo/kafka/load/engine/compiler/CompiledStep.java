@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import java.time.Duration;
+
+public record CompiledStep(String name, String replyTopic, Duration timeout, int transactionSize,
+                           CompiledMessage[] messages,
+                           CompiledAssertion[] assertions) {
+
+    public CompiledStep withTransactionSize(int transactionSize) {
+        return replyTopic != null ? this
+                : new CompiledStep(name, replyTopic, timeout, transactionSize, messages, assertions);
+    }
+}
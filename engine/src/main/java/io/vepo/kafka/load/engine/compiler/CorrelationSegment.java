@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.engine.compiler;
+
+final class CorrelationSegment implements Segment {
+    static final CorrelationSegment INSTANCE = new CorrelationSegment();
+
+    private CorrelationSegment() {
+    }
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        buffer.writeDecimal(context.correlation());
+    }
+}
@@ -0,0 +1,9 @@
+package io.vepo.kafka.load.engine.compiler;
+
+record FeederSegment(int feeder, int column) implements Segment {
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        context.row(feeder).write(column, buffer);
+    }
+}
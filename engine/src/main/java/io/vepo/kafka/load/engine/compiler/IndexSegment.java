@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.engine.compiler;
+
+final class IndexSegment implements Segment {
+    static final IndexSegment INSTANCE = new IndexSegment();
+
+    private IndexSegment() {
+    }
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        buffer.writeDecimal(context.index());
+    }
+}
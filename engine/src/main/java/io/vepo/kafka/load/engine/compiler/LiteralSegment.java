@@ -0,0 +1,9 @@
+package io.vepo.kafka.load.engine.compiler;
+
+record LiteralSegment(byte[] bytes) implements Segment {
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        buffer.write(bytes);
+    }
+}
@@ -0,0 +1,84 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import io.vepo.kafka.load.engine.assertion.AssertionCompiler;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.feeder.DataFeeder;
+import io.vepo.kafka.load.engine.serde.SchemaRegistry;
+import io.vepo.kafka.load.engine.serde.ValueCompiler;
+import io.vepo.kafka.load.engine.serde.ValueDecoder;
+import io.vepo.kafka.load.engine.transport.ConsumerSettings;
+import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.Message;
+import io.vepo.kafka.load.parser.MessageType;
+import io.vepo.kafka.load.parser.Step;
+import io.vepo.kafka.load.parser.TestPlan;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+public class PlanCompiler {
+    private final Configuration configuration;
+    private final AssertionCompiler assertionCompiler;
+
+    public PlanCompiler(Configuration configuration) {
+        this.configuration = configuration;
+        this.assertionCompiler = new AssertionCompiler(configuration);
+    }
+
+    public CompiledPlan compile(TestPlan testPlan) {
+        var fileCompiler = new TemplateCompiler(configuration);
+        var feeders = Stream.of(testPlan.feeders())
+                .map(feeder -> DataFeeder.open(feeder, Paths.get(fileCompiler.constant(feeder.file(), "file")),
+                        testPlan.clients()))
+                .toArray(DataFeeder[]::new);
+        var templateCompiler = new TemplateCompiler(configuration, feeders);
+        var valueCompiler = new ValueCompiler(templateCompiler, SchemaRegistry.inProcess());
+        var produces = testPlan.connection().produces();
+        var decoder = ValueDecoder.of(testPlan.connection().consumes(), SchemaRegistry.inProcess());
+        return new CompiledPlan(testPlan, feeders, Stream.of(testPlan.steps())
+                .filter(step -> !step.consuming())
+                .map(step -> compile(step, templateCompiler, valueCompiler, produces))
+                .toArray(CompiledStep[]::new),
+                Stream.of(testPlan.steps())
+                        .filter(Step::consuming)
+                        .map(step -> compile(testPlan, step, templateCompiler, decoder))
+                        .toArray(CompiledConsumer[]::new));
+    }
+
+    private static CompiledConsumer compile(TestPlan testPlan, Step step, TemplateCompiler templateCompiler,
+                                            ValueDecoder decoder) {
+        var consumer = step.consumer();
+        var group = consumer.group() != null ? templateCompiler.constant(consumer.group(), "group")
+                : "kafka-load-" + testPlan.name() + "-" + step.name();
+        return new CompiledConsumer(step.name(), new ConsumerSettings(templateCompiler.constant(consumer.topic(),
+                "topic"), group, consumer.fetchMinBytes(), consumer.maxPollRecords(), consumer.commit()),
+                consumer.consumers(), decoder);
+    }
+
+    private CompiledStep compile(Step step, TemplateCompiler templateCompiler, ValueCompiler valueCompiler,
+                                 MessageType produces) {
+        if (Stream.of(step.assertions()).filter(assertion -> assertion.correlation() != null).count() > 1) {
+            throw new ExecutorException("Only one assertion can be correlated with the step! step=" + step.name());
+        }
+        var replyTopic = step.requestReply() ? templateCompiler.constant(step.replyTopic(), "replyTopic") : null;
+        return new CompiledStep(step.name(), replyTopic, step.timeout(), step.transactionSize(),
+                Stream.of(step.messages())
+                        .map(message -> compile(message, templateCompiler, valueCompiler, produces))
+                        .toArray(CompiledMessage[]::new),
+                Stream.of(step.assertions())
+                        .map(assertion -> compile(assertion, templateCompiler))
+                        .toArray(CompiledAssertion[]::new));
+    }
+
+    private static CompiledMessage compile(Message message, TemplateCompiler templateCompiler,
+                                           ValueCompiler valueCompiler, MessageType produces) {
+        var topic = templateCompiler.constant(message.topic(), "topic");
+        return new CompiledMessage(topic, templateCompiler.compile(message.key()),
+                valueCompiler.compile(produces, topic, message.value(), message.schema()));
+    }
+
+    private CompiledAssertion compile(Assertion assertion, TemplateCompiler templateCompiler) {
+        return new CompiledAssertion(templateCompiler.constant(assertion.topic(), "topic"),
+                assertionCompiler.compile(assertion), assertionCompiler.compile(assertion.correlation()));
+    }
+}
@@ -0,0 +1,9 @@
+package io.vepo.kafka.load.engine.compiler;
+
+record RandomIntSegment(long min, long bound) implements Segment {
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        buffer.writeDecimal(min + Long.remainderUnsigned(context.random(), bound));
+    }
+}
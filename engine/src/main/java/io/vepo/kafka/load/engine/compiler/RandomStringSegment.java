@@ -0,0 +1,20 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+record RandomStringSegment(int length) implements Segment {
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(US_ASCII);
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        var remaining = length;
+        while (remaining > 0) {
+            var bits = context.random();
+            for (int i = 0; i < 10 && remaining > 0; ++i, --remaining) {
+                buffer.write(ALPHABET[(int) (bits & 0x3F)]);
+                bits >>>= 6;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.vepo.kafka.load.engine.compiler;
+
+final class RandomUuidSegment implements Segment {
+    static final RandomUuidSegment INSTANCE = new RandomUuidSegment();
+
+    private RandomUuidSegment() {
+    }
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        var mostSignificant = context.random() & 0xFFFFFFFFFFFF0FFFL | 0x0000000000004000L;
+        var leastSignificant = context.random() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        buffer.writeHex(mostSignificant >>> 32, 8);
+        buffer.write((byte) '-');
+        buffer.writeHex(mostSignificant >>> 16, 4);
+        buffer.write((byte) '-');
+        buffer.writeHex(mostSignificant, 4);
+        buffer.write((byte) '-');
+        buffer.writeHex(leastSignificant >>> 48, 4);
+        buffer.write((byte) '-');
+        buffer.writeHex(leastSignificant, 12);
+    }
+}
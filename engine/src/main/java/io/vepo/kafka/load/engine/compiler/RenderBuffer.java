@@ -0,0 +1,204 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class RenderBuffer {
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
+
+    private byte[] bytes;
+    private int length;
+    private ByteBuffer view;
+
+    public RenderBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    public void reset() {
+        length = 0;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /* Only valid until the buffer is written again. */
+    public ByteBuffer view() {
+        if (view == null || view.array() != bytes) {
+            view = ByteBuffer.wrap(bytes);
+        }
+        view.limit(length).position(0);
+        return view;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    public void write(byte[] source) {
+        write(source, 0, source.length);
+    }
+
+    public void write(byte[] source, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(source, offset, bytes, length, count);
+        length += count;
+    }
+
+    public void write(ByteBuffer source, int index, int count) {
+        ensureCapacity(count);
+        source.get(index, bytes, length, count);
+        length += count;
+    }
+
+    public void write(byte value) {
+        ensureCapacity(1);
+        bytes[length++] = value;
+    }
+
+    public void writeDecimal(long value) {
+        if (value == Long.MIN_VALUE) {
+            write(MIN_LONG);
+            return;
+        }
+        if (value < 0) {
+            write((byte) '-');
+            value = -value;
+        }
+        var digits = digits(value);
+        ensureCapacity(digits);
+        var position = length + digits;
+        do {
+            bytes[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        length += digits;
+    }
+
+    public void writeHex(long value, int digits) {
+        ensureCapacity(digits);
+        for (int position = length + digits - 1; position >= length; --position) {
+            bytes[position] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        length += digits;
+    }
+
+    public void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    public void writeFixed32(int value) {
+        ensureCapacity(Integer.BYTES);
+        for (int i = 0; i < Integer.BYTES; ++i) {
+            bytes[length++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    public void writeFixed64(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int i = 0; i < Long.BYTES; ++i) {
+            bytes[length++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    public void writeUtf8(int codePoint) {
+        ensureCapacity(4);
+        if (codePoint < 0x80) {
+            bytes[length++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            bytes[length++] = (byte) (0xC0 | codePoint >> 6);
+            bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            bytes[length++] = (byte) (0xE0 | codePoint >> 12);
+            bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            bytes[length++] = (byte) (0xF0 | codePoint >> 18);
+            bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+    }
+
+    public boolean writeJsonString(ByteBuffer source, int from, int to) {
+        var position = from;
+        while (position < to) {
+            var run = position;
+            while (run < to && source.get(run) != '\\') {
+                run++;
+            }
+            write(source, position, run - position);
+            if (run + 1 >= to) {
+                return run == to;
+            }
+            var escaped = source.get(run + 1);
+            position = run + 2;
+            switch (escaped) {
+                case 'b' -> write((byte) '\b');
+                case 'f' -> write((byte) '\f');
+                case 'n' -> write((byte) '\n');
+                case 'r' -> write((byte) '\r');
+                case 't' -> write((byte) '\t');
+                case 'u' -> {
+                    var codePoint = hex(source, position, to);
+                    if (codePoint < 0) {
+                        return false;
+                    }
+                    position += 4;
+                    if (Character.isHighSurrogate((char) codePoint) && position + 6 <= to
+                            && source.get(position) == '\\' && source.get(position + 1) == 'u') {
+                        var low = hex(source, position + 2, to);
+                        if (low >= 0 && Character.isLowSurrogate((char) low)) {
+                            codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                            position += 6;
+                        }
+                    }
+                    writeUtf8(codePoint);
+                }
+                default -> write(escaped);
+            }
+        }
+        return true;
+    }
+
+    private static int hex(ByteBuffer source, int position, int to) {
+        if (position + 4 > to) {
+            return -1;
+        }
+        var value = 0;
+        for (int index = position; index < position + 4; ++index) {
+            var digit = Character.digit(source.get(index), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static int digits(long value) {
+        var digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void ensureCapacity(int count) {
+        if (length + count > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+        }
+    }
+}
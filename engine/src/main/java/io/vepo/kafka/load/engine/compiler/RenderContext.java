@@ -0,0 +1,91 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import io.vepo.kafka.load.engine.feeder.FeederRow;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RenderContext {
+    private static final FeederRow[] NO_ROWS = new FeederRow[0];
+
+    private static final int INITIAL_BUFFER_CAPACITY = 1024;
+
+    private final RenderBuffer key = new RenderBuffer(INITIAL_BUFFER_CAPACITY);
+    private final RenderBuffer value = new RenderBuffer(INITIAL_BUFFER_CAPACITY);
+    private final byte[] header = new byte[Long.BYTES];
+    private RenderBuffer[] scratches = new RenderBuffer[0];
+    private final int clientId;
+    private final FeederRow[] rows;
+    private long index;
+    private long random;
+    private long correlations;
+    private long correlation;
+
+    long sequenceNext;
+    long sequenceLimit;
+
+    public RenderContext(int clientId) {
+        this(clientId, NO_ROWS);
+    }
+
+    public RenderContext(int clientId, FeederRow[] rows) {
+        this.clientId = clientId;
+        this.rows = rows;
+        this.random = ThreadLocalRandom.current().nextLong();
+    }
+
+    public int clientId() {
+        return clientId;
+    }
+
+    public RenderBuffer key() {
+        return key;
+    }
+
+    public RenderBuffer value() {
+        return value;
+    }
+
+    public RenderBuffer scratch(int depth) {
+        if (depth >= scratches.length) {
+            var grown = Arrays.copyOf(scratches, depth + 1);
+            for (int i = scratches.length; i < grown.length; ++i) {
+                grown[i] = new RenderBuffer(INITIAL_BUFFER_CAPACITY);
+            }
+            scratches = grown;
+        }
+        return scratches[depth];
+    }
+
+    public FeederRow row(int feeder) {
+        return rows[feeder];
+    }
+
+    public long random() {
+        var z = (random += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /* Client id on the highest bits and a per client counter on the lowest 40 bits, ReplyTracker relies on it. */
+    public long nextCorrelation() {
+        correlation = ((long) clientId << 40) | correlations++;
+        return correlation;
+    }
+
+    public long correlation() {
+        return correlation;
+    }
+
+    public byte[] header() {
+        return header;
+    }
+
+    public long index() {
+        return index;
+    }
+
+    public void index(long index) {
+        this.index = index;
+    }
+}
@@ -0,0 +1,5 @@
+package io.vepo.kafka.load.engine.compiler;
+
+public interface Segment {
+    void write(RenderContext context, RenderBuffer buffer);
+}
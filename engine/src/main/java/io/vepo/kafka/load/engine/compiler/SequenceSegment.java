@@ -0,0 +1,19 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/* Clients reserve blocks of the sequence, values are increasing for each client, not across clients. */
+final class SequenceSegment implements Segment {
+    private static final int BLOCK = 1024;
+
+    private final AtomicLong next = new AtomicLong();
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        if (context.sequenceNext == context.sequenceLimit) {
+            context.sequenceNext = next.getAndAdd(BLOCK);
+            context.sequenceLimit = context.sequenceNext + BLOCK;
+        }
+        buffer.writeDecimal(context.sequenceNext++);
+    }
+}
@@ -0,0 +1,24 @@
+package io.vepo.kafka.load.engine.compiler;
+
+public class Template {
+    private final Segment[] segments;
+
+    Template(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    public void render(RenderContext context, RenderBuffer buffer) {
+        buffer.reset();
+        for (Segment segment : segments) {
+            segment.write(context, buffer);
+        }
+    }
+
+    Segment[] segments() {
+        return segments;
+    }
+
+    public boolean constant() {
+        return segments.length == 0 || (segments.length == 1 && segments[0] instanceof LiteralSegment);
+    }
+}
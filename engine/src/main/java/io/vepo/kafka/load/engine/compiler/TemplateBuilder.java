@@ -0,0 +1,42 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TemplateBuilder {
+    private final List<Segment> segments = new ArrayList<>();
+    private final RenderBuffer literal = new RenderBuffer(64);
+
+    public RenderBuffer literal() {
+        return literal;
+    }
+
+    public TemplateBuilder segment(Segment segment) {
+        flush();
+        segments.add(segment);
+        return this;
+    }
+
+    public TemplateBuilder template(Template template) {
+        for (Segment segment : template.segments()) {
+            if (segment instanceof LiteralSegment literalSegment) {
+                literal.write(literalSegment.bytes());
+            } else {
+                segment(segment);
+            }
+        }
+        return this;
+    }
+
+    public Template build() {
+        flush();
+        return new Template(segments.toArray(Segment[]::new));
+    }
+
+    private void flush() {
+        if (literal.length() > 0) {
+            segments.add(new LiteralSegment(literal.toByteArray()));
+            literal.reset();
+        }
+    }
+}
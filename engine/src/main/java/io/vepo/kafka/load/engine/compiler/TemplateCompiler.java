@@ -0,0 +1,170 @@
+package io.vepo.kafka.load.engine.compiler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.feeder.DataFeeder;
+import io.vepo.kafka.load.parser.PropertyNumberValue;
+import io.vepo.kafka.load.parser.PropertyReferenceValue;
+import io.vepo.kafka.load.parser.PropertyStringValue;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TemplateCompiler {
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    private final Configuration configuration;
+    private final DataFeeder[] feeders;
+    private final SequenceSegment sequence = new SequenceSegment();
+
+    public TemplateCompiler(Configuration configuration) {
+        this(configuration, new DataFeeder[0]);
+    }
+
+    public TemplateCompiler(Configuration configuration, DataFeeder[] feeders) {
+        this.configuration = configuration;
+        this.feeders = feeders;
+    }
+
+    public Template compile(PropertyValue value) {
+        if (value instanceof PropertyStringValue text) {
+            return compile(text.content());
+        } else if (value instanceof PropertyNumberValue number) {
+            return compile(number.value().toString());
+        } else if (value instanceof PropertyReferenceValue reference) {
+            return compile(PLACEHOLDER_START + reference.property() + PLACEHOLDER_END);
+        } else {
+            return null;
+        }
+    }
+
+    public String constant(PropertyValue value, String field) {
+        var template = compile(value);
+        if (template == null) {
+            throw new ExecutorException("Missing \"" + field + "\"!");
+        } else if (!template.constant()) {
+            throw new ExecutorException("\"" + field + "\" should not depend on the iteration!");
+        }
+        var context = new RenderContext(0);
+        template.render(context, context.value());
+        return new String(context.value().bytes(), 0, context.value().length(), UTF_8);
+    }
+
+    public Template compile(String text) {
+        var segments = new ArrayList<Segment>();
+        var literal = new StringBuilder();
+        var position = 0;
+        while (position < text.length()) {
+            var start = text.indexOf(PLACEHOLDER_START, position);
+            var end = start >= 0 ? text.indexOf(PLACEHOLDER_END, start) : -1;
+            if (end < 0) {
+                literal.append(text, position, text.length());
+                break;
+            }
+            literal.append(text, position, start);
+            var name = text.substring(start + PLACEHOLDER_START.length(), end);
+            var segment = placeholder(name);
+            if (segment == null) {
+                literal.append(property(name));
+            } else {
+                flush(literal, segments);
+                segments.add(segment);
+            }
+            position = end + PLACEHOLDER_END.length();
+        }
+        flush(literal, segments);
+        return new Template(segments.toArray(Segment[]::new));
+    }
+
+    private Segment placeholder(String name) {
+        var arguments = name.indexOf('(');
+        if (arguments > 0 && name.endsWith(")")) {
+            return generator(name.substring(0, arguments).strip(),
+                    arguments(name, name.substring(arguments + 1, name.length() - 1)));
+        }
+        return switch (name) {
+            case "index" -> IndexSegment.INSTANCE;
+            case "sequence" -> sequence;
+            case "timestamp" -> TimestampSegment.INSTANCE;
+            case "client.id" -> ClientIdSegment.INSTANCE;
+            case "correlation.id" -> CorrelationSegment.INSTANCE;
+            case "random.uuid" -> RandomUuidSegment.INSTANCE;
+            default -> feeder(name);
+        };
+    }
+
+    private static Segment generator(String name, long[] arguments) {
+        return switch (name) {
+            case "random.int" -> {
+                requireArguments(name, arguments, 2);
+                var bound = arguments[1] - arguments[0] + 1;
+                if (arguments[1] < arguments[0] || bound == 0) {
+                    throw new ExecutorException("Invalid range! generator=" + name + " min=" + arguments[0] + " max="
+                            + arguments[1]);
+                }
+                yield new RandomIntSegment(arguments[0], bound);
+            }
+            case "random.string" -> {
+                requireArguments(name, arguments, 1);
+                if (arguments[0] < 0 || arguments[0] > Integer.MAX_VALUE) {
+                    throw new ExecutorException("Invalid length! generator=" + name + " length=" + arguments[0]);
+                }
+                yield new RandomStringSegment((int) arguments[0]);
+            }
+            case "random.uuid" -> {
+                requireArguments(name, arguments, 0);
+                yield RandomUuidSegment.INSTANCE;
+            }
+            default -> throw new ExecutorException("Generator not defined! generator=" + name);
+        };
+    }
+
+    private static long[] arguments(String placeholder, String arguments) {
+        if (arguments.isBlank()) {
+            return new long[0];
+        }
+        try {
+            return Stream.of(arguments.split(","))
+                    .map(String::strip)
+                    .mapToLong(Long::parseLong)
+                    .toArray();
+        } catch (NumberFormatException e) {
+            throw new ExecutorException("Invalid generator arguments! placeholder=" + placeholder, e);
+        }
+    }
+
+    private static void requireArguments(String name, long[] arguments, int count) {
+        if (arguments.length != count) {
+            throw new ExecutorException("Generator requires " + count + " arguments! generator=" + name);
+        }
+    }
+
+    private Segment feeder(String name) {
+        var separator = name.indexOf('.');
+        if (separator > 0) {
+            var prefix = name.substring(0, separator);
+            for (int i = 0; i < feeders.length; ++i) {
+                if (feeders[i].name().equals(prefix)) {
+                    return new FeederSegment(i, feeders[i].column(name.substring(separator + 1)));
+                }
+            }
+        }
+        return null;
+    }
+
+    private String property(String name) {
+        return configuration.get(name)
+                .orElseThrow(() -> new ExecutorException("Property not defined! property=" + name));
+    }
+
+    private static void flush(StringBuilder literal, List<Segment> segments) {
+        if (literal.length() > 0) {
+            segments.add(new LiteralSegment(literal.toString().getBytes(UTF_8)));
+            literal.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.engine.compiler;
+
+final class TimestampSegment implements Segment {
+    static final TimestampSegment INSTANCE = new TimestampSegment();
+
+    private TimestampSegment() {
+    }
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        buffer.writeDecimal(System.currentTimeMillis());
+    }
+}
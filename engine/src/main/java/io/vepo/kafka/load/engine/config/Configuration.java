@@ -6,9 +6,29 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputFilter;
+import java.util.Optional;
 import java.util.Properties;
 
 public class Configuration {
+    public static final String REPORT_DIRECTORY = "report.directory";
+    public static final String REPORT_INTERVAL = "report.interval";
+    public static final String TRANSPORT = "transport";
+    public static final String LOOPBACK_LATENCY = "transport.loopback.latencyMicros";
+    public static final String CONNECTION_PRODUCERS = "connection.producers";
+    public static final String CONNECTION_LINGER_MS = "connection.lingerMs";
+    public static final String CONNECTION_BATCH_SIZE = "connection.batchSize";
+    public static final String CONNECTION_COMPRESSION = "connection.compression";
+    public static final String CONNECTION_ACKS = "connection.acks";
+    public static final String CONNECTION_MAX_IN_FLIGHT = "connection.maxInFlight";
+    public static final String CONNECTION_IDEMPOTENCE = "connection.idempotence";
+    public static final String CONNECTION_SEND_WINDOW = "connection.sendWindow";
+    public static final String SATURATION_START_RATE = "saturation.startRate";
+    public static final String SATURATION_MAX_RATE = "saturation.maxRate";
+    public static final String WATCHDOG_CPU = "watchdog.cpuPercent";
+    public static final String WATCHDOG_GC = "watchdog.gcPercent";
+    public static final String WATCHDOG_LAG = "watchdog.lagMs";
+    public static final String WATCHDOG_INVALIDATE = "watchdog.invalidate";
+
     private Properties configs;
 
     private Configuration(Properties configs) {
@@ -28,4 +48,15 @@ public class Configuration {
             throw new ExecutorException("Could not load configuration file!", ioe);
         }
     }
+
+    public Configuration with(String key, String value) {
+        var configs = new Properties();
+        configs.putAll(this.configs);
+        configs.setProperty(key, value);
+        return new Configuration(configs);
+    }
+
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(configs.getProperty(key));
+    }
 }
@@ -0,0 +1,24 @@
+package io.vepo.kafka.load.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("kafka.load.Assertion")
+@Label("Assertion Evaluation")
+@Category({"Kafka Load"})
+@Description("Evaluation of the assertions of a step on a consumed record")
+@Threshold("1 ms")
+public class AssertionEvent extends Event {
+    @Label("Step")
+    public String step;
+
+    @Label("Topic")
+    public String topic;
+
+    @Label("Passed")
+    public boolean passed;
+}
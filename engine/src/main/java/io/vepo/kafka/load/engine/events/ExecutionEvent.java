@@ -0,0 +1,29 @@
+package io.vepo.kafka.load.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("kafka.load.Execution")
+@Label("Test Plan Execution")
+@Category({"Kafka Load"})
+@Description("Execution of a test plan, from the first client started to the last one stopped")
+public class ExecutionEvent extends Event {
+    @Label("Test Plan")
+    public String testPlan;
+
+    @Label("Clients")
+    public int clients;
+
+    @Label("Iterations")
+    public long iterations;
+
+    @Label("Messages")
+    @Description("Messages sent, including warm up and ramp down")
+    public long messages;
+
+    @Label("Errors")
+    public long errors;
+}
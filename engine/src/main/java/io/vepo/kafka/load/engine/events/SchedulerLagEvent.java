@@ -0,0 +1,34 @@
+package io.vepo.kafka.load.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("kafka.load.SchedulerLag")
+@Label("Scheduler Lag")
+@Category({"Kafka Load"})
+@Description("An iteration that started late, because its client was busy or was not scheduled in time")
+public class SchedulerLagEvent extends Event {
+    public static final long THRESHOLD = 1_000_000;
+
+    @Label("Client")
+    public int client;
+
+    @Label("Lag")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lag;
+
+    public static void lag(int client, long lag) {
+        if (lag >= THRESHOLD) {
+            var event = new SchedulerLagEvent();
+            if (event.shouldCommit()) {
+                event.client = client;
+                event.lag = lag;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.vepo.kafka.load.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("kafka.load.Send")
+@Label("Send")
+@Category({"Kafka Load"})
+@Description("A message from the moment it is handed to the transport until it is acknowledged")
+@Threshold("1 ms")
+public class SendEvent extends Event {
+    @Label("Topic")
+    public String topic;
+
+    @Label("Client")
+    public int client;
+
+    @Label("Pipelined")
+    @Description("Sent within a send window, without waiting for the acknowledgement")
+    public boolean pipelined;
+
+    @Label("Success")
+    public boolean success;
+}
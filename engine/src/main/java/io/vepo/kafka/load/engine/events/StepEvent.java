@@ -0,0 +1,27 @@
+package io.vepo.kafka.load.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("kafka.load.Step")
+@Label("Step")
+@Category({"Kafka Load"})
+@Description("A step of an iteration, from its first message handed to the transport to its last one")
+@Threshold("1 ms")
+public class StepEvent extends Event {
+    @Label("Step")
+    public String step;
+
+    @Label("Client")
+    public int client;
+
+    @Label("Iteration")
+    public long iteration;
+
+    @Label("Messages")
+    public int messages;
+}
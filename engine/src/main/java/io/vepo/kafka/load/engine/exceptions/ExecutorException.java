@@ -2,6 +2,10 @@ package io.vepo.kafka.load.engine.exceptions;
 
 public class ExecutorException extends RuntimeException {
 
+    public ExecutorException(String message) {
+        super(message);
+    }
+
     public ExecutorException(String message, Exception cause) {
         super(message, cause);
     }
@@ -0,0 +1,12 @@
+package io.vepo.kafka.load.engine.exceptions;
+
+public class TransportException extends ExecutorException {
+
+    public TransportException(String message) {
+        super(message);
+    }
+
+    public TransportException(String message, Exception cause) {
+        super(message, cause);
+    }
+}
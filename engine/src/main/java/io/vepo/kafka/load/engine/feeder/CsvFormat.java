@@ -0,0 +1,104 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CsvFormat implements RowFormat {
+    private static final byte SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+
+    private final String feeder;
+    private final List<String> columns = new ArrayList<>();
+
+    CsvFormat(String feeder, ByteBuffer chunk, int from, int to) {
+        this.feeder = feeder;
+        var field = new int[3];
+        var position = from;
+        while (position <= to) {
+            position = field(chunk, position, to, field) + 1;
+            var buffer = new RenderBuffer(field[1] - field[0]);
+            if (field[2] != 0) {
+                unescape(chunk, field[0], field[1], buffer);
+            } else {
+                buffer.write(chunk, field[0], field[1] - field[0]);
+            }
+            columns.add(new String(buffer.bytes(), 0, buffer.length(), UTF_8).strip());
+        }
+    }
+
+    @Override
+    public int column(String name) {
+        var index = columns.indexOf(name);
+        if (index < 0) {
+            throw new ExecutorException("Column not defined on feeder! feeder=" + feeder + " column=" + name);
+        }
+        return index;
+    }
+
+    @Override
+    public int columns() {
+        return columns.size();
+    }
+
+    @Override
+    public void parse(ByteBuffer chunk, int from, int to, FeederRow row) {
+        var bounds = row.bounds;
+        var position = from;
+        for (int column = 0; column < row.columns(); ++column) {
+            if (position > to) {
+                row.clear(column);
+            } else {
+                position = field(chunk, position, to, bounds) + 1;
+                row.column(column, bounds[0], bounds[1], bounds[2] != 0);
+            }
+        }
+    }
+
+    private int field(ByteBuffer chunk, int position, int to, int[] bounds) {
+        if (position < to && chunk.get(position) == QUOTE) {
+            bounds[0] = ++position;
+            bounds[2] = 0;
+            while (position < to) {
+                if (chunk.get(position) != QUOTE) {
+                    position++;
+                } else if (position + 1 < to && chunk.get(position + 1) == QUOTE) {
+                    bounds[2] = 1;
+                    position += 2;
+                } else {
+                    break;
+                }
+            }
+            if (position >= to) {
+                throw new ExecutorException("Unterminated quoted field on feeder! feeder=" + feeder);
+            }
+            bounds[1] = position;
+            while (position < to && chunk.get(position) != SEPARATOR) {
+                position++;
+            }
+        } else {
+            bounds[0] = position;
+            while (position < to && chunk.get(position) != SEPARATOR) {
+                position++;
+            }
+            bounds[1] = position;
+            bounds[2] = 0;
+        }
+        return position;
+    }
+
+    @Override
+    public void unescape(ByteBuffer chunk, int from, int to, RenderBuffer buffer) {
+        for (int position = from; position < to; ++position) {
+            var value = chunk.get(position);
+            buffer.write(value);
+            if (value == QUOTE) {
+                position++;
+            }
+        }
+    }
+}
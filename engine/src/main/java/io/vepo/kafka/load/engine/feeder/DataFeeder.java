@@ -0,0 +1,153 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.Feeder;
+import io.vepo.kafka.load.parser.FeederStrategy;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* Only the sequential strategy shares state between the clients: a single offset advanced with a CAS. */
+public class DataFeeder {
+    private final String name;
+    private final MappedData data;
+    private final RowFormat format;
+    private final FeederStrategy strategy;
+    private final long dataStart;
+    private final long[] partitions;
+    private final RowIndex index;
+    private final AtomicLong cursor;
+
+    private DataFeeder(String name, MappedData data, RowFormat format, FeederStrategy strategy, long dataStart,
+                       int clients) {
+        this.name = name;
+        this.data = data;
+        this.format = format;
+        this.strategy = strategy;
+        this.dataStart = dataStart;
+        this.cursor = new AtomicLong(dataStart);
+        if (!hasRows(dataStart, data.size())) {
+            throw new ExecutorException("Feeder has no rows! feeder=" + name);
+        }
+        this.partitions = strategy == FeederStrategy.PARTITIONED ? partition(clients) : null;
+        this.index = strategy == FeederStrategy.RANDOM ? RowIndex.build(name, data, dataStart) : null;
+    }
+
+    public static DataFeeder open(Feeder feeder, Path file, int clients) {
+        return open(feeder, file, clients, MappedData.CHUNK, MappedData.MAX_ROW);
+    }
+
+    public static DataFeeder open(Feeder feeder, Path file, int clients, int chunk, int maxRow) {
+        var data = MappedData.map(file, chunk, maxRow);
+        return switch (feeder.format()) {
+            case CSV -> {
+                var headerEnd = data.size() > 0 ? data.lineEnd(0) : 0;
+                var to = (int) headerEnd;
+                if (to > 0 && data.get(to - 1) == '\r') {
+                    to--;
+                }
+                yield new DataFeeder(feeder.name(), data, new CsvFormat(feeder.name(), data.chunk(0), 0, to),
+                        feeder.strategy(), Math.min(headerEnd + 1, data.size()), clients);
+            }
+            case JSONL -> new DataFeeder(feeder.name(), data, new JsonLinesFormat(feeder.name()), feeder.strategy(),
+                    0, clients);
+        };
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int column(String column) {
+        return format.column(column);
+    }
+
+    public FeederRow row(int clientId) {
+        if (partitions != null && clientId < partitions.length - 1
+                && hasRows(partitions[clientId], partitions[clientId + 1])) {
+            return new FeederRow(format, partitions[clientId], partitions[clientId + 1]);
+        }
+        return new FeederRow(format, 0, 0);
+    }
+
+    public void next(FeederRow row) {
+        switch (strategy) {
+            case SEQUENTIAL -> sequential(row);
+            case PARTITIONED -> {
+                if (row.partitioned()) {
+                    partitioned(row);
+                } else {
+                    sequential(row);
+                }
+            }
+            case RANDOM -> random(row);
+        }
+    }
+
+    private void sequential(FeederRow row) {
+        while (true) {
+            var start = cursor.get();
+            var end = data.lineEnd(start);
+            if (cursor.compareAndSet(start, end + 1 < data.size() ? end + 1 : dataStart) && load(row, start, end)) {
+                return;
+            }
+        }
+    }
+
+    private void partitioned(FeederRow row) {
+        while (true) {
+            var start = row.cursor;
+            var end = data.lineEnd(start);
+            row.cursor = end + 1 < row.to ? end + 1 : row.from;
+            if (load(row, start, end)) {
+                return;
+            }
+        }
+    }
+
+    private void random(FeederRow row) {
+        var start = index.start(ThreadLocalRandom.current().nextInt(index.rows()));
+        load(row, start, data.lineEnd(start));
+    }
+
+    private long lineStart(long offset) {
+        return offset == dataStart || data.get(offset - 1) == '\n' ? offset : data.lineEnd(offset) + 1;
+    }
+
+    private boolean load(FeederRow row, long start, long end) {
+        var chunk = data.chunk(start);
+        var from = data.local(start);
+        var to = from + (int) (end - start);
+        if (to > from && chunk.get(to - 1) == '\r') {
+            to--;
+        }
+        if (to == from) {
+            return false;
+        }
+        row.chunk(chunk);
+        format.parse(chunk, from, to, row);
+        return true;
+    }
+
+    private boolean hasRows(long from, long to) {
+        for (long offset = from; offset < to; ++offset) {
+            var value = data.get(offset);
+            if (value != '\n' && value != '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long[] partition(int clients) {
+        var partitions = new long[clients + 1];
+        var length = data.size() - dataStart;
+        partitions[0] = dataStart;
+        for (int i = 1; i < clients; ++i) {
+            partitions[i] = Math.max(partitions[i - 1], Math.min(lineStart(dataStart + length * i / clients),
+                    data.size()));
+        }
+        partitions[clients] = data.size();
+        return partitions;
+    }
+}
@@ -0,0 +1,58 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import java.nio.ByteBuffer;
+
+public class FeederRow {
+    private final RowFormat format;
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean[] escaped;
+    private ByteBuffer chunk;
+
+    final int[] bounds = new int[3];
+
+    final long from;
+    final long to;
+    long cursor;
+
+    FeederRow(RowFormat format, long from, long to) {
+        this.format = format;
+        this.starts = new int[format.columns()];
+        this.ends = new int[format.columns()];
+        this.escaped = new boolean[format.columns()];
+        this.from = from;
+        this.to = to;
+        this.cursor = from;
+    }
+
+    boolean partitioned() {
+        return from < to;
+    }
+
+    void chunk(ByteBuffer chunk) {
+        this.chunk = chunk;
+    }
+
+    int columns() {
+        return starts.length;
+    }
+
+    void column(int column, int start, int end, boolean escaped) {
+        this.starts[column] = start;
+        this.ends[column] = end;
+        this.escaped[column] = escaped;
+    }
+
+    void clear(int column) {
+        column(column, 0, 0, false);
+    }
+
+    public void write(int column, RenderBuffer buffer) {
+        if (escaped[column]) {
+            format.unescape(chunk, starts[column], ends[column], buffer);
+        } else {
+            buffer.write(chunk, starts[column], ends[column] - starts[column]);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class JsonLinesFormat implements RowFormat {
+    private final String feeder;
+    private final List<byte[]> columns = new ArrayList<>();
+
+    JsonLinesFormat(String feeder) {
+        this.feeder = feeder;
+    }
+
+    @Override
+    public int column(String name) {
+        var key = name.getBytes(UTF_8);
+        for (int i = 0; i < columns.size(); ++i) {
+            if (Arrays.equals(columns.get(i), key)) {
+                return i;
+            }
+        }
+        columns.add(key);
+        return columns.size() - 1;
+    }
+
+    @Override
+    public int columns() {
+        return columns.size();
+    }
+
+    @Override
+    public void parse(ByteBuffer chunk, int from, int to, FeederRow row) {
+        for (int column = 0; column < row.columns(); ++column) {
+            row.clear(column);
+        }
+        var position = expect(chunk, skipWhitespaces(chunk, from, to), to, '{');
+        position = skipWhitespaces(chunk, position, to);
+        if (position < to && chunk.get(position) == '}') {
+            return;
+        }
+        while (true) {
+            position = expect(chunk, skipWhitespaces(chunk, position, to), to, '"');
+            var keyStart = position;
+            position = stringEnd(chunk, position, to);
+            var column = column(chunk, keyStart, position);
+            position = expect(chunk, skipWhitespaces(chunk, position + 1, to), to, ':');
+            position = skipWhitespaces(chunk, position, to);
+            if (position < to && chunk.get(position) == '"') {
+                var start = position + 1;
+                position = stringEnd(chunk, start, to);
+                if (column >= 0) {
+                    row.column(column, start, position, contains(chunk, start, position, (byte) '\\'));
+                }
+                position++;
+            } else {
+                var start = position;
+                position = valueEnd(chunk, position, to);
+                if (column >= 0) {
+                    row.column(column, start, position, false);
+                }
+            }
+            position = skipWhitespaces(chunk, position, to);
+            if (position < to && chunk.get(position) == ',') {
+                position++;
+            } else {
+                expect(chunk, position, to, '}');
+                return;
+            }
+        }
+    }
+
+    private int column(ByteBuffer chunk, int start, int end) {
+        for (int i = 0; i < columns.size(); ++i) {
+            var key = columns.get(i);
+            if (key.length == end - start && matches(chunk, start, key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(ByteBuffer chunk, int start, byte[] key) {
+        for (int i = 0; i < key.length; ++i) {
+            if (chunk.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int expect(ByteBuffer chunk, int position, int to, char expected) {
+        if (position >= to || chunk.get(position) != expected) {
+            throw new ExecutorException("Invalid JSON line on feeder! feeder=" + feeder + " expected=" + expected);
+        }
+        return position + 1;
+    }
+
+    private static int skipWhitespaces(ByteBuffer chunk, int position, int to) {
+        while (position < to && Character.isWhitespace(chunk.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private int stringEnd(ByteBuffer chunk, int position, int to) {
+        while (position < to) {
+            var value = chunk.get(position);
+            if (value == '"') {
+                return position;
+            }
+            position += value == '\\' ? 2 : 1;
+        }
+        throw new ExecutorException("Unterminated string on feeder! feeder=" + feeder);
+    }
+
+    private int valueEnd(ByteBuffer chunk, int position, int to) {
+        var depth = 0;
+        var end = position;
+        while (position < to) {
+            var value = chunk.get(position);
+            if (value == '"') {
+                position = stringEnd(chunk, position + 1, to);
+            } else if (value == '{' || value == '[') {
+                depth++;
+            } else if (value == '}' || value == ']') {
+                if (depth == 0) {
+                    return end;
+                }
+                depth--;
+            } else if (value == ',' && depth == 0) {
+                return end;
+            }
+            position++;
+            if (!Character.isWhitespace(value)) {
+                end = position;
+            }
+        }
+        return end;
+    }
+
+    private static boolean contains(ByteBuffer chunk, int from, int to, byte expected) {
+        for (int position = from; position < to; ++position) {
+            if (chunk.get(position) == expected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void unescape(ByteBuffer chunk, int from, int to, RenderBuffer buffer) {
+        if (!buffer.writeJsonString(chunk, from, to)) {
+            throw new ExecutorException("Invalid escape on feeder! feeder=" + feeder);
+        }
+    }
+}
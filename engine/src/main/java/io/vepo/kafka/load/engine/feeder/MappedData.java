@@ -0,0 +1,75 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/* Each chunk overlaps the next one by maxRow bytes, so a row is always read from the chunk where it starts. */
+final class MappedData {
+    static final int CHUNK = 1 << 30;
+    static final int MAX_ROW = 1 << 20;
+
+    private final Path file;
+    private final ByteBuffer[] chunks;
+    private final long size;
+    private final int chunk;
+    private final int maxRow;
+
+    private MappedData(Path file, ByteBuffer[] chunks, long size, int chunk, int maxRow) {
+        this.file = file;
+        this.chunks = chunks;
+        this.size = size;
+        this.chunk = chunk;
+        this.maxRow = maxRow;
+    }
+
+    static MappedData map(Path file, int chunk, int maxRow) {
+        try (var channel = FileChannel.open(file, READ)) {
+            var size = channel.size();
+            var chunks = new ByteBuffer[(int) Math.max(1, (size + chunk - 1) / chunk)];
+            for (int i = 0; i < chunks.length; ++i) {
+                long position = (long) i * chunk;
+                chunks[i] = channel.map(READ_ONLY, position, Math.min((long) chunk + maxRow, size - position));
+            }
+            return new MappedData(file, chunks, size, chunk, maxRow);
+        } catch (IOException e) {
+            throw new ExecutorException("Could not map feeder file! file=" + file, e);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    ByteBuffer chunk(long offset) {
+        return chunks[(int) (offset / chunk)];
+    }
+
+    int local(long offset) {
+        return (int) (offset % chunk);
+    }
+
+    byte get(long offset) {
+        return chunk(offset).get(local(offset));
+    }
+
+    long lineEnd(long offset) {
+        var chunk = chunk(offset);
+        var base = offset - local(offset);
+        for (int i = local(offset); i < chunk.limit(); ++i) {
+            if (chunk.get(i) == '\n') {
+                return base + i;
+            }
+        }
+        if (base + chunk.limit() < size) {
+            throw new ExecutorException("Feeder row is longer than " + maxRow + " bytes! file=" + file + " offset="
+                    + offset);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,14 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import java.nio.ByteBuffer;
+
+interface RowFormat {
+    int column(String name);
+
+    int columns();
+
+    void parse(ByteBuffer chunk, int from, int to, FeederRow row);
+
+    void unescape(ByteBuffer chunk, int from, int to, RenderBuffer buffer);
+}
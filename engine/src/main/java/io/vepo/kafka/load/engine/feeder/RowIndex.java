@@ -0,0 +1,57 @@
+package io.vepo.kafka.load.engine.feeder;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+
+final class RowIndex {
+    private final int[] narrow;
+    private final long[] wide;
+    private final int rows;
+
+    private RowIndex(int[] narrow, long[] wide, int rows) {
+        this.narrow = narrow;
+        this.wide = wide;
+        this.rows = rows;
+    }
+
+    static RowIndex build(String name, MappedData data, long from) {
+        var count = scan(data, from, null, null);
+        if (count > Integer.MAX_VALUE) {
+            throw new ExecutorException("Feeder has too many rows to be read randomly! feeder=" + name + " rows="
+                    + count);
+        }
+        var rows = (int) count;
+        if (data.size() <= Integer.MAX_VALUE) {
+            var narrow = new int[rows];
+            scan(data, from, narrow, null);
+            return new RowIndex(narrow, null, rows);
+        }
+        var wide = new long[rows];
+        scan(data, from, null, wide);
+        return new RowIndex(null, wide, rows);
+    }
+
+    private static long scan(MappedData data, long from, int[] narrow, long[] wide) {
+        var rows = 0L;
+        for (long start = from; start < data.size(); ) {
+            var end = data.lineEnd(start);
+            if (end - start > 1 || (end - start == 1 && data.get(start) != '\r')) {
+                if (narrow != null) {
+                    narrow[(int) rows] = (int) start;
+                } else if (wide != null) {
+                    wide[(int) rows] = start;
+                }
+                rows++;
+            }
+            start = end + 1;
+        }
+        return rows;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    long start(int row) {
+        return narrow != null ? narrow[row] : wide[row];
+    }
+}
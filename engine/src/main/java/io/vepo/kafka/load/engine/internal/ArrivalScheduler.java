@@ -0,0 +1,70 @@
+package io.vepo.kafka.load.engine.internal;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ArrivalScheduler {
+    public static final long FINISHED = -1;
+
+    private final Timer timer;
+    private final RateProfile profile;
+    private final int workers;
+    private final Semaphore released = new Semaphore(0);
+    private final AtomicLong claimed = new AtomicLong();
+    private final ExecutionStats stats;
+    private long start;
+    private long end;
+    private long totalArrivals;
+    private long releasedArrivals;
+
+    /* Arrivals waiting for a free worker keep their intended time, queueing delay is measured instead of omitted. */
+    public ArrivalScheduler(Timer timer, RateProfile profile, int workers, ExecutionStats stats) {
+        this.timer = timer;
+        this.profile = profile;
+        this.workers = workers;
+        this.stats = stats;
+    }
+
+    public void start(Timeline timeline) {
+        this.start = timeline.start();
+        this.end = timeline.end();
+        this.totalArrivals = (long) Math.ceil(profile.arrivals(end - start));
+        timer.schedule(start, this::tick);
+    }
+
+    public long intended(long arrival) {
+        return start + profile.intended(arrival);
+    }
+
+    public double expected(long now) {
+        return profile.arrivals(Math.min(now, end) - start);
+    }
+
+    public long totalArrivals() {
+        return totalArrivals;
+    }
+
+    public long next() throws InterruptedException {
+        released.acquire();
+        var arrival = claimed.getAndIncrement();
+        if (arrival >= totalArrivals || timer.nanoTime() >= end) {
+            return FINISHED;
+        }
+        return arrival;
+    }
+
+    private void tick() {
+        var horizon = timer.nanoTime() + timer.tickDuration();
+        var due = Math.min(totalArrivals, (long) Math.ceil(profile.arrivals(horizon - start)));
+        if (due > releasedArrivals) {
+            released.release((int) (due - releasedArrivals));
+            releasedArrivals = due;
+        }
+        stats.backlog(releasedArrivals - claimed.get());
+        if (horizon < end) {
+            timer.schedule(horizon, this::tick);
+        } else {
+            released.release(workers);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.assertion.CorrelationExtractor;
+import io.vepo.kafka.load.engine.compiler.CompiledAssertion;
+import io.vepo.kafka.load.engine.events.AssertionEvent;
+import io.vepo.kafka.load.engine.metrics.AssertionStatistics;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AssertionConsumer implements Runnable {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+
+    public static class Target {
+        private final String step;
+        private final CompiledAssertion assertion;
+        private final CorrelationTracker tracker;
+        private long evaluated;
+        private long failed;
+
+        public Target(String step, CompiledAssertion assertion, CorrelationTracker tracker) {
+            this.step = step;
+            this.assertion = assertion;
+            this.tracker = assertion.correlation() != null ? tracker : null;
+        }
+
+        public String topic() {
+            return assertion.topic();
+        }
+
+        public AssertionStatistics statistics() {
+            return new AssertionStatistics(step, assertion.topic(), evaluated, failed,
+                    tracker != null ? tracker.statistics() : null);
+        }
+    }
+
+    private final String topic;
+    private final Target[] targets;
+    private final ReplyTracker[] replies;
+    private final Subscription subscription;
+    private volatile long drainDeadline = Long.MAX_VALUE;
+
+    public AssertionConsumer(Transport transport, String clientId, String topic, List<Target> targets,
+                             List<ReplyTracker> replies) {
+        this.topic = topic;
+        this.targets = targets.toArray(Target[]::new);
+        this.replies = replies.toArray(ReplyTracker[]::new);
+        this.subscription = transport.subscribe(clientId, topic);
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public void drain(Duration timeout) {
+        drainDeadline = System.nanoTime() + timeout.toNanos();
+    }
+
+    @Override
+    public void run() {
+        try (subscription) {
+            while (true) {
+                var count = subscription.poll(POLL_TIMEOUT, this::evaluate);
+                if (System.nanoTime() >= drainDeadline || (drainDeadline != Long.MAX_VALUE && count == 0)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void evaluate(byte[] key, byte[] value, byte[] correlation) {
+        var received = System.nanoTime();
+        for (Target target : targets) {
+            target.evaluated++;
+            var event = new AssertionEvent();
+            event.begin();
+            var passed = target.assertion.evaluator().test(key, value);
+            if (!passed) {
+                target.failed++;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.step = target.step;
+                event.topic = topic;
+                event.passed = passed;
+                event.commit();
+            }
+            if (target.tracker != null) {
+                var extractor = target.assertion.correlation();
+                if (extractor.extract(key, value, correlation)) {
+                    target.tracker.complete(extractor.id(), received);
+                } else {
+                    target.tracker.uncorrelated();
+                }
+            }
+        }
+        for (ReplyTracker reply : replies) {
+            if (correlation != null && correlation.length == Long.BYTES) {
+                reply.complete(CorrelationExtractor.decode(correlation), received);
+            } else {
+                reply.uncorrelated();
+            }
+        }
+    }
+
+    public List<AssertionStatistics> statistics() {
+        return Stream.of(targets).map(Target::statistics).collect(toList());
+    }
+}
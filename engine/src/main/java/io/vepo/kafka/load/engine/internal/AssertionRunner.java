@@ -0,0 +1,75 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.metrics.AssertionStatistics;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class AssertionRunner implements AutoCloseable {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<AssertionConsumer> consumers;
+    private final List<Thread> threads;
+
+    private AssertionRunner(List<AssertionConsumer> consumers) {
+        this.consumers = consumers;
+        this.threads = consumers.stream()
+                .map(consumer -> {
+                    var thread = new Thread(consumer, "assertion-" + consumer.topic());
+                    thread.start();
+                    return thread;
+                })
+                .collect(toList());
+    }
+
+    public static AssertionRunner start(CompiledPlan compiledPlan, Transport transport,
+                                        CorrelationTracker[] trackers, ReplyTracker[] replies) {
+        var testPlan = compiledPlan.testPlan();
+        var steps = compiledPlan.steps();
+        var targets = IntStream.range(0, steps.length)
+                .boxed()
+                .flatMap(step -> Stream.of(steps[step].assertions())
+                        .map(assertion -> new AssertionConsumer.Target(steps[step].name(), assertion,
+                                trackers[step])))
+                .collect(groupingBy(AssertionConsumer.Target::topic, LinkedHashMap::new, toList()));
+        var repliesByTopic = Stream.of(replies)
+                .filter(Objects::nonNull)
+                .collect(groupingBy(ReplyTracker::topic, LinkedHashMap::new, toList()));
+        var topics = new ArrayList<>(targets.keySet());
+        repliesByTopic.keySet().stream().filter(topic -> !targets.containsKey(topic)).forEach(topics::add);
+        var consumers = topics.stream()
+                .map(topic -> new AssertionConsumer(transport,
+                        "kafka-load-" + testPlan.name() + "-assertion-" + topic, topic,
+                        targets.getOrDefault(topic, List.of()), repliesByTopic.getOrDefault(topic, List.of())))
+                .collect(toList());
+        return new AssertionRunner(consumers);
+    }
+
+    @Override
+    public void close() {
+        consumers.forEach(consumer -> consumer.drain(DRAIN_TIMEOUT));
+        try {
+            for (var thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException ie) {
+            threads.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public List<AssertionStatistics> statistics() {
+        var statistics = new ArrayList<AssertionStatistics>();
+        consumers.forEach(consumer -> statistics.addAll(consumer.statistics()));
+        return statistics;
+    }
+}
@@ -0,0 +1,39 @@
+package io.vepo.kafka.load.engine.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+public class ClientThreads {
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+    private static final Optional<ThreadFactory> VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
+    private ClientThreads() {
+    }
+
+    /* Virtual threads need Java 21 and the build targets Java 16, so the factory is looked up at runtime. */
+    private static Optional<ThreadFactory> lookupVirtualThreadFactory() {
+        try {
+            var lookup = MethodHandles.publicLookup();
+            var builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            var builder = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(builderClass)).invoke();
+            return Optional.of((ThreadFactory) lookup.findVirtual(builderClass, "factory",
+                    MethodType.methodType(ThreadFactory.class)).invoke(builder));
+        } catch (Throwable t) {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean virtual() {
+        return VIRTUAL_THREAD_FACTORY.isPresent();
+    }
+
+    public static Thread start(String name, Runnable task) {
+        var thread = VIRTUAL_THREAD_FACTORY.map(factory -> factory.newThread(task))
+                .orElseGet(() -> new Thread(null, task, name, PLATFORM_STACK_SIZE));
+        thread.setName(name);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,20 @@
+package io.vepo.kafka.load.engine.internal;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class Clock {
+    private Clock() {
+    }
+
+    public static long waitUntil(long deadline) throws InterruptedException {
+        var now = System.nanoTime();
+        while (now < deadline) {
+            LockSupport.parkNanos(deadline - now);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            now = System.nanoTime();
+        }
+        return now;
+    }
+}
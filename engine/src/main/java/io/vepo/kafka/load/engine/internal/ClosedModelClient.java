@@ -0,0 +1,49 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static io.vepo.kafka.load.engine.internal.Clock.waitUntil;
+
+import io.vepo.kafka.load.engine.events.SchedulerLagEvent;
+
+public class ClosedModelClient implements Runnable {
+    private final int id;
+    private final long cycleTime;
+    private final StartGate startGate;
+    private final IterationRunner runner;
+    private final ExecutionStats stats;
+
+    public ClosedModelClient(int id, long cycleTime, StartGate startGate, IterationRunner runner,
+                             ExecutionStats stats) {
+        this.id = id;
+        this.cycleTime = cycleTime;
+        this.startGate = startGate;
+        this.runner = runner;
+        this.stats = stats;
+    }
+
+    /* Absolute schedule, so jitter does not accumulate, a late iteration re-anchors it instead of bursting. */
+    @Override
+    public void run() {
+        try {
+            var timeline = startGate.await();
+            var intended = timeline.clientStart(id);
+            var stop = timeline.clientStop(id);
+            var iteration = 0L;
+            var context = runner.context(id);
+            while (intended < stop) {
+                var lag = waitUntil(intended) - intended;
+                stats.iteration(lag);
+                SchedulerLagEvent.lag(id, lag);
+                runner.run(context, iteration++, intended, timeline.phase(intended) == Phase.EXECUTION);
+                intended += cycleTime;
+                var finished = System.nanoTime();
+                if (finished > intended) {
+                    stats.overrun();
+                    intended = finished;
+                }
+            }
+            runner.finish(context);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
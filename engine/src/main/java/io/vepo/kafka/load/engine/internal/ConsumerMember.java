@@ -0,0 +1,98 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+import io.vepo.kafka.load.engine.serde.ValueDecoder;
+import io.vepo.kafka.load.engine.transport.GroupConsumer;
+import io.vepo.kafka.load.engine.transport.RecordHandler;
+import java.lang.System.Logger;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+class ConsumerMember implements Runnable, RecordHandler {
+    private static final Logger LOGGER = System.getLogger(ConsumerMember.class.getName());
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+
+    private final String step;
+    private final GroupConsumer consumer;
+    private final ValueDecoder decoder;
+    private final Histogram pollLatency = MessageMetrics.newHistogram();
+    private volatile Timeline timeline;
+    private volatile boolean stopped;
+    private boolean measuring;
+    private long records;
+    private long bytes;
+    private long errors;
+
+    ConsumerMember(String step, GroupConsumer consumer, ValueDecoder decoder) {
+        this.step = step;
+        this.consumer = consumer;
+        this.decoder = decoder;
+    }
+
+    void measure(Timeline timeline) {
+        this.timeline = timeline;
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    GroupConsumer consumer() {
+        return consumer;
+    }
+
+    @Override
+    public void run() {
+        try (consumer) {
+            while (!stopped) {
+                var start = System.nanoTime();
+                var currentTimeline = timeline;
+                measuring = currentTimeline != null && currentTimeline.phase(start) == Phase.EXECUTION;
+                var count = consumer.poll(POLL_TIMEOUT, this);
+                if (measuring && count > 0) {
+                    pollLatency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.log(WARNING, "Consumer of step " + step + " stopped", e);
+            errors++;
+        }
+    }
+
+    @Override
+    public void handle(byte[] key, byte[] value, byte[] correlation) {
+        try {
+            if (value != null) {
+                decoder.decode(value);
+            }
+            if (measuring) {
+                records++;
+                bytes += (key != null ? key.length : 0) + (value != null ? value.length : 0);
+            }
+        } catch (RuntimeException e) {
+            if (measuring) {
+                errors++;
+            }
+        }
+    }
+
+    long records() {
+        return records;
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    Histogram pollLatency() {
+        return pollLatency;
+    }
+}
@@ -0,0 +1,143 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.compiler.CompiledConsumer;
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.metrics.ConsumerStatistics;
+import io.vepo.kafka.load.engine.metrics.LagSample;
+import io.vepo.kafka.load.engine.metrics.LatencyDistribution;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ConsumerRunner implements AutoCloseable {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private record Group(CompiledConsumer consumer, List<ConsumerMember> members, List<LagSample> lag) {
+    }
+
+    private final List<Group> groups;
+    private final List<Thread> threads;
+    private final Thread sampler;
+    private final long interval;
+    private volatile Timeline timeline;
+    private volatile boolean stopped;
+
+    private ConsumerRunner(String name, List<Group> groups, long interval) {
+        this.groups = groups;
+        this.interval = interval;
+        this.threads = new ArrayList<>();
+        groups.forEach(group -> group.members().forEach(member -> {
+            var thread = new Thread(member, name + "-consumer-" + group.consumer().step() + "-" + threads.size());
+            thread.start();
+            threads.add(thread);
+        }));
+        this.sampler = new Thread(this::sample, name + "-consumer-lag");
+        if (!groups.isEmpty()) {
+            sampler.start();
+        }
+    }
+
+    public static ConsumerRunner start(CompiledPlan compiledPlan, Transport transport, long interval) {
+        var name = compiledPlan.testPlan().name();
+        var groups = new ArrayList<Group>();
+        try {
+            for (CompiledConsumer consumer : compiledPlan.consumers()) {
+                var members = new ArrayList<ConsumerMember>();
+                groups.add(new Group(consumer, members, new ArrayList<>()));
+                for (int i = 0; i < consumer.members(); ++i) {
+                    members.add(new ConsumerMember(consumer.step(), transport.join("kafka-load-" + name + "-"
+                            + consumer.step() + "-" + i, consumer.settings()), consumer.decoder()));
+                }
+            }
+        } catch (RuntimeException e) {
+            groups.forEach(group -> group.members().forEach(member -> member.consumer().close()));
+            throw e;
+        }
+        return new ConsumerRunner(name, groups, interval);
+    }
+
+    public void measure(Timeline timeline) {
+        this.timeline = timeline;
+        groups.forEach(group -> group.members().forEach(member -> member.measure(timeline)));
+    }
+
+    private void sample() {
+        try {
+            while (!stopped) {
+                TimeUnit.NANOSECONDS.sleep(interval);
+                var currentTimeline = timeline;
+                if (currentTimeline != null) {
+                    var elapsed = Duration.ofNanos(System.nanoTime() - currentTimeline.start());
+                    for (Group group : groups) {
+                        var lag = group.members().stream().mapToLong(member -> member.consumer().lag()).sum();
+                        synchronized (group.lag()) {
+                            group.lag().add(new LagSample(elapsed, lag));
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        groups.forEach(group -> group.members().forEach(ConsumerMember::stop));
+        sampler.interrupt();
+        try {
+            for (var thread : threads) {
+                thread.join();
+            }
+            if (sampler.isAlive()) {
+                sampler.join();
+            }
+        } catch (InterruptedException ie) {
+            threads.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long errors() {
+        return groups.stream()
+                .flatMap(group -> group.members().stream())
+                .mapToLong(ConsumerMember::errors)
+                .sum();
+    }
+
+    public List<ConsumerStatistics> statistics(Duration measured) {
+        var seconds = measured.toNanos() / NANOS_PER_SECOND;
+        return groups.stream()
+                .map(group -> {
+                    var histogram = MessageMetrics.newHistogram();
+                    var records = 0L;
+                    var bytes = 0L;
+                    var errors = 0L;
+                    var rebalances = 0L;
+                    var rebalanceTime = Duration.ZERO;
+                    for (var member : group.members()) {
+                        histogram.add(member.pollLatency());
+                        records += member.records();
+                        bytes += member.bytes();
+                        errors += member.errors();
+                        rebalances += member.consumer().rebalances();
+                        rebalanceTime = rebalanceTime.plus(member.consumer().rebalanceTime());
+                    }
+                    var settings = group.consumer().settings();
+                    List<LagSample> lag;
+                    synchronized (group.lag()) {
+                        lag = List.copyOf(group.lag());
+                    }
+                    return new ConsumerStatistics(group.consumer().step(), settings.topic(), settings.group(),
+                            group.members().size(), records, bytes, errors, seconds > 0 ? records / seconds : 0.0,
+                            seconds > 0 ? bytes / seconds : 0.0, LatencyDistribution.of(histogram), rebalances,
+                            rebalanceTime, lag);
+                })
+                .collect(toList());
+    }
+}
@@ -0,0 +1,105 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.metrics.EndToEndStatistics;
+import io.vepo.kafka.load.engine.metrics.LatencyDistribution;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+public class CorrelationTracker {
+    static final long NOT_MEASURED = Long.MIN_VALUE + 1;
+
+    private static final int STRIPES = 64;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String step;
+    private final boolean header;
+    private final LongLongHashMap[] stripes;
+    private final Histogram latency = MessageMetrics.newHistogram();
+    private long matched;
+    private long uncorrelated;
+
+    public CorrelationTracker(String step, boolean header) {
+        this.step = step;
+        this.header = header;
+        this.stripes = new LongLongHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; ++i) {
+            stripes[i] = new LongLongHashMap(INITIAL_CAPACITY);
+        }
+    }
+
+    public static CorrelationTracker[] of(CompiledStep[] steps) {
+        var trackers = new CorrelationTracker[steps.length];
+        for (int step = 0; step < steps.length; ++step) {
+            for (var assertion : steps[step].assertions()) {
+                if (assertion.correlation() != null) {
+                    trackers[step] = new CorrelationTracker(steps[step].name(), assertion.correlation().header());
+                }
+            }
+        }
+        return trackers;
+    }
+
+    public String step() {
+        return step;
+    }
+
+    public byte[] header(long id, byte[] buffer) {
+        return header ? encode(id, buffer) : null;
+    }
+
+    public static byte[] encode(long id, byte[] header) {
+        for (int i = Long.BYTES - 1; i >= 0; --i) {
+            header[i] = (byte) id;
+            id >>>= 8;
+        }
+        return header;
+    }
+
+    public void register(long id, long intended) {
+        var stripe = stripe(id);
+        synchronized (stripe) {
+            stripe.put(id, intended);
+        }
+    }
+
+    public void cancel(long id) {
+        var stripe = stripe(id);
+        synchronized (stripe) {
+            stripe.remove(id);
+        }
+    }
+
+    public void complete(long id, long received) {
+        long intended;
+        var stripe = stripe(id);
+        synchronized (stripe) {
+            intended = stripe.remove(id);
+        }
+        if (intended == LongLongHashMap.NO_VALUE) {
+            uncorrelated++;
+        } else if (intended != NOT_MEASURED) {
+            matched++;
+            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(Math.max(0, received - intended)),
+                    MessageMetrics.HIGHEST_TRACKABLE_LATENCY));
+        }
+    }
+
+    public void uncorrelated() {
+        uncorrelated++;
+    }
+
+    public EndToEndStatistics statistics() {
+        var pending = 0L;
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                pending += stripe.size();
+            }
+        }
+        return new EndToEndStatistics(matched, uncorrelated, pending, LatencyDistribution.of(latency));
+    }
+
+    private LongLongHashMap stripe(long id) {
+        return stripes[(int) (id ^ (id >>> 40)) & (STRIPES - 1)];
+    }
+}
@@ -0,0 +1,93 @@
+package io.vepo.kafka.load.engine.internal;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ExecutionStats {
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder overruns = new LongAdder();
+    private final LongAccumulator maxLag = new LongAccumulator(Long::max, 0);
+    private final LongAccumulator intervalLag = new LongAccumulator(Long::max, 0);
+    private final LongAdder totalLag = new LongAdder();
+    private final LongAccumulator maxBacklog = new LongAccumulator(Long::max, 0);
+    private final LongAdder pipelined = new LongAdder();
+    private final LongAdder backpressureWaits = new LongAdder();
+    private final LongAdder backpressureTime = new LongAdder();
+
+    public void iteration(long lag) {
+        iterations.increment();
+        maxLag.accumulate(lag);
+        intervalLag.accumulate(lag);
+        totalLag.add(lag);
+    }
+
+    public void overrun() {
+        overruns.increment();
+    }
+
+    public void backlog(long backlog) {
+        maxBacklog.accumulate(backlog);
+    }
+
+    public void pipelined(long waited) {
+        pipelined.increment();
+        if (waited > 0) {
+            backpressureWaits.increment();
+            backpressureTime.add(waited);
+        }
+    }
+
+    public void sent() {
+        messages.increment();
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public long iterations() {
+        return iterations.sum();
+    }
+
+    public long messages() {
+        return messages.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long overruns() {
+        return overruns.sum();
+    }
+
+    public long maxLag() {
+        return maxLag.get();
+    }
+
+    public long intervalLag() {
+        return intervalLag.getThenReset();
+    }
+
+    public long totalLag() {
+        return totalLag.sum();
+    }
+
+    public long pipelined() {
+        return pipelined.sum();
+    }
+
+    public long backpressureWaits() {
+        return backpressureWaits.sum();
+    }
+
+    public long backpressureTime() {
+        return backpressureTime.sum();
+    }
+
+    public long maxBacklog() {
+        return maxBacklog.get();
+    }
+}
@@ -0,0 +1,143 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* The mean lag binds the interval, a single late wake up does not make the generator the bottleneck. */
+public class GeneratorWatchdog {
+    private static final double DEFAULT_CPU_PERCENT = 90.0;
+    private static final double DEFAULT_GC_PERCENT = 10.0;
+    private static final double DEFAULT_LAG_MS = 10.0;
+    private static final long MIN_USAGE_WINDOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public interface Probe {
+        long nanoTime();
+
+        long cpuTime();
+
+        long gcTime();
+
+        int processors();
+    }
+
+    private static final class JvmProbe implements Probe {
+        private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public long cpuTime() {
+            return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                    ? os.getProcessCpuTime() : -1;
+        }
+
+        @Override
+        public long gcTime() {
+            return collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0)
+                    .sum();
+        }
+
+        @Override
+        public int processors() {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    private final ExecutionStats stats;
+    private final Probe probe;
+    private final double cpuThreshold;
+    private final double gcThreshold;
+    private final long lagThreshold;
+    private final List<GeneratorSample> samples = new ArrayList<>();
+    private Timeline timeline;
+    private long last;
+    private long lastCpu;
+    private long lastGc;
+    private long lastIterations;
+    private long lastLag;
+
+    public GeneratorWatchdog(Configuration configuration, ExecutionStats stats, long cycleTime) {
+        this(configuration, stats, cycleTime, new JvmProbe());
+    }
+
+    public GeneratorWatchdog(Configuration configuration, ExecutionStats stats, long cycleTime, Probe probe) {
+        this.stats = stats;
+        this.probe = probe;
+        this.cpuThreshold = threshold(configuration, Configuration.WATCHDOG_CPU, DEFAULT_CPU_PERCENT) / 100.0;
+        this.gcThreshold = threshold(configuration, Configuration.WATCHDOG_GC, DEFAULT_GC_PERCENT) / 100.0;
+        var defaultLag = Math.max(DEFAULT_LAG_MS, (double) cycleTime / TimeUnit.MILLISECONDS.toNanos(1));
+        this.lagThreshold = (long) (threshold(configuration, Configuration.WATCHDOG_LAG, defaultLag)
+                * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static double threshold(Configuration configuration, String key, double defaultValue) {
+        double value;
+        try {
+            value = configuration.get(key).map(String::trim).map(Double::parseDouble).orElse(defaultValue);
+        } catch (NumberFormatException nfe) {
+            throw new ExecutorException("Invalid watchdog threshold! key=" + key, nfe);
+        }
+        if (value < 0) {
+            throw new ExecutorException("Watchdog threshold should not be negative! key=" + key);
+        }
+        return value;
+    }
+
+    public synchronized void measure(Timeline timeline) {
+        this.timeline = timeline;
+        this.last = probe.nanoTime();
+        this.lastCpu = probe.cpuTime();
+        this.lastGc = probe.gcTime();
+        this.lastIterations = stats.iterations();
+        this.lastLag = stats.totalLag();
+        stats.intervalLag();
+    }
+
+    public synchronized GeneratorSample sample() {
+        if (timeline == null) {
+            return null;
+        }
+        var now = probe.nanoTime();
+        var elapsed = now - last;
+        if (elapsed <= 0) {
+            return null;
+        }
+        var cpu = probe.cpuTime();
+        var gc = probe.gcTime();
+        var worstLag = stats.intervalLag();
+        var iterations = stats.iterations();
+        var totalLag = stats.totalLag();
+        var meanLag = iterations > lastIterations ? (totalLag - lastLag) / (iterations - lastIterations) : 0;
+        var cpuShare = cpu >= 0 ? Math.min(1.0, (double) (cpu - lastCpu) / (elapsed * probe.processors())) : 0.0;
+        var gcShare = (double) TimeUnit.MILLISECONDS.toNanos(gc - lastGc) / elapsed;
+        var measured = last < timeline.executionEnd() && now > timeline.executionStart();
+        var usageBound = elapsed >= MIN_USAGE_WINDOW && (cpuShare >= cpuThreshold || gcShare >= gcThreshold);
+        var sample = new GeneratorSample(Duration.ofNanos(Math.max(0, now - timeline.start())), cpuShare, gcShare,
+                Duration.ofNanos(worstLag), measured, usageBound || meanLag >= lagThreshold);
+        samples.add(sample);
+        last = now;
+        lastCpu = cpu;
+        lastGc = gc;
+        lastIterations = iterations;
+        lastLag = totalLag;
+        return sample;
+    }
+
+    public synchronized List<GeneratorSample> samples() {
+        return List.copyOf(samples);
+    }
+
+    public synchronized boolean bound() {
+        return samples.stream().anyMatch(sample -> sample.measured() && sample.bound());
+    }
+}
@@ -0,0 +1,183 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.lang.System.Logger.Level.ERROR;
+
+import java.lang.System.Logger;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class HashedWheelTimer implements Timer, AutoCloseable {
+    private static final Logger LOGGER = System.getLogger(HashedWheelTimer.class.getName());
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private static class Node extends AtomicInteger implements Timeout {
+        private final long deadline;
+        private final Runnable task;
+        private long remainingRounds;
+        private Node previous;
+        private Node next;
+        private Bucket bucket;
+
+        private Node(long deadline, Runnable task) {
+            super(STATE_PENDING);
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        @Override
+        public long deadline() {
+            return deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            return compareAndSet(STATE_PENDING, STATE_CANCELLED);
+        }
+    }
+
+    private static class Bucket {
+        private Node head;
+        private Node tail;
+
+        private void add(Node node) {
+            node.bucket = this;
+            if (head == null) {
+                head = tail = node;
+            } else {
+                tail.next = node;
+                node.previous = tail;
+                tail = node;
+            }
+        }
+
+        private Node remove(Node node) {
+            var next = node.next;
+            if (node.previous != null) {
+                node.previous.next = next;
+            }
+            if (next != null) {
+                next.previous = node.previous;
+            }
+            if (node == head) {
+                head = next;
+            }
+            if (node == tail) {
+                tail = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            node.bucket = null;
+            return next;
+        }
+
+        private void expire(long tickDeadline) {
+            var node = head;
+            while (node != null) {
+                if (node.get() == STATE_CANCELLED) {
+                    node = remove(node);
+                } else if (node.remainingRounds <= 0 && node.deadline <= tickDeadline) {
+                    var next = remove(node);
+                    if (node.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                        run(node.task);
+                    }
+                    node = next;
+                } else {
+                    node.remainingRounds--;
+                    node = node.next;
+                }
+            }
+        }
+
+        private static void run(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(ERROR, "Timer task failed!", e);
+            }
+        }
+    }
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Node> scheduled = new ConcurrentLinkedQueue<>();
+    private final long start;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedWheelTimer(String name, long tickDuration, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size should be a power of 2! wheelSize=" + wheelSize);
+        }
+        this.tickDuration = tickDuration;
+        this.wheel = new Bucket[wheelSize];
+        for (int index = 0; index < wheelSize; ++index) {
+            wheel[index] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.start = System.nanoTime();
+        this.worker = new Thread(this::work, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public Timeout schedule(long deadline, Runnable task) {
+        var node = new Node(deadline, task);
+        scheduled.add(node);
+        return node;
+    }
+
+    @Override
+    public long tickDuration() {
+        return tickDuration;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private void work() {
+        while (running) {
+            var tickDeadline = start + (tick + 1) * tickDuration;
+            var now = System.nanoTime();
+            while (now < tickDeadline && running) {
+                LockSupport.parkNanos(tickDeadline - now);
+                now = System.nanoTime();
+            }
+            transferScheduled();
+            wheel[(int) (tick & mask)].expire(tickDeadline);
+            tick++;
+        }
+    }
+
+    private void transferScheduled() {
+        Node node;
+        while ((node = scheduled.poll()) != null) {
+            if (node.get() == STATE_CANCELLED) {
+                continue;
+            }
+            var expectedTick = Math.max((node.deadline - start) / tickDuration, tick);
+            node.remainingRounds = (expectedTick - tick) / wheel.length;
+            wheel[(int) (expectedTick & mask)].add(node);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
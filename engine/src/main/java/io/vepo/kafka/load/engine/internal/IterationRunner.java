@@ -0,0 +1,194 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.events.SendEvent;
+import io.vepo.kafka.load.engine.events.StepEvent;
+import io.vepo.kafka.load.engine.feeder.DataFeeder;
+import io.vepo.kafka.load.engine.feeder.FeederRow;
+import java.util.stream.Stream;
+import jdk.jfr.EventType;
+
+public class IterationRunner {
+    private static final EventType SEND_EVENTS = EventType.getEventType(SendEvent.class);
+    private static final EventType STEP_EVENTS = EventType.getEventType(StepEvent.class);
+
+    private final DataFeeder[] feeders;
+    private final CompiledStep[] steps;
+    private final MessageSender sender;
+    private final MetricsRegistry metrics;
+    private final ExecutionStats stats;
+    private final CorrelationTracker[] trackers;
+    private final ReplyTracker[] replies;
+    private final TransactionTracker[] transactions;
+    private final SendWindow[] windows;
+
+    public IterationRunner(CompiledPlan compiledPlan, MessageSender sender, MetricsRegistry metrics,
+                           ExecutionStats stats, CorrelationTracker[] trackers, ReplyTracker[] replies,
+                           TransactionTracker[] transactions) {
+        this.feeders = compiledPlan.feeders();
+        this.steps = compiledPlan.steps();
+        this.sender = sender;
+        this.metrics = metrics;
+        this.stats = stats;
+        this.trackers = trackers;
+        this.replies = replies;
+        this.transactions = transactions;
+        this.windows = sender.window() > 1 ? new SendWindow[compiledPlan.testPlan().clients()] : null;
+    }
+
+    public RenderContext context(int clientId) {
+        if (windows != null) {
+            windows[clientId] = new SendWindow(clientId, sender.window(), this::completed);
+        }
+        return new RenderContext(clientId, Stream.of(feeders)
+                .map(feeder -> feeder.row(clientId))
+                .toArray(FeederRow[]::new));
+    }
+
+    /* Latency is measured from the intended start of the iteration, not from the instant the message was sent. */
+    public void run(RenderContext context, long index, long intended, boolean measured) throws InterruptedException {
+        context.index(index);
+        for (int feeder = 0; feeder < feeders.length; ++feeder) {
+            feeders[feeder].next(context.row(feeder));
+        }
+        for (int step = 0; step < steps.length; ++step) {
+            var messages = steps[step].messages();
+            var tracker = trackers[step];
+            var reply = replies[step];
+            var transaction = transactions[step];
+            var window = reply == null && transaction == null && windows != null ? windows[context.clientId()] : null;
+            var stepEvent = stepEvent();
+            for (int message = 0; message < messages.length; ++message) {
+                byte[] correlation = null;
+                if (tracker != null || reply != null) {
+                    var id = context.nextCorrelation();
+                    if (tracker != null) {
+                        tracker.register(id, measured ? intended : CorrelationTracker.NOT_MEASURED);
+                        correlation = tracker.header(id, context.header());
+                    }
+                    if (reply != null) {
+                        reply.expect(context.clientId(), id);
+                        correlation = CorrelationTracker.encode(id, context.header());
+                    }
+                }
+                if (window != null) {
+                    var waited = window.acquire();
+                    if (measured) {
+                        stats.pipelined(waited);
+                    }
+                    var slot = window.slot();
+                    slot.step = step;
+                    slot.message = message;
+                    slot.intended = intended;
+                    slot.measured = measured;
+                    slot.correlation = context.correlation();
+                    slot.event = sendEvent(true);
+                    sender.send(messages[message], context, correlation, slot);
+                    continue;
+                }
+                var sendEvent = sendEvent(false);
+                boolean sent;
+                if (transaction != null) {
+                    var transactional = transaction.sender(context.clientId());
+                    sent = transactional != null
+                            && sender.send(transactional, messages[message], context, correlation)
+                            && transaction.sent(context.clientId(), measured);
+                } else {
+                    sent = sender.send(messages[message], context, correlation);
+                }
+                commit(sendEvent, messages[message].topic(), context.clientId(), sent);
+                if (sent) {
+                    stats.sent();
+                    if (measured) {
+                        metrics.message(step, message).record(context.clientId(), System.nanoTime() - intended);
+                    }
+                    if (reply != null) {
+                        reply.await(context.clientId(), context.correlation(), intended, measured);
+                    }
+                } else {
+                    if (transaction != null) {
+                        transaction.failed(context.clientId(), measured);
+                    }
+                    if (tracker != null) {
+                        tracker.cancel(context.correlation());
+                    }
+                    if (reply != null) {
+                        reply.cancel(context.clientId(), context.correlation());
+                    }
+                    stats.error();
+                    if (measured) {
+                        metrics.message(step, message).error();
+                    }
+                }
+            }
+            if (stepEvent != null) {
+                stepEvent.end();
+                if (stepEvent.shouldCommit()) {
+                    stepEvent.step = steps[step].name();
+                    stepEvent.client = context.clientId();
+                    stepEvent.iteration = index;
+                    stepEvent.messages = messages.length;
+                    stepEvent.commit();
+                }
+            }
+        }
+    }
+
+    private static StepEvent stepEvent() {
+        if (!STEP_EVENTS.isEnabled()) {
+            return null;
+        }
+        var event = new StepEvent();
+        event.begin();
+        return event;
+    }
+
+    private static SendEvent sendEvent(boolean pipelined) {
+        if (!SEND_EVENTS.isEnabled()) {
+            return null;
+        }
+        var event = new SendEvent();
+        event.pipelined = pipelined;
+        event.begin();
+        return event;
+    }
+
+    private static void commit(SendEvent event, String topic, int clientId, boolean success) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.topic = topic;
+                event.client = clientId;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    public void finish(RenderContext context) throws InterruptedException {
+        if (windows != null) {
+            windows[context.clientId()].drain();
+        }
+    }
+
+    private void completed(int clientId, SendWindow.Slot slot, boolean success) {
+        commit(slot.event, steps[slot.step].messages()[slot.message].topic(), clientId, success);
+        slot.event = null;
+        if (success) {
+            stats.sent();
+            if (slot.measured) {
+                metrics.message(slot.step, slot.message).record(clientId, System.nanoTime() - slot.intended);
+            }
+        } else {
+            if (trackers[slot.step] != null) {
+                trackers[slot.step].cancel(slot.correlation);
+            }
+            stats.error();
+            if (slot.measured) {
+                metrics.message(slot.step, slot.message).error();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.vepo.kafka.load.engine.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+public class MessageMetrics {
+    public static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.HOURS.toMicros(1);
+    public static final int SIGNIFICANT_DIGITS = 2;
+
+    private final String step;
+    private final String topic;
+    private final Recorder[] stripes;
+    private final int mask;
+    private final LongAdder errors = new LongAdder();
+    private final Histogram interval = newHistogram();
+    private final Histogram total = newHistogram();
+    private long intervalErrors;
+    private long collectedErrors;
+
+    public MessageMetrics(String step, String topic, int stripes) {
+        this.step = step;
+        this.topic = topic;
+        this.stripes = new Recorder[stripes];
+        for (int index = 0; index < stripes; ++index) {
+            this.stripes[index] = new Recorder(1, HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+        }
+        this.mask = stripes - 1;
+    }
+
+    public static Histogram newHistogram() {
+        return new Histogram(1, HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+    }
+
+    public String step() {
+        return step;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public void record(int client, long latency) {
+        stripes[client & mask].recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latency),
+                HIGHEST_TRACKABLE_LATENCY));
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    void collect(Histogram scratch) {
+        interval.reset();
+        for (Recorder stripe : stripes) {
+            stripe.getIntervalHistogramInto(scratch);
+            interval.add(scratch);
+        }
+        total.add(interval);
+        var currentErrors = errors.sum();
+        intervalErrors = currentErrors - collectedErrors;
+        collectedErrors = currentErrors;
+    }
+
+    public Histogram interval() {
+        return interval;
+    }
+
+    public long intervalErrors() {
+        return intervalErrors;
+    }
+
+    public Histogram total() {
+        return total;
+    }
+
+    public long totalErrors() {
+        return collectedErrors;
+    }
+}
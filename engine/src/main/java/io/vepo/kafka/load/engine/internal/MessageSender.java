@@ -0,0 +1,95 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.lang.System.Logger.Level.INFO;
+
+import io.vepo.kafka.load.engine.compiler.CompiledMessage;
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.transport.Completion;
+import io.vepo.kafka.load.engine.transport.Sender;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MessageSender implements AutoCloseable {
+    private static final Logger LOGGER = System.getLogger(MessageSender.class.getName());
+
+    private final Sender[] senders;
+    private final int window;
+    private final LongAdder records = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    public MessageSender(String name, TransportSettings settings, int clients, Transport transport) {
+        var size = Math.min(settings.producers(), clients);
+        LOGGER.log(INFO, "Test Plan {0} sending with {1} producers: {2}", name, size, settings.withProducers(size));
+        this.senders = new Sender[size];
+        this.window = settings.sendWindow();
+        try {
+            for (int i = 0; i < size; ++i) {
+                senders[i] = transport.sender("kafka-load-" + name + "-" + i);
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public boolean send(CompiledMessage message, RenderContext context, byte[] correlation)
+            throws InterruptedException {
+        return send(senders[context.clientId() % senders.length], message, context, correlation);
+    }
+
+    public void send(CompiledMessage message, RenderContext context, byte[] correlation, Completion completion)
+            throws InterruptedException {
+        var sender = senders[context.clientId() % senders.length];
+        var key = render(message.key(), context, context.key());
+        var value = render(message.value(), context, context.value());
+        count(key, value);
+        sender.send(message.topic(), key, value, correlation, completion);
+    }
+
+    public boolean send(Sender sender, CompiledMessage message, RenderContext context, byte[] correlation)
+            throws InterruptedException {
+        var key = render(message.key(), context, context.key());
+        var value = render(message.value(), context, context.value());
+        count(key, value);
+        return sender.send(message.topic(), key, value, correlation);
+    }
+
+    private static ByteBuffer render(Template template, RenderContext context, RenderBuffer buffer) {
+        if (template == null) {
+            return null;
+        }
+        template.render(context, buffer);
+        return buffer.view();
+    }
+
+    private void count(ByteBuffer key, ByteBuffer value) {
+        records.increment();
+        bytes.add((key != null ? key.remaining() : 0) + (value != null ? value.remaining() : 0));
+    }
+
+    public int window() {
+        return window;
+    }
+
+    public long records() {
+        return records.sum();
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    @Override
+    public void close() {
+        for (var sender : senders) {
+            if (sender != null) {
+                sender.close();
+            }
+        }
+    }
+}
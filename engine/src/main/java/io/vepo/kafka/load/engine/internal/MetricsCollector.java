@@ -0,0 +1,63 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.report.IntervalListener;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class MetricsCollector {
+    private static final long ABORT_CHECK = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final MetricsRegistry metrics;
+    private final IntervalListener listener;
+    private final GeneratorWatchdog watchdog;
+    private final long interval;
+    private final BooleanSupplier aborted;
+
+    public MetricsCollector(MetricsRegistry metrics, IntervalListener listener, GeneratorWatchdog watchdog,
+                            long interval, BooleanSupplier aborted) {
+        this.metrics = metrics;
+        this.listener = listener;
+        this.watchdog = watchdog;
+        this.interval = interval;
+        this.aborted = aborted;
+    }
+
+    public boolean await(List<Thread> clients) {
+        var intervalStart = System.currentTimeMillis();
+        var nextCollection = System.nanoTime() + interval;
+        try {
+            for (var client : clients) {
+                while (client.isAlive()) {
+                    if (aborted.getAsBoolean()) {
+                        clients.forEach(Thread::interrupt);
+                        for (var running : clients) {
+                            running.join();
+                        }
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedJoin(client,
+                            Math.max(Math.min(nextCollection - System.nanoTime(), ABORT_CHECK), 1));
+                    if (System.nanoTime() >= nextCollection) {
+                        intervalStart = collect(intervalStart);
+                        nextCollection += interval;
+                    }
+                }
+            }
+            return true;
+        } catch (InterruptedException ie) {
+            clients.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            collect(intervalStart);
+        }
+    }
+
+    private long collect(long intervalStart) {
+        var intervalEnd = System.currentTimeMillis();
+        metrics.collect();
+        listener.interval(intervalStart, intervalEnd, metrics, watchdog.sample());
+        return intervalEnd;
+    }
+}
@@ -0,0 +1,85 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.metrics.LatencyDistribution;
+import io.vepo.kafka.load.engine.metrics.Statistics;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.HdrHistogram.Histogram;
+
+public class MetricsRegistry {
+    private final MessageMetrics[][] messages;
+    private final List<MessageMetrics> metrics;
+    private final Histogram scratch = MessageMetrics.newHistogram();
+
+    public MetricsRegistry(CompiledStep[] steps, int clients) {
+        var stripes = stripes(clients);
+        var byKey = new LinkedHashMap<String, MessageMetrics>();
+        this.messages = new MessageMetrics[steps.length][];
+        for (int step = 0; step < steps.length; ++step) {
+            var stepName = steps[step].name();
+            messages[step] = new MessageMetrics[steps[step].messages().length];
+            for (int message = 0; message < messages[step].length; ++message) {
+                var topic = steps[step].messages()[message].topic();
+                messages[step][message] = byKey.computeIfAbsent(stepName + '\0' + topic,
+                        key -> new MessageMetrics(stepName, topic, stripes));
+            }
+        }
+        this.metrics = List.copyOf(byKey.values());
+    }
+
+    static int stripes(int clients) {
+        var stripes = Math.min(clients, 2 * Runtime.getRuntime().availableProcessors());
+        return stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    }
+
+    public MessageMetrics message(int step, int message) {
+        return messages[step][message];
+    }
+
+    public List<MessageMetrics> metrics() {
+        return metrics;
+    }
+
+    public void collect() {
+        metrics.forEach(metric -> metric.collect(scratch));
+    }
+
+    public Statistics total(String name, Duration measured) {
+        return statistics(name, metrics, measured);
+    }
+
+    public Map<String, Statistics> steps(Duration measured) {
+        return groupBy(MessageMetrics::step, measured);
+    }
+
+    public Map<String, Statistics> topics(Duration measured) {
+        return groupBy(MessageMetrics::topic, measured);
+    }
+
+    private Map<String, Statistics> groupBy(Function<MessageMetrics, String> classifier, Duration measured) {
+        var statistics = new LinkedHashMap<String, Statistics>();
+        metrics.stream()
+                .collect(groupingBy(classifier, LinkedHashMap::new, toList()))
+                .forEach((name, group) -> statistics.put(name, statistics(name, group, measured)));
+        return statistics;
+    }
+
+    private static Statistics statistics(String name, List<MessageMetrics> group, Duration measured) {
+        var histogram = MessageMetrics.newHistogram();
+        var errors = 0L;
+        for (var metric : group) {
+            histogram.add(metric.total());
+            errors += metric.totalErrors();
+        }
+        var seconds = measured.toNanos() / 1_000_000_000.0;
+        return new Statistics(name, histogram.getTotalCount(), errors,
+                seconds > 0 ? histogram.getTotalCount() / seconds : 0.0, LatencyDistribution.of(histogram));
+    }
+}
@@ -0,0 +1,42 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static io.vepo.kafka.load.engine.internal.Clock.waitUntil;
+
+import io.vepo.kafka.load.engine.events.SchedulerLagEvent;
+
+public class OpenModelClient implements Runnable {
+    private final int id;
+    private final StartGate startGate;
+    private final ArrivalScheduler scheduler;
+    private final IterationRunner runner;
+    private final ExecutionStats stats;
+
+    public OpenModelClient(int id, StartGate startGate, ArrivalScheduler scheduler, IterationRunner runner,
+                           ExecutionStats stats) {
+        this.id = id;
+        this.startGate = startGate;
+        this.scheduler = scheduler;
+        this.runner = runner;
+        this.stats = stats;
+    }
+
+    @Override
+    public void run() {
+        try {
+            var timeline = startGate.await();
+            var context = runner.context(id);
+            var arrival = scheduler.next();
+            while (arrival != ArrivalScheduler.FINISHED) {
+                var intended = scheduler.intended(arrival);
+                var lag = waitUntil(intended) - intended;
+                stats.iteration(lag);
+                SchedulerLagEvent.lag(id, lag);
+                runner.run(context, arrival, intended, timeline.phase(intended) == Phase.EXECUTION);
+                arrival = scheduler.next();
+            }
+            runner.finish(context);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package io.vepo.kafka.load.engine.internal;
+
+public enum Phase {
+    WARM_UP, EXECUTION, RAMP_DOWN, FINISHED
+}
@@ -0,0 +1,33 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.PropertyNumberValue;
+import io.vepo.kafka.load.parser.PropertyReferenceValue;
+import io.vepo.kafka.load.parser.PropertyStringValue;
+import io.vepo.kafka.load.parser.PropertyValue;
+
+public class PropertyResolver {
+    private final Configuration configuration;
+
+    public PropertyResolver(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    public String resolve(PropertyValue value) {
+        if (value instanceof PropertyStringValue text) {
+            return text.content();
+        } else if (value instanceof PropertyNumberValue number) {
+            return number.value().toString();
+        } else if (value instanceof PropertyReferenceValue reference) {
+            return property(reference.property());
+        } else {
+            return null;
+        }
+    }
+
+    private String property(String name) {
+        return configuration.get(name)
+                .orElseThrow(() -> new ExecutorException("Property not defined! property=" + name));
+    }
+}
@@ -0,0 +1,158 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.parser.Profile;
+import io.vepo.kafka.load.parser.TestPlan;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RateProfile {
+    private static final int SINE_SEGMENTS = 64;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static class Segments {
+        private final List<double[]> segments = new ArrayList<>();
+
+        private void add(long duration, double from, double to) {
+            if (duration > 0) {
+                segments.add(new double[] { duration, from, to });
+            }
+        }
+
+        private double first() {
+            return segments.get(0)[1];
+        }
+
+        private double last() {
+            return segments.get(segments.size() - 1)[2];
+        }
+    }
+
+    private final double[] starts;
+    private final double[] lengths;
+    private final double[] rates;
+    private final double[] slopes;
+    private final double[] arrivals;
+
+    private RateProfile(List<double[]> segments) {
+        var count = segments.size();
+        this.starts = new double[count];
+        this.lengths = new double[count];
+        this.rates = new double[count];
+        this.slopes = new double[count];
+        this.arrivals = new double[count];
+        var start = 0.0;
+        var total = 0.0;
+        for (int i = 0; i < count; ++i) {
+            var segment = segments.get(i);
+            starts[i] = start;
+            lengths[i] = segment[0];
+            rates[i] = segment[1] / NANOS_PER_SECOND;
+            slopes[i] = (segment[2] - segment[1]) / NANOS_PER_SECOND / segment[0];
+            arrivals[i] = total;
+            start += lengths[i];
+            total += integral(i, lengths[i]);
+        }
+    }
+
+    public static RateProfile constant(double rate) {
+        return new RateProfile(List.<double[]>of(new double[] { 1, rate, rate }));
+    }
+
+    public static RateProfile of(TestPlan testPlan) {
+        var profile = testPlan.profile();
+        if (profile == null) {
+            return constant(testPlan.rate());
+        }
+        var execution = new Segments();
+        shape(profile, testPlan.execution().toNanos(), execution);
+        if (execution.segments.isEmpty()) {
+            return constant(Math.max(profile.from(), profile.to()));
+        }
+        var timeline = new Segments();
+        timeline.add(testPlan.warmUp().toNanos(), execution.first(), execution.first());
+        timeline.segments.addAll(execution.segments);
+        timeline.add(testPlan.rampDown().toNanos(), execution.last(), execution.last());
+        return new RateProfile(timeline.segments);
+    }
+
+    private static void shape(Profile profile, long execution, Segments segments) {
+        double from = profile.from();
+        double to = profile.to();
+        switch (profile.shape()) {
+            case RAMP -> segments.add(execution, from, to);
+            case STAIRS -> {
+                var steps = profile.steps();
+                for (int step = 0; step < steps; ++step) {
+                    var rate = from + (to - from) * step / (steps - 1);
+                    segments.add(execution * (step + 1) / steps - execution * step / steps, rate, rate);
+                }
+            }
+            case SPIKE -> {
+                var spikeStart = Math.min(profile.at().toNanos(), execution);
+                var spikeEnd = Math.min(spikeStart + profile.duration().toNanos(), execution);
+                segments.add(spikeStart, from, from);
+                segments.add(spikeEnd - spikeStart, to, to);
+                segments.add(execution - spikeEnd, from, from);
+            }
+            case SINE -> {
+                var period = profile.period().toNanos();
+                var length = Math.max(period / SINE_SEGMENTS, 1);
+                for (long start = 0; start < execution; start += length) {
+                    var end = Math.min(start + length, execution);
+                    segments.add(end - start, sine(from, to, period, start), sine(from, to, period, end));
+                }
+            }
+        }
+    }
+
+    private static double sine(double from, double to, long period, long instant) {
+        return from + (to - from) * (1 - Math.cos(2 * Math.PI * instant / period)) / 2;
+    }
+
+    public double arrivals(long elapsed) {
+        if (elapsed <= 0) {
+            return 0;
+        }
+        var segment = segment(starts, elapsed);
+        var offset = elapsed - starts[segment];
+        if (offset <= lengths[segment]) {
+            return arrivals[segment] + integral(segment, offset);
+        }
+        return arrivals[segment] + integral(segment, lengths[segment])
+                + (rates[segment] + slopes[segment] * lengths[segment]) * (offset - lengths[segment]);
+    }
+
+    public long intended(long arrival) {
+        var segment = segment(arrivals, arrival);
+        var remaining = arrival - arrivals[segment];
+        var total = integral(segment, lengths[segment]);
+        if (remaining > total && segment == starts.length - 1) {
+            var rate = rates[segment] + slopes[segment] * lengths[segment];
+            var end = starts[segment] + lengths[segment];
+            return (long) (rate > 0 ? end + (remaining - total) / rate : end);
+        }
+        /* Root of slope / 2 * x^2 + rate * x - remaining, in a form that holds for a zero slope. */
+        var rate = rates[segment];
+        var root = Math.sqrt(Math.max(rate * rate + 2 * slopes[segment] * remaining, 0));
+        var offset = remaining > 0 ? 2 * remaining / (rate + root) : 0;
+        return (long) (starts[segment] + Math.min(offset, lengths[segment]));
+    }
+
+    private double integral(int segment, double offset) {
+        return rates[segment] * offset + slopes[segment] * offset * offset / 2;
+    }
+
+    private static int segment(double[] bounds, double value) {
+        var low = 0;
+        var high = bounds.length - 1;
+        while (low < high) {
+            var middle = (low + high + 1) >>> 1;
+            if (bounds[middle] <= value) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,75 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.metrics.RateSample;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RateRecorder {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ExecutionStats stats;
+    private final long interval;
+    private final List<RateSample> samples = new ArrayList<>();
+    private Timer timer;
+    private ArrivalScheduler scheduler;
+    private long start;
+    private long end;
+    private long next;
+    private long last;
+    private long lastIterations;
+    private boolean finished;
+
+    public RateRecorder(ExecutionStats stats, long interval) {
+        this.stats = stats;
+        this.interval = interval;
+    }
+
+    public void start(Timer timer, ArrivalScheduler scheduler, Timeline timeline) {
+        this.timer = timer;
+        this.scheduler = scheduler;
+        this.start = timeline.start();
+        this.end = timeline.end();
+        last = start;
+        this.next = Math.min(start + interval, end);
+        timer.schedule(next, this::tick);
+    }
+
+    private void tick() {
+        if (!sample(Math.min(timer.nanoTime(), end), false)) {
+            return;
+        }
+        if (next < end) {
+            next = Math.min(next + interval, end);
+            timer.schedule(next, this::tick);
+        }
+    }
+
+    public void finish() {
+        if (scheduler != null) {
+            sample(Math.min(timer.nanoTime(), end), true);
+        }
+    }
+
+    private synchronized boolean sample(long now, boolean finishing) {
+        if (finished) {
+            return false;
+        }
+        finished = finishing;
+        if (now <= last) {
+            return true;
+        }
+        var iterations = stats.iterations();
+        var elapsed = now - last;
+        samples.add(new RateSample(Duration.ofNanos(now - start),
+                (scheduler.expected(now) - scheduler.expected(last)) * NANOS_PER_SECOND / elapsed,
+                (iterations - lastIterations) * NANOS_PER_SECOND / elapsed));
+        last = now;
+        lastIterations = iterations;
+        return true;
+    }
+
+    public synchronized List<RateSample> samples() {
+        return List.copyOf(samples);
+    }
+}
@@ -0,0 +1,119 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.metrics.LatencyDistribution;
+import io.vepo.kafka.load.engine.metrics.ReplyStatistics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/* A client has at most one request waiting, found from the client id on the highest bits of the correlation id. */
+public class ReplyTracker {
+    private static final long NONE = -1;
+    private static final long NOT_REPLIED = Long.MIN_VALUE;
+
+    private static final class Slot {
+        private final AtomicLong expected = new AtomicLong(NONE);
+        private volatile long repliedAt = NOT_REPLIED;
+        private volatile Thread thread;
+    }
+
+    private final String topic;
+    private final long timeout;
+    private final Slot[] slots;
+    private final MessageMetrics metrics;
+    private long unmatched;
+    private ReplyStatistics statistics;
+
+    private ReplyTracker(CompiledStep step, int clients) {
+        this.topic = step.replyTopic();
+        this.timeout = step.timeout().toNanos();
+        this.slots = new Slot[clients];
+        for (int i = 0; i < clients; ++i) {
+            slots[i] = new Slot();
+        }
+        this.metrics = new MessageMetrics(step.name(), step.replyTopic(), MetricsRegistry.stripes(clients));
+    }
+
+    public static ReplyTracker[] of(CompiledStep[] steps, int clients) {
+        var trackers = new ReplyTracker[steps.length];
+        for (int step = 0; step < steps.length; ++step) {
+            if (steps[step].replyTopic() != null) {
+                trackers[step] = new ReplyTracker(steps[step], clients);
+            }
+        }
+        return trackers;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    /* Must be called before the request is sent, the reply can arrive before the send returns. */
+    public void expect(int clientId, long id) {
+        var slot = slots[clientId];
+        slot.repliedAt = NOT_REPLIED;
+        slot.thread = Thread.currentThread();
+        slot.expected.set(id);
+    }
+
+    public void cancel(int clientId, long id) {
+        slots[clientId].expected.compareAndSet(id, NONE);
+    }
+
+    public boolean await(int clientId, long id, long intended, boolean measured) throws InterruptedException {
+        var slot = slots[clientId];
+        var deadline = System.nanoTime() + timeout;
+        while (true) {
+            var repliedAt = slot.repliedAt;
+            if (repliedAt != NOT_REPLIED) {
+                if (measured) {
+                    metrics.record(clientId, repliedAt - intended);
+                }
+                return true;
+            }
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                if (slot.expected.compareAndSet(id, NONE)) {
+                    if (measured) {
+                        metrics.error();
+                    }
+                    return false;
+                }
+                /* The reply won the race, it is being written. */
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    cancel(clientId, id);
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    public void complete(long id, long received) {
+        var client = id >>> 40;
+        if (client < slots.length) {
+            var slot = slots[(int) client];
+            if (slot.expected.compareAndSet(id, NONE)) {
+                slot.repliedAt = received;
+                LockSupport.unpark(slot.thread);
+                return;
+            }
+        }
+        unmatched++;
+    }
+
+    public void uncorrelated() {
+        unmatched++;
+    }
+
+    public ReplyStatistics statistics() {
+        if (statistics == null) {
+            metrics.collect(MessageMetrics.newHistogram());
+            statistics = new ReplyStatistics(metrics.step(), topic, metrics.total().getTotalCount(),
+                    metrics.totalErrors(), unmatched, LatencyDistribution.of(metrics.total()));
+        }
+        return statistics;
+    }
+}
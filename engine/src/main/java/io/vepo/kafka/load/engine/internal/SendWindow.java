@@ -0,0 +1,114 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.engine.events.SendEvent;
+import io.vepo.kafka.load.engine.transport.Completion;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/* A slot is freed before its permit is released, so a client holding a permit always finds a free slot. */
+final class SendWindow {
+    interface Handler {
+        void completed(int clientId, Slot slot, boolean success);
+    }
+
+    static final class Slot implements Completion {
+        private final SendWindow window;
+        private volatile boolean busy;
+        private Object attachment;
+        int step;
+        int message;
+        long intended;
+        long correlation;
+        boolean measured;
+        SendEvent event;
+
+        private Slot(SendWindow window) {
+            this.window = window;
+        }
+
+        @Override
+        public void completed(boolean success) {
+            try {
+                window.handler.completed(window.clientId, this, success);
+            } finally {
+                busy = false;
+                window.release();
+            }
+        }
+
+        @Override
+        public Object attachment() {
+            return attachment;
+        }
+
+        @Override
+        public void attach(Object attachment) {
+            this.attachment = attachment;
+        }
+    }
+
+    private final int clientId;
+    private final Handler handler;
+    private final Slot[] slots;
+    private final AtomicInteger permits;
+    private volatile Thread waiter;
+    private int cursor;
+
+    SendWindow(int clientId, int size, Handler handler) {
+        this.clientId = clientId;
+        this.handler = handler;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; ++i) {
+            slots[i] = new Slot(this);
+        }
+        this.permits = new AtomicInteger(size);
+    }
+
+    long acquire() throws InterruptedException {
+        var waited = 0L;
+        if (permits.get() == 0) {
+            var start = System.nanoTime();
+            await(1);
+            waited = System.nanoTime() - start;
+        }
+        permits.decrementAndGet();
+        return waited;
+    }
+
+    Slot slot() {
+        while (true) {
+            var slot = slots[cursor];
+            cursor = cursor + 1 < slots.length ? cursor + 1 : 0;
+            if (!slot.busy) {
+                slot.busy = true;
+                return slot;
+            }
+        }
+    }
+
+    void drain() throws InterruptedException {
+        await(slots.length);
+    }
+
+    private void await(int available) throws InterruptedException {
+        waiter = Thread.currentThread();
+        try {
+            while (permits.get() < available) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiter = null;
+        }
+    }
+
+    private void release() {
+        permits.incrementAndGet();
+        var thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.vepo.kafka.load.engine.internal;
+
+import java.util.concurrent.CountDownLatch;
+
+public class StartGate {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile Timeline timeline;
+
+    public void open(Timeline timeline) {
+        this.timeline = timeline;
+        latch.countDown();
+    }
+
+    public Timeline await() throws InterruptedException {
+        latch.await();
+        return timeline;
+    }
+}
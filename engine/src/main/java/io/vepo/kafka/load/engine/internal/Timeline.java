@@ -0,0 +1,43 @@
+package io.vepo.kafka.load.engine.internal;
+
+import io.vepo.kafka.load.parser.TestPlan;
+
+public record Timeline(long start, long warmUp, long execution, long rampDown, int clients) {
+
+    public static Timeline of(TestPlan testPlan, long start) {
+        return new Timeline(start, testPlan.warmUp().toNanos(), testPlan.execution().toNanos(),
+                testPlan.rampDown().toNanos(), testPlan.clients());
+    }
+
+    public long executionStart() {
+        return start + warmUp;
+    }
+
+    public long executionEnd() {
+        return executionStart() + execution;
+    }
+
+    public long end() {
+        return executionEnd() + rampDown;
+    }
+
+    public long clientStart(int client) {
+        return start + warmUp * client / clients;
+    }
+
+    public long clientStop(int client) {
+        return executionEnd() + rampDown * (client + 1) / clients;
+    }
+
+    public Phase phase(long now) {
+        if (now < executionStart()) {
+            return Phase.WARM_UP;
+        } else if (now < executionEnd()) {
+            return Phase.EXECUTION;
+        } else if (now < end()) {
+            return Phase.RAMP_DOWN;
+        } else {
+            return Phase.FINISHED;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.vepo.kafka.load.engine.internal;
+
+public interface Timer {
+    interface Timeout {
+        long deadline();
+
+        boolean cancel();
+    }
+
+    Timeout schedule(long deadline, Runnable task);
+
+    long tickDuration();
+
+    long nanoTime();
+}
@@ -0,0 +1,125 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.lang.System.Logger.Level.ERROR;
+import static java.lang.System.Logger.Level.WARNING;
+
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.exceptions.TransportException;
+import io.vepo.kafka.load.engine.metrics.LatencyDistribution;
+import io.vepo.kafka.load.engine.metrics.TransactionStatistics;
+import io.vepo.kafka.load.engine.transport.TransactionalSender;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.lang.System.Logger;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TransactionTracker {
+    private static final Logger LOGGER = System.getLogger(TransactionTracker.class.getName());
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String name;
+    private final String step;
+    private final int size;
+    private final Transport transport;
+    private final TransactionalSender[] senders;
+    private final int[] sent;
+    private final MessageMetrics commits;
+    private final MessageMetrics aborts;
+    private final LongAdder committed = new LongAdder();
+    private final LongAdder records = new LongAdder();
+    private final AtomicBoolean unsupported = new AtomicBoolean();
+
+    TransactionTracker(String name, CompiledStep step, int clients, Transport transport) {
+        this.name = name;
+        this.step = step.name();
+        this.size = step.transactionSize();
+        this.transport = transport;
+        this.senders = new TransactionalSender[clients];
+        this.sent = new int[clients];
+        var stripes = MetricsRegistry.stripes(clients);
+        this.commits = new MessageMetrics(step.name(), "commit", stripes);
+        this.aborts = new MessageMetrics(step.name(), "abort", stripes);
+    }
+
+    public TransactionalSender sender(int clientId) {
+        var sender = senders[clientId];
+        if (sender == null) {
+            if (unsupported.get()) {
+                return null;
+            }
+            var id = "kafka-load-" + name + "-" + step + "-" + clientId;
+            try {
+                sender = transport.transactionalSender(id, id);
+            } catch (TransportException e) {
+                if (unsupported.compareAndSet(false, true)) {
+                    LOGGER.log(ERROR, "Step " + step + " can not send its transactions: " + e.getMessage());
+                }
+                return null;
+            } catch (RuntimeException e) {
+                LOGGER.log(WARNING, "Transactional producer " + id + " could not be created", e);
+                return null;
+            }
+            senders[clientId] = sender;
+        }
+        if (sent[clientId] == 0 && !sender.begin()) {
+            return null;
+        }
+        return sender;
+    }
+
+    public boolean sent(int clientId, boolean measured) throws InterruptedException {
+        if (++sent[clientId] < size) {
+            return true;
+        }
+        sent[clientId] = 0;
+        var start = System.nanoTime();
+        var success = senders[clientId].commit();
+        if (measured) {
+            if (success) {
+                commits.record(clientId, System.nanoTime() - start);
+                committed.increment();
+                records.add(size);
+            } else {
+                commits.error();
+            }
+        }
+        return success;
+    }
+
+    public void failed(int clientId, boolean measured) throws InterruptedException {
+        var sender = senders[clientId];
+        if (sender == null || sent[clientId] == 0) {
+            return;
+        }
+        sent[clientId] = 0;
+        var start = System.nanoTime();
+        if (sender.abort() && measured) {
+            aborts.record(clientId, System.nanoTime() - start);
+        }
+    }
+
+    void close() throws InterruptedException {
+        for (int client = 0; client < senders.length; ++client) {
+            if (senders[client] != null) {
+                try {
+                    if (sent[client] > 0) {
+                        senders[client].commit();
+                    }
+                } finally {
+                    senders[client].close();
+                }
+            }
+        }
+    }
+
+    TransactionStatistics statistics(Duration measured) {
+        commits.collect(MessageMetrics.newHistogram());
+        aborts.collect(MessageMetrics.newHistogram());
+        var seconds = measured.toNanos() / NANOS_PER_SECOND;
+        return new TransactionStatistics(step, size, committed.sum(), commits.totalErrors(),
+                aborts.total().getTotalCount(), records.sum(), seconds > 0 ? records.sum() / seconds : 0.0,
+                seconds > 0 ? committed.sum() / seconds : 0.0, LatencyDistribution.of(commits.total()),
+                LatencyDistribution.of(aborts.total()));
+    }
+}
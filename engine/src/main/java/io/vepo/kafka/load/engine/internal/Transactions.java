@@ -0,0 +1,55 @@
+package io.vepo.kafka.load.engine.internal;
+
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.compiler.CompiledPlan;
+import io.vepo.kafka.load.engine.metrics.TransactionStatistics;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class Transactions implements AutoCloseable {
+    private final TransactionTracker[] trackers;
+
+    private Transactions(TransactionTracker[] trackers) {
+        this.trackers = trackers;
+    }
+
+    public static Transactions of(CompiledPlan compiledPlan, Transport transport) {
+        var steps = compiledPlan.steps();
+        var trackers = new TransactionTracker[steps.length];
+        for (int step = 0; step < steps.length; ++step) {
+            if (steps[step].transactionSize() > 0) {
+                trackers[step] = new TransactionTracker(compiledPlan.testPlan().name(), steps[step],
+                        compiledPlan.testPlan().clients(), transport);
+            }
+        }
+        return new Transactions(trackers);
+    }
+
+    public TransactionTracker[] trackers() {
+        return trackers;
+    }
+
+    public List<TransactionStatistics> statistics(Duration measured) {
+        return Stream.of(trackers)
+                .filter(Objects::nonNull)
+                .map(tracker -> tracker.statistics(measured))
+                .collect(toList());
+    }
+
+    @Override
+    public void close() {
+        try {
+            for (var tracker : trackers) {
+                if (tracker != null) {
+                    tracker.close();
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
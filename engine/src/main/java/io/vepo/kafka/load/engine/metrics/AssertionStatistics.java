@@ -0,0 +1,5 @@
+package io.vepo.kafka.load.engine.metrics;
+
+public record AssertionStatistics(String step, String topic, long evaluated, long failed,
+                                  EndToEndStatistics endToEnd) {
+}
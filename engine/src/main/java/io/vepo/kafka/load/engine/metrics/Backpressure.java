@@ -0,0 +1,15 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import java.time.Duration;
+
+public record Backpressure(int window, long sends, long waits, Duration time) {
+
+    public double waitRate() {
+        return sends > 0 ? (double) waits / sends : 0.0;
+    }
+
+    public double share(Duration measured, int clients) {
+        var available = (double) measured.toNanos() * clients;
+        return available > 0 ? Math.min(1.0, time.toNanos() / available) : 0.0;
+    }
+}
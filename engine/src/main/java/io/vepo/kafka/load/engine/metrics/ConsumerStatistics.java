@@ -0,0 +1,14 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import java.time.Duration;
+import java.util.List;
+
+public record ConsumerStatistics(String step, String topic, String group, int consumers, long records, long bytes,
+                                 long errors, double recordsPerSecond, double bytesPerSecond,
+                                 LatencyDistribution pollLatency, long rebalances, Duration rebalanceTime,
+                                 List<LagSample> lag) {
+
+    public long maxLag() {
+        return lag.stream().mapToLong(LagSample::lag).max().orElse(0);
+    }
+}
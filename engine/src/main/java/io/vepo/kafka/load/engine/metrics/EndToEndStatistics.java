@@ -0,0 +1,4 @@
+package io.vepo.kafka.load.engine.metrics;
+
+public record EndToEndStatistics(long matched, long uncorrelated, long pending, LatencyDistribution latency) {
+}
@@ -0,0 +1,17 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record GeneratorProfile(Path recording, Duration duration, long messages, long allocatedBytes,
+                               long collections, Duration gcPauses, Duration longestGcPause, long safepoints,
+                               Duration safepointTime) {
+
+    public double allocatedBytesPerMessage() {
+        return messages > 0 ? (double) allocatedBytes / messages : 0.0;
+    }
+
+    public double pausedShare() {
+        return duration.isZero() ? 0.0 : Math.min(1.0, (double) safepointTime.toNanos() / duration.toNanos());
+    }
+}
@@ -0,0 +1,7 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import java.time.Duration;
+
+public record GeneratorSample(Duration elapsed, double cpu, double gc, Duration schedulerLag, boolean measured,
+                              boolean bound) {
+}
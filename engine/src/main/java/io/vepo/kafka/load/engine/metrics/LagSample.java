@@ -0,0 +1,6 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import java.time.Duration;
+
+public record LagSample(Duration elapsed, long lag) {
+}
@@ -0,0 +1,59 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+public class LatencyDistribution {
+    private final Histogram histogram;
+
+    private LatencyDistribution(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    public static LatencyDistribution of(Histogram histogram) {
+        return new LatencyDistribution(histogram.copy());
+    }
+
+    public Histogram histogram() {
+        return histogram.copy();
+    }
+
+    public long count() {
+        return histogram.getTotalCount();
+    }
+
+    public Duration percentile(double percentile) {
+        return toDuration(histogram.getValueAtPercentile(percentile));
+    }
+
+    public Duration p50() {
+        return percentile(50.0);
+    }
+
+    public Duration p99() {
+        return percentile(99.0);
+    }
+
+    public Duration p999() {
+        return percentile(99.9);
+    }
+
+    public Duration max() {
+        return toDuration(histogram.getMaxValue());
+    }
+
+    public Duration mean() {
+        return toDuration((long) histogram.getMean());
+    }
+
+    private static Duration toDuration(long micros) {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyDistribution [count=%d, p50=%s, p99=%s, p999=%s, max=%s]", count(), p50(), p99(),
+                p999(), max());
+    }
+}
@@ -0,0 +1,26 @@
+package io.vepo.kafka.load.engine.metrics;
+
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Idempotence;
+import java.time.Duration;
+
+public record MatrixCell(Compression compression, int lingerMs, int batchSize, Idempotence idempotence,
+                         int transactionSize, boolean successful, Statistics total, long records, long payloadBytes,
+                         long wireBytes, Duration cpuTime, Duration elapsed) {
+
+    public double wireBytesPerRecord() {
+        return records > 0 && wireBytes >= 0 ? (double) wireBytes / records : 0.0;
+    }
+
+    public double compressionRatio() {
+        return wireBytes > 0 ? (double) payloadBytes / wireBytes : 0.0;
+    }
+
+    public double cpuMicrosPerRecord() {
+        return records > 0 && !cpuTime.isNegative() ? cpuTime.toNanos() / 1000.0 / records : 0.0;
+    }
+
+    public double cpuCores() {
+        return !elapsed.isZero() && !cpuTime.isNegative() ? (double) cpuTime.toNanos() / elapsed.toNanos() : 0.0;
+    }
+}
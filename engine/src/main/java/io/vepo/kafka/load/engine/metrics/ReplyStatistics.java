@@ -0,0 +1,10 @@
+package io.vepo.kafka.load.engine.metrics;
+
+public record ReplyStatistics(String step, String topic, long replies, long timeouts, long unmatched,
+                              LatencyDistribution latency) {
+
+    public double timeoutRate() {
+        var requests = replies + timeouts;
+        return requests > 0 ? (double) timeouts / requests : 0.0;
+    }
+}
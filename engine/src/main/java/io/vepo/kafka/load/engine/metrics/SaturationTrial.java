@@ -0,0 +1,4 @@
+package io.vepo.kafka.load.engine.metrics;
+
+public record SaturationTrial(int rate, boolean withinSlo, double achieved, Statistics total) {
+}
@@ -0,0 +1,4 @@
+package io.vepo.kafka.load.engine.metrics;
+
+public record Statistics(String name, long count, long errors, double throughput, LatencyDistribution latency) {
+}
@@ -0,0 +1,11 @@
+package io.vepo.kafka.load.engine.metrics;
+
+public record TransactionStatistics(String step, int transactionSize, long committed, long failed, long aborted,
+                                    long records, double recordsPerSecond, double transactionsPerSecond,
+                                    LatencyDistribution commitLatency, LatencyDistribution abortLatency) {
+
+    public double abortRate() {
+        var transactions = committed + failed + aborted;
+        return transactions > 0 ? (double) (failed + aborted) / transactions : 0.0;
+    }
+}
@@ -0,0 +1,21 @@
+package io.vepo.kafka.load.engine.report;
+
+import io.vepo.kafka.load.engine.internal.MetricsRegistry;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+
+public interface IntervalListener extends AutoCloseable {
+    IntervalListener NONE = new IntervalListener() {
+        @Override
+        public void interval(long start, long end, MetricsRegistry metrics, GeneratorSample generator) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    void interval(long start, long end, MetricsRegistry metrics, GeneratorSample generator);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,117 @@
+package io.vepo.kafka.load.engine.report;
+
+import static java.lang.System.Logger.Level.ERROR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.internal.MessageMetrics;
+import io.vepo.kafka.load.engine.internal.MetricsRegistry;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.System.Logger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+public class IntervalReporter implements IntervalListener {
+    private static final Logger LOGGER = System.getLogger(IntervalReporter.class.getName());
+    private static final String CSV_HEADER =
+            "timestamp,step,count,throughput,p50_us,p99_us,p999_us,max_us,errors,generator_bound";
+
+    private static class StepInterval {
+        private final Histogram histogram = MessageMetrics.newHistogram();
+        private long errors;
+    }
+
+    private final PrintStream histogramStream;
+    private final HistogramLogWriter histogramLog;
+    private final BufferedWriter csv;
+    private final Map<String, StepInterval> steps = new LinkedHashMap<>();
+
+    private IntervalReporter(Path directory, String testPlan, long start) throws IOException {
+        Files.createDirectories(directory);
+        var baseName = testPlan + "-" + Reports.fileTimestamp(Instant.ofEpochMilli(start));
+        this.histogramStream = new PrintStream(
+                new BufferedOutputStream(Files.newOutputStream(directory.resolve(baseName + ".hlog"))), false, UTF_8);
+        this.histogramLog = new HistogramLogWriter(histogramStream);
+        this.histogramLog.outputLogFormatVersion();
+        this.histogramLog.outputStartTime(start);
+        this.histogramLog.setBaseTime(start);
+        this.histogramLog.outputLegend();
+        this.csv = Files.newBufferedWriter(directory.resolve(baseName + ".csv"), UTF_8);
+        this.csv.write(CSV_HEADER);
+        this.csv.newLine();
+        this.csv.flush();
+    }
+
+    public static IntervalListener create(String testPlan, Configuration configuration) {
+        return configuration.get(Configuration.REPORT_DIRECTORY)
+                .map(directory -> {
+                    try {
+                        return (IntervalListener) new IntervalReporter(Path.of(directory), testPlan,
+                                System.currentTimeMillis());
+                    } catch (IOException ioe) {
+                        throw new ExecutorException("Could not create report files!", ioe);
+                    }
+                })
+                .orElse(IntervalListener.NONE);
+    }
+
+    @Override
+    public void interval(long start, long end, MetricsRegistry metrics, GeneratorSample generator) {
+        steps.values().forEach(step -> {
+            step.histogram.reset();
+            step.errors = 0;
+        });
+        for (var metric : metrics.metrics()) {
+            var step = steps.computeIfAbsent(metric.step(), name -> new StepInterval());
+            step.histogram.add(metric.interval());
+            step.errors += metric.intervalErrors();
+        }
+        var bound = generator != null ? Boolean.toString(generator.bound()) : "";
+        try {
+            if (generator != null && generator.bound()) {
+                histogramLog.outputComment("Generator bound interval, end=" + end);
+            }
+            for (var entry : steps.entrySet()) {
+                write(entry.getKey(), entry.getValue(), start, end, bound);
+            }
+            histogramStream.flush();
+            csv.flush();
+        } catch (IOException ioe) {
+            LOGGER.log(ERROR, "Could not write report!", ioe);
+        }
+    }
+
+    private void write(String step, StepInterval interval, long start, long end, String bound) throws IOException {
+        var histogram = interval.histogram;
+        histogram.setStartTimeStamp(start);
+        histogram.setEndTimeStamp(end);
+        histogram.setTag(step.replaceAll("[\\s,]", "_"));
+        histogramLog.outputIntervalHistogram(histogram);
+        csv.write(String.format(Locale.ROOT, "%d,%s,%d,%.1f,%d,%d,%d,%d,%d,%s", end, step,
+                histogram.getTotalCount(), histogram.getTotalCount() * 1000.0 / Math.max(end - start, 1),
+                histogram.getValueAtPercentile(50.0), histogram.getValueAtPercentile(99.0),
+                histogram.getValueAtPercentile(99.9), histogram.getMaxValue(), interval.errors, bound));
+        csv.newLine();
+    }
+
+    @Override
+    public void close() {
+        try {
+            histogramLog.close();
+            csv.close();
+        } catch (IOException ioe) {
+            throw new ExecutorException("Could not close report!", ioe);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.vepo.kafka.load.engine.report;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+public final class Reports {
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private Reports() {
+    }
+
+    public static String fileTimestamp(Instant instant) {
+        return FILE_TIMESTAMP.format(instant);
+    }
+
+    public static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000.0);
+    }
+}
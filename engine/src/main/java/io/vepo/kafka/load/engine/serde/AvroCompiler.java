@@ -0,0 +1,116 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.compiler.TemplateBuilder;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.serde.JsonNode.ArrayNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ObjectNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ScalarNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.StringNode;
+
+class AvroCompiler extends BinaryCompiler {
+
+    AvroCompiler(TemplateCompiler compiler) {
+        super(compiler);
+    }
+
+    void compile(AvroSchema schema, JsonNode node, String field, TemplateBuilder builder) {
+        switch (schema.type()) {
+            case NULL -> {
+                if (node != null && !isNull(node)) {
+                    throw new ExecutorException("Field should be null! field=" + field);
+                }
+            }
+            case BOOLEAN -> scalar(builder, field, node, Encoding.BOOLEAN, 0);
+            case INT -> scalar(builder, field, node, Encoding.ZIGZAG, Range.INT32, 0);
+            case LONG -> scalar(builder, field, node, Encoding.ZIGZAG, 0);
+            case FLOAT -> scalar(builder, field, node, Encoding.FLOAT, 0);
+            case DOUBLE -> scalar(builder, field, node, Encoding.DOUBLE, 0);
+            case BYTES, STRING -> scalar(builder, field, node, Encoding.BYTES, 0);
+            case ENUM -> {
+                var symbol = schema.symbols().indexOf(constant(field, node));
+                if (symbol < 0) {
+                    throw new ExecutorException("Symbol not defined on enum! field=" + field + " enum="
+                            + schema.name() + " value=" + node);
+                }
+                builder.literal().writeVarint(EncodedSegment.zigzag(symbol));
+            }
+            case ARRAY -> {
+                if (!(node instanceof ArrayNode array)) {
+                    throw new ExecutorException("Field should be an array! field=" + field);
+                }
+                if (!array.items().isEmpty()) {
+                    builder.literal().writeVarint(EncodedSegment.zigzag(array.items().size()));
+                    for (int i = 0; i < array.items().size(); ++i) {
+                        compile(schema.items(), array.items().get(i), field + "[" + i + "]", builder);
+                    }
+                }
+                builder.literal().writeVarint(0);
+            }
+            case MAP -> {
+                if (!(node instanceof ObjectNode map)) {
+                    throw new ExecutorException("Field should be an object! field=" + field);
+                }
+                if (!map.fields().isEmpty()) {
+                    builder.literal().writeVarint(EncodedSegment.zigzag(map.fields().size()));
+                    map.fields().forEach((key, value) -> {
+                        scalar(builder, field, new StringNode(key), Encoding.BYTES, 0);
+                        compile(schema.items(), value, field + "." + key, builder);
+                    });
+                }
+                builder.literal().writeVarint(0);
+            }
+            case RECORD -> {
+                if (!(node instanceof ObjectNode record)) {
+                    throw new ExecutorException("Field should be an object! field=" + field);
+                }
+                for (var name : record.fields().keySet()) {
+                    if (schema.fields().stream().noneMatch(schemaField -> schemaField.name().equals(name))) {
+                        throw new ExecutorException("Field not defined on schema! field=" + path(field, name)
+                                + " record=" + schema.name());
+                    }
+                }
+                for (var schemaField : schema.fields()) {
+                    var value = record.fields().get(schemaField.name());
+                    compile(schemaField.schema(), value != null ? value : schemaField.defaultValue(),
+                            path(field, schemaField.name()), builder);
+                }
+            }
+            case UNION -> {
+                var branch = branch(schema, node, field);
+                builder.literal().writeVarint(EncodedSegment.zigzag(branch));
+                compile(schema.branches().get(branch), node, field, builder);
+            }
+        }
+    }
+
+    private static int branch(AvroSchema union, JsonNode node, String field) {
+        var branches = union.branches();
+        for (int i = 0; i < branches.size(); ++i) {
+            var type = branches.get(i).type();
+            var matches = switch (type) {
+                case NULL -> node == null || isNull(node);
+                case BOOLEAN -> node instanceof ScalarNode scalar
+                        && (scalar.text().equals("true") || scalar.text().equals("false"));
+                case INT, LONG, FLOAT, DOUBLE -> node instanceof ScalarNode scalar && !scalar.isNull()
+                        && !scalar.text().equals("true") && !scalar.text().equals("false");
+                case BYTES, STRING, ENUM -> node instanceof StringNode;
+                case RECORD, MAP -> node instanceof ObjectNode;
+                case ARRAY -> node instanceof ArrayNode;
+                case UNION -> false;
+            };
+            if (matches) {
+                return i;
+            }
+        }
+        throw new ExecutorException("No union branch for field! field=" + field + " value=" + node);
+    }
+
+    private static boolean isNull(JsonNode node) {
+        return node instanceof ScalarNode scalar && scalar.isNull();
+    }
+
+    private static String path(String parent, String field) {
+        return parent.isEmpty() ? field : parent + "." + field;
+    }
+}
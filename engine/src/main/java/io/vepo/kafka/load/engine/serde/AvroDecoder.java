@@ -0,0 +1,58 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.util.concurrent.ConcurrentHashMap;
+
+class AvroDecoder implements ValueDecoder {
+    private final SchemaRegistry registry;
+    private final ConcurrentHashMap<Integer, AvroSchema> schemas = new ConcurrentHashMap<>();
+
+    AvroDecoder(SchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void decode(byte[] value) {
+        var id = ValueDecoder.schemaId(value, registry);
+        var schema = schemas.computeIfAbsent(id, key -> AvroSchema.parse(registry.schema(key).schema()));
+        var reader = new BinaryReader(value, 5);
+        read(schema, reader);
+        if (reader.hasRemaining()) {
+            throw new ExecutorException("Unexpected bytes after the Avro value! position=" + reader.position());
+        }
+    }
+
+    private static void read(AvroSchema schema, BinaryReader reader) {
+        switch (schema.type()) {
+            case NULL -> {
+            }
+            case BOOLEAN -> reader.skip(1);
+            case INT, LONG, ENUM -> reader.readVarint();
+            case FLOAT -> reader.skip(Float.BYTES);
+            case DOUBLE -> reader.skip(Double.BYTES);
+            case BYTES, STRING -> reader.skip(reader.readZigzag());
+            case RECORD -> schema.fields().forEach(field -> read(field.schema(), reader));
+            case ARRAY, MAP -> {
+                for (var count = reader.readZigzag(); count != 0; count = reader.readZigzag()) {
+                    if (count < 0) {
+                        count = -count;
+                        reader.readZigzag();
+                    }
+                    for (long i = 0; i < count; ++i) {
+                        if (schema.type() == AvroSchema.Type.MAP) {
+                            reader.skip(reader.readZigzag());
+                        }
+                        read(schema.items(), reader);
+                    }
+                }
+            }
+            case UNION -> {
+                var branch = reader.readZigzag();
+                if (branch < 0 || branch >= schema.branches().size()) {
+                    throw new ExecutorException("Invalid union branch! branch=" + branch);
+                }
+                read(schema.branches().get((int) branch), reader);
+            }
+        }
+    }
+}
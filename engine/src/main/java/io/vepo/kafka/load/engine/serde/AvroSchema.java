@@ -0,0 +1,99 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.serde.JsonNode.ArrayNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ObjectNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.StringNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+record AvroSchema(Type type, String name, List<Field> fields, AvroSchema items, List<String> symbols,
+                  List<AvroSchema> branches) {
+
+    enum Type {
+        NULL, BOOLEAN, INT, LONG, FLOAT, DOUBLE, BYTES, STRING, RECORD, ENUM, ARRAY, MAP, UNION
+    }
+
+    record Field(String name, AvroSchema schema, JsonNode defaultValue) {
+    }
+
+    static AvroSchema parse(String schema) {
+        return parse(JsonTemplateParser.parse(schema), new HashMap<>());
+    }
+
+    private static AvroSchema parse(JsonNode node, Map<String, AvroSchema> named) {
+        if (node instanceof StringNode name) {
+            return reference(name.text(), named);
+        } else if (node instanceof ArrayNode union) {
+            var branches = new ArrayList<AvroSchema>();
+            union.items().forEach(branch -> branches.add(parse(branch, named)));
+            return new AvroSchema(Type.UNION, null, List.of(), null, List.of(), List.copyOf(branches));
+        } else if (node instanceof ObjectNode object) {
+            var type = text(object, "type");
+            return switch (type) {
+                case "record", "error" -> {
+                    var fields = new ArrayList<Field>();
+                    var record = new AvroSchema(Type.RECORD, text(object, "name"), fields, null, List.of(), List.of());
+                    named.put(record.name(), record);
+                    if (!(object.fields().get("fields") instanceof ArrayNode fieldNodes)) {
+                        throw new ExecutorException("Avro record without fields! record=" + record.name());
+                    }
+                    for (JsonNode fieldNode : fieldNodes.items()) {
+                        if (!(fieldNode instanceof ObjectNode field)) {
+                            throw new ExecutorException("Invalid Avro field! record=" + record.name());
+                        }
+                        fields.add(new Field(text(field, "name"), parse(field.fields().get("type"), named),
+                                field.fields().get("default")));
+                    }
+                    yield record;
+                }
+                case "enum" -> {
+                    var symbols = new ArrayList<String>();
+                    if (object.fields().get("symbols") instanceof ArrayNode symbolNodes) {
+                        symbolNodes.items().forEach(symbol -> symbols.add(BinaryCompiler.constant("symbols", symbol)));
+                    }
+                    var schema = new AvroSchema(Type.ENUM, text(object, "name"), List.of(), null,
+                            List.copyOf(symbols), List.of());
+                    named.put(schema.name(), schema);
+                    yield schema;
+                }
+                case "array" -> new AvroSchema(Type.ARRAY, null, List.of(), parse(object.fields().get("items"), named),
+                        List.of(), List.of());
+                case "map" -> new AvroSchema(Type.MAP, null, List.of(), parse(object.fields().get("values"), named),
+                        List.of(), List.of());
+                default -> reference(type, named);
+            };
+        }
+        throw new ExecutorException("Invalid Avro schema! schema=" + node);
+    }
+
+    private static AvroSchema reference(String name, Map<String, AvroSchema> named) {
+        return switch (name) {
+            case "null" -> primitive(Type.NULL);
+            case "boolean" -> primitive(Type.BOOLEAN);
+            case "int" -> primitive(Type.INT);
+            case "long" -> primitive(Type.LONG);
+            case "float" -> primitive(Type.FLOAT);
+            case "double" -> primitive(Type.DOUBLE);
+            case "bytes" -> primitive(Type.BYTES);
+            case "string" -> primitive(Type.STRING);
+            default -> {
+                var schema = named.get(name);
+                if (schema == null) {
+                    throw new ExecutorException("Avro type not supported! type=" + name);
+                }
+                yield schema;
+            }
+        };
+    }
+
+    private static AvroSchema primitive(Type type) {
+        return new AvroSchema(type, null, List.of(), null, List.of(), List.of());
+    }
+
+    private static String text(ObjectNode object, String field) {
+        return BinaryCompiler.constant(field, object.fields().get(field));
+    }
+}
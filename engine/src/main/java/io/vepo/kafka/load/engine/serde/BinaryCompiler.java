@@ -0,0 +1,48 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.compiler.TemplateBuilder;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.serde.JsonNode.ScalarNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.StringNode;
+
+abstract class BinaryCompiler {
+    protected final TemplateCompiler compiler;
+
+    protected BinaryCompiler(TemplateCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    protected void scalar(TemplateBuilder builder, String field, JsonNode node, Encoding encoding, int depth) {
+        scalar(builder, field, node, encoding, Range.INT64, depth);
+    }
+
+    protected void scalar(TemplateBuilder builder, String field, JsonNode node, Encoding encoding, Range range,
+                          int depth) {
+        var source = source(field, node);
+        var segment = new EncodedSegment(field, source, encoding, range, depth);
+        if (source.constant()) {
+            segment.write(new RenderContext(0), builder.literal());
+        } else {
+            builder.segment(segment);
+        }
+    }
+
+    protected Template source(String field, JsonNode node) {
+        if (node instanceof StringNode string) {
+            return compiler.compile(string.text());
+        } else if (node instanceof ScalarNode scalar && !scalar.isNull()) {
+            return compiler.compile(scalar.text());
+        }
+        throw new ExecutorException("Invalid value for field! field=" + field + " value=" + node);
+    }
+
+    protected static String constant(String field, JsonNode node) {
+        if (node instanceof StringNode string && !string.text().contains("${")) {
+            return string.text();
+        }
+        throw new ExecutorException("Value should be a constant string! field=" + field + " value=" + node);
+    }
+}
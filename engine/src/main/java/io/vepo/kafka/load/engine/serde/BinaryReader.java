@@ -0,0 +1,56 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+
+class BinaryReader {
+    private final byte[] bytes;
+    private int position;
+
+    BinaryReader(byte[] bytes, int position) {
+        this.bytes = bytes;
+        this.position = position;
+    }
+
+    boolean hasRemaining() {
+        return position < bytes.length;
+    }
+
+    int position() {
+        return position;
+    }
+
+    long readVarint() {
+        var value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var current = readByte();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ExecutorException("Invalid varint at position " + position);
+    }
+
+    long readZigzag() {
+        var value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    byte readByte() {
+        if (position >= bytes.length) {
+            throw truncated();
+        }
+        return bytes[position++];
+    }
+
+    void skip(long count) {
+        if (count < 0 || count > bytes.length - position) {
+            throw truncated();
+        }
+        position += (int) count;
+    }
+
+    private ExecutorException truncated() {
+        return new ExecutorException("Truncated value at position " + position);
+    }
+}
@@ -0,0 +1,111 @@
+package io.vepo.kafka.load.engine.serde;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Segment;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+
+record EncodedSegment(String field, Template source, Encoding encoding, Range range, int depth) implements Segment {
+    private static final int MAX_DIGITS = 18;
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        var scratch = context.scratch(depth);
+        source.render(context, scratch);
+        switch (encoding) {
+            case VARINT -> buffer.writeVarint(parseLong(scratch));
+            case ZIGZAG -> buffer.writeVarint(zigzag(parseLong(scratch)));
+            case BOOLEAN -> buffer.write((byte) (parseBoolean(scratch) ? 1 : 0));
+            case FIXED32 -> buffer.writeFixed32((int) parseLong(scratch));
+            case FIXED64 -> buffer.writeFixed64(parseLong(scratch));
+            case FLOAT -> buffer.writeFixed32(Float.floatToIntBits((float) parseDouble(scratch)));
+            case DOUBLE -> buffer.writeFixed64(Double.doubleToLongBits(parseDouble(scratch)));
+            case BYTES -> {
+                buffer.writeVarint(zigzag(scratch.length()));
+                buffer.write(scratch.bytes(), 0, scratch.length());
+            }
+            case LENGTH_DELIMITED -> {
+                buffer.writeVarint(scratch.length());
+                buffer.write(scratch.bytes(), 0, scratch.length());
+            }
+        }
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private long parseLong(RenderBuffer scratch) {
+        var value = parseDigits(scratch);
+        if (!range.contains(value)) {
+            throw outOfRange(scratch);
+        }
+        return value;
+    }
+
+    /* Digits are accumulated as a negative number, which also holds Long.MIN_VALUE. */
+    private long parseDigits(RenderBuffer scratch) {
+        var bytes = scratch.bytes();
+        var length = scratch.length();
+        var negative = length > 0 && bytes[0] == '-';
+        var position = negative ? 1 : 0;
+        if (position == length) {
+            throw invalid(scratch);
+        }
+        var value = 0L;
+        for (; position < length; ++position) {
+            var digit = bytes[position] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalid(scratch);
+            }
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw outOfRange(scratch);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            throw outOfRange(scratch);
+        }
+        return negative ? value : -value;
+    }
+
+    private double parseDouble(RenderBuffer scratch) {
+        var bytes = scratch.bytes();
+        for (int position = 0; position < scratch.length(); ++position) {
+            var value = bytes[position];
+            if (position == MAX_DIGITS || (value < '0' || value > '9') && !(position == 0 && value == '-')) {
+                try {
+                    return Double.parseDouble(new String(bytes, 0, scratch.length(), US_ASCII));
+                } catch (NumberFormatException e) {
+                    throw invalid(scratch);
+                }
+            }
+        }
+        return parseDigits(scratch);
+    }
+
+    private boolean parseBoolean(RenderBuffer scratch) {
+        var length = scratch.length();
+        var bytes = scratch.bytes();
+        if (length == 4 && bytes[0] == 't' && bytes[1] == 'r' && bytes[2] == 'u' && bytes[3] == 'e') {
+            return true;
+        } else if (length == 5 && bytes[0] == 'f' && bytes[1] == 'a' && bytes[2] == 'l' && bytes[3] == 's'
+                && bytes[4] == 'e') {
+            return false;
+        }
+        throw invalid(scratch);
+    }
+
+    private ExecutorException outOfRange(RenderBuffer scratch) {
+        return new ExecutorException("Value out of range for field! field=" + field + " encoding=" + encoding
+                + " range=" + range + " value=" + new String(scratch.bytes(), 0, scratch.length(), US_ASCII));
+    }
+
+    private ExecutorException invalid(RenderBuffer scratch) {
+        return new ExecutorException("Invalid value for field! field=" + field + " encoding=" + encoding + " value="
+                + new String(scratch.bytes(), 0, scratch.length(), US_ASCII));
+    }
+}
@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.engine.serde;
+
+enum Encoding {
+    VARINT,
+    ZIGZAG,
+    BOOLEAN,
+    FIXED32,
+    FIXED64,
+    FLOAT,
+    DOUBLE,
+    BYTES,
+    LENGTH_DELIMITED
+}
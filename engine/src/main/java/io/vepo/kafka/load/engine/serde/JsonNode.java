@@ -0,0 +1,21 @@
+package io.vepo.kafka.load.engine.serde;
+
+import java.util.List;
+import java.util.Map;
+
+interface JsonNode {
+    record ObjectNode(Map<String, JsonNode> fields) implements JsonNode {
+    }
+
+    record ArrayNode(List<JsonNode> items) implements JsonNode {
+    }
+
+    record StringNode(String text) implements JsonNode {
+    }
+
+    record ScalarNode(String text) implements JsonNode {
+        boolean isNull() {
+            return text.equals("null");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.serde.JsonNode.ArrayNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ObjectNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ScalarNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.StringNode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+final class JsonTemplateParser {
+    private final String text;
+    private int position;
+
+    private JsonTemplateParser(String text) {
+        this.text = text;
+    }
+
+    static JsonNode parse(String text) {
+        var parser = new JsonTemplateParser(text);
+        var node = parser.value();
+        if (parser.skipWhitespaces() < text.length()) {
+            throw parser.error("Unexpected content after the JSON value");
+        }
+        return node;
+    }
+
+    private JsonNode value() {
+        skipWhitespaces();
+        if (position >= text.length()) {
+            throw error("Unexpected end of JSON");
+        }
+        return switch (text.charAt(position)) {
+            case '{' -> object();
+            case '[' -> array();
+            case '"' -> new StringNode(string());
+            default -> scalar();
+        };
+    }
+
+    private JsonNode object() {
+        position++;
+        var fields = new LinkedHashMap<String, JsonNode>();
+        if (skipWhitespaces() < text.length() && text.charAt(position) == '}') {
+            position++;
+            return new ObjectNode(fields);
+        }
+        while (true) {
+            skipWhitespaces();
+            expect('"');
+            position--;
+            var name = string();
+            skipWhitespaces();
+            expect(':');
+            fields.put(name, value());
+            skipWhitespaces();
+            if (position < text.length() && text.charAt(position) == ',') {
+                position++;
+            } else {
+                expect('}');
+                return new ObjectNode(fields);
+            }
+        }
+    }
+
+    private JsonNode array() {
+        position++;
+        var items = new ArrayList<JsonNode>();
+        if (skipWhitespaces() < text.length() && text.charAt(position) == ']') {
+            position++;
+            return new ArrayNode(items);
+        }
+        while (true) {
+            items.add(value());
+            skipWhitespaces();
+            if (position < text.length() && text.charAt(position) == ',') {
+                position++;
+            } else {
+                expect(']');
+                return new ArrayNode(items);
+            }
+        }
+    }
+
+    private String string() {
+        position++;
+        var value = new StringBuilder();
+        while (position < text.length()) {
+            var current = text.charAt(position++);
+            if (current == '"') {
+                return value.toString();
+            } else if (current != '\\') {
+                value.append(current);
+            } else if (position < text.length()) {
+                var escaped = text.charAt(position++);
+                switch (escaped) {
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > text.length()) {
+                            throw error("Invalid unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> value.append(escaped);
+                }
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private JsonNode scalar() {
+        var start = position;
+        if (text.startsWith("${", position)) {
+            var end = text.indexOf('}', position);
+            if (end < 0) {
+                throw error("Unterminated placeholder");
+            }
+            position = end + 1;
+        } else {
+            while (position < text.length() && ",]} \t\r\n".indexOf(text.charAt(position)) < 0) {
+                position++;
+            }
+        }
+        if (start == position) {
+            throw error("Missing value");
+        }
+        return new ScalarNode(text.substring(start, position));
+    }
+
+    private void expect(char expected) {
+        if (position >= text.length() || text.charAt(position) != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    private int skipWhitespaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private ExecutorException error(String reason) {
+        return new ExecutorException("Invalid JSON! " + reason + " at position " + position);
+    }
+}
@@ -0,0 +1,17 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Segment;
+import io.vepo.kafka.load.engine.compiler.Template;
+
+record NestedSegment(Template message, int depth) implements Segment {
+
+    @Override
+    public void write(RenderContext context, RenderBuffer buffer) {
+        var scratch = context.scratch(depth);
+        message.render(context, scratch);
+        buffer.writeVarint(scratch.length());
+        buffer.write(scratch.bytes(), 0, scratch.length());
+    }
+}
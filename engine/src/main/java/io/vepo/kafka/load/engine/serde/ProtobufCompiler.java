@@ -0,0 +1,126 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.compiler.TemplateBuilder;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.serde.JsonNode.ArrayNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ObjectNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.ScalarNode;
+import io.vepo.kafka.load.engine.serde.JsonNode.StringNode;
+import io.vepo.kafka.load.engine.serde.ProtobufSchema.ProtobufField;
+import io.vepo.kafka.load.engine.serde.ProtobufSchema.ProtobufMessage;
+
+class ProtobufCompiler extends BinaryCompiler {
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED32 = 5;
+
+    private final ProtobufSchema schema;
+
+    ProtobufCompiler(TemplateCompiler compiler, ProtobufSchema schema) {
+        super(compiler);
+        this.schema = schema;
+    }
+
+    Template compile(JsonNode value, TemplateBuilder builder) {
+        compile(schema.root(), value, "", 0, builder);
+        return builder.build();
+    }
+
+    private void compile(ProtobufMessage message, JsonNode node, String field, int depth, TemplateBuilder builder) {
+        if (!(node instanceof ObjectNode object)) {
+            throw new ExecutorException("Field should be an object! field=" + field);
+        }
+        for (var name : object.fields().keySet()) {
+            if (message.fields().stream().noneMatch(messageField -> messageField.name().equals(name))) {
+                throw new ExecutorException("Field not defined on message! field=" + path(field, name) + " message="
+                        + message.name());
+            }
+        }
+        for (var messageField : message.fields()) {
+            var value = object.fields().get(messageField.name());
+            if (value == null || value instanceof ScalarNode scalar && scalar.isNull()) {
+                continue;
+            }
+            var fieldPath = path(field, messageField.name());
+            if (messageField.repeated()) {
+                if (!(value instanceof ArrayNode array)) {
+                    throw new ExecutorException("Field should be an array! field=" + fieldPath);
+                }
+                for (int i = 0; i < array.items().size(); ++i) {
+                    compile(message, messageField, array.items().get(i), fieldPath + "[" + i + "]", depth, builder);
+                }
+            } else {
+                compile(message, messageField, value, fieldPath, depth, builder);
+            }
+        }
+    }
+
+    private void compile(ProtobufMessage message, ProtobufField field, JsonNode value, String path, int depth,
+                         TemplateBuilder builder) {
+        switch (field.type()) {
+            case "int32" -> scalar(builder, field, value, Encoding.VARINT, Range.INT32, WIRE_VARINT, depth);
+            case "int64" -> scalar(builder, field, value, Encoding.VARINT, Range.INT64, WIRE_VARINT, depth);
+            case "uint32" -> scalar(builder, field, value, Encoding.VARINT, Range.UINT32, WIRE_VARINT, depth);
+            case "uint64" -> scalar(builder, field, value, Encoding.VARINT, Range.UINT64, WIRE_VARINT, depth);
+            case "sint32" -> scalar(builder, field, value, Encoding.ZIGZAG, Range.INT32, WIRE_VARINT, depth);
+            case "sint64" -> scalar(builder, field, value, Encoding.ZIGZAG, Range.INT64, WIRE_VARINT, depth);
+            case "bool" -> scalar(builder, field, value, Encoding.BOOLEAN, Range.INT64, WIRE_VARINT, depth);
+            case "fixed32" -> scalar(builder, field, value, Encoding.FIXED32, Range.UINT32, WIRE_FIXED32, depth);
+            case "sfixed32" -> scalar(builder, field, value, Encoding.FIXED32, Range.INT32, WIRE_FIXED32, depth);
+            case "fixed64" -> scalar(builder, field, value, Encoding.FIXED64, Range.UINT64, WIRE_FIXED64, depth);
+            case "sfixed64" -> scalar(builder, field, value, Encoding.FIXED64, Range.INT64, WIRE_FIXED64, depth);
+            case "float" -> scalar(builder, field, value, Encoding.FLOAT, Range.INT64, WIRE_FIXED32, depth);
+            case "double" -> scalar(builder, field, value, Encoding.DOUBLE, Range.INT64, WIRE_FIXED64, depth);
+            case "string", "bytes" -> scalar(builder, field, value, Encoding.LENGTH_DELIMITED, Range.INT64,
+                    WIRE_LENGTH_DELIMITED, depth);
+            default -> {
+                var type = schema.resolve(message.name(), field.type());
+                var enumeration = schema.enums().get(type);
+                if (enumeration != null) {
+                    if (value instanceof StringNode symbol && !symbol.text().contains("${")) {
+                        var number = enumeration.values().get(symbol.text());
+                        if (number == null) {
+                            throw new ExecutorException("Value not defined on enum! field=" + path + " enum="
+                                    + enumeration.name() + " value=" + symbol.text());
+                        }
+                        tag(builder, field, WIRE_VARINT);
+                        builder.literal().writeVarint(number);
+                    } else {
+                        scalar(builder, field, value, Encoding.VARINT, Range.INT32, WIRE_VARINT, depth);
+                    }
+                } else {
+                    tag(builder, field, WIRE_LENGTH_DELIMITED);
+                    var nested = new TemplateBuilder();
+                    compile(schema.messages().get(type), value, path, depth + 1, nested);
+                    var template = nested.build();
+                    if (template.constant()) {
+                        var context = new RenderContext(0);
+                        template.render(context, context.value());
+                        builder.literal().writeVarint(context.value().length());
+                        builder.literal().write(context.value().bytes(), 0, context.value().length());
+                    } else {
+                        builder.segment(new NestedSegment(template, depth));
+                    }
+                }
+            }
+        }
+    }
+
+    private void scalar(TemplateBuilder builder, ProtobufField field, JsonNode value, Encoding encoding, Range range,
+                        int wireType, int depth) {
+        tag(builder, field, wireType);
+        scalar(builder, field.name(), value, encoding, range, depth);
+    }
+
+    private static void tag(TemplateBuilder builder, ProtobufField field, int wireType) {
+        builder.literal().writeVarint((long) field.number() << 3 | wireType);
+    }
+
+    private static String path(String parent, String field) {
+        return parent.isEmpty() ? field : parent + "." + field;
+    }
+}
@@ -0,0 +1,34 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+
+class ProtobufDecoder implements ValueDecoder {
+    private final SchemaRegistry registry;
+
+    ProtobufDecoder(SchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void decode(byte[] value) {
+        ValueDecoder.schemaId(value, registry);
+        var reader = new BinaryReader(value, 5);
+        var indexes = reader.readZigzag();
+        for (long i = 0; i < indexes; ++i) {
+            reader.readZigzag();
+        }
+        while (reader.hasRemaining()) {
+            var tag = reader.readVarint();
+            if (tag >>> 3 == 0) {
+                throw new ExecutorException("Invalid field number at position " + reader.position());
+            }
+            switch ((int) (tag & 0x7)) {
+                case 0 -> reader.readVarint();
+                case 1 -> reader.skip(Long.BYTES);
+                case 2 -> reader.skip(reader.readVarint());
+                case 5 -> reader.skip(Integer.BYTES);
+                default -> throw new ExecutorException("Unsupported wire type! tag=" + tag);
+            }
+        }
+    }
+}
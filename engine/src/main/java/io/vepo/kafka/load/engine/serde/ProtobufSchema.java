@@ -0,0 +1,228 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+record ProtobufSchema(ProtobufMessage root, Map<String, ProtobufMessage> messages, Map<String, ProtobufEnum> enums) {
+
+    record ProtobufMessage(String name, List<ProtobufField> fields) {
+    }
+
+    record ProtobufEnum(String name, Map<String, Integer> values) {
+    }
+
+    record ProtobufField(String name, String type, int number, boolean repeated) {
+    }
+
+    static ProtobufSchema parse(String definition) {
+        var parser = new Parser(tokenize(definition));
+        var messages = new HashMap<String, ProtobufMessage>();
+        var enums = new HashMap<String, ProtobufEnum>();
+        ProtobufMessage root = null;
+        while (parser.hasNext()) {
+            var token = parser.next();
+            switch (token) {
+                case "message" -> {
+                    var message = parser.message("", messages, enums);
+                    if (root == null) {
+                        root = message;
+                    }
+                }
+                case "enum" -> parser.enumeration("", enums);
+                case ";" -> {
+                }
+                default -> parser.skipStatement();
+            }
+        }
+        if (root == null) {
+            throw new ExecutorException("No message defined on the proto schema!");
+        }
+        return new ProtobufSchema(root, Map.copyOf(messages), Map.copyOf(enums));
+    }
+
+    String resolve(String scope, String type) {
+        var name = type.startsWith(".") ? type.substring(1) : type;
+        var prefix = scope;
+        while (true) {
+            var candidate = prefix.isEmpty() ? name : prefix + "." + name;
+            if (messages.containsKey(candidate) || enums.containsKey(candidate)) {
+                return candidate;
+            }
+            if (prefix.isEmpty()) {
+                break;
+            }
+            var separator = prefix.lastIndexOf('.');
+            prefix = separator < 0 ? "" : prefix.substring(0, separator);
+        }
+        for (var candidate : messages.keySet()) {
+            if (name.endsWith("." + candidate)) {
+                return candidate;
+            }
+        }
+        for (var candidate : enums.keySet()) {
+            if (name.endsWith("." + candidate)) {
+                return candidate;
+            }
+        }
+        throw new ExecutorException("Proto type not defined! type=" + type);
+    }
+
+    private static List<String> tokenize(String definition) {
+        var tokens = new ArrayList<String>();
+        var position = 0;
+        while (position < definition.length()) {
+            var value = definition.charAt(position);
+            if (Character.isWhitespace(value)) {
+                position++;
+            } else if (definition.startsWith("//", position)) {
+                var end = definition.indexOf('\n', position);
+                position = end < 0 ? definition.length() : end + 1;
+            } else if (definition.startsWith("/*", position)) {
+                var end = definition.indexOf("*/", position + 2);
+                position = end < 0 ? definition.length() : end + 2;
+            } else if (value == '"' || value == '\'') {
+                var end = definition.indexOf(value, position + 1);
+                if (end < 0) {
+                    throw new ExecutorException("Unterminated string on proto schema!");
+                }
+                tokens.add(definition.substring(position, end + 1));
+                position = end + 1;
+            } else if (Character.isLetterOrDigit(value) || value == '_' || value == '.' || value == '-') {
+                var start = position;
+                while (position < definition.length() && (Character.isLetterOrDigit(definition.charAt(position))
+                        || "_.-+".indexOf(definition.charAt(position)) >= 0)) {
+                    position++;
+                }
+                tokens.add(definition.substring(start, position));
+            } else {
+                tokens.add(String.valueOf(value));
+                position++;
+            }
+        }
+        return tokens;
+    }
+
+    private static class Parser {
+        private final List<String> tokens;
+        private int position;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private String next() {
+            if (!hasNext()) {
+                throw new ExecutorException("Unexpected end of proto schema!");
+            }
+            return tokens.get(position++);
+        }
+
+        private void expect(String expected) {
+            var token = next();
+            if (!token.equals(expected)) {
+                throw new ExecutorException("Invalid proto schema! expected=" + expected + " found=" + token);
+            }
+        }
+
+        private ProtobufMessage message(String scope, Map<String, ProtobufMessage> messages,
+                                        Map<String, ProtobufEnum> enums) {
+            var name = qualified(scope, next());
+            var fields = new ArrayList<ProtobufField>();
+            expect("{");
+            while (true) {
+                var token = next();
+                switch (token) {
+                    case "}" -> {
+                        fields.sort(Comparator.comparingInt(ProtobufField::number));
+                        var message = new ProtobufMessage(name, List.copyOf(fields));
+                        messages.put(name, message);
+                        return message;
+                    }
+                    case "message" -> message(name, messages, enums);
+                    case "enum" -> enumeration(name, enums);
+                    case "option", "reserved", "extensions" -> skipStatement();
+                    case "oneof" -> {
+                        next();
+                        expect("{");
+                        String member;
+                        while (!(member = next()).equals("}")) {
+                            if (member.equals("option")) {
+                                skipStatement();
+                            } else {
+                                fields.add(field(name, member, false));
+                            }
+                        }
+                    }
+                    case "map" -> throw new ExecutorException("Proto map fields are not supported! message=" + name);
+                    case ";" -> {
+                    }
+                    case "repeated" -> fields.add(field(name, next(), true));
+                    case "optional", "required" -> fields.add(field(name, next(), false));
+                    default -> fields.add(field(name, token, false));
+                }
+            }
+        }
+
+        private ProtobufField field(String message, String type, boolean repeated) {
+            var name = next();
+            expect("=");
+            var number = next();
+            skipStatement();
+            try {
+                return new ProtobufField(name, type, Integer.parseInt(number), repeated);
+            } catch (NumberFormatException e) {
+                throw new ExecutorException("Invalid field number! message=" + message + " field=" + name);
+            }
+        }
+
+        private void enumeration(String scope, Map<String, ProtobufEnum> enums) {
+            var name = qualified(scope, next());
+            var values = new HashMap<String, Integer>();
+            expect("{");
+            String token;
+            while (!(token = next()).equals("}")) {
+                if (token.equals("option") || token.equals("reserved")) {
+                    skipStatement();
+                } else if (!token.equals(";")) {
+                    expect("=");
+                    var number = next();
+                    skipStatement();
+                    try {
+                        values.put(token, Integer.parseInt(number));
+                    } catch (NumberFormatException e) {
+                        throw new ExecutorException("Invalid enum value! enum=" + name + " value=" + token);
+                    }
+                }
+            }
+            enums.put(name, new ProtobufEnum(name, Map.copyOf(values)));
+        }
+
+        private void skipStatement() {
+            var depth = 0;
+            while (hasNext()) {
+                var token = next();
+                if (token.equals("{") || token.equals("[")) {
+                    depth++;
+                } else if (token.equals("}") || token.equals("]")) {
+                    if (--depth == 0 && token.equals("}")) {
+                        return;
+                    }
+                } else if (token.equals(";") && depth == 0) {
+                    return;
+                }
+            }
+        }
+
+        private static String qualified(String scope, String name) {
+            return scope.isEmpty() ? name : scope + "." + name;
+        }
+    }
+}
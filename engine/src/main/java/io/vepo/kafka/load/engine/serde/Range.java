@@ -0,0 +1,25 @@
+package io.vepo.kafka.load.engine.serde;
+
+enum Range {
+    INT32(Integer.MIN_VALUE, Integer.MAX_VALUE),
+    UINT32(0, 0xFFFFFFFFL),
+    INT64(Long.MIN_VALUE, Long.MAX_VALUE),
+    UINT64(0, Long.MAX_VALUE);
+
+    private final long min;
+    private final long max;
+
+    Range(long min, long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    boolean contains(long value) {
+        return value >= min && value <= max;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + min + ", " + max + "]";
+    }
+}
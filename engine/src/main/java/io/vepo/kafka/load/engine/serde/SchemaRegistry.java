@@ -0,0 +1,36 @@
+package io.vepo.kafka.load.engine.serde;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SchemaRegistry {
+    private static final SchemaRegistry IN_PROCESS = new SchemaRegistry();
+
+    public record RegisteredSchema(int id, String subject, String schema) {
+    }
+
+    private final Map<String, Map<String, Integer>> subjects = new HashMap<>();
+    private final List<RegisteredSchema> schemas = new ArrayList<>();
+
+    public static SchemaRegistry inProcess() {
+        return IN_PROCESS;
+    }
+
+    public static String valueSubject(String topic) {
+        return topic + "-value";
+    }
+
+    public synchronized int register(String subject, String schema) {
+        return subjects.computeIfAbsent(subject, key -> new HashMap<>())
+                .computeIfAbsent(schema, key -> {
+                    schemas.add(new RegisteredSchema(schemas.size() + 1, subject, schema));
+                    return schemas.size();
+                });
+    }
+
+    public synchronized RegisteredSchema schema(int id) {
+        return id > 0 && id <= schemas.size() ? schemas.get(id - 1) : null;
+    }
+}
@@ -0,0 +1,64 @@
+package io.vepo.kafka.load.engine.serde;
+
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.compiler.TemplateBuilder;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.MessageType;
+import io.vepo.kafka.load.parser.PropertyValue;
+import io.vepo.kafka.load.parser.PropertyStringValue;
+
+public class ValueCompiler {
+    private static final byte MAGIC_BYTE = 0;
+
+    private final TemplateCompiler compiler;
+    private final SchemaRegistry registry;
+
+    public ValueCompiler(TemplateCompiler compiler, SchemaRegistry registry) {
+        this.compiler = compiler;
+        this.registry = registry;
+    }
+
+    public Template compile(MessageType type, String topic, PropertyValue value, PropertyValue schema) {
+        return switch (type) {
+            case STRING -> compiler.compile(value);
+            case JSON -> {
+                if (value instanceof PropertyStringValue text) {
+                    JsonTemplateParser.parse(text.content());
+                }
+                yield compiler.compile(value);
+            }
+            case AVRO -> {
+                var definition = compiler.constant(schema, "schema");
+                var avroSchema = AvroSchema.parse(definition);
+                var builder = header(topic, definition);
+                new AvroCompiler(compiler).compile(avroSchema, parse(value, type), "", builder);
+                yield builder.build();
+            }
+            case PROTOBUF -> {
+                var definition = compiler.constant(schema, "schema");
+                var protobufSchema = ProtobufSchema.parse(definition);
+                var builder = header(topic, definition);
+                builder.literal().write((byte) 0);
+                yield new ProtobufCompiler(compiler, protobufSchema).compile(parse(value, type), builder);
+            }
+        };
+    }
+
+    private TemplateBuilder header(String topic, String definition) {
+        var id = registry.register(SchemaRegistry.valueSubject(topic), definition);
+        var builder = new TemplateBuilder();
+        builder.literal().write(MAGIC_BYTE);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            builder.literal().write((byte) (id >>> shift));
+        }
+        return builder;
+    }
+
+    private static JsonNode parse(PropertyValue value, MessageType type) {
+        if (!(value instanceof PropertyStringValue text)) {
+            throw new ExecutorException(type + " value should be a JSON template!");
+        }
+        return JsonTemplateParser.parse(text.content());
+    }
+}
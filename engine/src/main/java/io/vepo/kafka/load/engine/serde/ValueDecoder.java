@@ -0,0 +1,31 @@
+package io.vepo.kafka.load.engine.serde;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.MessageType;
+
+public interface ValueDecoder {
+
+    void decode(byte[] value);
+
+    static ValueDecoder of(MessageType type, SchemaRegistry registry) {
+        return switch (type) {
+            case STRING -> value -> new String(value, UTF_8);
+            case JSON -> value -> JsonTemplateParser.parse(new String(value, UTF_8));
+            case AVRO -> new AvroDecoder(registry);
+            case PROTOBUF -> new ProtobufDecoder(registry);
+        };
+    }
+
+    static int schemaId(byte[] value, SchemaRegistry registry) {
+        if (value.length < 5 || value[0] != 0) {
+            throw new ExecutorException("Value is not framed with a schema id!");
+        }
+        var id = (value[1] & 0xFF) << 24 | (value[2] & 0xFF) << 16 | (value[3] & 0xFF) << 8 | (value[4] & 0xFF);
+        if (registry.schema(id) == null) {
+            throw new ExecutorException("Schema not registered! id=" + id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,12 @@
+package io.vepo.kafka.load.engine.transport;
+
+public interface Completion {
+    void completed(boolean success);
+
+    default Object attachment() {
+        return null;
+    }
+
+    default void attach(Object attachment) {
+    }
+}
@@ -0,0 +1,7 @@
+package io.vepo.kafka.load.engine.transport;
+
+import io.vepo.kafka.load.parser.CommitStrategy;
+
+public record ConsumerSettings(String topic, String group, int fetchMinBytes, int maxPollRecords,
+                               CommitStrategy commit) {
+}
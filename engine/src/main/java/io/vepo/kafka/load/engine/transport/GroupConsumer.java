@@ -0,0 +1,17 @@
+package io.vepo.kafka.load.engine.transport;
+
+import java.time.Duration;
+
+public interface GroupConsumer extends AutoCloseable {
+
+    int poll(Duration timeout, RecordHandler handler) throws InterruptedException;
+
+    long lag();
+
+    long rebalances();
+
+    Duration rebalanceTime();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,7 @@
+package io.vepo.kafka.load.engine.transport;
+
+@FunctionalInterface
+public interface RecordHandler {
+
+    void handle(byte[] key, byte[] value, byte[] correlation);
+}
@@ -0,0 +1,40 @@
+package io.vepo.kafka.load.engine.transport;
+
+import java.nio.ByteBuffer;
+
+public interface Sender extends AutoCloseable {
+
+    default boolean send(String topic, byte[] key, byte[] value) throws InterruptedException {
+        return send(topic, key, value, null);
+    }
+
+    boolean send(String topic, byte[] key, byte[] value, byte[] correlation) throws InterruptedException;
+
+    default void send(String topic, byte[] key, byte[] value, byte[] correlation, Completion completion)
+            throws InterruptedException {
+        completion.completed(send(topic, key, value, correlation));
+    }
+
+    /* Key and value are borrowed, the buffers are reused for the next record once the call returns. */
+    default boolean send(String topic, ByteBuffer key, ByteBuffer value, byte[] correlation)
+            throws InterruptedException {
+        return send(topic, copy(key), copy(value), correlation);
+    }
+
+    default void send(String topic, ByteBuffer key, ByteBuffer value, byte[] correlation, Completion completion)
+            throws InterruptedException {
+        send(topic, copy(key), copy(value), correlation, completion);
+    }
+
+    private static byte[] copy(ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), bytes);
+        return bytes;
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,11 @@
+package io.vepo.kafka.load.engine.transport;
+
+import java.time.Duration;
+
+public interface Subscription extends AutoCloseable {
+
+    int poll(Duration timeout, RecordHandler handler) throws InterruptedException;
+
+    @Override
+    void close();
+}
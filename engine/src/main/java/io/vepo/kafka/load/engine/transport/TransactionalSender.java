@@ -0,0 +1,9 @@
+package io.vepo.kafka.load.engine.transport;
+
+public interface TransactionalSender extends Sender {
+    boolean begin();
+
+    boolean commit() throws InterruptedException;
+
+    boolean abort() throws InterruptedException;
+}
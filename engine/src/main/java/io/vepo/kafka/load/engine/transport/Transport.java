@@ -0,0 +1,26 @@
+package io.vepo.kafka.load.engine.transport;
+
+import io.vepo.kafka.load.engine.exceptions.TransportException;
+
+public interface Transport extends AutoCloseable {
+    String CORRELATION_HEADER = "kafka-load-correlation";
+
+    Sender sender(String clientId);
+
+    default TransactionalSender transactionalSender(String clientId, String transactionalId) {
+        throw new TransportException("Transactions are not supported! transport=" + getClass().getName());
+    }
+
+    Subscription subscribe(String clientId, String topic);
+
+    default GroupConsumer join(String clientId, ConsumerSettings settings) {
+        throw new TransportException("Consumer groups are not supported! transport=" + getClass().getName());
+    }
+
+    default long bytesSent() {
+        return -1;
+    }
+
+    @Override
+    void close();
+}
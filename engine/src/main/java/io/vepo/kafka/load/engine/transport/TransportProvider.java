@@ -0,0 +1,10 @@
+package io.vepo.kafka.load.engine.transport;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+
+public interface TransportProvider {
+
+    String name();
+
+    Transport open(TransportSettings settings, Configuration configuration);
+}
@@ -0,0 +1,80 @@
+package io.vepo.kafka.load.engine.transport;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.internal.PropertyResolver;
+import io.vepo.kafka.load.parser.Acks;
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Connection;
+import io.vepo.kafka.load.parser.Idempotence;
+import java.util.Locale;
+import java.util.function.Function;
+
+public record TransportSettings(String bootstrapServer, int producers, int lingerMs, int batchSize,
+                                Compression compression, Acks acks, int maxInFlight, Idempotence idempotence,
+                                int sendWindow) {
+    public static TransportSettings of(Connection connection, Configuration configuration) {
+        return new TransportSettings(new PropertyResolver(configuration).resolve(connection.bootstrapServer()),
+                positive(Configuration.CONNECTION_PRODUCERS,
+                        setting(configuration, Configuration.CONNECTION_PRODUCERS, Integer::parseInt,
+                                connection.producers())),
+                setting(configuration, Configuration.CONNECTION_LINGER_MS, Integer::parseInt, connection.lingerMs()),
+                setting(configuration, Configuration.CONNECTION_BATCH_SIZE, Integer::parseInt, connection.batchSize()),
+                setting(configuration, Configuration.CONNECTION_COMPRESSION,
+                        value -> Compression.valueOf(value.toUpperCase(Locale.ROOT)), connection.compression()),
+                setting(configuration, Configuration.CONNECTION_ACKS, TransportSettings::acks, connection.acks()),
+                positive(Configuration.CONNECTION_MAX_IN_FLIGHT,
+                        setting(configuration, Configuration.CONNECTION_MAX_IN_FLIGHT, Integer::parseInt,
+                                connection.maxInFlight())),
+                setting(configuration, Configuration.CONNECTION_IDEMPOTENCE,
+                        value -> Idempotence.valueOf(value.toUpperCase(Locale.ROOT)), connection.idempotence()),
+                positive(Configuration.CONNECTION_SEND_WINDOW,
+                        setting(configuration, Configuration.CONNECTION_SEND_WINDOW, Integer::parseInt,
+                                connection.sendWindow())));
+    }
+
+    private static <T> T setting(Configuration configuration, String key, Function<String, T> parser, T defaultValue) {
+        return configuration.get(key)
+                .map(String::trim)
+                .map(value -> {
+                    try {
+                        return parser.apply(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new ExecutorException("Invalid configuration! property=" + key + " value=" + value, e);
+                    }
+                })
+                .orElse(defaultValue);
+    }
+
+    private static int positive(String key, int value) {
+        if (value <= 0) {
+            throw new ExecutorException("Invalid configuration! It should be greater than 0. property=" + key
+                    + " value=" + value);
+        }
+        return value;
+    }
+
+    private static Acks acks(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "0", "none" -> Acks.NONE;
+            case "1", "leader" -> Acks.LEADER;
+            case "-1", "all" -> Acks.ALL;
+            default -> throw new IllegalArgumentException("Invalid acks! acks=" + value);
+        };
+    }
+
+    public TransportSettings withProducers(int producers) {
+        return new TransportSettings(bootstrapServer, producers, lingerMs, batchSize, compression, acks, maxInFlight,
+                idempotence, sendWindow);
+    }
+
+    public TransportSettings withBatching(Compression compression, int lingerMs, int batchSize) {
+        return new TransportSettings(bootstrapServer, producers, lingerMs, batchSize, compression, acks, maxInFlight,
+                idempotence, sendWindow);
+    }
+
+    public TransportSettings withIdempotence(Idempotence idempotence) {
+        return new TransportSettings(bootstrapServer, producers, lingerMs, batchSize, compression, acks, maxInFlight,
+                idempotence, sendWindow);
+    }
+}
@@ -0,0 +1,29 @@
+package io.vepo.kafka.load.engine.transport;
+
+import static java.util.stream.Collectors.joining;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+
+public final class Transports {
+    public static final String DEFAULT_TRANSPORT = "kafka";
+
+    private Transports() {
+    }
+
+    public static Transport open(TransportSettings settings, Configuration configuration) {
+        var name = configuration.get(Configuration.TRANSPORT).map(String::trim).orElse(DEFAULT_TRANSPORT);
+        return ServiceLoader.load(TransportProvider.class)
+                .stream()
+                .map(Provider::get)
+                .filter(provider -> provider.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ExecutorException("Transport not found! transport=" + name + " available="
+                        + ServiceLoader.load(TransportProvider.class).stream()
+                                .map(provider -> provider.get().name())
+                                .collect(joining(","))))
+                .open(settings, configuration);
+    }
+}
@@ -0,0 +1,27 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import java.nio.ByteBuffer;
+import org.apache.kafka.common.serialization.Serializer;
+
+/* The producer copies the serialized record to its batch before send returns, so the array can be reused. */
+class BorrowedBytesSerializer implements Serializer<ByteBuffer> {
+    private final ThreadLocal<byte[]> arrays = ThreadLocal.withInitial(() -> new byte[0]);
+
+    @Override
+    public byte[] serialize(String topic, ByteBuffer data) {
+        if (data == null) {
+            return null;
+        }
+        var size = data.remaining();
+        if (data.hasArray() && data.arrayOffset() == 0 && data.position() == 0 && data.array().length == size) {
+            return data.array();
+        }
+        var array = arrays.get();
+        if (array.length != size) {
+            array = new byte[size];
+            arrays.set(array);
+        }
+        data.get(data.position(), array);
+        return array;
+    }
+}
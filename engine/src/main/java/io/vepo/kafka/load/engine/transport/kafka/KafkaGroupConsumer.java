@@ -0,0 +1,80 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import io.vepo.kafka.load.engine.transport.GroupConsumer;
+import io.vepo.kafka.load.engine.transport.RecordHandler;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.parser.CommitStrategy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+
+class KafkaGroupConsumer implements GroupConsumer {
+    private static final String FETCH_METRICS = "consumer-fetch-manager-metrics";
+    private static final String COORDINATOR_METRICS = "consumer-coordinator-metrics";
+
+    private final KafkaConsumer<byte[], byte[]> consumer;
+    private final CommitStrategy commit;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    KafkaGroupConsumer(KafkaConsumer<byte[], byte[]> consumer, String topic, CommitStrategy commit) {
+        this.consumer = consumer;
+        this.commit = commit;
+        consumer.subscribe(List.of(topic));
+    }
+
+    @Override
+    public int poll(Duration timeout, RecordHandler handler) {
+        var records = consumer.poll(timeout);
+        for (var record : records) {
+            var correlation = record.headers().lastHeader(Transport.CORRELATION_HEADER);
+            handler.handle(record.key(), record.value(), correlation != null ? correlation.value() : null);
+        }
+        if (!records.isEmpty()) {
+            switch (commit) {
+                case SYNC -> consumer.commitSync();
+                case ASYNC -> consumer.commitAsync();
+                case AUTO -> {
+                }
+            }
+        }
+        return records.count();
+    }
+
+    @Override
+    public long lag() {
+        return (long) sum(FETCH_METRICS, "records-lag");
+    }
+
+    @Override
+    public long rebalances() {
+        return (long) sum(COORDINATOR_METRICS, "rebalance-total");
+    }
+
+    @Override
+    public Duration rebalanceTime() {
+        return Duration.ofMillis((long) sum(COORDINATOR_METRICS, "rebalance-latency-total"));
+    }
+
+    private double sum(String group, String name) {
+        return consumer.metrics().entrySet().stream()
+                .filter(metric -> metric.getKey().group().equals(group) && metric.getKey().name().equals(name))
+                .mapToDouble(metric -> metric.getValue().metricValue() instanceof Number value
+                        && !Double.isNaN(value.doubleValue()) ? value.doubleValue() : 0.0)
+                .sum();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (commit != CommitStrategy.AUTO) {
+                consumer.commitSync();
+            }
+        } finally {
+            consumer.close();
+        }
+    }
+}
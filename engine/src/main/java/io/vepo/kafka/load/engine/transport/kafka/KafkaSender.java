@@ -0,0 +1,91 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import io.vepo.kafka.load.engine.transport.Completion;
+import io.vepo.kafka.load.engine.transport.Sender;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+
+class KafkaSender implements Sender {
+    private static final String PRODUCER_METRICS = "producer-metrics";
+    private static final String OUTGOING_BYTES = "outgoing-byte-total";
+
+    final KafkaProducer<ByteBuffer, ByteBuffer> producer;
+    private volatile long closedBytesSent = -1;
+
+    KafkaSender(KafkaProducer<ByteBuffer, ByteBuffer> producer) {
+        this.producer = producer;
+    }
+
+    @Override
+    public boolean send(String topic, byte[] key, byte[] value, byte[] correlation) throws InterruptedException {
+        return send(topic, wrap(key), wrap(value), correlation);
+    }
+
+    @Override
+    public void send(String topic, byte[] key, byte[] value, byte[] correlation, Completion completion) {
+        send(topic, wrap(key), wrap(value), correlation, completion);
+    }
+
+    @Override
+    public boolean send(String topic, ByteBuffer key, ByteBuffer value, byte[] correlation)
+            throws InterruptedException {
+        try {
+            producer.send(new ProducerRecord<>(topic, null, key, value, headers(correlation))).get();
+            return true;
+        } catch (ExecutionException | KafkaException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void send(String topic, ByteBuffer key, ByteBuffer value, byte[] correlation, Completion completion) {
+        try {
+            producer.send(new ProducerRecord<>(topic, null, key, value, headers(correlation)), callback(completion));
+        } catch (KafkaException e) {
+            completion.completed(false);
+        }
+    }
+
+    private static Callback callback(Completion completion) {
+        if (completion.attachment() instanceof Callback callback) {
+            return callback;
+        }
+        Callback callback = (metadata, exception) -> completion.completed(exception == null);
+        completion.attach(callback);
+        return callback;
+    }
+
+    private static List<Header> headers(byte[] correlation) {
+        return correlation != null ? List.of(new RecordHeader(Transport.CORRELATION_HEADER, correlation)) : null;
+    }
+
+    private static ByteBuffer wrap(byte[] bytes) {
+        return bytes != null ? ByteBuffer.wrap(bytes) : null;
+    }
+
+    long bytesSent() {
+        var closed = closedBytesSent;
+        if (closed >= 0) {
+            return closed;
+        }
+        return producer.metrics().entrySet().stream()
+                .filter(metric -> metric.getKey().group().equals(PRODUCER_METRICS)
+                        && metric.getKey().name().equals(OUTGOING_BYTES))
+                .mapToLong(metric -> ((Number) metric.getValue().metricValue()).longValue())
+                .sum();
+    }
+
+    @Override
+    public void close() {
+        closedBytesSent = bytesSent();
+        producer.close();
+    }
+}
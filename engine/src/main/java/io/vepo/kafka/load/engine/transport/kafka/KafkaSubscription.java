@@ -0,0 +1,55 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static java.util.stream.Collectors.toList;
+
+import io.vepo.kafka.load.engine.transport.RecordHandler;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.lang.System.Logger;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+
+class KafkaSubscription implements Subscription {
+    private static final Logger LOGGER = System.getLogger(KafkaSubscription.class.getName());
+
+    private final KafkaConsumer<byte[], byte[]> consumer;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    KafkaSubscription(KafkaConsumer<byte[], byte[]> consumer, String topic) {
+        this.consumer = consumer;
+        try {
+            var partitions = consumer.partitionsFor(topic).stream()
+                    .map(partition -> new TopicPartition(topic, partition.partition()))
+                    .collect(toList());
+            if (partitions.isEmpty()) {
+                LOGGER.log(WARNING, "Topic {0} has no partitions, no record will be received", topic);
+            }
+            consumer.assign(partitions);
+            consumer.seekToEnd(partitions);
+            partitions.forEach(consumer::position);
+        } catch (RuntimeException e) {
+            consumer.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int poll(Duration timeout, RecordHandler handler) {
+        var records = consumer.poll(timeout);
+        for (var record : records) {
+            var correlation = record.headers().lastHeader(Transport.CORRELATION_HEADER);
+            handler.handle(record.key(), record.value(), correlation != null ? correlation.value() : null);
+        }
+        return records.count();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            consumer.close();
+        }
+    }
+}
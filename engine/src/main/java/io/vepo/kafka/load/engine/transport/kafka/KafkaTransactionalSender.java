@@ -0,0 +1,50 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import io.vepo.kafka.load.engine.transport.TransactionalSender;
+import java.nio.ByteBuffer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.KafkaException;
+
+class KafkaTransactionalSender extends KafkaSender implements TransactionalSender {
+
+    KafkaTransactionalSender(KafkaProducer<ByteBuffer, ByteBuffer> producer) {
+        super(producer);
+        try {
+            producer.initTransactions();
+        } catch (RuntimeException e) {
+            producer.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean begin() {
+        try {
+            producer.beginTransaction();
+            return true;
+        } catch (KafkaException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean commit() {
+        try {
+            producer.commitTransaction();
+            return true;
+        } catch (KafkaException e) {
+            abort();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean abort() {
+        try {
+            producer.abortTransaction();
+            return true;
+        } catch (KafkaException e) {
+            return false;
+        }
+    }
+}
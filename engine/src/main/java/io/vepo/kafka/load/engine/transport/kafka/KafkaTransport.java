@@ -0,0 +1,130 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+import io.vepo.kafka.load.engine.transport.ConsumerSettings;
+import io.vepo.kafka.load.engine.transport.GroupConsumer;
+import io.vepo.kafka.load.engine.transport.Sender;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import io.vepo.kafka.load.engine.transport.TransactionalSender;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.parser.Acks;
+import io.vepo.kafka.load.parser.CommitStrategy;
+import java.lang.System.Logger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+
+class KafkaTransport implements Transport {
+    private static final Logger LOGGER = System.getLogger(KafkaTransport.class.getName());
+    private static final int MAX_IDEMPOTENT_IN_FLIGHT = 5;
+
+    private final TransportSettings settings;
+    private final List<KafkaSender> senders = new CopyOnWriteArrayList<>();
+    private final List<AutoCloseable> consumers = new CopyOnWriteArrayList<>();
+
+    KafkaTransport(TransportSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public Sender sender(String clientId) {
+        var sender = new KafkaSender(new KafkaProducer<>(producerProperties(clientId), new BorrowedBytesSerializer(),
+                new BorrowedBytesSerializer()));
+        senders.add(sender);
+        return sender;
+    }
+
+    @Override
+    public TransactionalSender transactionalSender(String clientId, String transactionalId) {
+        var properties = producerProperties(clientId);
+        properties.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, transactionalId);
+        properties.put(ProducerConfig.ACKS_CONFIG, Acks.ALL.value());
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                Math.min(settings.maxInFlight(), MAX_IDEMPOTENT_IN_FLIGHT));
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        var sender = new KafkaTransactionalSender(new KafkaProducer<>(properties, new BorrowedBytesSerializer(),
+                new BorrowedBytesSerializer()));
+        senders.add(sender);
+        return sender;
+    }
+
+    @Override
+    public Subscription subscribe(String clientId, String topic) {
+        var subscription = new KafkaSubscription(new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, settings.bootstrapServer(),
+                ConsumerConfig.CLIENT_ID_CONFIG, clientId,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false),
+                new ByteArrayDeserializer(), new ByteArrayDeserializer()), topic);
+        consumers.add(subscription);
+        return subscription;
+    }
+
+    @Override
+    public GroupConsumer join(String clientId, ConsumerSettings consumerSettings) {
+        var properties = new HashMap<String, Object>();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, settings.bootstrapServer());
+        properties.put(ConsumerConfig.CLIENT_ID_CONFIG, clientId);
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, consumerSettings.group());
+        properties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, consumerSettings.fetchMinBytes());
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, consumerSettings.maxPollRecords());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, consumerSettings.commit() == CommitStrategy.AUTO);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        var consumer = new KafkaGroupConsumer(new KafkaConsumer<>(properties, new ByteArrayDeserializer(),
+                new ByteArrayDeserializer()), consumerSettings.topic(), consumerSettings.commit());
+        consumers.add(consumer);
+        return consumer;
+    }
+
+    private Map<String, Object> producerProperties(String clientId) {
+        var properties = new HashMap<String, Object>();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, settings.bootstrapServer());
+        properties.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, settings.lingerMs());
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, settings.batchSize());
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, settings.compression().name().toLowerCase(Locale.ROOT));
+        properties.put(ProducerConfig.ACKS_CONFIG, settings.acks().value());
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, settings.maxInFlight());
+        switch (settings.idempotence()) {
+            case AUTO -> {
+                if (settings.acks() != Acks.ALL || settings.maxInFlight() > MAX_IDEMPOTENT_IN_FLIGHT) {
+                    properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+                }
+            }
+            case ENABLED -> properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            case DISABLED -> properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+        }
+        return properties;
+    }
+
+    @Override
+    public long bytesSent() {
+        return senders.stream().mapToLong(KafkaSender::bytesSent).sum();
+    }
+
+    @Override
+    public void close() {
+        for (var consumer : consumers) {
+            close(consumer);
+        }
+        for (var sender : senders) {
+            close(sender);
+        }
+    }
+
+    private static void close(AutoCloseable client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            LOGGER.log(WARNING, "Kafka client could not be closed", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.vepo.kafka.load.engine.transport.kafka;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportProvider;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+
+public class KafkaTransportProvider implements TransportProvider {
+
+    @Override
+    public String name() {
+        return "kafka";
+    }
+
+    @Override
+    public Transport open(TransportSettings settings, Configuration configuration) {
+        return new KafkaTransport(settings);
+    }
+}
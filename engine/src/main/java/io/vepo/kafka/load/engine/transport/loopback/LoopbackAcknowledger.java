@@ -0,0 +1,147 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import io.vepo.kafka.load.engine.internal.Clock;
+import io.vepo.kafka.load.engine.transport.Completion;
+
+class LoopbackAcknowledger implements Runnable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final class Pending {
+        private long deadline;
+        private String topic;
+        private byte[] key;
+        private byte[] value;
+        private byte[] correlation;
+        private int length;
+        private Completion completion;
+    }
+
+    private final LoopbackTransport transport;
+    private final long latency;
+    private final Thread thread;
+    private Pending[] ring;
+    private int head;
+    private int size;
+    private boolean waiting;
+    private boolean closed;
+
+    LoopbackAcknowledger(LoopbackTransport transport, long latency) {
+        this.transport = transport;
+        this.latency = latency;
+        this.ring = entries(new Pending[INITIAL_CAPACITY], 0);
+        this.thread = new Thread(this, "loopback-acknowledger");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private static Pending[] entries(Pending[] ring, int from) {
+        for (int index = from; index < ring.length; ++index) {
+            ring[index] = new Pending();
+        }
+        return ring;
+    }
+
+    synchronized void send(String topic, byte[] key, byte[] value, byte[] correlation, int length,
+                           Completion completion) {
+        if (closed) {
+            completion.completed(false);
+            return;
+        }
+        if (size == ring.length) {
+            var grown = new Pending[ring.length * 2];
+            for (int index = 0; index < size; ++index) {
+                grown[index] = ring[(head + index) % ring.length];
+            }
+            ring = entries(grown, size);
+            head = 0;
+        }
+        var pending = ring[(head + size) % ring.length];
+        pending.deadline = System.nanoTime() + latency;
+        pending.topic = topic;
+        pending.key = key;
+        pending.value = value;
+        pending.correlation = correlation;
+        pending.length = length;
+        pending.completion = completion;
+        ++size;
+        if (waiting) {
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                long deadline;
+                synchronized (this) {
+                    while (size == 0 && !closed) {
+                        waiting = true;
+                        wait();
+                        waiting = false;
+                    }
+                    if (closed) {
+                        break;
+                    }
+                    deadline = ring[head].deadline;
+                }
+                Clock.waitUntil(deadline);
+                String topic;
+                byte[] key;
+                byte[] value;
+                byte[] correlation;
+                int length;
+                Completion completion;
+                synchronized (this) {
+                    var pending = ring[head];
+                    topic = pending.topic;
+                    key = pending.key;
+                    value = pending.value;
+                    correlation = pending.correlation;
+                    length = pending.length;
+                    completion = pending.completion;
+                    clear(pending);
+                    head = (head + 1) % ring.length;
+                    --size;
+                }
+                completion.completed(transport.deliver(topic, key, value, correlation, length));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        failPending();
+    }
+
+    private void failPending() {
+        while (true) {
+            Completion completion;
+            synchronized (this) {
+                closed = true;
+                if (size == 0) {
+                    return;
+                }
+                completion = ring[head].completion;
+                clear(ring[head]);
+                head = (head + 1) % ring.length;
+                --size;
+            }
+            completion.completed(false);
+        }
+    }
+
+    private static void clear(Pending pending) {
+        pending.topic = null;
+        pending.key = null;
+        pending.value = null;
+        pending.correlation = null;
+        pending.completion = null;
+    }
+
+    void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        thread.interrupt();
+    }
+}
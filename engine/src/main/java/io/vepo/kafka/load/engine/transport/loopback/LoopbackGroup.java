@@ -0,0 +1,35 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import java.util.Map;
+
+class LoopbackGroup {
+    private final String key;
+    private final Map<String, LoopbackGroup> groups;
+    private final LoopbackSubscription subscription;
+    private int members;
+
+    LoopbackGroup(String key, Map<String, LoopbackGroup> groups, LoopbackSubscription subscription) {
+        this.key = key;
+        this.groups = groups;
+        this.subscription = subscription;
+    }
+
+    LoopbackSubscription subscription() {
+        return subscription;
+    }
+
+    boolean join() {
+        synchronized (groups) {
+            return members++ == 0;
+        }
+    }
+
+    void leave() {
+        synchronized (groups) {
+            if (--members == 0) {
+                groups.remove(key);
+                subscription.close();
+            }
+        }
+    }
+}
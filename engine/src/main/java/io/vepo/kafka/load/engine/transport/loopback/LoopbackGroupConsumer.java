@@ -0,0 +1,42 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import io.vepo.kafka.load.engine.transport.GroupConsumer;
+import io.vepo.kafka.load.engine.transport.RecordHandler;
+import java.time.Duration;
+
+class LoopbackGroupConsumer implements GroupConsumer {
+    private final LoopbackGroup group;
+    private final int maxPollRecords;
+    private final boolean owner;
+
+    LoopbackGroupConsumer(LoopbackGroup group, int maxPollRecords, boolean owner) {
+        this.group = group;
+        this.maxPollRecords = maxPollRecords;
+        this.owner = owner;
+    }
+
+    @Override
+    public int poll(Duration timeout, RecordHandler handler) throws InterruptedException {
+        return group.subscription().poll(timeout, handler, maxPollRecords);
+    }
+
+    @Override
+    public long lag() {
+        return owner ? group.subscription().pending() : 0;
+    }
+
+    @Override
+    public long rebalances() {
+        return 0;
+    }
+
+    @Override
+    public Duration rebalanceTime() {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public void close() {
+        group.leave();
+    }
+}
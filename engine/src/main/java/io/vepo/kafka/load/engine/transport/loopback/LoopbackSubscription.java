@@ -0,0 +1,65 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import io.vepo.kafka.load.engine.transport.RecordHandler;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+class LoopbackSubscription implements Subscription {
+    private static final int MAX_POLL_RECORDS = 500;
+    private static final int CAPACITY = 16_384;
+    private static final long OFFER_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private record Entry(byte[] key, byte[] value, byte[] correlation) {
+    }
+
+    private final List<LoopbackSubscription> subscriptions;
+    private final ArrayBlockingQueue<Entry> queue;
+    private volatile boolean closed;
+
+    LoopbackSubscription(List<LoopbackSubscription> subscriptions) {
+        this.subscriptions = subscriptions;
+        this.queue = new ArrayBlockingQueue<>(CAPACITY);
+    }
+
+    /* A full subscription blocks the sender, a slow consumer throttles the load instead of growing the heap. */
+    void deliver(byte[] key, byte[] value, byte[] correlation) throws InterruptedException {
+        var entry = new Entry(key, value, correlation);
+        while (!closed) {
+            if (queue.offer(entry, OFFER_TIMEOUT, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int poll(Duration timeout, RecordHandler handler) throws InterruptedException {
+        return poll(timeout, handler, MAX_POLL_RECORDS);
+    }
+
+    int poll(Duration timeout, RecordHandler handler, int maxRecords) throws InterruptedException {
+        var entry = queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        int count = 0;
+        while (entry != null) {
+            handler.handle(entry.key(), entry.value(), entry.correlation());
+            if (++count == maxRecords) {
+                break;
+            }
+            entry = queue.poll();
+        }
+        return count;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        subscriptions.remove(this);
+        queue.clear();
+    }
+}
@@ -0,0 +1,70 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import io.vepo.kafka.load.engine.transport.TransactionalSender;
+import java.util.ArrayList;
+import java.util.List;
+
+class LoopbackTransactionalSender implements TransactionalSender {
+    private record PendingRecord(String topic, byte[] key, byte[] value, byte[] correlation) {
+    }
+
+    private final LoopbackTransport transport;
+    private final List<PendingRecord> pending = new ArrayList<>();
+    private boolean open;
+
+    LoopbackTransactionalSender(LoopbackTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public boolean begin() {
+        if (open) {
+            return false;
+        }
+        open = true;
+        return true;
+    }
+
+    @Override
+    public boolean send(String topic, byte[] key, byte[] value, byte[] correlation) throws InterruptedException {
+        if (!open) {
+            return false;
+        }
+        transport.acknowledge();
+        pending.add(new PendingRecord(topic, key, value, LoopbackTransport.copy(correlation)));
+        return true;
+    }
+
+    @Override
+    public boolean commit() throws InterruptedException {
+        if (!open) {
+            return false;
+        }
+        transport.acknowledge();
+        var committed = true;
+        for (var record : pending) {
+            committed &= transport.deliver(record.topic(), record.key(), record.value(), record.correlation(),
+                    LoopbackTransport.length(record.key()) + LoopbackTransport.length(record.value()));
+        }
+        pending.clear();
+        open = false;
+        return committed;
+    }
+
+    @Override
+    public boolean abort() throws InterruptedException {
+        if (!open) {
+            return false;
+        }
+        transport.acknowledge();
+        pending.clear();
+        open = false;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        pending.clear();
+        open = false;
+    }
+}
@@ -0,0 +1,198 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import io.vepo.kafka.load.engine.internal.Clock;
+import io.vepo.kafka.load.engine.transport.Completion;
+import io.vepo.kafka.load.engine.transport.ConsumerSettings;
+import io.vepo.kafka.load.engine.transport.GroupConsumer;
+import io.vepo.kafka.load.engine.transport.Sender;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import io.vepo.kafka.load.engine.transport.TransactionalSender;
+import io.vepo.kafka.load.engine.transport.Transport;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoopbackTransport implements Transport {
+    private final long latency;
+    private final ConcurrentHashMap<String, List<LoopbackSubscription>> topics;
+    private final LongAdder bytesSent = new LongAdder();
+    private final Map<String, LoopbackGroup> groups = new HashMap<>();
+    private volatile LoopbackAcknowledger acknowledger;
+    private volatile boolean closed;
+
+    LoopbackTransport(long latency) {
+        this.latency = latency;
+        this.topics = new ConcurrentHashMap<>();
+    }
+
+    /* Borrowed buffers are only copied when the topic has subscriptions. */
+    @Override
+    public Sender sender(String clientId) {
+        return new Sender() {
+            @Override
+            public boolean send(String topic, byte[] key, byte[] value, byte[] correlation)
+                    throws InterruptedException {
+                acknowledge();
+                return deliver(topic, key, value, correlation);
+            }
+
+            @Override
+            public void send(String topic, byte[] key, byte[] value, byte[] correlation, Completion completion)
+                    throws InterruptedException {
+                if (latency == 0) {
+                    completion.completed(deliver(topic, key, value, correlation));
+                } else if (subscribed(topic)) {
+                    acknowledger().send(topic, key, value, copy(correlation), length(key) + length(value),
+                            completion);
+                } else {
+                    acknowledger().send(null, null, null, null, length(key) + length(value) + length(correlation),
+                            completion);
+                }
+            }
+
+            @Override
+            public boolean send(String topic, ByteBuffer key, ByteBuffer value, byte[] correlation)
+                    throws InterruptedException {
+                acknowledge();
+                if (subscribed(topic)) {
+                    return deliver(topic, copy(key), copy(value), correlation);
+                }
+                return deliver(null, null, null, null, length(key) + length(value) + length(correlation));
+            }
+
+            @Override
+            public void send(String topic, ByteBuffer key, ByteBuffer value, byte[] correlation,
+                             Completion completion) throws InterruptedException {
+                if (latency == 0) {
+                    completion.completed(send(topic, key, value, correlation));
+                } else if (subscribed(topic)) {
+                    acknowledger().send(topic, copy(key), copy(value), copy(correlation),
+                            length(key) + length(value), completion);
+                } else {
+                    acknowledger().send(null, null, null, null, length(key) + length(value) + length(correlation),
+                            completion);
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Override
+    public TransactionalSender transactionalSender(String clientId, String transactionalId) {
+        return new LoopbackTransactionalSender(this);
+    }
+
+    private LoopbackAcknowledger acknowledger() {
+        var current = acknowledger;
+        if (current == null) {
+            synchronized (this) {
+                if (acknowledger == null) {
+                    acknowledger = new LoopbackAcknowledger(this, latency);
+                }
+                current = acknowledger;
+            }
+        }
+        return current;
+    }
+
+    void acknowledge() throws InterruptedException {
+        if (latency > 0) {
+            Clock.waitUntil(System.nanoTime() + latency);
+        }
+    }
+
+    boolean deliver(String topic, byte[] key, byte[] value, byte[] correlation) throws InterruptedException {
+        if (subscribed(topic)) {
+            return deliver(topic, key, value, copy(correlation), length(key) + length(value));
+        }
+        return deliver(null, null, null, null, length(key) + length(value) + length(correlation));
+    }
+
+    boolean deliver(String topic, byte[] key, byte[] value, byte[] correlation, int length)
+            throws InterruptedException {
+        if (closed) {
+            return false;
+        }
+        bytesSent.add(length + length(correlation));
+        if (topic != null) {
+            var subscriptions = topics.get(topic);
+            if (subscriptions != null) {
+                for (var subscription : subscriptions) {
+                    subscription.deliver(key, value, correlation);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean subscribed(String topic) {
+        var subscriptions = topics.get(topic);
+        return subscriptions != null && !subscriptions.isEmpty();
+    }
+
+    @Override
+    public Subscription subscribe(String clientId, String topic) {
+        return subscription(topic);
+    }
+
+    private LoopbackSubscription subscription(String topic) {
+        var subscriptions = topics.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>());
+        var subscription = new LoopbackSubscription(subscriptions);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    @Override
+    public GroupConsumer join(String clientId, ConsumerSettings settings) {
+        synchronized (groups) {
+            var key = settings.topic() + "/" + settings.group();
+            var group = groups.computeIfAbsent(key, ignored -> new LoopbackGroup(key, groups,
+                    subscription(settings.topic())));
+            return new LoopbackGroupConsumer(group, settings.maxPollRecords(), group.join());
+        }
+    }
+
+    @Override
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static int length(ByteBuffer buffer) {
+        return buffer != null ? buffer.remaining() : 0;
+    }
+
+    static byte[] copy(byte[] bytes) {
+        return bytes != null ? bytes.clone() : null;
+    }
+
+    private static byte[] copy(ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), bytes);
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (acknowledger != null) {
+                acknowledger.close();
+            }
+        }
+        topics.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package io.vepo.kafka.load.engine.transport.loopback;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportProvider;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import java.util.concurrent.TimeUnit;
+
+public class LoopbackTransportProvider implements TransportProvider {
+
+    @Override
+    public String name() {
+        return "loopback";
+    }
+
+    @Override
+    public Transport open(TransportSettings settings, Configuration configuration) {
+        return new LoopbackTransport(configuration.get(Configuration.LOOPBACK_LATENCY)
+                .map(String::trim)
+                .map(latency -> {
+                    try {
+                        return TimeUnit.MICROSECONDS.toNanos(Long.parseLong(latency));
+                    } catch (NumberFormatException e) {
+                        throw new ExecutorException("Invalid configuration! property="
+                                + Configuration.LOOPBACK_LATENCY + " value=" + latency, e);
+                    }
+                })
+                .orElse(0L));
+    }
+}
@@ -2,6 +2,21 @@ module io.vepo.kafka.load.engine {
     exports io.vepo.kafka.load.engine;
     exports io.vepo.kafka.load.engine.config;
     exports io.vepo.kafka.load.engine.exceptions;
+    exports io.vepo.kafka.load.engine.metrics;
+    exports io.vepo.kafka.load.engine.transport;
 
-    requires io.vepo.kafka.load.parser;
-}
\ No newline at end of file
+    exports io.vepo.kafka.load.engine.report to io.vepo.kafka.load.runtime;
+
+    /* LatencyDistribution of the metrics API is built from and hands out HdrHistogram histograms. */
+    requires transitive HdrHistogram;
+    requires transitive io.vepo.kafka.load.parser;
+    requires jdk.jfr;
+    requires jdk.management;
+    requires kafka.clients;
+
+    uses io.vepo.kafka.load.engine.transport.TransportProvider;
+
+    provides io.vepo.kafka.load.engine.transport.TransportProvider with
+            io.vepo.kafka.load.engine.transport.kafka.KafkaTransportProvider,
+            io.vepo.kafka.load.engine.transport.loopback.LoopbackTransportProvider;
+}
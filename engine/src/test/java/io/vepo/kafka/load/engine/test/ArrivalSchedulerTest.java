@@ -0,0 +1,135 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vepo.kafka.load.engine.internal.ArrivalScheduler;
+import io.vepo.kafka.load.engine.internal.ExecutionStats;
+import io.vepo.kafka.load.engine.internal.RateProfile;
+import io.vepo.kafka.load.engine.internal.RateRecorder;
+import io.vepo.kafka.load.engine.internal.Timeline;
+import io.vepo.kafka.load.engine.metrics.RateSample;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ArrivalSchedulerTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ManualTimer timer = new ManualTimer(MILLISECOND);
+    private final ExecutionStats stats = new ExecutionStats();
+
+    private static RateProfile ramp() {
+        return RateProfile.of(parseTestPlan("""
+                TestPlan Ramp {
+                    execution: 2s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    profile {
+                        shape: RAMP
+                        from:  100
+                        to:    500
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """));
+    }
+
+    @Test
+    @DisplayName("Each tick releases the arrivals intended before the next tick")
+    void releaseTest() throws InterruptedException {
+        var scheduler = new ArrivalScheduler(timer, RateProfile.constant(1000), 2, stats);
+        scheduler.start(new Timeline(0, 0, SECOND, 0, 2));
+        assertEquals(1000, scheduler.totalArrivals());
+
+        timer.advance(0);
+        assertEquals(1, stats.maxBacklog());
+        timer.advance(100 * MILLISECOND);
+        assertEquals(101, stats.maxBacklog());
+        for (int arrival = 0; arrival < 101; ++arrival) {
+            assertEquals(arrival, scheduler.next());
+            assertEquals(arrival * MILLISECOND, scheduler.intended(arrival), 1);
+        }
+
+        timer.advance(SECOND);
+        assertEquals(ArrivalScheduler.FINISHED, scheduler.next());
+        assertEquals(ArrivalScheduler.FINISHED, scheduler.next());
+    }
+
+    @Test
+    @DisplayName("Arrivals follow the profile along the timeline")
+    void profileTest() throws InterruptedException {
+        var scheduler = new ArrivalScheduler(timer, ramp(), 1, stats);
+        scheduler.start(new Timeline(5 * SECOND, 0, 2 * SECOND, 0, 1));
+        assertEquals(600, scheduler.totalArrivals());
+        assertEquals(5 * SECOND + SECOND, scheduler.intended(200), 1);
+
+        timer.advance(5 * SECOND + SECOND - MILLISECOND);
+        assertEquals(200, stats.maxBacklog());
+        assertEquals(200, scheduler.expected(5 * SECOND + SECOND), 1e-6);
+        assertEquals(600, scheduler.expected(10 * SECOND), 1e-6);
+        for (int arrival = 0; arrival < 200; ++arrival) {
+            assertEquals(arrival, scheduler.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Rate samples target the profile over each interval and count the iterations started in it")
+    void rateRecorderTest() {
+        var scheduler = new ArrivalScheduler(timer, ramp(), 1, stats);
+        var recorder = new RateRecorder(stats, SECOND);
+        var timeline = new Timeline(0, 0, 2 * SECOND, 0, 1);
+        scheduler.start(timeline);
+        recorder.start(timer, scheduler, timeline);
+
+        iterations(180);
+        timer.advance(SECOND);
+        iterations(400);
+        timer.advance(SECOND);
+        recorder.finish();
+        assertEquals(List.of(new RateSample(Duration.ofSeconds(1), 200, 180),
+                new RateSample(Duration.ofSeconds(2), 400, 400)), samples(recorder));
+    }
+
+    @Test
+    @DisplayName("Finishing early records the last partial interval once")
+    void rateRecorderFinishTest() {
+        var scheduler = new ArrivalScheduler(timer, RateProfile.constant(100), 1, stats);
+        var recorder = new RateRecorder(stats, SECOND);
+        var timeline = new Timeline(0, 0, 2 * SECOND, 0, 1);
+        scheduler.start(timeline);
+        recorder.start(timer, scheduler, timeline);
+
+        iterations(100);
+        timer.advance(SECOND);
+        iterations(25);
+        timer.advance(SECOND / 2);
+        recorder.finish();
+        timer.advance(SECOND);
+        assertEquals(List.of(new RateSample(Duration.ofSeconds(1), 100, 100),
+                new RateSample(Duration.ofMillis(1500), 100, 50)), samples(recorder));
+    }
+
+    private void iterations(int iterations) {
+        for (int i = 0; i < iterations; ++i) {
+            stats.iteration(0);
+        }
+    }
+
+    private static List<RateSample> samples(RateRecorder recorder) {
+        return recorder.samples().stream().map(sample -> new RateSample(sample.elapsed(),
+                Math.round(sample.target() * 1e6) / 1e6, sample.achieved())).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package io.vepo.kafka.load.engine.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.assertion.AssertionCompiler;
+import io.vepo.kafka.load.engine.assertion.AssertionEvaluator;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.MessageAssertion;
+import io.vepo.kafka.load.parser.Operator;
+import io.vepo.kafka.load.parser.PropertyValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AssertionCompilerTest {
+
+    private static AssertionEvaluator compile(String expected) {
+        return new AssertionCompiler(Configuration.empty().with("expected", expected))
+                .compile(Assertion.builder()
+                        .topic(PropertyValue.fromText("topic-1"))
+                        .assertion(MessageAssertion.builder()
+                                .path("$.value.field")
+                                .operator(Operator.EQUALS)
+                                .value(PropertyValue.fromReference("expected"))
+                                .build())
+                        .build());
+    }
+
+    private static boolean test(AssertionEvaluator evaluator, String field) {
+        return evaluator.test(null, ("{\"field\": " + field + "}").getBytes(UTF_8));
+    }
+
+    @Test
+    @DisplayName("Referenced values in JSON number syntax are compared as numbers")
+    void numberReferenceTest() {
+        assertTrue(test(compile("8"), "8"));
+        assertTrue(test(compile(" 8 "), "8.0"));
+        assertFalse(test(compile("8"), "\"8\""));
+        assertTrue(test(compile("-0.5"), "-5e-1"));
+        assertTrue(test(compile("1e1"), "10"));
+        assertTrue(test(compile("2.5E+2"), "250"));
+        assertTrue(test(compile("99999999999999999999"), "1e20"));
+    }
+
+    @Test
+    @DisplayName("Referenced values outside the JSON number syntax are compared as text")
+    void textReferenceTest() {
+        for (var text : new String[] { "NaN", "Infinity", "-Infinity", "1f", "8d", "0x1p3", "+8", "08", ".5", "5.",
+            "1e" }) {
+            assertFalse(test(compile(text), "8"), text);
+            assertTrue(test(compile(text), "\"" + text + "\""), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Undefined references are rejected")
+    void undefinedReferenceTest() {
+        var compiler = new AssertionCompiler(Configuration.empty());
+        var assertion = Assertion.builder()
+                .topic(PropertyValue.fromText("topic-1"))
+                .assertion(MessageAssertion.builder()
+                        .path("$.value.field")
+                        .operator(Operator.EQUALS)
+                        .value(PropertyValue.fromReference("expected"))
+                        .build())
+                .build();
+        assertThrows(ExecutorException.class, () -> compiler.compile(assertion));
+    }
+}
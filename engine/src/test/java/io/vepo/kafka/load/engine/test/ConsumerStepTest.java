@@ -0,0 +1,61 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConsumerStepTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Consumer step consumes the messages sent by the other steps")
+    void consumerTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Consumer {
+                    clients:   4
+                    cycleTime: 10ms
+                    warmUp:    200ms
+                    execution: 2s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                        consumes: JSON
+                    }
+
+                    Produce {
+                        message {
+                            topic: "events"
+                            value: "{\\"index\\": ${index}}"
+                        }
+                    }
+
+                    Consume {
+                        consumer {
+                            topic:          "events"
+                            consumers:      2
+                            maxPollRecords: 10
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertEquals(Set.of("Produce"), result.steps().keySet());
+        assertEquals(1, result.consumers().size());
+        var consumer = result.consumers().get(0);
+        assertEquals("Consume", consumer.step());
+        assertEquals("events", consumer.topic());
+        assertEquals("kafka-load-Consumer-Consume", consumer.group());
+        assertEquals(2, consumer.consumers());
+        assertTrue(consumer.records() > 0);
+        assertEquals(0, consumer.errors());
+        assertTrue(consumer.pollLatency().count() > 0);
+        assertFalse(consumer.lag().isEmpty());
+    }
+}
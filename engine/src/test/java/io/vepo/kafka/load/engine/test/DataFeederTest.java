@@ -0,0 +1,271 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.feeder.DataFeeder;
+import io.vepo.kafka.load.engine.feeder.FeederRow;
+import io.vepo.kafka.load.parser.Feeder;
+import io.vepo.kafka.load.parser.FeederFormat;
+import io.vepo.kafka.load.parser.FeederStrategy;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFeederTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @TempDir
+    Path directory;
+
+    private DataFeeder open(FeederFormat format, FeederStrategy strategy, String content, int clients)
+            throws IOException {
+        var file = Files.writeString(directory.resolve("data"), content, UTF_8);
+        return DataFeeder.open(feeder(format, strategy), file, clients);
+    }
+
+    private static Feeder feeder(FeederFormat format, FeederStrategy strategy) {
+        return Feeder.builder()
+                .name("data")
+                .file(PropertyValue.fromText("data"))
+                .format(format)
+                .strategy(strategy)
+                .build();
+    }
+
+    private static String value(FeederRow row, int column) {
+        var buffer = new RenderBuffer(16);
+        row.write(column, buffer);
+        return new String(buffer.bytes(), 0, buffer.length(), UTF_8);
+    }
+
+    private static List<String> read(DataFeeder feeder, FeederRow row, int count, int... columns) {
+        var rows = new ArrayList<String>();
+        for (int i = 0; i < count; ++i) {
+            feeder.next(row);
+            rows.add(IntStream.of(columns).mapToObj(column -> value(row, column)).collect(joining("|")));
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("CSV fields can be quoted, contain separators and escaped quotes")
+    void csvQuotingTest() throws IOException {
+        var feeder = open(FeederFormat.CSV, FeederStrategy.SEQUENTIAL, "id, name ,\"quote\"\r\n"
+                + "1,plain,\"a, b\"\r\n"
+                + "2,\"say \"\"hi\"\"\",x\r\n"
+                + "\r\n"
+                + "3,,\n"
+                + "4", 1);
+        var columns = new int[] { feeder.column("id"), feeder.column("name"), feeder.column("quote") };
+        assertEquals(List.of(0, 1, 2), IntStream.of(columns).boxed().toList());
+        assertThrows(ExecutorException.class, () -> feeder.column("missing"));
+        var row = feeder.row(0);
+        assertEquals(List.of("1|plain|a, b", "2|say \"hi\"|x", "3||", "4||", "1|plain|a, b"),
+                read(feeder, row, 5, columns));
+    }
+
+    @Test
+    @DisplayName("CSV quoted fields can not contain line breaks")
+    void csvLineBreakTest() throws IOException {
+        var feeder = open(FeederFormat.CSV, FeederStrategy.SEQUENTIAL, """
+                id,text
+                1,"first
+                line"
+                """, 1);
+        var row = feeder.row(0);
+        assertThrows(ExecutorException.class, () -> feeder.next(row));
+    }
+
+    @Test
+    @DisplayName("JSON lines strings are unescaped, other values are kept as written")
+    void jsonLinesTest() throws IOException {
+        var feeder = open(FeederFormat.JSONL, FeederStrategy.SEQUENTIAL, """
+                {"text": "line\\nbreak\\t\\"quoted\\" \\\\ \\/", "emoji": "\\ud83d\\ude00 \\u00e9", "n": 42, \
+                "object": {"a": [1, "}"]}, "ignored": "x"}
+                { "n" : -1.5e3 , "text":"ação" }
+                {}
+                """, 1);
+        var columns = new int[] { feeder.column("text"), feeder.column("emoji"), feeder.column("n"),
+            feeder.column("object") };
+        var row = feeder.row(0);
+        assertEquals(List.of("line\nbreak\t\"quoted\" \\ /|😀 é|42|{\"a\": [1, \"}\"]}", "ação||-1.5e3|", "|||"),
+                read(feeder, row, 3, columns));
+    }
+
+    @Test
+    @DisplayName("Invalid JSON lines escapes fail when the value is written")
+    void jsonLinesInvalidEscapeTest() throws IOException {
+        for (var text : List.of("\\u00g1", "\\u00e", "x\\u")) {
+            var feeder = open(FeederFormat.JSONL, FeederStrategy.SEQUENTIAL, "{\"text\": \"" + text + "\"}\n", 1);
+            var column = feeder.column("text");
+            var row = feeder.row(0);
+            feeder.next(row);
+            assertThrows(ExecutorException.class, () -> value(row, column), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Partitioned clients own their rows, clients without rows share the others")
+    void partitionedTest() throws IOException {
+        var feeder = open(FeederFormat.CSV, FeederStrategy.PARTITIONED, """
+                id
+                1
+                2
+                """, 5);
+        var column = feeder.column("id");
+        var owned = IntStream.range(0, 5)
+                .mapToObj(clientId -> String.join(",", read(feeder, feeder.row(clientId), 4, column)))
+                .toList();
+        assertTrue(owned.contains("1,1,1,1"), owned.toString());
+        assertTrue(owned.contains("2,2,2,2"), owned.toString());
+        owned.forEach(values -> assertTrue(values.matches("[12](,[12]){3}"), values));
+    }
+
+    @Test
+    @DisplayName("Random rows are always whole rows")
+    void randomTest() throws IOException {
+        var feeder = open(FeederFormat.JSONL, FeederStrategy.RANDOM, """
+                {"id": "first"}
+                {"id": "second, a longer row"}
+                {"id": "third"}
+                """, 1);
+        var column = feeder.column("id");
+        var values = read(feeder, feeder.row(0), 200, column);
+        assertEquals(Set.of("first", "second, a longer row", "third"), Set.copyOf(values));
+    }
+
+    @Test
+    @DisplayName("Random rows are picked uniformly whatever their length and blank rows are never picked")
+    void randomDistributionTest() throws IOException {
+        var feeder = open(FeederFormat.JSONL, FeederStrategy.RANDOM, """
+                {"id": "a"}
+                {"id": "b", "padding": "%s"}
+
+                {"id": "c"}
+                {"id": "d", "padding": "%s"}
+                """.formatted("x".repeat(4096), "y".repeat(64)), 1);
+        var column = feeder.column("id");
+        var draws = 40_000;
+        var counts = read(feeder, feeder.row(0), draws, column).stream()
+                .collect(groupingBy(Function.identity(), counting()));
+        assertEquals(Set.of("a", "b", "c", "d"), counts.keySet());
+        counts.forEach((id, count) -> assertEquals(draws / 4, count, draws / 40, id));
+    }
+
+    @Test
+    @DisplayName("Rows crossing a chunk boundary are read from the overlap of the chunk where they start")
+    void chunkOverlapTest() throws IOException {
+        var content = new StringBuilder("id,text\n");
+        var expected = new ArrayList<String>();
+        for (int i = 0; i < 50; ++i) {
+            var text = "row-" + "x".repeat(i % 7) + i;
+            content.append(i).append(",\"").append(text).append("\"\n");
+            expected.add(i + "|" + text);
+        }
+        var file = Files.writeString(directory.resolve("data"), content, UTF_8);
+        var feeder = DataFeeder.open(feeder(FeederFormat.CSV, FeederStrategy.SEQUENTIAL), file, 1, 16, 32);
+        assertEquals(expected, read(feeder, feeder.row(0), expected.size(), feeder.column("id"),
+                feeder.column("text")));
+
+        var partitioned = DataFeeder.open(feeder(FeederFormat.CSV, FeederStrategy.PARTITIONED), file, 3, 16, 32);
+        var rows = new ArrayList<String>();
+        IntStream.range(0, 3).forEach(clientId -> rows.addAll(read(partitioned, partitioned.row(clientId), 10,
+                partitioned.column("id"), partitioned.column("text"))));
+        assertTrue(expected.containsAll(rows), rows.toString());
+    }
+
+    @Test
+    @DisplayName("Rows longer than the chunk overlap are rejected")
+    void longRowTest() throws IOException {
+        var file = Files.writeString(directory.resolve("data"), "{\"text\": \"" + "x".repeat(100) + "\"}\n"
+                + "{\"text\": \"short\"}\n", UTF_8);
+        var feeder = DataFeeder.open(feeder(FeederFormat.JSONL, FeederStrategy.SEQUENTIAL), file, 1, 16, 32);
+        feeder.column("text");
+        var row = feeder.row(0);
+        assertThrows(ExecutorException.class, () -> feeder.next(row));
+    }
+
+    @Test
+    @DisplayName("Messages rendered from feeders")
+    void executionTest() throws IOException {
+        var users = Files.writeString(directory.resolve("users.csv"), """
+                id,name
+                1,"user ""one"", first"
+                2,user-two\r
+                
+                3,user-three""");
+        var orders = Files.writeString(directory.resolve("orders.jsonl"), """
+                {"sku": "sku-\\u00e9", "amount": 10, "items": [1, 2]}
+                {"amount": 20.5 , "sku": "sku-2"}
+                """);
+        var result = new TestPanExecutor(LOOPBACK.with("users.file", users.toString())).execute(parseTestPlan("""
+                TestPlan Feeders {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    feeder users {
+                        file:     ${users.file}
+                        strategy: PARTITIONED
+                    }
+
+                    feeder orders {
+                        file:     "%s"
+                        format:   JSONL
+                        strategy: RANDOM
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            key:   "${users.name}"
+                            value: "{\\"user\\": ${users.id}, \\"sku\\": \\"${orders.sku}\\", \\"amount\\": ${orders.amount}}"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.user >= 1
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.amount >= 10
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.sku contains "sku-"
+                        }
+                    }
+                }
+                """.formatted(orders.toString().replace("\\", "/"))));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+        assertEquals(3, result.assertions().size());
+        result.assertions().forEach(assertion -> {
+            assertTrue(assertion.evaluated() > 0);
+            assertEquals(0, assertion.failed());
+        });
+    }
+}
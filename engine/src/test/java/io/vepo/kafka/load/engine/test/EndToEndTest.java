@@ -0,0 +1,62 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EndToEndTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("End to end latency of correlated records")
+    void endToEndTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan EndToEnd {
+                    clients:   4
+                    cycleTime: 10ms
+                    warmUp:    200ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    ByHeader {
+                        message {
+                            topic: "input-1"
+                            value: "value-${index}"
+                        }
+                        assertion {
+                            topic:       "input-1"
+                            correlation: HEADER
+                        }
+                    }
+
+                    ByField {
+                        message {
+                            topic: "input-2"
+                            value: "{\\"requestId\\": \\"${correlation.id}\\"}"
+                        }
+                        assertion {
+                            topic:       "input-2"
+                            correlation: "$.value.requestId"
+                            $.value.requestId contains ""
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertEquals(2, result.assertions().size());
+        result.assertions().forEach(assertion -> {
+            assertTrue(assertion.endToEnd().matched() > 0);
+            assertEquals(0, assertion.endToEnd().uncorrelated());
+            assertEquals(0, assertion.endToEnd().pending());
+            assertEquals(assertion.endToEnd().matched(), assertion.endToEnd().latency().count());
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.GeneratorProfiler;
+import io.vepo.kafka.load.engine.Result;
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GeneratorProfilerTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Recording the generator summarizes the messages, allocations and pauses")
+    void generatorProfileTest(@TempDir Path directory) {
+        var profiler = GeneratorProfiler.start(directory.resolve("profile").resolve("run.jfr"));
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Profiled {
+                    clients:   2
+                    cycleTime: 1ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """));
+        var profile = profiler.stop();
+        assertTrue(result.successful());
+        assertTrue(Files.exists(profile.recording()));
+        assertEquals(result.total().count(), profile.messages(), 50);
+        assertTrue(profile.allocatedBytes() > 0);
+        assertTrue(profile.allocatedBytesPerMessage() > 0);
+        assertTrue(profile.duration().compareTo(Duration.ofSeconds(1)) >= 0);
+        assertTrue(profile.safepointTime().compareTo(profile.duration()) <= 0);
+        assertEquals(profile, profiler.stop());
+
+        var profiled = profiler.attach(result);
+        assertNull(result.profile());
+        assertEquals(result.total(), profiled.total());
+        var testPlanProfile = profiled.profile();
+        assertEquals(result.total().count(), testPlanProfile.messages(), 50);
+        assertTrue(testPlanProfile.allocatedBytes() <= profile.allocatedBytes());
+        assertTrue(testPlanProfile.duration().compareTo(profile.duration()) <= 0);
+        assertNull(profiler.attach(Result.builder().testPlan("Unknown").build()).profile());
+    }
+}
@@ -0,0 +1,327 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.Result;
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.internal.ExecutionStats;
+import io.vepo.kafka.load.engine.internal.GeneratorWatchdog;
+import io.vepo.kafka.load.engine.internal.Timeline;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GeneratorWatchdogTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int PROCESSORS = 4;
+
+    private static class FakeProbe implements GeneratorWatchdog.Probe {
+        private long now;
+        private long cpu;
+        private long gc;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public long cpuTime() {
+            return cpu;
+        }
+
+        @Override
+        public long gcTime() {
+            return gc;
+        }
+
+        @Override
+        public int processors() {
+            return PROCESSORS;
+        }
+
+        private void second(double cpuShare, long gcMillis) {
+            now += SECOND;
+            cpu += (long) (cpuShare * SECOND * PROCESSORS);
+            gc += gcMillis;
+        }
+    }
+
+    private final FakeProbe probe = new FakeProbe();
+    private final ExecutionStats stats = new ExecutionStats();
+
+    private GeneratorWatchdog watchdog(Configuration configuration) {
+        var watchdog = new GeneratorWatchdog(configuration, stats, 0, probe);
+        watchdog.measure(new Timeline(0, SECOND, 3 * SECOND, SECOND, 1));
+        return watchdog;
+    }
+
+    @Test
+    @DisplayName("Intervals under every default threshold are not bound")
+    void defaultThresholdsTest() {
+        var watchdog = watchdog(Configuration.empty());
+        probe.second(0.5, 50);
+        stats.iteration(5 * MILLISECOND);
+        var sample = watchdog.sample();
+        assertEquals(Duration.ofSeconds(1), sample.elapsed());
+        assertEquals(0.5, sample.cpu(), 0.001);
+        assertEquals(0.05, sample.gc(), 0.001);
+        assertEquals(Duration.ofMillis(5), sample.schedulerLag());
+        assertFalse(sample.measured());
+        assertFalse(sample.bound());
+
+        probe.second(0.89, 99);
+        stats.iteration(9 * MILLISECOND);
+        sample = watchdog.sample();
+        assertTrue(sample.measured());
+        assertFalse(sample.bound());
+        assertFalse(watchdog.bound());
+    }
+
+    @Test
+    @DisplayName("CPU over the threshold binds the interval")
+    void cpuThresholdTest() {
+        var watchdog = watchdog(Configuration.empty());
+        probe.second(0.0, 0);
+        watchdog.sample();
+        probe.second(0.95, 0);
+        assertTrue(watchdog.sample().bound());
+        assertTrue(watchdog.bound());
+
+        var configured = watchdog(Configuration.empty().with(Configuration.WATCHDOG_CPU, "50"));
+        probe.second(0.6, 0);
+        assertTrue(configured.sample().bound());
+        probe.second(0.4, 0);
+        assertFalse(configured.sample().bound());
+    }
+
+    @Test
+    @DisplayName("CPU above all cores is capped and unknown CPU is never bound")
+    void cpuShareTest() {
+        var watchdog = watchdog(Configuration.empty());
+        probe.second(1.5, 0);
+        assertEquals(1.0, watchdog.sample().cpu());
+
+        probe.cpu = -1;
+        var unknown = watchdog(Configuration.empty());
+        probe.now += SECOND;
+        var sample = unknown.sample();
+        assertEquals(0.0, sample.cpu());
+        assertFalse(sample.bound());
+    }
+
+    @Test
+    @DisplayName("GC time over the threshold binds the interval")
+    void gcThresholdTest() {
+        var watchdog = watchdog(Configuration.empty());
+        probe.second(0.1, 0);
+        watchdog.sample();
+        probe.second(0.1, 150);
+        var sample = watchdog.sample();
+        assertEquals(0.15, sample.gc(), 0.001);
+        assertTrue(sample.bound());
+
+        var configured = watchdog(Configuration.empty().with(Configuration.WATCHDOG_GC, "20"));
+        probe.second(0.1, 150);
+        assertFalse(configured.sample().bound());
+    }
+
+    @Test
+    @DisplayName("Scheduler lag over the threshold binds the interval, lag is reset on every sample")
+    void lagThresholdTest() {
+        var watchdog = watchdog(Configuration.empty());
+        probe.second(0.1, 0);
+        watchdog.sample();
+        stats.iteration(15 * MILLISECOND);
+        probe.second(0.1, 0);
+        assertTrue(watchdog.sample().bound());
+        probe.second(0.1, 0);
+        assertFalse(watchdog.sample().bound());
+
+        var configured = watchdog(Configuration.empty().with(Configuration.WATCHDOG_LAG, "20"));
+        stats.iteration(15 * MILLISECOND);
+        probe.second(0.1, 0);
+        assertFalse(configured.sample().bound());
+    }
+
+    @Test
+    @DisplayName("A single late iteration does not bind the interval, the worst lag is still reported")
+    void lagSpikeTest() {
+        var watchdog = watchdog(Configuration.empty());
+        stats.iteration(30 * MILLISECOND);
+        for (int i = 0; i < 99; ++i) {
+            stats.iteration(0);
+        }
+        probe.second(0.1, 0);
+        var sample = watchdog.sample();
+        assertEquals(Duration.ofMillis(30), sample.schedulerLag());
+        assertFalse(sample.bound());
+
+        for (int i = 0; i < 100; ++i) {
+            stats.iteration(10 * MILLISECOND);
+        }
+        probe.second(0.1, 0);
+        assertTrue(watchdog.sample().bound());
+    }
+
+    @Test
+    @DisplayName("The default lag threshold of a closed model is its cycle time, at least the default lag")
+    void cycleTimeLagTest() {
+        var watchdog = new GeneratorWatchdog(Configuration.empty(), stats, 50 * MILLISECOND, probe);
+        watchdog.measure(new Timeline(0, 0, 3 * SECOND, 0, 1));
+        stats.iteration(30 * MILLISECOND);
+        probe.second(0.1, 0);
+        assertFalse(watchdog.sample().bound());
+        stats.iteration(50 * MILLISECOND);
+        probe.second(0.1, 0);
+        assertTrue(watchdog.sample().bound());
+
+        var configured = new GeneratorWatchdog(Configuration.empty().with(Configuration.WATCHDOG_LAG, "20"), stats,
+                50 * MILLISECOND, probe);
+        configured.measure(new Timeline(probe.now, 0, 3 * SECOND, 0, 1));
+        stats.iteration(30 * MILLISECOND);
+        probe.second(0.1, 0);
+        assertTrue(configured.sample().bound());
+
+        var fast = new GeneratorWatchdog(Configuration.empty(), stats, MILLISECOND, probe);
+        fast.measure(new Timeline(probe.now, 0, 3 * SECOND, 0, 1));
+        stats.iteration(9 * MILLISECOND);
+        probe.second(0.1, 0);
+        assertFalse(fast.sample().bound());
+    }
+
+    @Test
+    @DisplayName("Usage of short intervals does not bind them, their lag does")
+    void shortIntervalTest() {
+        var watchdog = watchdog(Configuration.empty());
+        probe.second(0.1, 0);
+        watchdog.sample();
+        probe.now += MILLISECOND;
+        probe.cpu += PROCESSORS * MILLISECOND;
+        probe.gc += 1;
+        var sample = watchdog.sample();
+        assertEquals(1.0, sample.cpu(), 0.001);
+        assertEquals(1.0, sample.gc(), 0.001);
+        assertFalse(sample.bound());
+
+        stats.iteration(15 * MILLISECOND);
+        probe.now += MILLISECOND;
+        assertTrue(watchdog.sample().bound());
+    }
+
+    @Test
+    @DisplayName("Only intervals overlapping the execution phase are measured")
+    void measuredTest() {
+        var watchdog = watchdog(Configuration.empty());
+        stats.iteration(SECOND);
+        probe.second(0.1, 0);
+        var warmUp = watchdog.sample();
+        assertTrue(warmUp.bound());
+        assertFalse(warmUp.measured());
+        assertFalse(watchdog.bound());
+
+        probe.now += 3 * SECOND;
+        assertTrue(watchdog.sample().measured());
+        stats.iteration(SECOND);
+        probe.second(0.1, 0);
+        var rampDown = watchdog.sample();
+        assertTrue(rampDown.bound());
+        assertFalse(rampDown.measured());
+        assertFalse(watchdog.bound());
+        assertEquals(3, watchdog.samples().size());
+    }
+
+    @Test
+    @DisplayName("No sample before the timeline is known or when no time elapsed")
+    void noIntervalTest() {
+        var watchdog = new GeneratorWatchdog(Configuration.empty(), stats, 0, probe);
+        assertNull(watchdog.sample());
+        watchdog.measure(new Timeline(0, 0, SECOND, 0, 1));
+        assertNull(watchdog.sample());
+        assertTrue(watchdog.samples().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Invalid thresholds fail when the watchdog is created")
+    void invalidThresholdTest() {
+        for (var key : new String[] { Configuration.WATCHDOG_CPU, Configuration.WATCHDOG_GC,
+            Configuration.WATCHDOG_LAG }) {
+            var negative = assertThrows(ExecutorException.class,
+                    () -> new GeneratorWatchdog(Configuration.empty().with(key, "-1"), stats, 0, probe));
+            assertTrue(negative.getMessage().contains(key), negative.getMessage());
+            var invalid = assertThrows(ExecutorException.class,
+                    () -> new GeneratorWatchdog(Configuration.empty().with(key, "ten"), stats, 0, probe));
+            assertEquals("Invalid watchdog threshold! key=" + key, invalid.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Watchdog marks generator bound intervals and optionally invalidates the result")
+    void executionTest(@TempDir Path directory) throws IOException {
+        var plan = """
+                TestPlan Watched {
+                    clients:   2
+                    cycleTime: 10ms
+                    warmUp:    500ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """;
+        var testPlan = parseTestPlan(plan);
+        var unmarked = new TestPanExecutor(LOOPBACK.with(Configuration.REPORT_INTERVAL, "1")).execute(testPlan);
+        assertTrue(unmarked.successful());
+        assertFalse(unmarked.generatorBound(), unmarked.generator().toString());
+        assertTrue(unmarked.generator().stream().anyMatch(sample -> sample.measured()));
+
+        var configuration = LOOPBACK.with(Configuration.REPORT_INTERVAL, "1")
+                .with(Configuration.WATCHDOG_LAG, "0");
+        var marked = new TestPanExecutor(configuration.with(Configuration.REPORT_DIRECTORY, directory.toString()))
+                .execute(testPlan);
+        assertTrue(marked.successful());
+        assertTrue(marked.generatorBound());
+        assertTrue(marked.generatorBoundIntervals() >= 1);
+        assertTrue(marked.generator().stream().allMatch(sample -> sample.cpu() >= 0 && sample.gc() >= 0));
+        try (var files = Files.list(directory)) {
+            var csv = files.filter(file -> file.getFileName().toString().endsWith(".csv")).findFirst().orElseThrow();
+            var lines = Files.readAllLines(csv);
+            assertTrue(lines.get(0).endsWith(",generator_bound"), lines.get(0));
+            assertEquals(marked.generator().size(), lines.size() - 1);
+            assertTrue(lines.stream().skip(1).allMatch(line -> line.endsWith(",true")), lines.toString());
+        }
+
+        var invalidated = new TestPanExecutor(configuration.with(Configuration.WATCHDOG_INVALIDATE, "true"))
+                .execute(testPlan);
+        assertEquals(Result.Status.GENERATOR_BOUND, invalidated.status());
+        assertFalse(invalidated.successful());
+
+        Assertions.assertThrows(ExecutorException.class,
+                () -> new TestPanExecutor(LOOPBACK.with(Configuration.WATCHDOG_CPU, "-1")).execute(testPlan));
+        Assertions.assertThrows(ExecutorException.class,
+                () -> new TestPanExecutor(LOOPBACK.with(Configuration.WATCHDOG_GC, "ten")).execute(testPlan));
+    }
+}
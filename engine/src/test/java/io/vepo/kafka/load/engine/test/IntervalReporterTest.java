@@ -0,0 +1,111 @@
+package io.vepo.kafka.load.engine.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.compiler.CompiledAssertion;
+import io.vepo.kafka.load.engine.compiler.CompiledMessage;
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.internal.MetricsRegistry;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+import io.vepo.kafka.load.engine.report.IntervalListener;
+import io.vepo.kafka.load.engine.report.IntervalReporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IntervalReporterTest {
+    private static final long MICROSECOND = TimeUnit.MICROSECONDS.toNanos(1);
+
+    @TempDir
+    Path directory;
+
+    private static CompiledStep step(String name, String... topics) {
+        return new CompiledStep(name, null, null, 0,
+                Stream.of(topics).map(topic -> new CompiledMessage(topic, null, null)).toArray(CompiledMessage[]::new),
+                new CompiledAssertion[0]);
+    }
+
+    private Path report(String extension) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(extension)).findFirst().orElseThrow();
+        }
+    }
+
+    @Test
+    @DisplayName("Every interval appends a row per step to the CSV and a tagged histogram per step to the log")
+    void reportTest() throws IOException {
+        var metrics = new MetricsRegistry(new CompiledStep[] {
+            step("Step 1", "topic-1"),
+            step("Step2", "topic-1", "topic-2") }, 4);
+        var reporter = IntervalReporter.create("Plan",
+                Configuration.empty().with(Configuration.REPORT_DIRECTORY, directory.toString()));
+        var start = System.currentTimeMillis();
+
+        for (var latency : new long[] { 100, 100, 200, 250 }) {
+            metrics.message(0, 0).record(0, latency * MICROSECOND);
+        }
+        metrics.message(0, 0).error();
+        metrics.message(1, 0).record(1, 50 * MICROSECOND);
+        metrics.message(1, 1).record(2, 150 * MICROSECOND);
+        metrics.collect();
+        reporter.interval(start, start + 1000, metrics,
+                new GeneratorSample(Duration.ofSeconds(1), 0.95, 0.0, Duration.ZERO, true, true));
+
+        metrics.message(0, 0).record(3, 30 * MICROSECOND);
+        metrics.collect();
+        reporter.interval(start + 1000, start + 1500, metrics, null);
+        reporter.close();
+
+        var csv = report(".csv");
+        var hlog = report(".hlog");
+        assertTrue(csv.getFileName().toString().startsWith("Plan-"), csv.toString());
+        assertEquals(csv.getFileName().toString().replace(".csv", ".hlog"), hlog.getFileName().toString());
+
+        assertEquals(List.of("timestamp,step,count,throughput,p50_us,p99_us,p999_us,max_us,errors,generator_bound",
+                (start + 1000) + ",Step 1,4,4.0,100,250,250,250,1,true",
+                (start + 1000) + ",Step2,2,2.0,50,150,150,150,0,true",
+                (start + 1500) + ",Step 1,1,2.0,30,30,30,30,0,",
+                (start + 1500) + ",Step2,0,0.0,0,0,0,0,0,"), Files.readAllLines(csv));
+
+        var reader = new HistogramLogReader(hlog.toFile());
+        var histograms = new ArrayList<Histogram>();
+        for (var histogram = reader.nextIntervalHistogram(); histogram != null;
+             histogram = reader.nextIntervalHistogram()) {
+            histograms.add((Histogram) histogram);
+        }
+        assertEquals(List.of("Step_1", "Step2", "Step_1", "Step2"),
+                histograms.stream().map(Histogram::getTag).toList());
+        assertEquals(List.of(4L, 2L, 1L, 0L), histograms.stream().map(Histogram::getTotalCount).toList());
+        assertEquals(250, histograms.get(0).getMaxValue());
+        assertEquals(start, histograms.get(0).getStartTimeStamp(), 1);
+        assertEquals(start + 1000, histograms.get(0).getEndTimeStamp(), 1);
+        assertEquals(start + 1500, histograms.get(3).getEndTimeStamp(), 1);
+        assertNull(reader.nextIntervalHistogram());
+
+        var comments = Files.readAllLines(hlog).stream().filter(line -> line.startsWith("#Generator")).toList();
+        assertEquals(List.of("#Generator bound interval, end=" + (start + 1000)), comments);
+    }
+
+    @Test
+    @DisplayName("No report is written without a report directory")
+    void noDirectoryTest() throws IOException {
+        assertSame(IntervalListener.NONE, IntervalReporter.create("Plan", Configuration.empty()));
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.vepo.kafka.load.engine.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.assertion.JsonMatcher;
+import io.vepo.kafka.load.engine.assertion.Predicates;
+import io.vepo.kafka.load.engine.assertion.ValuePredicate;
+import io.vepo.kafka.load.parser.Operator;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonMatcherTest {
+
+    private static JsonMatcher matcher(String path, ValuePredicate predicate) {
+        var matcher = new JsonMatcher();
+        matcher.add(path.split("\\."), predicate);
+        return matcher;
+    }
+
+    private static boolean matches(JsonMatcher matcher, String json) {
+        return matcher.matches(json.getBytes(UTF_8));
+    }
+
+    @Test
+    @DisplayName("Escaped keys and values are unescaped before matching")
+    void escapedTest() {
+        var key = matcher("na\"me", Predicates.string(Operator.EQUALS, "load"));
+        assertTrue(matches(key, "{\"na\\\"me\": \"load\"}"));
+        assertTrue(matches(key, "{\"na\\u0022me\": \"load\"}"));
+        assertFalse(matches(key, "{\"name\": \"load\"}"));
+
+        var value = matcher("name", Predicates.string(Operator.EQUALS, "a\nb/\t\\é"));
+        assertTrue(matches(value, "{\"name\": \"a\\nb\\/\\t\\\\\\u00e9\"}"));
+        assertTrue(matches(value, "{\"name\": \"a\\nb/\\t\\\\é\"}"));
+        assertFalse(matches(value, "{\"name\": \"a\\\\nb/\\t\\\\é\"}"));
+    }
+
+    @Test
+    @DisplayName("Surrogate pairs are joined into a single code point")
+    void surrogatePairTest() {
+        var matcher = matcher("emoji", Predicates.string(Operator.EQUALS, "😀"));
+        assertTrue(matches(matcher, "{\"emoji\": \"\\ud83d\\ude00\"}"));
+        assertTrue(matches(matcher, "{\"emoji\": \"😀\"}"));
+        assertFalse(matches(matcher, "{\"emoji\": \"\\ud83d\"}"));
+    }
+
+    @Test
+    @DisplayName("Invalid unicode escapes are malformed documents")
+    void invalidUnicodeEscapeTest() {
+        var matcher = matcher("name", Predicates.string(Operator.CONTAINS, ""));
+        assertTrue(matches(matcher, "{\"name\": \"\\u0041\"}"));
+        assertFalse(matches(matcher, "{\"name\": \"\\u12G4\"}"));
+        assertFalse(matches(matcher, "{\"name\": \"\\u12\"}"));
+        assertFalse(matches(matcher, "{\"name\": \"ab\\u\"}"));
+        assertFalse(matches(matcher, "{\"na\\uZZZZme\": \"a\"}"));
+        assertFalse(matches(matcher, "{\"name\": \"\\ud83d\\u12G4\"}"));
+    }
+
+    @Test
+    @DisplayName("Members outside of the path are skipped, nested values included")
+    void nestedSkipTest() {
+        var matcher = matcher("a.b.c", Predicates.number(Operator.EQUALS, 1L));
+        assertTrue(matches(matcher, """
+                {"x": {"b": {"c": 2}}, "s": "}]{[\\"", "arr": [{"c": 3}, [1, [2]]],
+                 "a": {"y": null, "b": {"z": [true, false], "c": 1}}}
+                """));
+        assertFalse(matches(matcher, "{\"a\": {\"b\": {\"c\": 2}}}"));
+        assertFalse(matches(matcher, "{\"a\": {\"b\": {}}}"));
+        assertFalse(matches(matcher, "{\"a\": {\"b\": [1]}}"));
+    }
+
+    @Test
+    @DisplayName("Arrays and objects never match a scalar predicate")
+    void arrayTest() {
+        var matcher = matcher("list", Predicates.string(Operator.EQUALS, "[1]"));
+        assertFalse(matches(matcher, "{\"list\": [1]}"));
+        assertFalse(matches(matcher, "{\"list\": {\"a\": 1}}"));
+        assertTrue(matches(matcher, "{\"list\": \"[1]\"}"));
+    }
+
+    @Test
+    @DisplayName("Numbers, booleans and null are matched in place")
+    void scalarTest() {
+        assertTrue(matches(matcher("n", Predicates.number(Operator.GREATER_THAN, 10L)), "{\"n\":11}"));
+        assertTrue(matches(matcher("n", Predicates.number(Operator.EQUALS, -1.5)), "{\"n\": -1.5e0 }"));
+        assertTrue(matches(matcher("b", Predicates.string(Operator.EQUALS, "false")), "{\"b\":false}"));
+        assertTrue(matches(matcher("z", Predicates.isNull(Operator.EQUALS)), "{\"z\":null}"));
+        assertFalse(matches(matcher("z", Predicates.isNull(Operator.EQUALS)), "{\"z\":nul}"));
+        assertFalse(matches(matcher("b", Predicates.string(Operator.EQUALS, "true")), "{\"b\":tru}"));
+    }
+
+    @Test
+    @DisplayName("Numbers can end the input")
+    void numberAtEndTest() {
+        var matcher = new JsonMatcher();
+        matcher.add(new String[0], Predicates.number(Operator.EQUALS, 42L));
+        assertTrue(matcher.matches("42".getBytes(UTF_8)));
+        assertTrue(matcher.matches(" 42".getBytes(UTF_8)));
+        assertFalse(matcher.matches("4".getBytes(UTF_8)));
+        assertTrue(matches(matcher("n", Predicates.number(Operator.EQUALS, 42L)), "{\"n\":42"));
+        assertFalse(matches(matcher("n", Predicates.number(Operator.EQUALS, 42L)), "{\"n\":"));
+    }
+
+    @Test
+    @DisplayName("Malformed documents do not match")
+    void malformedTest() {
+        var matcher = matcher("a", Predicates.number(Operator.EQUALS, 1L));
+        assertFalse(matches(matcher, ""));
+        assertFalse(matches(matcher, "{"));
+        assertFalse(matches(matcher, "{\"a\" 1}"));
+        assertFalse(matches(matcher, "{\"x\": 1 \"a\": 1}"));
+        assertFalse(matches(matcher, "{\"x\": \"unterminated, \"a\": 1"));
+        assertFalse(matches(matcher, "{\"x\": [1, 2, \"a\": 1"));
+        assertFalse(matches(matcher, "{a: 1}"));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    @DisplayName("The scan stops once every path was found or one failed")
+    void earlyStopTest() {
+        var evaluated = new AtomicInteger();
+        var counting = new ValuePredicate() {
+            @Override
+            public boolean testNumber(byte[] source, int start, int end) {
+                evaluated.incrementAndGet();
+                return true;
+            }
+        };
+        var matcher = new JsonMatcher();
+        matcher.add(new String[] {"a"}, counting);
+        matcher.add(new String[] {"b"}, Predicates.number(Operator.EQUALS, 2L));
+        assertTrue(matches(matcher, "{\"a\": 1, \"b\": 2, \"a\": 3, this is not json"));
+        assertEquals(1, evaluated.get());
+
+        evaluated.set(0);
+        assertFalse(matches(matcher, "{\"b\": 3, \"a\": 1}"));
+        assertEquals(0, evaluated.get());
+
+        evaluated.set(0);
+        assertTrue(matches(matcher, "{\"b\": 2, \"a\": 1}"));
+        assertEquals(1, evaluated.get());
+    }
+}
@@ -0,0 +1,130 @@
+package io.vepo.kafka.load.engine.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.vepo.kafka.load.engine.assertion.CorrelationExtractor;
+import io.vepo.kafka.load.engine.internal.CorrelationTracker;
+import io.vepo.kafka.load.engine.internal.LongLongHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LongLongHashMapTest {
+    private static final int CAPACITY = 16;
+
+    private static int slot(long key) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (CAPACITY - 1);
+    }
+
+    private static List<Long> keys(int slot, int count) {
+        return LongStream.iterate(1, key -> key + 1)
+                .filter(key -> slot(key) == slot)
+                .limit(count)
+                .boxed()
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Keys with the same slot are all found and removing one keeps the others reachable")
+    void collisionTest() {
+        var map = new LongLongHashMap(4);
+        var keys = keys(3, 5);
+        keys.forEach(key -> map.put(key, key));
+        assertEquals(5, map.size());
+
+        assertEquals(keys.get(0), map.remove(keys.get(0)));
+        assertEquals(LongLongHashMap.NO_VALUE, map.remove(keys.get(0)));
+        for (var key : keys.subList(1, keys.size())) {
+            assertEquals(key, map.remove(key));
+        }
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Clusters wrapping past the end of the table are probed and shifted back from the start")
+    void wrapAroundTest() {
+        var map = new LongLongHashMap(4);
+        var last = keys(CAPACITY - 1, 3);
+        var first = keys(0, 2);
+        last.forEach(key -> map.put(key, key * 10));
+        first.forEach(key -> map.put(key, key * 10));
+
+        assertEquals(last.get(0) * 10, map.remove(last.get(0)));
+        for (var key : last.subList(1, last.size())) {
+            assertEquals(key * 10, map.remove(key));
+        }
+        for (var key : first) {
+            assertEquals(key * 10, map.remove(key));
+        }
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Removed keys can be inserted again with a new value")
+    void reinsertTest() {
+        var map = new LongLongHashMap(4);
+        var keys = keys(7, 4);
+        keys.forEach(key -> map.put(key, 1));
+        map.remove(keys.get(1));
+        map.put(keys.get(1), 2);
+        map.put(keys.get(3), 3);
+        assertEquals(4, map.size());
+        assertEquals(1, map.remove(keys.get(0)));
+        assertEquals(2, map.remove(keys.get(1)));
+        assertEquals(1, map.remove(keys.get(2)));
+        assertEquals(3, map.remove(keys.get(3)));
+
+        map.put(0, 5);
+        map.put(0, 6);
+        assertEquals(1, map.size());
+        assertEquals(6, map.remove(0));
+        assertEquals(LongLongHashMap.NO_VALUE, map.remove(0));
+    }
+
+    @Test
+    @DisplayName("The map grows and behaves as a HashMap under random puts and removes")
+    void resizeTest() {
+        var map = new LongLongHashMap(1);
+        var expected = new HashMap<Long, Long>();
+        var random = new Random(42);
+        var keys = new ArrayList<Long>();
+        for (int i = 0; i < 100_000; ++i) {
+            if (keys.isEmpty() || random.nextInt(3) > 0) {
+                var key = random.nextInt(5000) - 100L;
+                map.put(key, i);
+                if (expected.put(key, (long) i) == null) {
+                    keys.add(key);
+                }
+            } else {
+                var key = keys.remove(random.nextInt(keys.size()));
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.remove(entry.getKey()));
+        }
+        assertEquals(0, map.size());
+        map.clear();
+        assertEquals(LongLongHashMap.NO_VALUE, map.remove(1));
+    }
+
+    @Test
+    @DisplayName("Correlation headers are 8 bytes big endian written to the buffer of the client")
+    void correlationHeaderTest() {
+        var buffer = new byte[Long.BYTES];
+        for (var id : new long[] { 0, 1, -1, 1L << 40, Long.MIN_VALUE, Long.MAX_VALUE, 0x0102030405060708L }) {
+            var header = CorrelationTracker.encode(id, buffer);
+            assertSame(buffer, header);
+            assertEquals(id, ByteBuffer.wrap(header).getLong());
+            assertEquals(id, CorrelationExtractor.decode(header));
+        }
+    }
+}
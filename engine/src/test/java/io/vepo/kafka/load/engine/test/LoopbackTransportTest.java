@@ -0,0 +1,141 @@
+package io.vepo.kafka.load.engine.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.engine.transport.Transports;
+import io.vepo.kafka.load.parser.Connection;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class LoopbackTransportTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+    private static final int CAPACITY = 16_384;
+
+    private static Transport open(Configuration configuration) {
+        return Transports.open(TransportSettings.of(Connection.builder()
+                .bootstrapServer(PropertyValue.fromText("loopback"))
+                .build(), configuration), configuration);
+    }
+
+    private static ByteBuffer borrowed(String text) {
+        var bytes = ("__" + text).getBytes(UTF_8);
+        return ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+    }
+
+    private static List<String> poll(Subscription subscription, int expected) throws InterruptedException {
+        var records = new ArrayList<String>();
+        while (records.size() < expected) {
+            subscription.poll(Duration.ofSeconds(1), (key, value, correlation) -> records.add(
+                    new String(key, UTF_8) + "=" + new String(value, UTF_8) + "/"
+                            + (correlation != null ? ByteBuffer.wrap(correlation).getLong() : "")));
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Borrowed buffers and correlations are copied for subscriptions and only counted without them")
+    void borrowedBuffersTest() throws InterruptedException {
+        try (var transport = open(LOOPBACK); var sender = transport.sender("client-0");
+                var subscription = transport.subscribe("consumer", "subscribed")) {
+            var key = borrowed("key");
+            var value = borrowed("value");
+            var correlation = ByteBuffer.allocate(Long.BYTES).putLong(7).array();
+            assertTrue(sender.send("subscribed", key, value, correlation));
+            assertEquals(2, key.position());
+            key.put(2, (byte) 'K');
+            value.put(2, (byte) 'V');
+            correlation[7] = 8;
+            assertTrue(sender.send("unsubscribed", key, value, correlation));
+            assertEquals(List.of("key=value/7"), poll(subscription, 1));
+            assertEquals(2 * (3 + 5 + 8), transport.bytesSent());
+        }
+    }
+
+    @Test
+    @DisplayName("Sends with latency complete in order once the latency elapsed, the queue grows as needed")
+    void latencyTest() throws InterruptedException {
+        var records = 3000;
+        try (var transport = open(LOOPBACK.with(Configuration.LOOPBACK_LATENCY, "2000"));
+                var sender = transport.sender("client-0");
+                var subscription = transport.subscribe("consumer", "subscribed")) {
+            var completed = Collections.synchronizedList(new ArrayList<Integer>());
+            var done = new CountDownLatch(records);
+            var start = System.nanoTime();
+            for (int i = 0; i < records; ++i) {
+                var index = i;
+                var topic = i % 2 == 0 ? "subscribed" : "unsubscribed";
+                sender.send(topic, borrowed("k" + i), borrowed("v" + i), null, success -> {
+                    if (success) {
+                        completed.add(index);
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(2));
+            for (int i = 0; i < records; ++i) {
+                assertEquals(i, completed.get(i));
+            }
+            var received = poll(subscription, records / 2);
+            assertEquals("k0=v0/", received.get(0));
+            assertEquals("k2998=v2998/", received.get(received.size() - 1));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("A full subscription blocks the sender until it is polled or closed")
+    void backpressureTest() throws Exception {
+        try (var transport = open(LOOPBACK); var sender = transport.sender("client-0")) {
+            var subscription = transport.subscribe("consumer", "topic");
+            var sent = new AtomicInteger();
+            var sending = CompletableFuture.runAsync(() -> {
+                try {
+                    while (sent.get() < 2 * CAPACITY) {
+                        sender.send("topic", new byte[0], new byte[0], null);
+                        sent.incrementAndGet();
+                    }
+                } catch (InterruptedException ie) {
+                    throw new IllegalStateException(ie);
+                }
+            });
+            awaitSent(sent, CAPACITY);
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertEquals(CAPACITY, sent.get());
+            assertFalse(sending.isDone());
+
+            assertEquals(500, subscription.poll(Duration.ofSeconds(1), (key, value, correlation) -> {
+            }));
+            awaitSent(sent, CAPACITY + 500);
+            assertFalse(sending.isDone());
+
+            subscription.close();
+            sending.get(5, TimeUnit.SECONDS);
+            assertEquals(2 * CAPACITY, sent.get());
+        }
+    }
+
+    private static void awaitSent(AtomicInteger sent, int expected) throws InterruptedException {
+        while (sent.get() < expected) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.vepo.kafka.load.engine.test;
+
+import io.vepo.kafka.load.engine.internal.Timer;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+public class ManualTimer implements Timer {
+    private record Task(long deadline, long sequence, Runnable task) implements Timeout {
+        @Override
+        public boolean cancel() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>(Comparator.comparingLong(Task::deadline)
+            .thenComparingLong(Task::sequence));
+    private final long tickDuration;
+    private long now;
+    private long sequence;
+
+    public ManualTimer(long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    public void advance(long nanos) {
+        var until = now + nanos;
+        while (!tasks.isEmpty() && tasks.peek().deadline() <= until) {
+            var task = tasks.poll();
+            now = Math.max(now, task.deadline());
+            task.task().run();
+        }
+        now = until;
+    }
+
+    @Override
+    public Timeout schedule(long deadline, Runnable task) {
+        var scheduled = new Task(deadline, sequence++, task);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public long tickDuration() {
+        return tickDuration;
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+}
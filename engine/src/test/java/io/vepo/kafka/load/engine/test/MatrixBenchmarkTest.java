@@ -0,0 +1,100 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.BenchmarkMatrix;
+import io.vepo.kafka.load.engine.MatrixBenchmark;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.metrics.MatrixCell;
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Idempotence;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MatrixBenchmarkTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Matrix benchmark executes every combination of producer settings")
+    void matrixBenchmarkTest() {
+        var matrix = BenchmarkMatrix.builder()
+                .compressions(List.of(Compression.NONE, Compression.ZSTD))
+                .lingerMs(List.of(5))
+                .batchSizes(List.of(16384, 65536))
+                .repetitions(2)
+                .build();
+        var result = new MatrixBenchmark(LOOPBACK).run(parseTestPlan("""
+                TestPlan Matrix {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 500ms
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """), matrix);
+        assertTrue(result.successful());
+        assertEquals(4, result.cells().size());
+        assertEquals(List.of(Compression.NONE, Compression.NONE, Compression.ZSTD, Compression.ZSTD),
+                result.cells().stream().map(MatrixCell::compression).collect(toList()));
+        assertEquals(List.of(16384, 65536, 16384, 65536),
+                result.cells().stream().map(MatrixCell::batchSize).collect(toList()));
+        result.cells().forEach(cell -> {
+            assertTrue(cell.total().count() > 0);
+            assertTrue(cell.records() >= cell.total().count());
+            assertTrue(cell.wireBytesPerRecord() > 0);
+        });
+        assertTrue(result.best().isPresent());
+    }
+
+    @Test
+    @DisplayName("Matrix benchmark compares idempotence and transaction sizes")
+    void transactionMatrixTest() {
+        var matrix = BenchmarkMatrix.builder()
+                .compressions(List.of(Compression.NONE))
+                .lingerMs(List.of(5))
+                .batchSizes(List.of(16384))
+                .idempotence(List.of(Idempotence.ENABLED, Idempotence.DISABLED))
+                .transactionSizes(List.of(0, 5))
+                .build();
+        assertEquals(4, matrix.cells());
+        var result = new MatrixBenchmark(LOOPBACK).run(parseTestPlan("""
+                TestPlan Transactions {
+                    clients:   2
+                    cycleTime: 10ms
+                    execution: 500ms
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """), matrix);
+        assertTrue(result.successful());
+        assertEquals(List.of(Idempotence.ENABLED, Idempotence.ENABLED, Idempotence.DISABLED, Idempotence.DISABLED),
+                result.cells().stream().map(MatrixCell::idempotence).collect(toList()));
+        assertEquals(List.of(0, 5, 0, 5), result.cells().stream().map(MatrixCell::transactionSize).collect(toList()));
+        result.cells().forEach(cell -> assertTrue(cell.total().count() > 0));
+        assertThrows(ExecutorException.class, () -> BenchmarkMatrix.builder().transactionSizes(List.of(-1)).build());
+    }
+}
@@ -0,0 +1,119 @@
+package io.vepo.kafka.load.engine.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.vepo.kafka.load.engine.compiler.CompiledAssertion;
+import io.vepo.kafka.load.engine.compiler.CompiledMessage;
+import io.vepo.kafka.load.engine.compiler.CompiledStep;
+import io.vepo.kafka.load.engine.internal.MessageMetrics;
+import io.vepo.kafka.load.engine.internal.MetricsRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MetricsRegistryTest {
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static CompiledStep step(String name, String... topics) {
+        return new CompiledStep(name, null, null, 0,
+                Stream.of(topics).map(topic -> new CompiledMessage(topic, null, null)).toArray(CompiledMessage[]::new),
+                new CompiledAssertion[0]);
+    }
+
+    private final MetricsRegistry registry = new MetricsRegistry(new CompiledStep[] {
+        step("Step1", "topic-1", "topic-2", "topic-1"),
+        step("Step2", "topic-1") }, 8);
+
+    private static void assertLatency(long expectedNanos, Duration latency) {
+        assertEquals(expectedNanos, latency.toNanos(), expectedNanos * 0.01);
+    }
+
+    @Test
+    @DisplayName("Messages of a step to the same topic share their metrics")
+    void metricsTest() {
+        assertEquals(List.of("Step1/topic-1", "Step1/topic-2", "Step2/topic-1"),
+                registry.metrics().stream().map(metric -> metric.step() + "/" + metric.topic()).toList());
+        assertSame(registry.message(0, 0), registry.message(0, 2));
+        assertSame(registry.metrics().get(2), registry.message(1, 0));
+    }
+
+    @Test
+    @DisplayName("Intervals only hold what was recorded since the previous collection, totals hold everything")
+    void collectTest() {
+        var metric = registry.message(0, 0);
+        metric.record(0, MILLISECOND);
+        metric.record(1, 2 * MILLISECOND);
+        metric.record(1000, 3 * MILLISECOND);
+        metric.error();
+        registry.collect();
+        assertEquals(3, metric.interval().getTotalCount());
+        assertEquals(3, metric.total().getTotalCount());
+        assertEquals(1, metric.intervalErrors());
+        assertEquals(1, metric.totalErrors());
+
+        metric.record(3, 4 * MILLISECOND);
+        registry.collect();
+        assertEquals(1, metric.interval().getTotalCount());
+        assertEquals(4000, metric.interval().getMaxValue(), 40);
+        assertEquals(4, metric.total().getTotalCount());
+        assertEquals(0, metric.intervalErrors());
+        assertEquals(1, metric.totalErrors());
+
+        registry.collect();
+        assertEquals(0, metric.interval().getTotalCount());
+        assertEquals(4, metric.total().getTotalCount());
+        assertEquals(0, registry.message(0, 1).total().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Latencies are recorded in microseconds and capped at the highest trackable latency")
+    void latencyTest() {
+        var metric = registry.message(1, 0);
+        metric.record(0, 1500);
+        metric.record(0, Long.MAX_VALUE);
+        registry.collect();
+        assertEquals(1, metric.total().getMinValue());
+        assertEquals(MessageMetrics.HIGHEST_TRACKABLE_LATENCY, metric.total().getMaxValue(),
+                MessageMetrics.HIGHEST_TRACKABLE_LATENCY * 0.01);
+    }
+
+    @Test
+    @DisplayName("Statistics are grouped by step, by topic and over all messages")
+    void statisticsTest() {
+        registry.message(0, 0).record(0, MILLISECOND);
+        registry.message(0, 2).record(1, MILLISECOND);
+        registry.message(0, 1).record(2, 2 * MILLISECOND);
+        registry.message(1, 0).record(3, 4 * MILLISECOND);
+        registry.message(1, 0).error();
+        registry.collect();
+
+        var measured = Duration.ofSeconds(2);
+        var steps = registry.steps(measured);
+        assertEquals(List.of("Step1", "Step2"), List.copyOf(steps.keySet()));
+        assertEquals(3, steps.get("Step1").count());
+        assertEquals(0, steps.get("Step1").errors());
+        assertEquals(1.5, steps.get("Step1").throughput());
+        assertLatency(2 * MILLISECOND, steps.get("Step1").latency().percentile(100));
+        assertEquals(1, steps.get("Step2").count());
+        assertEquals(1, steps.get("Step2").errors());
+
+        var topics = registry.topics(measured);
+        assertEquals(List.of("topic-1", "topic-2"), List.copyOf(topics.keySet()));
+        assertEquals(3, topics.get("topic-1").count());
+        assertEquals(1, topics.get("topic-1").errors());
+        assertLatency(4 * MILLISECOND, topics.get("topic-1").latency().percentile(100));
+        assertEquals(1, topics.get("topic-2").count());
+
+        var total = registry.total("Plan", measured);
+        assertEquals("Plan", total.name());
+        assertEquals(4, total.count());
+        assertEquals(1, total.errors());
+        assertEquals(2.0, total.throughput());
+        assertLatency(MILLISECOND, total.latency().p50());
+        assertEquals(0.0, registry.total("Plan", Duration.ZERO).throughput());
+    }
+}
@@ -0,0 +1,39 @@
+package io.vepo.kafka.load.engine.test;
+
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.transport.Sender;
+import io.vepo.kafka.load.engine.transport.Subscription;
+import io.vepo.kafka.load.engine.transport.Transport;
+import io.vepo.kafka.load.engine.transport.TransportProvider;
+import io.vepo.kafka.load.engine.transport.TransportSettings;
+import io.vepo.kafka.load.engine.transport.Transports;
+
+public class MinimalTransportProvider implements TransportProvider {
+    public static final String NAME = "minimal";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Transport open(TransportSettings settings, Configuration configuration) {
+        var loopback = Transports.open(settings, configuration.with(Configuration.TRANSPORT, "loopback"));
+        return new Transport() {
+            @Override
+            public Sender sender(String clientId) {
+                return loopback.sender(clientId);
+            }
+
+            @Override
+            public Subscription subscribe(String clientId, String topic) {
+                return loopback.subscribe(clientId, topic);
+            }
+
+            @Override
+            public void close() {
+                loopback.close();
+            }
+        };
+    }
+}
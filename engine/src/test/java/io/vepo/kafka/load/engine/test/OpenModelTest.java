@@ -0,0 +1,75 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OpenModelTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Open model over loopback transport with latency")
+    void openModelTest() {
+        var result = new TestPanExecutor(LOOPBACK.with(Configuration.LOOPBACK_LATENCY, "2000"))
+                .execute(parseTestPlan("""
+                        TestPlan Open {
+                            clients:   8
+                            rate:      500
+                            execution: 1s
+
+                            connection {
+                                bootstrapServer: "loopback"
+                            }
+
+                            Step1 {
+                                message {
+                                    topic: "topic-1"
+                                    value: "value-${index}"
+                                }
+                            }
+                        }
+                        """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 400);
+        assertTrue(result.total().latency().p50().compareTo(Duration.ofMillis(2)) >= 0);
+    }
+
+    @Test
+    @DisplayName("Open model following a ramp profile")
+    void profileTest() {
+        var result = new TestPanExecutor(LOOPBACK.with(Configuration.REPORT_INTERVAL, "1"))
+                .execute(parseTestPlan("""
+                        TestPlan Ramp {
+                            clients:   8
+                            execution: 2s
+
+                            connection {
+                                bootstrapServer: "loopback"
+                            }
+
+                            profile {
+                                shape: RAMP
+                                from:  100
+                                to:    500
+                            }
+
+                            Step1 {
+                                message {
+                                    topic: "topic-1"
+                                    value: "value-${index}"
+                                }
+                            }
+                        }
+                        """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+        assertEquals(2, result.rates().size());
+        assertTrue(result.rates().get(0).target() < result.rates().get(1).target());
+    }
+}
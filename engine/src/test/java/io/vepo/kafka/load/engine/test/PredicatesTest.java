@@ -0,0 +1,118 @@
+package io.vepo.kafka.load.engine.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.assertion.Predicates;
+import io.vepo.kafka.load.engine.assertion.ValuePredicate;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.Operator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PredicatesTest {
+
+    private static boolean string(ValuePredicate predicate, String value) {
+        var source = ("xx" + value + "yy").getBytes(UTF_8);
+        return predicate.testString(source, 2, source.length - 2);
+    }
+
+    private static boolean number(ValuePredicate predicate, String value) {
+        var source = ("[" + value + "]").getBytes(UTF_8);
+        return predicate.testNumber(source, 1, source.length - 1);
+    }
+
+    @Test
+    @DisplayName("String equality compares the unescaped bytes and booleans as text")
+    void stringEqualsTest() {
+        var predicate = Predicates.string(Operator.EQUALS, "ação");
+        assertTrue(string(predicate, "ação"));
+        assertFalse(string(predicate, "acao"));
+        assertFalse(string(predicate, "ação!"));
+        assertFalse(number(predicate, "1"));
+        assertFalse(predicate.testNull());
+        assertTrue(Predicates.string(Operator.EQUALS, "true").testBoolean(true));
+        assertFalse(Predicates.string(Operator.EQUALS, "true").testBoolean(false));
+    }
+
+    @Test
+    @DisplayName("String comparisons are unsigned over UTF-8 bytes")
+    void stringComparisonTest() {
+        assertTrue(string(Predicates.string(Operator.LESS_THAN, "b"), "a"));
+        assertFalse(string(Predicates.string(Operator.LESS_THAN, "b"), "b"));
+        assertTrue(string(Predicates.string(Operator.LESS_THAN_OR_EQUAL_TO, "b"), "b"));
+        assertTrue(string(Predicates.string(Operator.GREATER_THAN, "b"), "ba"));
+        assertTrue(string(Predicates.string(Operator.GREATER_THAN_OR_EQUAL_TO, "b"), "b"));
+        /* é is 0xC3 0xA9, signed comparison would put it before z. */
+        assertTrue(string(Predicates.string(Operator.GREATER_THAN, "z"), "é"));
+    }
+
+    @Test
+    @DisplayName("Contains finds the pattern anywhere in the value")
+    void containsTest() {
+        var predicate = Predicates.string(Operator.CONTAINS, "load");
+        assertTrue(string(predicate, "load"));
+        assertTrue(string(predicate, "kafka-load"));
+        assertTrue(string(predicate, "loadtest"));
+        assertTrue(string(predicate, "llloload"));
+        assertFalse(string(predicate, "loa"));
+        assertFalse(string(predicate, "lo-ad"));
+        assertFalse(string(predicate, ""));
+        var repeated = Predicates.string(Operator.CONTAINS, "aab");
+        assertTrue(string(repeated, "aaaab"));
+        assertFalse(string(repeated, "aaaaa"));
+        assertTrue(string(Predicates.string(Operator.CONTAINS, ""), "anything"));
+        assertTrue(string(Predicates.string(Operator.CONTAINS, "ç"), "ação"));
+        assertFalse(string(Predicates.string(Operator.CONTAINS, "xa"), "ab"));
+        assertFalse(string(Predicates.string(Operator.CONTAINS, "by"), "ab"));
+    }
+
+    @Test
+    @DisplayName("Integral expectations compare longs and fall back to doubles")
+    void integralNumberTest() {
+        var equals = Predicates.number(Operator.EQUALS, 9007199254740993L);
+        /* Not representable as a double, only a long comparison tells them apart. */
+        assertTrue(number(equals, "9007199254740993"));
+        assertFalse(number(equals, "9007199254740992"));
+        assertTrue(number(Predicates.number(Operator.LESS_THAN, 10L), "-10"));
+        assertTrue(number(Predicates.number(Operator.LESS_THAN, 10L), "9.5"));
+        assertFalse(number(Predicates.number(Operator.LESS_THAN, 10L), "10"));
+        assertTrue(number(Predicates.number(Operator.LESS_THAN_OR_EQUAL_TO, 10L), "10"));
+        assertTrue(number(Predicates.number(Operator.GREATER_THAN, 10L), "1e2"));
+        assertTrue(number(Predicates.number(Operator.GREATER_THAN_OR_EQUAL_TO, 10L), "10.0"));
+        assertTrue(number(Predicates.number(Operator.GREATER_THAN, Long.MAX_VALUE), "9223372036854775808"));
+        assertTrue(number(Predicates.number(Operator.EQUALS, Long.MIN_VALUE), "-9223372036854775808"));
+        assertFalse(string(Predicates.number(Operator.EQUALS, 1L), "1"));
+    }
+
+    @Test
+    @DisplayName("Decimal expectations compare doubles")
+    void decimalNumberTest() {
+        assertTrue(number(Predicates.number(Operator.EQUALS, 0.1), "0.1"));
+        assertTrue(number(Predicates.number(Operator.EQUALS, 0.1), "1e-1"));
+        assertTrue(number(Predicates.number(Operator.LESS_THAN, 0.5), "-0.5"));
+        assertTrue(number(Predicates.number(Operator.GREATER_THAN, 1.5), "2"));
+        assertTrue(number(Predicates.number(Operator.GREATER_THAN_OR_EQUAL_TO, 1.5), "1.5"));
+        assertTrue(number(Predicates.number(Operator.LESS_THAN_OR_EQUAL_TO, 1e300), "1e299"));
+        assertFalse(number(Predicates.number(Operator.EQUALS, 1.5), "abc"));
+    }
+
+    @Test
+    @DisplayName("Null only supports equality")
+    void nullTest() {
+        var predicate = Predicates.isNull(Operator.EQUALS);
+        assertTrue(predicate.testNull());
+        assertFalse(string(predicate, "null"));
+        assertFalse(number(predicate, "0"));
+        assertThrows(ExecutorException.class, () -> Predicates.isNull(Operator.LESS_THAN));
+    }
+
+    @Test
+    @DisplayName("Contains is rejected for numbers")
+    void unsupportedOperatorTest() {
+        assertThrows(ExecutorException.class, () -> Predicates.number(Operator.CONTAINS, 1L));
+        assertThrows(ExecutorException.class, () -> Predicates.number(Operator.CONTAINS, 1.5));
+    }
+}
@@ -0,0 +1,140 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vepo.kafka.load.engine.internal.RateProfile;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RateProfileTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static RateProfile profile(String warmUp, String execution, String profile) {
+        return RateProfile.of(parseTestPlan("""
+                TestPlan Shaped {
+                    warmUp:    %s
+                    execution: %s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    profile {
+                        %s
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """.formatted(warmUp, execution, profile)));
+    }
+
+    private static void assertInverse(RateProfile profile, long arrivals) {
+        for (long arrival = 0; arrival <= arrivals; ++arrival) {
+            assertEquals(arrival, profile.arrivals(profile.intended(arrival)), 0.001);
+        }
+    }
+
+    @Test
+    @DisplayName("Constant rates start an arrival every 1 / rate seconds, decimal rates included")
+    void constantTest() {
+        var profile = RateProfile.constant(1000);
+        assertEquals(0, profile.arrivals(-SECOND));
+        assertEquals(0, profile.arrivals(0));
+        assertEquals(1, profile.arrivals(MILLISECOND), 1e-9);
+        assertEquals(1000, profile.arrivals(SECOND), 1e-9);
+        assertEquals(0, profile.intended(0));
+        assertEquals(500 * MILLISECOND, profile.intended(500), 1);
+
+        var slow = RateProfile.constant(0.5);
+        assertEquals(2, slow.arrivals(4 * SECOND), 1e-9);
+        assertEquals(2 * SECOND, slow.intended(1), 1);
+        assertInverse(profile, 2000);
+    }
+
+    @Test
+    @DisplayName("Ramps change the rate linearly and keep the last rate after the execution")
+    void rampTest() {
+        var profile = profile("0ms", "2s", """
+                shape: RAMP
+                from:  100
+                to:    500""");
+        assertEquals(200, profile.arrivals(SECOND), 1e-6);
+        assertEquals(600, profile.arrivals(2 * SECOND), 1e-6);
+        assertEquals(1100, profile.arrivals(3 * SECOND), 1e-6);
+        assertEquals(SECOND, profile.intended(200), 1);
+        assertEquals(3 * SECOND, profile.intended(1100), 1);
+        assertInverse(profile, 1100);
+
+        var down = profile("0ms", "2s", """
+                shape: RAMP
+                from:  500
+                to:    100""");
+        assertEquals(400, down.arrivals(SECOND), 1e-6);
+        assertEquals(600, down.arrivals(2 * SECOND), 1e-6);
+        assertInverse(down, 600);
+    }
+
+    @Test
+    @DisplayName("Warm up keeps the first rate of the profile")
+    void warmUpTest() {
+        var profile = profile("1s", "2s", """
+                shape: RAMP
+                from:  100
+                to:    500""");
+        assertEquals(100, profile.arrivals(SECOND), 1e-6);
+        assertEquals(700, profile.arrivals(3 * SECOND), 1e-6);
+        assertEquals(SECOND, profile.intended(100), 1);
+    }
+
+    @Test
+    @DisplayName("Stairs hold each rate for the same share of the execution")
+    void stairsTest() {
+        var profile = profile("0ms", "3s", """
+                shape: STAIRS
+                from:  100
+                to:    300
+                steps: 3""");
+        assertEquals(100, profile.arrivals(SECOND), 1e-6);
+        assertEquals(300, profile.arrivals(2 * SECOND), 1e-6);
+        assertEquals(600, profile.arrivals(3 * SECOND), 1e-6);
+        assertEquals(SECOND + SECOND / 2, profile.intended(200), 1);
+        assertInverse(profile, 600);
+    }
+
+    @Test
+    @DisplayName("Spikes switch to the peak rate and back")
+    void spikeTest() {
+        var profile = profile("0ms", "2s", """
+                shape:    SPIKE
+                from:     100
+                to:       1000
+                at:       1s
+                duration: 500ms""");
+        assertEquals(100, profile.arrivals(SECOND), 1e-6);
+        assertEquals(600, profile.arrivals(1500 * MILLISECOND), 1e-6);
+        assertEquals(650, profile.arrivals(2 * SECOND), 1e-6);
+        assertInverse(profile, 650);
+    }
+
+    @Test
+    @DisplayName("Sine waves average the lowest and the highest rate over each period")
+    void sineTest() {
+        var profile = profile("0ms", "2s", """
+                shape:  SINE
+                from:   0
+                to:     200
+                period: 1s""");
+        assertEquals(50, profile.arrivals(SECOND / 2), 1e-6);
+        assertEquals(100, profile.arrivals(SECOND), 1e-6);
+        assertEquals(200, profile.arrivals(2 * SECOND), 1e-6);
+        assertInverse(profile, 200);
+    }
+}
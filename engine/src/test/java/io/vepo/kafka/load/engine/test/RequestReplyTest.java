@@ -0,0 +1,50 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RequestReplyTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Request/reply step waits for each reply")
+    void requestReplyTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan RequestReply {
+                    clients:   4
+                    cycleTime: 10ms
+                    warmUp:    200ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Request {
+                        replyTopic: "requests"
+                        timeout:    1s
+
+                        message {
+                            topic: "requests"
+                            value: "request-${index}"
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertEquals(1, result.replies().size());
+        var replies = result.replies().get(0);
+        assertEquals("Request", replies.step());
+        assertEquals("requests", replies.topic());
+        assertTrue(replies.replies() > 0);
+        assertEquals(0, replies.timeouts());
+        assertEquals(0, replies.unmatched());
+        assertEquals(replies.replies(), replies.latency().count());
+    }
+}
@@ -0,0 +1,63 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.SaturationSearch;
+import io.vepo.kafka.load.engine.Slo;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.metrics.SaturationTrial;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SaturationSearchTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Saturation search doubles the rate until the maximum")
+    void saturationSearchTest() {
+        var slo = Slo.parse("p99 < 500ms, p999 < 1s, errors < 0.1%");
+        assertEquals(Duration.ofMillis(500), slo.percentiles().get(99.0));
+        assertEquals(Duration.ofSeconds(1), slo.percentiles().get(99.9));
+        assertEquals(0.001, slo.errorRate(), 0.000001);
+
+        var result = new SaturationSearch(LOOPBACK.with(Configuration.SATURATION_START_RATE, "100")
+                .with(Configuration.SATURATION_MAX_RATE, "400"))
+                .search(parseTestPlan("""
+                        TestPlan Saturation {
+                            clients:   8
+                            warmUp:    200ms
+                            execution: 1s
+
+                            connection {
+                                bootstrapServer: "loopback"
+                            }
+
+                            Step1 {
+                                message {
+                                    topic: "topic-1"
+                                    value: "value-${index}"
+                                }
+                            }
+                        }
+                        """), slo);
+        assertTrue(result.found());
+        assertEquals(400, result.rate());
+        assertEquals(List.of(100, 200, 400), result.curve().stream().map(SaturationTrial::rate).collect(toList()));
+        result.trials().forEach(trial -> assertTrue(trial.withinSlo()));
+    }
+
+    @Test
+    @DisplayName("Saturation rates that are not numbers")
+    void invalidSaturationRateTest() {
+        var exception = Assertions.assertThrows(ExecutorException.class,
+                () -> new SaturationSearch(LOOPBACK.with(Configuration.SATURATION_MAX_RATE, "1k")));
+        assertEquals("Invalid rate! key=" + Configuration.SATURATION_MAX_RATE + " value=1k", exception.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SendWindowTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Send window pipelines the sends of each client")
+    void sendWindowTest() {
+        var result = new TestPanExecutor(LOOPBACK.with(Configuration.LOOPBACK_LATENCY, "5000"))
+                .execute(parseTestPlan("""
+                        TestPlan Pipelined {
+                            clients:   2
+                            cycleTime: 1ms
+                            execution: 1s
+
+                            connection {
+                                bootstrapServer: "loopback"
+                                sendWindow: 4
+                            }
+
+                            Step1 {
+                                message {
+                                    topic: "topic-1"
+                                    value: "value-${index}"
+                                }
+                            }
+                        }
+                        """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 600);
+        assertTrue(result.total().latency().p50().compareTo(Duration.ofMillis(5)) >= 0);
+        var backpressure = result.backpressure();
+        assertEquals(4, backpressure.window());
+        assertEquals(result.total().count(), backpressure.sends());
+        assertTrue(backpressure.waits() > 0);
+        assertTrue(backpressure.time().compareTo(Duration.ZERO) > 0);
+    }
+}
@@ -0,0 +1,376 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.engine.serde.SchemaRegistry;
+import io.vepo.kafka.load.engine.serde.ValueCompiler;
+import io.vepo.kafka.load.engine.serde.ValueDecoder;
+import io.vepo.kafka.load.parser.MessageType;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SerdeTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+    private static final String TOPIC = "values";
+
+    private final SchemaRegistry registry = new SchemaRegistry();
+    private final ValueCompiler compiler = new ValueCompiler(new TemplateCompiler(Configuration.empty()), registry);
+
+    private Template compile(MessageType type, String value, String schema) {
+        return compiler.compile(type, TOPIC, PropertyValue.fromText(value), PropertyValue.fromText(schema));
+    }
+
+    private static byte[] render(Template template, long index) {
+        var context = new RenderContext(0);
+        context.index(index);
+        template.render(context, context.value());
+        return context.value().toByteArray();
+    }
+
+    private byte[] framed(String schema, boolean protobuf, int... payload) {
+        var id = registry.register(SchemaRegistry.valueSubject(TOPIC), schema);
+        var bytes = new ByteArrayOutputStream();
+        bytes.write(0);
+        bytes.writeBytes(new byte[] { (byte) (id >>> 24), (byte) (id >>> 16), (byte) (id >>> 8), (byte) id });
+        if (protobuf) {
+            bytes.write(0);
+        }
+        Arrays.stream(payload).forEach(bytes::write);
+        return bytes.toByteArray();
+    }
+
+    private void assertDecoded(MessageType type, byte[] value) {
+        var decoder = ValueDecoder.of(type, registry);
+        assertDoesNotThrow(() -> decoder.decode(value));
+        assertThrows(ExecutorException.class, () -> decoder.decode(Arrays.copyOf(value, value.length - 1)));
+    }
+
+    @Test
+    @DisplayName("Avro records are encoded with zig-zag numbers, length prefixed strings, unions and arrays")
+    void avroTest() {
+        var schema = """
+                {
+                    "type": "record",
+                    "name": "Order",
+                    "fields": [
+                        {"name": "id", "type": "int"},
+                        {"name": "total", "type": "long"},
+                        {"name": "name", "type": "string"},
+                        {"name": "note", "type": ["null", "string"], "default": null},
+                        {"name": "nested", "type": {
+                            "type": "record",
+                            "name": "Nested",
+                            "fields": [
+                                {"name": "flag", "type": "boolean"},
+                                {"name": "score", "type": "double"}
+                            ]
+                        }},
+                        {"name": "items", "type": {"type": "array", "items": "int"}}
+                    ]
+                }
+                """;
+        var template = compile(MessageType.AVRO, """
+                {
+                    "id": ${index},
+                    "total": -1,
+                    "name": "ação",
+                    "nested": {"flag": true, "score": 1.5},
+                    "items": [1, -64]
+                }
+                """, schema);
+        var value = render(template, -2);
+        assertArrayEquals(framed(schema, false,
+                0x03,
+                0x01,
+                0x0C, 'a', 0xC3, 0xA7, 0xC3, 0xA3, 'o',
+                0x00,
+                0x01, 0, 0, 0, 0, 0, 0, 0xF8, 0x3F,
+                0x04, 0x02, 0x7F, 0x00), value);
+        assertDecoded(MessageType.AVRO, value);
+
+        var optional = compile(MessageType.AVRO, """
+                {"id": 1, "total": 0, "name": "", "note": "n-${index}", "nested": {"flag": false, "score": 0},
+                 "items": []}
+                """, schema);
+        value = render(optional, 7);
+        assertArrayEquals(framed(schema, false,
+                0x02,
+                0x00,
+                0x00,
+                0x02, 0x06, 'n', '-', '7',
+                0x00, 0, 0, 0, 0, 0, 0, 0, 0,
+                0x00), value);
+        assertDecoded(MessageType.AVRO, value);
+    }
+
+    @Test
+    @DisplayName("Avro longs are encoded on the whole range and ints are checked when rendered")
+    void avroRangeTest() {
+        var schema = """
+                {
+                    "type": "record",
+                    "name": "Numbers",
+                    "fields": [
+                        {"name": "small", "type": "int"},
+                        {"name": "large", "type": "long"}
+                    ]
+                }
+                """;
+        var large = compile(MessageType.AVRO, "{\"small\": 0, \"large\": ${index}}", schema);
+        var value = render(large, Long.MIN_VALUE);
+        assertArrayEquals(framed(schema, false, 0x00,
+                0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01), value);
+        assertDecoded(MessageType.AVRO, value);
+        value = render(large, Long.MAX_VALUE);
+        assertArrayEquals(framed(schema, false, 0x00,
+                0xFE, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01), value);
+        assertDecoded(MessageType.AVRO, value);
+
+        var small = compile(MessageType.AVRO, "{\"small\": ${index}, \"large\": 0}", schema);
+        assertArrayEquals(framed(schema, false, 0xFE, 0xFF, 0xFF, 0xFF, 0x0F, 0x00),
+                render(small, Integer.MAX_VALUE));
+        assertArrayEquals(framed(schema, false, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 0x00),
+                render(small, Integer.MIN_VALUE));
+        var exception = assertThrows(ExecutorException.class, () -> render(small, Integer.MAX_VALUE + 1L));
+        assertTrue(exception.getMessage().startsWith("Value out of range for field! field=small"),
+                exception.getMessage());
+        assertThrows(ExecutorException.class, () -> render(small, Integer.MIN_VALUE - 1L));
+
+        var overflow = compile(MessageType.AVRO, "{\"small\": 0, \"large\": \"${index}0\"}", schema);
+        assertThrows(ExecutorException.class, () -> render(overflow, Long.MAX_VALUE / 10 + 1));
+        assertThrows(ExecutorException.class, () -> render(overflow, Long.MIN_VALUE / 10 - 1));
+        assertDecoded(MessageType.AVRO, render(overflow, Long.MIN_VALUE / 10));
+        assertThrows(ExecutorException.class,
+                () -> compile(MessageType.AVRO, "{\"small\": 0, \"large\": 9223372036854775808}", schema));
+    }
+
+    @Test
+    @DisplayName("Protobuf messages are encoded with tags, varints, nested messages and repeated fields")
+    void protobufTest() {
+        var schema = """
+                syntax = "proto3";
+
+                message Order {
+                    int32 id = 1;
+                    sint64 delta = 2;
+                    string name = 3;
+                    Inner inner = 4;
+                    repeated uint32 items = 5;
+                    fixed32 flags = 6;
+
+                    message Inner {
+                        double score = 1;
+                        int64 index = 2;
+                    }
+                }
+                """;
+        var template = compile(MessageType.PROTOBUF, """
+                {
+                    "flags": 1,
+                    "id": ${index},
+                    "delta": -3,
+                    "name": "é",
+                    "inner": {"score": 0.5, "index": ${index}},
+                    "items": [1, 300]
+                }
+                """, schema);
+        var value = render(template, -1);
+        assertArrayEquals(framed(schema, true,
+                0x08, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01,
+                0x10, 0x05,
+                0x1A, 0x02, 0xC3, 0xA9,
+                0x22, 0x14,
+                0x09, 0, 0, 0, 0, 0, 0, 0xE0, 0x3F,
+                0x10, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01,
+                0x28, 0x01,
+                0x28, 0xAC, 0x02,
+                0x35, 0x01, 0, 0, 0), value);
+        assertDecoded(MessageType.PROTOBUF, value);
+
+        value = render(template, 1);
+        assertArrayEquals(framed(schema, true,
+                0x08, 0x01,
+                0x10, 0x05,
+                0x1A, 0x02, 0xC3, 0xA9,
+                0x22, 0x0B,
+                0x09, 0, 0, 0, 0, 0, 0, 0xE0, 0x3F,
+                0x10, 0x01,
+                0x28, 0x01,
+                0x28, 0xAC, 0x02,
+                0x35, 0x01, 0, 0, 0), value);
+        assertDecoded(MessageType.PROTOBUF, value);
+    }
+
+    @Test
+    @DisplayName("Protobuf integers are checked against the range of their type when rendered")
+    void protobufRangeTest() {
+        var schema = """
+                syntax = "proto3";
+
+                message Numbers {
+                    uint32 unsigned = 1;
+                    fixed32 fixed = 2;
+                    sint32 signed = 3;
+                    double real = 4;
+                }
+                """;
+        var unsigned = compile(MessageType.PROTOBUF, "{\"unsigned\": ${index}}", schema);
+        assertArrayEquals(framed(schema, true, 0x08, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F), render(unsigned, 0xFFFFFFFFL));
+        assertThrows(ExecutorException.class, () -> render(unsigned, -1));
+        assertThrows(ExecutorException.class, () -> render(unsigned, 0x100000000L));
+
+        var fixed = compile(MessageType.PROTOBUF, "{\"fixed\": ${index}}", schema);
+        assertArrayEquals(framed(schema, true, 0x15, 0xFF, 0xFF, 0xFF, 0xFF), render(fixed, 0xFFFFFFFFL));
+        assertThrows(ExecutorException.class, () -> render(fixed, -1));
+
+        var signed = compile(MessageType.PROTOBUF, "{\"signed\": ${index}}", schema);
+        assertArrayEquals(framed(schema, true, 0x18, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F), render(signed, Integer.MIN_VALUE));
+        assertThrows(ExecutorException.class, () -> render(signed, Integer.MAX_VALUE + 1L));
+
+        var real = compile(MessageType.PROTOBUF, "{\"real\": \"${index}0\"}", schema);
+        var value = render(real, Long.MAX_VALUE);
+        assertEquals(0x21, value[6]);
+        assertEquals(Double.parseDouble(Long.MAX_VALUE + "0"),
+                ByteBuffer.wrap(value, 7, Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).getDouble());
+        assertDecoded(MessageType.PROTOBUF, value);
+    }
+
+    @Test
+    @DisplayName("Avro values rendered from the schema")
+    void avroExecutionTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Avro {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                        produces: AVRO
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "users"
+                            key:   ${index}
+                            value: ""\"
+                                   {
+                                       "id": ${index},
+                                       "name": "user-${random.string(8)}",
+                                       "tags": ["load", "client-${client.id}"]
+                                   }
+                                   ""\"
+                            schema: ""\"
+                                    {
+                                        "type": "record",
+                                        "name": "User",
+                                        "fields": [
+                                            {"name": "id", "type": "long"},
+                                            {"name": "name", "type": "string"},
+                                            {"name": "email", "type": ["null", "string"], "default": null},
+                                            {"name": "tags", "type": {"type": "array", "items": "string"}}
+                                        ]
+                                    }
+                                    ""\"
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+        assertEquals(0, result.total().errors());
+    }
+
+    @Test
+    @DisplayName("Protobuf values rendered from the schema")
+    void protobufExecutionTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Protobuf {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                        produces: PROTOBUF
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "users"
+                            key:   ${index}
+                            value: ""\"
+                                   {
+                                       "id": ${index},
+                                       "name": "user-${index}",
+                                       "address": {"city": "city-${random.int(1, 100)}"},
+                                       "role": "ADMIN"
+                                   }
+                                   ""\"
+                            schema: ""\"
+                                    syntax = "proto3";
+
+                                    message User {
+                                        int64 id = 1;
+                                        string name = 2;
+                                        Address address = 3;
+                                        Role role = 4;
+
+                                        message Address {
+                                            string city = 1;
+                                        }
+
+                                        enum Role {
+                                            USER = 0;
+                                            ADMIN = 1;
+                                        }
+                                    }
+                                    ""\"
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+        assertEquals(0, result.total().errors());
+    }
+
+    @Test
+    @DisplayName("Values not matching the schema")
+    void invalidSchemaValueTest() {
+        Assertions.assertThrows(ExecutorException.class,
+                () -> new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                        TestPlan Invalid {
+                            connection {
+                                bootstrapServer: "loopback"
+                                produces: AVRO
+                            }
+
+                            Step1 {
+                                message {
+                                    topic: "users"
+                                    value: "{\\"id\\": ${index}, \\"unknown\\": 1}"
+                                    schema: "{\\"type\\": \\"record\\", \\"name\\": \\"User\\", \\"fields\\": []}"
+                                }
+                            }
+                        }
+                        """)));
+    }
+}
@@ -0,0 +1,46 @@
+package io.vepo.kafka.load.engine.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vepo.kafka.load.engine.Slo;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SloTest {
+
+    @Test
+    @DisplayName("Percentiles of nines are shortened, as on the reports")
+    void percentileTest() {
+        var slo = Slo.parse("p50 < 1ms, p99 < 2ms, p999 < 3ms, p9999 < 4ms, p99.5 < 5ms, p100 < 6ms, p1 < 7ms");
+        assertEquals(List.of(50.0, 99.0, 99.9, 99.99, 99.5, 100.0, 1.0), List.copyOf(slo.percentiles().keySet()));
+        assertEquals(Duration.ofMillis(6), slo.percentiles().get(100.0));
+        assertEquals(Double.POSITIVE_INFINITY, slo.errorRate());
+    }
+
+    @Test
+    @DisplayName("Bounds are read in their unit and the error rate as a percentage")
+    void boundsTest() {
+        var slo = Slo.parse("p99<250us,p999 < 1.5ms , p100 < 2s, errors < 0.1%");
+        assertEquals(Map.of(99.0, Duration.ofNanos(250_000), 99.9, Duration.ofNanos(1_500_000), 100.0,
+                Duration.ofSeconds(2)), slo.percentiles());
+        assertEquals(0.001, slo.errorRate(), 1e-12);
+        assertEquals(Map.of(), Slo.parse("errors < 1%").percentiles());
+    }
+
+    @Test
+    @DisplayName("Invalid objectives")
+    void invalidTest() {
+        assertThrows(ExecutorException.class, () -> Slo.parse("p0 < 1ms"));
+        assertThrows(ExecutorException.class, () -> Slo.parse("p101 < 1ms"));
+        assertThrows(ExecutorException.class, () -> Slo.parse("p1000 < 1ms"));
+        assertThrows(ExecutorException.class, () -> Slo.parse("p99 < 1m"));
+        assertThrows(ExecutorException.class, () -> Slo.parse("p99 > 1ms"));
+        assertThrows(ExecutorException.class, () -> Slo.parse("errors < 1"));
+        assertThrows(ExecutorException.class, () -> Slo.parse(""));
+    }
+}
@@ -0,0 +1,209 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.compiler.RenderBuffer;
+import io.vepo.kafka.load.engine.compiler.RenderContext;
+import io.vepo.kafka.load.engine.compiler.Template;
+import io.vepo.kafka.load.engine.compiler.TemplateCompiler;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import io.vepo.kafka.load.parser.PropertyValue;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TemplateCompilerTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+    private static final TemplateCompiler COMPILER = new TemplateCompiler(Configuration.empty()
+            .with("topic.name", "orders")
+            .with("greeting", "olá"));
+
+    private static String render(Template template, RenderContext context) {
+        template.render(context, context.value());
+        return new String(context.value().bytes(), 0, context.value().length(), UTF_8);
+    }
+
+    private static String render(String text, long index) {
+        var context = new RenderContext(3);
+        context.index(index);
+        return render(COMPILER.compile(text), context);
+    }
+
+    @Test
+    @DisplayName("Literal text and properties are merged in a constant template encoded as UTF-8")
+    void constantTest() {
+        var template = COMPILER.compile("${greeting}, ação on ${topic.name}!");
+        assertTrue(template.constant());
+        assertEquals("olá, ação on orders!", render(template, new RenderContext(0)));
+        assertEquals("orders", COMPILER.constant(PropertyValue.fromText("${topic.name}"), "topic"));
+        assertEquals("42", COMPILER.constant(PropertyValue.fromNumber("42"), "topic"));
+        assertEquals("orders", COMPILER.constant(PropertyValue.fromReference("topic.name"), "topic"));
+        assertTrue(COMPILER.compile("").constant());
+        assertNull(COMPILER.compile((PropertyValue) null));
+    }
+
+    @Test
+    @DisplayName("Placeholders that depend on the iteration are written for every render")
+    void placeholderTest() {
+        assertFalse(COMPILER.compile("id-${index}").constant());
+        assertEquals("id-0", render("id-${index}", 0));
+        assertEquals("id-" + Long.MAX_VALUE, render("id-${index}", Long.MAX_VALUE));
+        assertEquals("{\"client\":3,\"index\":-12}", render("{\"client\":${client.id},\"index\":${index}}", -12));
+        assertEquals("${index", render("${index", 1));
+        assertEquals("a}b", render("a}b", 1));
+
+        var context = new RenderContext(1);
+        var correlation = context.nextCorrelation();
+        assertEquals(Long.toString(correlation), render(COMPILER.compile("${correlation.id}"), context));
+        assertEquals((1L << 40), correlation);
+    }
+
+    @Test
+    @DisplayName("Rendering again reuses the buffer and replaces the previous content")
+    void reuseTest() {
+        var template = COMPILER.compile("${index}:" + "x".repeat(2000));
+        var context = new RenderContext(0);
+        context.index(123);
+        var first = render(template, context);
+        var bytes = context.value().bytes();
+        context.index(7);
+        var second = render(template, context);
+        assertEquals("123:" + "x".repeat(2000), first);
+        assertEquals("7:" + "x".repeat(2000), second);
+        assertSame(bytes, context.value().bytes());
+
+        var view = context.value().view();
+        assertSame(bytes, view.array());
+        assertEquals(0, view.position());
+        assertEquals(second.length(), view.remaining());
+    }
+
+    @Test
+    @DisplayName("Generators write values in their range")
+    void generatorTest() {
+        var context = new RenderContext(0);
+        var randomInt = COMPILER.compile("${random.int(-2, 2)}");
+        var seen = new HashSet<String>();
+        IntStream.range(0, 1000).forEach(i -> seen.add(render(randomInt, context)));
+        assertEquals(Set.of("-2", "-1", "0", "1", "2"), seen);
+
+        var randomString = render(COMPILER.compile("${random.string(32)}"), context);
+        assertEquals(32, randomString.length());
+        assertTrue(randomString.chars().allMatch(c -> c < 128));
+        assertEquals("", render(COMPILER.compile("${random.string(0)}"), context));
+
+        var uuid = render(COMPILER.compile("${random.uuid()}"), context);
+        assertTrue(uuid.matches("[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}"), uuid);
+        assertNotEquals(uuid, render(COMPILER.compile("${random.uuid}"), context));
+    }
+
+    @Test
+    @DisplayName("Sequence values are unique across clients")
+    void sequenceTest() {
+        var template = COMPILER.compile("${sequence}");
+        var values = new HashSet<String>();
+        var first = new RenderContext(0);
+        var second = new RenderContext(1);
+        for (int i = 0; i < 3000; ++i) {
+            assertTrue(values.add(render(template, i % 2 == 0 ? first : second)));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid placeholders fail when the plan is compiled")
+    void invalidTest() {
+        assertThrows(ExecutorException.class, () -> COMPILER.compile("${undefined}"));
+        assertThrows(ExecutorException.class, () -> COMPILER.compile("${random.int(5, 1)}"));
+        assertThrows(ExecutorException.class, () -> COMPILER.compile("${random.int(1)}"));
+        assertThrows(ExecutorException.class, () -> COMPILER.compile("${random.int(a, b)}"));
+        assertThrows(ExecutorException.class, () -> COMPILER.compile("${random.string(-1)}"));
+        assertThrows(ExecutorException.class, () -> COMPILER.compile("${random.double(1, 2)}"));
+        assertThrows(ExecutorException.class,
+                () -> COMPILER.constant(PropertyValue.fromText("${index}"), "topic"));
+        assertThrows(ExecutorException.class, () -> COMPILER.constant(null, "topic"));
+    }
+
+    @Test
+    @DisplayName("Numbers are written without intermediate strings")
+    void bufferTest() {
+        var buffer = new RenderBuffer(1);
+        buffer.writeDecimal(Long.MIN_VALUE);
+        buffer.write((byte) ' ');
+        buffer.writeDecimal(0);
+        buffer.write((byte) ' ');
+        buffer.writeDecimal(-9);
+        buffer.write((byte) ' ');
+        buffer.writeHex(0xABCL, 6);
+        assertEquals(Long.MIN_VALUE + " 0 -9 000abc", new String(buffer.toByteArray(), UTF_8));
+
+        buffer.reset();
+        buffer.writeVarint(300);
+        buffer.writeVarint(-1);
+        buffer.writeFixed32(0x01020304);
+        buffer.writeFixed64(-2);
+        assertArrayEquals(new byte[] {
+            (byte) 0xAC, 0x02,
+            -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01,
+            0x04, 0x03, 0x02, 0x01,
+            -2, -1, -1, -1, -1, -1, -1, -1 }, buffer.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Messages rendered with generators")
+    void executionTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Generators {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            key:   ${random.int(1, 6)}
+                            value: ""\"
+                                   {
+                                       "sequence": ${sequence},
+                                       "dice": ${random.int(1,6)},
+                                       "uuid": "${random.uuid}",
+                                       "name": "${random.string(12)}",
+                                       "client": ${client.id},
+                                       "timestamp": ${timestamp}
+                                   }
+                                   ""\"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.sequence >= 0
+                            $.value.dice >= 1
+                            $.value.dice <= 6
+                            $.value.uuid contains "-4"
+                            $.value.client < 4
+                            $.value.timestamp > 0
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+        assertTrue(result.assertions().get(0).evaluated() > 0);
+        assertEquals(0, result.assertions().get(0).failed());
+    }
+}
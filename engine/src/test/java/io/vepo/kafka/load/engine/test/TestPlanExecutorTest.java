@@ -0,0 +1,140 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.Result;
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.ExecutorException;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TestPlanExecutorTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Closed model over loopback transport")
+    void closedModelTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Closed {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            key:   ${index}
+                            value: "{\\"index\\": ${index}}"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.index >= 0
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+        assertEquals(0, result.total().errors());
+        assertEquals(1, result.assertions().size());
+        assertTrue(result.assertions().get(0).evaluated() > 0);
+        assertEquals(0, result.assertions().get(0).failed());
+    }
+
+    @Test
+    @DisplayName("Failed assertions fail the execution")
+    void failedAssertionTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Failed {
+                    clients:   2
+                    cycleTime: 10ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "{\\"name\\": \\"kafka-load-${index}\\"}"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.name contains "load-x"
+                        }
+                    }
+                }
+                """));
+        assertFalse(result.successful());
+        assertEquals(Result.Status.ERROR, result.status());
+        assertTrue(result.assertions().get(0).failed() > 0);
+    }
+
+    @Test
+    @DisplayName("Aborted execution stops its clients")
+    void abortTest() {
+        var testPlan = parseTestPlan("""
+                TestPlan Aborted {
+                    clients:   4
+                    cycleTime: 10ms
+                    execution: 1m
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """);
+        var executor = new TestPanExecutor(LOOPBACK);
+        var aborter = new Thread(() -> {
+            try {
+                Thread.sleep(500);
+                executor.abort();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        aborter.start();
+        var result = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> executor.execute(testPlan));
+        assertEquals(Result.Status.ABORTED, result.status());
+        assertTrue(result.duration().compareTo(Duration.ofSeconds(10)) < 0);
+    }
+
+    @Test
+    @DisplayName("Unknown transport")
+    void unknownTransportTest() {
+        Assertions.assertThrows(ExecutorException.class,
+                () -> new TestPanExecutor(Configuration.empty().with(Configuration.TRANSPORT, "carrier-pigeon"))
+                        .execute(parseTestPlan("""
+                                TestPlan Unknown {
+                                    connection {
+                                        bootstrapServer: "loopback"
+                                    }
+
+                                    Step1 {
+                                        message {
+                                            topic: "topic-1"
+                                            value: "value"
+                                        }
+                                    }
+                                }
+                                """)));
+    }
+}
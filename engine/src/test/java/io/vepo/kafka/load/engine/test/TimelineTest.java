@@ -0,0 +1,93 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vepo.kafka.load.engine.internal.Phase;
+import io.vepo.kafka.load.engine.internal.Timeline;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TimelineTest {
+
+    @Test
+    @DisplayName("Phases start inclusive and end exclusive")
+    void phasesTest() {
+        var timeline = new Timeline(1000, 100, 1000, 200, 4);
+        assertEquals(1100, timeline.executionStart());
+        assertEquals(2100, timeline.executionEnd());
+        assertEquals(2300, timeline.end());
+
+        assertEquals(Phase.WARM_UP, timeline.phase(0));
+        assertEquals(Phase.WARM_UP, timeline.phase(1000));
+        assertEquals(Phase.WARM_UP, timeline.phase(1099));
+        assertEquals(Phase.EXECUTION, timeline.phase(1100));
+        assertEquals(Phase.EXECUTION, timeline.phase(2099));
+        assertEquals(Phase.RAMP_DOWN, timeline.phase(2100));
+        assertEquals(Phase.RAMP_DOWN, timeline.phase(2299));
+        assertEquals(Phase.FINISHED, timeline.phase(2300));
+    }
+
+    @Test
+    @DisplayName("Clients start evenly during warm up and stop evenly during ramp down")
+    void clientsTest() {
+        var timeline = new Timeline(1000, 100, 1000, 200, 4);
+        assertEquals("1000,1025,1050,1075", clients(timeline::clientStart, 4));
+        assertEquals("2150,2200,2250,2300", clients(timeline::clientStop, 4));
+        IntStream.range(0, 4).forEach(client -> {
+            assertEquals(Phase.WARM_UP, timeline.phase(timeline.clientStart(client)));
+            assertEquals(Phase.RAMP_DOWN, timeline.phase(timeline.clientStop(client) - 1));
+        });
+        assertEquals(timeline.end(), timeline.clientStop(3));
+    }
+
+    @Test
+    @DisplayName("Without warm up and ramp down all clients run for the execution only")
+    void noWarmUpTest() {
+        var timeline = new Timeline(0, 0, 10, 0, 3);
+        assertEquals(0, timeline.executionStart());
+        assertEquals(10, timeline.executionEnd());
+        assertEquals(10, timeline.end());
+        assertEquals(Phase.EXECUTION, timeline.phase(0));
+        assertEquals(Phase.EXECUTION, timeline.phase(9));
+        assertEquals(Phase.FINISHED, timeline.phase(10));
+        assertEquals("0,0,0", clients(timeline::clientStart, 3));
+        assertEquals("10,10,10", clients(timeline::clientStop, 3));
+    }
+
+    @Test
+    @DisplayName("Phase durations are read from the test plan in nanoseconds")
+    void testPlanTest() {
+        var timeline = Timeline.of(parseTestPlan("""
+                TestPlan Phases {
+                    clients:   2
+                    warmUp:    200ms
+                    execution: 1s
+                    rampDown:  50ms
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """), 5);
+        assertEquals(new Timeline(5, TimeUnit.MILLISECONDS.toNanos(200), TimeUnit.SECONDS.toNanos(1),
+                TimeUnit.MILLISECONDS.toNanos(50), 2), timeline);
+        assertEquals(5 + TimeUnit.MILLISECONDS.toNanos(100), timeline.clientStart(1));
+        assertEquals(5 + TimeUnit.MILLISECONDS.toNanos(1225), timeline.clientStop(0));
+    }
+
+    private static String clients(IntToLongFunction time, int clients) {
+        return String.join(",", IntStream.range(0, clients).mapToObj(client -> Long.toString(time.applyAsLong(client)))
+                .toList());
+    }
+}
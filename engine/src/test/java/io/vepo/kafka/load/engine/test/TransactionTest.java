@@ -0,0 +1,57 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TransactionTest {
+    private static final Configuration LOOPBACK = Configuration.empty().with(Configuration.TRANSPORT, "loopback");
+
+    @Test
+    @DisplayName("Transactional step commits every transactionSize messages of each client")
+    void transactionTest() {
+        var result = new TestPanExecutor(LOOPBACK).execute(parseTestPlan("""
+                TestPlan Transactions {
+                    clients:   4
+                    cycleTime: 10ms
+                    warmUp:    200ms
+                    execution: 1s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Produce {
+                        transactionSize: 5
+
+                        message {
+                            topic: "events"
+                            value: "value-${index}"
+                        }
+                    }
+
+                    Consume {
+                        consumer {
+                            topic: "events"
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertEquals(1, result.transactions().size());
+        var transactions = result.transactions().get(0);
+        assertEquals("Produce", transactions.step());
+        assertEquals(5, transactions.transactionSize());
+        assertTrue(transactions.committed() > 0);
+        assertEquals(0, transactions.failed());
+        assertEquals(0, transactions.aborted());
+        assertEquals(5 * transactions.committed(), transactions.records());
+        assertEquals(transactions.committed(), transactions.commitLatency().count());
+        assertTrue(result.consumers().get(0).records() > 0);
+    }
+}
@@ -0,0 +1,140 @@
+package io.vepo.kafka.load.engine.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.engine.BenchmarkMatrix;
+import io.vepo.kafka.load.engine.MatrixBenchmark;
+import io.vepo.kafka.load.engine.TestPanExecutor;
+import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.engine.exceptions.TransportException;
+import io.vepo.kafka.load.parser.Compression;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TransportSpiTest {
+    private static final Configuration MINIMAL = Configuration.empty()
+            .with(Configuration.TRANSPORT, MinimalTransportProvider.NAME);
+
+    @Test
+    @DisplayName("A transport that only sends executes plans without transactions or consumer groups")
+    void minimalTransportTest() {
+        var result = new TestPanExecutor(MINIMAL).execute(parseTestPlan("""
+                TestPlan Minimal {
+                    clients:   2
+                    cycleTime: 10ms
+                    execution: 300ms
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """));
+        assertTrue(result.successful());
+        assertTrue(result.total().count() > 0);
+    }
+
+    @Test
+    @DisplayName("Transactional steps fail their messages when the transport has no transactions")
+    void transactionsNotSupportedTest() {
+        var result = new TestPanExecutor(MINIMAL).execute(parseTestPlan("""
+                TestPlan Transactions {
+                    clients:   2
+                    cycleTime: 10ms
+                    execution: 300ms
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Produce {
+                        transactionSize: 5
+
+                        message {
+                            topic: "events"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """));
+        assertFalse(result.successful());
+        assertTrue(result.total().errors() > 0);
+        assertEquals(0, result.transactions().get(0).committed());
+    }
+
+    @Test
+    @DisplayName("Consumer groups fail the plan before it starts when the transport has no consumer groups")
+    void groupsNotSupportedTest() {
+        var exception = assertThrows(TransportException.class, () -> new TestPanExecutor(MINIMAL)
+                .execute(parseTestPlan("""
+                        TestPlan Consumer {
+                            clients:   2
+                            cycleTime: 10ms
+                            execution: 300ms
+
+                            connection {
+                                bootstrapServer: "loopback"
+                            }
+
+                            Produce {
+                                message {
+                                    topic: "events"
+                                    value: "value-${index}"
+                                }
+                            }
+
+                            Consume {
+                                consumer {
+                                    topic: "events"
+                                }
+                            }
+                        }
+                        """)));
+        assertTrue(exception.getMessage().startsWith("Consumer groups are not supported!"), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Matrix cells report no wire bytes when the transport does not measure them")
+    void bytesSentNotSupportedTest() {
+        var matrix = BenchmarkMatrix.builder()
+                .compressions(List.of(Compression.NONE))
+                .lingerMs(List.of(5))
+                .batchSizes(List.of(16384))
+                .repetitions(1)
+                .build();
+        var result = new MatrixBenchmark(MINIMAL).run(parseTestPlan("""
+                TestPlan Matrix {
+                    clients:   2
+                    cycleTime: 10ms
+                    execution: 300ms
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """), matrix);
+        var cell = result.cells().get(0);
+        assertTrue(cell.records() > 0);
+        assertEquals(-1, cell.wireBytes());
+        assertEquals(0.0, cell.wireBytesPerRecord());
+        assertEquals(0.0, cell.compressionRatio());
+    }
+}
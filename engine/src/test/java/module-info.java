@@ -0,0 +1,7 @@
+open module io.vepo.kafka.load.engine.test {
+    requires io.vepo.kafka.load.engine;
+    requires org.junit.jupiter.api;
+
+    provides io.vepo.kafka.load.engine.transport.TransportProvider with
+            io.vepo.kafka.load.engine.test.MinimalTransportProvider;
+}
@@ -3,32 +3,38 @@ grammar TestPlan;
 plan: 'TestPlan' IDENTIFIER '{'
     attribute*
     connection
+    profile?
+    feeder*
     step*
 '}';
 connection: 'connection' '{' attribute* '}';
+profile: 'profile' '{' attribute* '}';
+feeder: 'feeder' IDENTIFIER '{' attribute* '}';
 message: 'message' '{' attribute+ '}';
-assertion: 'assertion' '{' attribute+ messageAssertion+ '}';
+assertion: 'assertion' '{' attribute+ messageAssertion* '}';
 attribute: IDENTIFIER ':' (value | propertyReference);
-step: IDENTIFIER '{' message+ assertion* '}';
+step: IDENTIFIER '{' attribute* (message+ assertion* | consumer) '}';
+consumer: 'consumer' '{' attribute+ '}';
 
-propertyReference: '${' IDENTIFIER '}';
-messageAssertion: JSON_PATH OPERATOR (messageAssertionValue | propertyReference);
+propertyReference: '${' IDENTIFIER arguments? '}';
+arguments: '(' (NUMBER (',' NUMBER)*)? ')';
+messageAssertion: JSON_PATH operator (messageAssertionValue | propertyReference);
+operator: OPERATOR | IDENTIFIER; // contains is not reserved, it is checked by the listener
 messageAssertionValue: NUMBER | MULTILINE_STRING | STRING | NULL;
-value: NUMBER | TIME_VALUE | ENUM_VALUE | MULTILINE_STRING | STRING | NULL;
+value: NUMBER | TIME_VALUE | IDENTIFIER | MULTILINE_STRING | STRING | NULL;
 
 NULL: 'null';
-ENUM_VALUE: [A-Z]+;
+OPERATOR: '==' | '<=' | '>=' | '<' | '>';
 IDENTIFIER: [A-Za-z][._\-A-Za-z0-9]*;
 FILE_PATH: WINDOWS_FILE_PATH | UNIX_FILE_PATH;
 WINDOWS_FILE_PATH: ([A-Z] ':\\' (FILENAME '\\')*)? (FILENAME '\\')+ FILENAME?;
 UNIX_FILE_PATH: ('/' (FILENAME '/')*)? (FILENAME '/')+ FILENAME?;
 STRING: DQUOTE (ESC | ~ ["\\])* DQUOTE;
-MULTILINE_STRING: DQUOTE DQUOTE DQUOTE (ESC | '"' | ~["\\])* DQUOTE DQUOTE DQUOTE;
+MULTILINE_STRING: DQUOTE DQUOTE DQUOTE (ESC | '"' | ~["\\])*? DQUOTE DQUOTE DQUOTE;
 NUMBER: '-'? INT '.' [0-9] + EXP? | '-'? INT EXP | '-'? INT;
 TIME_VALUE: INT TIME_UNIT;
 
 JSON_PATH: '$.' ? JSON_FIELD ('.' JSON_FIELD) *;
-OPERATOR: ('==');
 
 WS: [ \t\r\n]+ -> skip;
 
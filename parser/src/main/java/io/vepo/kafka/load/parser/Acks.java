@@ -0,0 +1,26 @@
+package io.vepo.kafka.load.parser;
+
+import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
+
+public enum Acks {
+    NONE("0"), LEADER("1"), ALL("all");
+
+    private final String value;
+
+    Acks(String value) {
+        this.value = value;
+    }
+
+    public static Acks fromValue(int value) {
+        return switch (value) {
+            case 0 -> NONE;
+            case 1 -> LEADER;
+            case -1 -> ALL;
+            default -> throw new InvalidTestPlanException("Invalid acks! It should be 0, 1 or -1. acks=" + value);
+        };
+    }
+
+    public String value() {
+        return value;
+    }
+}
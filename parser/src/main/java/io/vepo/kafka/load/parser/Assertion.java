@@ -5,10 +5,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-public record Assertion(PropertyValue topic, MessageAssertion[] assertions) {
+public record Assertion(PropertyValue topic, Correlation correlation, MessageAssertion[] assertions) {
 
     public static class AssertionBuilder {
         private PropertyValue topic;
+        private Correlation correlation;
         private List<MessageAssertion> assertions = new ArrayList<>();
 
         private AssertionBuilder() {
@@ -19,13 +20,18 @@ public record Assertion(PropertyValue topic, MessageAssertion[] assertions) {
             return this;
         }
 
+        public AssertionBuilder correlation(Correlation correlation) {
+            this.correlation = correlation;
+            return this;
+        }
+
         public AssertionBuilder assertion(MessageAssertion assertion) {
             this.assertions.add(assertion);
             return this;
         }
 
         public Assertion build() {
-            return new Assertion(topic, assertions.toArray(MessageAssertion[]::new));
+            return new Assertion(topic, correlation, assertions.toArray(MessageAssertion[]::new));
         }
 
     }
@@ -43,19 +49,20 @@ public record Assertion(PropertyValue topic, MessageAssertion[] assertions) {
             return false;
         }
         Assertion assertion = (Assertion) o;
-        return Objects.equals(topic, assertion.topic) &&
+        return Objects.equals(topic, assertion.topic) && Objects.equals(correlation, assertion.correlation) &&
                 Arrays.equals(assertions, assertion.assertions);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(topic);
+        int result = Objects.hash(topic, correlation);
         result = 31 * result + Arrays.hashCode(assertions);
         return result;
     }
 
     @Override
     public String toString() {
-        return String.format("Assertion [topic=%s, assertions=%s]", topic, Arrays.deepToString(assertions));
+        return String.format("Assertion [topic=%s, correlation=%s, assertions=%s]", topic, correlation,
+                Arrays.deepToString(assertions));
     }
 }
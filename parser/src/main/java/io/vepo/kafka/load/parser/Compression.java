@@ -0,0 +1,5 @@
+package io.vepo.kafka.load.parser;
+
+public enum Compression {
+    NONE, GZIP, SNAPPY, LZ4, ZSTD
+}
@@ -2,11 +2,23 @@ package io.vepo.kafka.load.parser;
 
 import static io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException.requireNonNull;
 
-public record Connection(PropertyValue bootstrapServer, MessageType produces, MessageType consumes) {
+import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
+
+public record Connection(PropertyValue bootstrapServer, MessageType produces, MessageType consumes, int producers,
+                         int lingerMs, int batchSize, Compression compression, Acks acks, int maxInFlight,
+                         Idempotence idempotence, int sendWindow) {
     public static class ConnectionBuilder {
         private PropertyValue bootstrapServer;
         private MessageType produces = MessageType.STRING;
         private MessageType consumes = MessageType.STRING;
+        private int producers = 1;
+        private int lingerMs = 0;
+        private int batchSize = 16_384;
+        private Compression compression = Compression.NONE;
+        private Acks acks = Acks.ALL;
+        private int maxInFlight = 5;
+        private Idempotence idempotence = Idempotence.AUTO;
+        private int sendWindow = 1;
 
         private ConnectionBuilder() {
         }
@@ -26,9 +38,65 @@ public record Connection(PropertyValue bootstrapServer, MessageType produces, Me
             return this;
         }
 
+        public ConnectionBuilder producers(int producers) {
+            if (producers <= 0) {
+                throw new InvalidTestPlanException("Producers should be greater than 0");
+            }
+            this.producers = producers;
+            return this;
+        }
+
+        public ConnectionBuilder lingerMs(int lingerMs) {
+            if (lingerMs < 0) {
+                throw new InvalidTestPlanException("LingerMs should not be negative");
+            }
+            this.lingerMs = lingerMs;
+            return this;
+        }
+
+        public ConnectionBuilder batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new InvalidTestPlanException("BatchSize should not be negative");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public ConnectionBuilder compression(Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public ConnectionBuilder acks(Acks acks) {
+            this.acks = acks;
+            return this;
+        }
+
+        public ConnectionBuilder maxInFlight(int maxInFlight) {
+            if (maxInFlight <= 0) {
+                throw new InvalidTestPlanException("MaxInFlight should be greater than 0");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public ConnectionBuilder idempotence(Idempotence idempotence) {
+            this.idempotence = idempotence;
+            return this;
+        }
+
+        public ConnectionBuilder sendWindow(int sendWindow) {
+            if (sendWindow <= 0) {
+                throw new InvalidTestPlanException("SendWindow should be greater than 0");
+            }
+            this.sendWindow = sendWindow;
+            return this;
+        }
+
         public Connection build() {
             requireNonNull(bootstrapServer, "Missing \"bootstrapServer\" on connection!");
-            return new Connection(bootstrapServer, produces, consumes);
+            return new Connection(bootstrapServer, produces, consumes, producers, lingerMs, batchSize, compression,
+                    acks, maxInFlight, idempotence, sendWindow);
         }
     }
 
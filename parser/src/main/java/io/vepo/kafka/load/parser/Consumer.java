@@ -0,0 +1,68 @@
+package io.vepo.kafka.load.parser;
+
+import static io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException.requireNonNull;
+
+import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
+
+public record Consumer(PropertyValue topic, PropertyValue group, int consumers, int fetchMinBytes, int maxPollRecords,
+                       CommitStrategy commit) {
+    public static class ConsumerBuilder {
+        private PropertyValue topic;
+        private PropertyValue group;
+        private int consumers = 1;
+        private int fetchMinBytes = 1;
+        private int maxPollRecords = 500;
+        private CommitStrategy commit = CommitStrategy.AUTO;
+
+        private ConsumerBuilder() {
+        }
+
+        public ConsumerBuilder topic(PropertyValue topic) {
+            this.topic = topic;
+            return this;
+        }
+
+        public ConsumerBuilder group(PropertyValue group) {
+            this.group = group;
+            return this;
+        }
+
+        public ConsumerBuilder consumers(int consumers) {
+            if (consumers <= 0) {
+                throw new InvalidTestPlanException("Consumers should be greater than 0");
+            }
+            this.consumers = consumers;
+            return this;
+        }
+
+        public ConsumerBuilder fetchMinBytes(int fetchMinBytes) {
+            if (fetchMinBytes <= 0) {
+                throw new InvalidTestPlanException("Fetch min bytes should be greater than 0");
+            }
+            this.fetchMinBytes = fetchMinBytes;
+            return this;
+        }
+
+        public ConsumerBuilder maxPollRecords(int maxPollRecords) {
+            if (maxPollRecords <= 0) {
+                throw new InvalidTestPlanException("Max poll records should be greater than 0");
+            }
+            this.maxPollRecords = maxPollRecords;
+            return this;
+        }
+
+        public ConsumerBuilder commit(CommitStrategy commit) {
+            this.commit = commit;
+            return this;
+        }
+
+        public Consumer build() {
+            requireNonNull(topic, "Missing \"topic\" on consumer!");
+            return new Consumer(topic, group, consumers, fetchMinBytes, maxPollRecords, commit);
+        }
+    }
+
+    public static ConsumerBuilder builder() {
+        return new ConsumerBuilder();
+    }
+}
@@ -0,0 +1,13 @@
+package io.vepo.kafka.load.parser;
+
+public record Correlation(CorrelationSource source, String path) {
+    private static final Correlation HEADER = new Correlation(CorrelationSource.HEADER, null);
+
+    public static Correlation header() {
+        return HEADER;
+    }
+
+    public static Correlation field(String path) {
+        return new Correlation(CorrelationSource.FIELD, path);
+    }
+}
@@ -0,0 +1,5 @@
+package io.vepo.kafka.load.parser;
+
+public enum CorrelationSource {
+    HEADER, FIELD
+}
@@ -0,0 +1,44 @@
+package io.vepo.kafka.load.parser;
+
+import static io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException.requireNonNull;
+
+public record Feeder(String name, PropertyValue file, FeederFormat format, FeederStrategy strategy) {
+    public static class FeederBuilder {
+        private String name;
+        private PropertyValue file;
+        private FeederFormat format = FeederFormat.CSV;
+        private FeederStrategy strategy = FeederStrategy.SEQUENTIAL;
+
+        private FeederBuilder() {
+        }
+
+        public FeederBuilder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public FeederBuilder file(PropertyValue file) {
+            this.file = file;
+            return this;
+        }
+
+        public FeederBuilder format(FeederFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        public FeederBuilder strategy(FeederStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        public Feeder build() {
+            requireNonNull(file, "Missing \"file\" on feeder " + name + "!");
+            return new Feeder(name, file, format, strategy);
+        }
+    }
+
+    public static FeederBuilder builder() {
+        return new FeederBuilder();
+    }
+}
@@ -1,6 +1,6 @@
 package io.vepo.kafka.load.parser;
 
-public record Message(PropertyValue topic, PropertyValue key, PropertyValue value) {
+public record Message(PropertyValue topic, PropertyValue key, PropertyValue value, PropertyValue schema) {
 
     public static MessageBuilder builder() {
         return new MessageBuilder();
@@ -10,6 +10,7 @@ public record Message(PropertyValue topic, PropertyValue key, PropertyValue valu
         private PropertyValue topic;
         private PropertyValue key;
         private PropertyValue value;
+        private PropertyValue schema;
 
         private MessageBuilder() {
 
@@ -30,8 +31,13 @@ public record Message(PropertyValue topic, PropertyValue key, PropertyValue valu
             return this;
         }
 
+        public MessageBuilder schema(PropertyValue schema) {
+            this.schema = schema;
+            return this;
+        }
+
         public Message build() {
-            return new Message(this.topic, this.key, this.value);
+            return new Message(this.topic, this.key, this.value, this.schema);
         }
 
     }
@@ -0,0 +1,94 @@
+package io.vepo.kafka.load.parser;
+
+import static io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException.requireNonNull;
+
+import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
+import java.time.Duration;
+
+public record Profile(ProfileShape shape, int from, int to, int steps, Duration period, Duration at,
+                      Duration duration) {
+    public static class ProfileBuilder {
+        private ProfileShape shape;
+        private int from = 0;
+        private int to = 0;
+        private int steps = 5;
+        private Duration period = Duration.ZERO;
+        private Duration at = Duration.ZERO;
+        private Duration duration = Duration.ZERO;
+
+        private ProfileBuilder() {
+        }
+
+        public ProfileBuilder shape(ProfileShape shape) {
+            this.shape = shape;
+            return this;
+        }
+
+        public ProfileBuilder from(int from) {
+            if (from < 0) {
+                throw new InvalidTestPlanException("Profile from should not be negative");
+            }
+            this.from = from;
+            return this;
+        }
+
+        public ProfileBuilder to(int to) {
+            if (to < 0) {
+                throw new InvalidTestPlanException("Profile to should not be negative");
+            }
+            this.to = to;
+            return this;
+        }
+
+        public ProfileBuilder steps(int steps) {
+            this.steps = steps;
+            return this;
+        }
+
+        public ProfileBuilder period(Duration period) {
+            this.period = period;
+            return this;
+        }
+
+        public ProfileBuilder at(Duration at) {
+            this.at = at;
+            return this;
+        }
+
+        public ProfileBuilder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Profile build() {
+            requireNonNull(shape, "Missing \"shape\" on profile!");
+            if (from == 0 && to == 0) {
+                throw new InvalidTestPlanException("Profile rate should be greater than 0");
+            }
+            switch (shape) {
+                case STAIRS -> {
+                    if (steps < 2) {
+                        throw new InvalidTestPlanException("Profile steps should be at least 2");
+                    }
+                }
+                case SPIKE -> {
+                    if (duration.isNegative() || duration.isZero()) {
+                        throw new InvalidTestPlanException("Profile duration should be greater than 0");
+                    }
+                }
+                case SINE -> {
+                    if (period.isNegative() || period.isZero()) {
+                        throw new InvalidTestPlanException("Profile period should be greater than 0");
+                    }
+                }
+                default -> {
+                }
+            }
+            return new Profile(shape, from, to, steps, period, at, duration);
+        }
+    }
+
+    public static ProfileBuilder builder() {
+        return new ProfileBuilder();
+    }
+}
@@ -1,19 +1,26 @@
 package io.vepo.kafka.load.parser;
 
+import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-public record Step(String name, Message[] messages, Assertion[] assertions) {
+public record Step(String name, PropertyValue replyTopic, Duration timeout, int transactionSize, Message[] messages,
+                   Assertion[] assertions, Consumer consumer) {
     public static StepBuilder builder() {
         return new StepBuilder();
     }
 
     public static class StepBuilder {
         private String name;
+        private PropertyValue replyTopic;
+        private Duration timeout = Duration.ofSeconds(5);
+        private int transactionSize = 0;
         private List<Message> messages = new ArrayList<>();
         private List<Assertion> assertions = new ArrayList<>();
+        private Consumer consumer;
 
         private StepBuilder() {
         }
@@ -23,6 +30,27 @@ public record Step(String name, Message[] messages, Assertion[] assertions) {
             return this;
         }
 
+        public StepBuilder replyTopic(PropertyValue replyTopic) {
+            this.replyTopic = replyTopic;
+            return this;
+        }
+
+        public StepBuilder timeout(Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new InvalidTestPlanException("Timeout should be greater than 0");
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        public StepBuilder transactionSize(int transactionSize) {
+            if (transactionSize < 0) {
+                throw new InvalidTestPlanException("TransactionSize should not be negative");
+            }
+            this.transactionSize = transactionSize;
+            return this;
+        }
+
         public StepBuilder message(Message message) {
             this.messages.add(message);
             return this;
@@ -33,11 +61,37 @@ public record Step(String name, Message[] messages, Assertion[] assertions) {
             return this;
         }
 
+        public StepBuilder consumer(Consumer consumer) {
+            this.consumer = consumer;
+            return this;
+        }
+
         public Step build() {
-            return new Step(name, messages.toArray(Message[]::new), assertions.toArray(Assertion[]::new));
+            if (consumer != null && (!messages.isEmpty() || !assertions.isEmpty() || replyTopic != null
+                    || transactionSize > 0)) {
+                throw new InvalidTestPlanException("Consumer step should not send messages! step=" + name);
+            } else if (consumer == null && messages.isEmpty()) {
+                throw new InvalidTestPlanException("Step should have messages or a consumer! step=" + name);
+            } else if (replyTopic != null && transactionSize > 0) {
+                throw new InvalidTestPlanException("Request/reply step should not be transactional! step=" + name);
+            }
+            return new Step(name, replyTopic, timeout, transactionSize, messages.toArray(Message[]::new),
+                    assertions.toArray(Assertion[]::new), consumer);
         }
     }
 
+    public boolean requestReply() {
+        return replyTopic != null;
+    }
+
+    public boolean transactional() {
+        return transactionSize > 0;
+    }
+
+    public boolean consuming() {
+        return consumer != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -47,13 +101,15 @@ public record Step(String name, Message[] messages, Assertion[] assertions) {
             return false;
         }
         Step step = (Step) o;
-        return Objects.equals(name, step.name) && Arrays.equals(messages, step.messages) &&
-                Arrays.equals(assertions, step.assertions);
+        return Objects.equals(name, step.name) && Objects.equals(replyTopic, step.replyTopic) &&
+                Objects.equals(timeout, step.timeout) && transactionSize == step.transactionSize &&
+                Arrays.equals(messages, step.messages) &&
+                Arrays.equals(assertions, step.assertions) && Objects.equals(consumer, step.consumer);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(name);
+        int result = Objects.hash(name, replyTopic, timeout, transactionSize, consumer);
         result = 31 * result + Arrays.hashCode(messages);
         result = 31 * result + Arrays.hashCode(assertions);
         return result;
@@ -61,6 +117,8 @@ public record Step(String name, Message[] messages, Assertion[] assertions) {
 
     @Override
     public String toString() {
-        return String.format("Step [name=%s, messages=%s, assertions=%s]", name, Arrays.deepToString(messages), Arrays.deepToString(assertions));
+        return String.format("Step [name=%s, replyTopic=%s, timeout=%s, transactionSize=%d, messages=%s, "
+                + "assertions=%s, consumer=%s]", name, replyTopic, timeout, transactionSize,
+                Arrays.deepToString(messages), Arrays.deepToString(assertions), consumer);
     }
 }
@@ -9,17 +9,20 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-public record TestPlan(String name, Connection connection, int clients, Duration cycleTime, Duration warmUp,
-                       Duration execution, Duration rampDown, Step[] steps) {
+public record TestPlan(String name, Connection connection, int clients, Duration cycleTime, double rate,
+                       Profile profile, Duration warmUp, Duration execution, Duration rampDown, Feeder[] feeders, Step[] steps) {
     public static class TestPlanBuilder {
 
         private String name;
         private Connection connection;
         private int clients = 1;
         private Duration cycleTime = Duration.ofMillis(1);
+        private double rate = 0;
+        private Profile profile;
         private Duration warmUp = Duration.ZERO;
         private Duration execution = Duration.ofSeconds(1);
         private Duration rampDown = Duration.ZERO;
+        private List<Feeder> feeders = new ArrayList<>();
         private List<Step> steps = new ArrayList<>();
 
         private TestPlanBuilder() {
@@ -49,6 +52,19 @@ public record TestPlan(String name, Connection connection, int clients, Duration
             return this;
         }
 
+        public TestPlanBuilder rate(double rate) {
+            if (!(rate > 0) || Double.isInfinite(rate)) {
+                throw new InvalidTestPlanException("Rate should be greater than 0");
+            }
+            this.rate = rate;
+            return this;
+        }
+
+        public TestPlanBuilder profile(Profile profile) {
+            this.profile = profile;
+            return this;
+        }
+
         public TestPlanBuilder warmUp(Duration warmUp) {
             Objects.requireNonNull(warmUp, "Warm Up should be greater than 0");
             this.warmUp = warmUp;
@@ -68,6 +84,14 @@ public record TestPlan(String name, Connection connection, int clients, Duration
             return this;
         }
 
+        public TestPlanBuilder feeder(Feeder feeder) {
+            if (feeders.stream().anyMatch(other -> other.name().equals(feeder.name()))) {
+                throw new InvalidTestPlanException("Duplicated feeder! name=" + feeder.name());
+            }
+            this.feeders.add(feeder);
+            return this;
+        }
+
         public TestPlanBuilder step(Step step) {
             this.steps.add(step);
             return this;
@@ -75,8 +99,13 @@ public record TestPlan(String name, Connection connection, int clients, Duration
 
         public TestPlan build() {
             requiredNotEmpty(this.steps, "No Step defined! You should define at least one step.");
-            return new TestPlan(this.name, this.connection, this.clients, this.cycleTime, this.warmUp, this.execution,
-                    this.rampDown, this.steps.toArray(Step[]::new));
+            if (this.rate > 0 && this.profile != null) {
+                throw new InvalidTestPlanException("A Test Plan should define rate or profile, not both!");
+            }
+            return new TestPlan(this.name, this.connection, this.clients, this.cycleTime, this.rate, this.profile,
+                    this.warmUp,
+                    this.execution, this.rampDown, this.feeders.toArray(Feeder[]::new),
+                    this.steps.toArray(Step[]::new));
         }
     }
 
@@ -84,6 +113,10 @@ public record TestPlan(String name, Connection connection, int clients, Duration
         return new TestPlanBuilder();
     }
 
+    public boolean openModel() {
+        return rate > 0 || profile != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -93,17 +126,21 @@ public record TestPlan(String name, Connection connection, int clients, Duration
             return false;
         }
         TestPlan testPlan = (TestPlan) o;
-        return clients == testPlan.clients && Objects.equals(name, testPlan.name) &&
-                Objects.equals(connection, testPlan.connection) &&
+        return clients == testPlan.clients && Double.compare(rate, testPlan.rate) == 0 &&
+                Objects.equals(name, testPlan.name) &&
+                Objects.equals(connection, testPlan.connection) && Objects.equals(profile, testPlan.profile) &&
                 Objects.equals(cycleTime, testPlan.cycleTime) &&
                 Objects.equals(warmUp, testPlan.warmUp) &&
                 Objects.equals(execution, testPlan.execution) &&
-                Objects.equals(rampDown, testPlan.rampDown) && Arrays.equals(steps, testPlan.steps);
+                Objects.equals(rampDown, testPlan.rampDown) && Arrays.equals(feeders, testPlan.feeders) &&
+                Arrays.equals(steps, testPlan.steps);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(name, connection, clients, cycleTime, warmUp, execution, rampDown);
+        int result = Objects.hash(name, connection, clients, cycleTime, rate, profile, warmUp, execution,
+                rampDown);
+        result = 31 * result + Arrays.hashCode(feeders);
         result = 31 * result + Arrays.hashCode(steps);
         return result;
     }
@@ -111,7 +148,8 @@ public record TestPlan(String name, Connection connection, int clients, Duration
     @Override
     public String toString() {
         return String
-                .format("TestPlan [name=%s, connection=%s, clients=%d, cycleTime=%s, warmUp=%s, execution=%s, rampDown=%s, steps=%s]",
-                        name, connection, clients, cycleTime, warmUp, execution, rampDown, Arrays.deepToString(steps));
+                .format("TestPlan [name=%s, connection=%s, clients=%d, cycleTime=%s, rate=%s, profile=%s, warmUp=%s, execution=%s, rampDown=%s, feeders=%s, steps=%s]",
+                        name, connection, clients, cycleTime, rate, profile, warmUp, execution, rampDown,
+                        Arrays.deepToString(feeders), Arrays.deepToString(steps));
     }
 }
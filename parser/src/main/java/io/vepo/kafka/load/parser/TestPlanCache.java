@@ -0,0 +1,80 @@
+package io.vepo.kafka.load.parser;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
+import io.vepo.kafka.load.parser.internal.TestPlanCodec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class TestPlanCache {
+    private static final Logger LOGGER = System.getLogger(TestPlanCache.class.getName());
+    private static final String EXTENSION = ".plan";
+
+    private final Path directory;
+
+    public TestPlanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public TestPlan parseTestPlan(File contents) {
+        try {
+            return parseTestPlan(Files.readString(contents.toPath()));
+        } catch (IOException ioe) {
+            throw new InvalidTestPlanException("Cannot read file!", ioe);
+        }
+    }
+
+    public TestPlan parseTestPlan(String contents) {
+        var file = directory.resolve(key(contents) + EXTENSION);
+        if (Files.isRegularFile(file)) {
+            try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                return TestPlanCodec.read(input);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(DEBUG, "Ignoring compiled test plan {0}: {1}", file, e.getMessage());
+            }
+        }
+        var testPlan = TestPlanFactory.parseTestPlan(contents);
+        store(testPlan, file);
+        return testPlan;
+    }
+
+    private void store(TestPlan testPlan, Path file) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                TestPlanCodec.write(testPlan, output);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            LOGGER.log(WARNING, "Could not store compiled test plan {0}: {1}", file, ioe.getMessage());
+            if (temporary != null) {
+                temporary.toFile().delete();
+            }
+        }
+    }
+
+    private static String key(String contents) {
+        try {
+            return String.format("%064x",
+                    new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(contents.getBytes(UTF_8))));
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException("SHA-256 not available!", nsae);
+        }
+    }
+}
@@ -7,8 +7,12 @@ import io.vepo.kafka.load.parser.internal.TestPlanCreator;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 public class TestPlanFactory {
@@ -25,11 +29,24 @@ public class TestPlanFactory {
     }
 
     public static TestPlan parseTestPlan(String contents) {
-        TestPlanParser parser = new TestPlanParser(
-                new CommonTokenStream(new TestPlanLexer(CharStreams.fromString(contents))));
         ParseTreeWalker walker = new ParseTreeWalker();
         TestPlanCreator creator = new TestPlanCreator();
-        walker.walk(creator, parser.plan());
+        walker.walk(creator, parse(contents));
         return creator.buildTestPlan();
     }
+
+    private static ParseTree parse(String contents) {
+        var tokens = new CommonTokenStream(new TestPlanLexer(CharStreams.fromString(contents)));
+        var parser = new TestPlanParser(tokens);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parser.plan();
+        } catch (ParseCancellationException pce) {
+            tokens.seek(0);
+            parser = new TestPlanParser(tokens);
+            return parser.plan();
+        }
+    }
 }
@@ -0,0 +1,334 @@
+package io.vepo.kafka.load.parser.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.parser.Acks;
+import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.CommitStrategy;
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Connection;
+import io.vepo.kafka.load.parser.Consumer;
+import io.vepo.kafka.load.parser.Correlation;
+import io.vepo.kafka.load.parser.CorrelationSource;
+import io.vepo.kafka.load.parser.Feeder;
+import io.vepo.kafka.load.parser.FeederFormat;
+import io.vepo.kafka.load.parser.FeederStrategy;
+import io.vepo.kafka.load.parser.Idempotence;
+import io.vepo.kafka.load.parser.Message;
+import io.vepo.kafka.load.parser.MessageAssertion;
+import io.vepo.kafka.load.parser.MessageType;
+import io.vepo.kafka.load.parser.Operator;
+import io.vepo.kafka.load.parser.Profile;
+import io.vepo.kafka.load.parser.ProfileShape;
+import io.vepo.kafka.load.parser.PropertyNumberValue;
+import io.vepo.kafka.load.parser.PropertyReferenceValue;
+import io.vepo.kafka.load.parser.PropertyStringValue;
+import io.vepo.kafka.load.parser.PropertyValue;
+import io.vepo.kafka.load.parser.Step;
+import io.vepo.kafka.load.parser.TestPlan;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+/* Enums are stored by ordinal, VERSION must be increased whenever a field or an enum constant is added. */
+public final class TestPlanCodec {
+    public static final int MAGIC = 0x4B4C5450;
+    public static final int VERSION = 9;
+
+    private static final byte MISSING = 0;
+    private static final byte NULL = 1;
+    private static final byte TEXT = 2;
+    private static final byte REFERENCE = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+
+    private TestPlanCodec() {
+    }
+
+    public static void write(TestPlan testPlan, DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        writeString(testPlan.name(), output);
+        writeConnection(testPlan.connection(), output);
+        output.writeInt(testPlan.clients());
+        output.writeLong(testPlan.cycleTime().toNanos());
+        output.writeDouble(testPlan.rate());
+        writeProfile(testPlan.profile(), output);
+        output.writeLong(testPlan.warmUp().toNanos());
+        output.writeLong(testPlan.execution().toNanos());
+        output.writeLong(testPlan.rampDown().toNanos());
+        output.writeInt(testPlan.feeders().length);
+        for (Feeder feeder : testPlan.feeders()) {
+            writeString(feeder.name(), output);
+            writeValue(feeder.file(), output);
+            output.writeByte(feeder.format().ordinal());
+            output.writeByte(feeder.strategy().ordinal());
+        }
+        output.writeInt(testPlan.steps().length);
+        for (Step step : testPlan.steps()) {
+            writeStep(step, output);
+        }
+    }
+
+    public static TestPlan read(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a compiled test plan!");
+        }
+        var version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported compiled test plan version! version=" + version);
+        }
+        var builder = TestPlan.builder()
+                .name(readString(input))
+                .connection(readConnection(input))
+                .clients(input.readInt())
+                .cycleTime(Duration.ofNanos(input.readLong()));
+        var rate = input.readDouble();
+        if (rate > 0) {
+            builder.rate(rate);
+        }
+        builder.profile(readProfile(input));
+        builder.warmUp(Duration.ofNanos(input.readLong()))
+               .execution(Duration.ofNanos(input.readLong()))
+               .rampDown(Duration.ofNanos(input.readLong()));
+        var feeders = input.readInt();
+        for (int i = 0; i < feeders; ++i) {
+            builder.feeder(Feeder.builder()
+                    .name(readString(input))
+                    .file(readValue(input))
+                    .format(FeederFormat.values()[input.readByte()])
+                    .strategy(FeederStrategy.values()[input.readByte()])
+                    .build());
+        }
+        var steps = input.readInt();
+        for (int i = 0; i < steps; ++i) {
+            builder.step(readStep(input));
+        }
+        return builder.build();
+    }
+
+    private static void writeProfile(Profile profile, DataOutputStream output) throws IOException {
+        output.writeBoolean(profile != null);
+        if (profile != null) {
+            output.writeByte(profile.shape().ordinal());
+            output.writeInt(profile.from());
+            output.writeInt(profile.to());
+            output.writeInt(profile.steps());
+            output.writeLong(profile.period().toNanos());
+            output.writeLong(profile.at().toNanos());
+            output.writeLong(profile.duration().toNanos());
+        }
+    }
+
+    private static Profile readProfile(DataInputStream input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        return Profile.builder()
+                .shape(ProfileShape.values()[input.readByte()])
+                .from(input.readInt())
+                .to(input.readInt())
+                .steps(input.readInt())
+                .period(Duration.ofNanos(input.readLong()))
+                .at(Duration.ofNanos(input.readLong()))
+                .duration(Duration.ofNanos(input.readLong()))
+                .build();
+    }
+
+    private static void writeConnection(Connection connection, DataOutputStream output) throws IOException {
+        writeValue(connection.bootstrapServer(), output);
+        output.writeByte(connection.produces().ordinal());
+        output.writeByte(connection.consumes().ordinal());
+        output.writeInt(connection.producers());
+        output.writeInt(connection.lingerMs());
+        output.writeInt(connection.batchSize());
+        output.writeByte(connection.compression().ordinal());
+        output.writeByte(connection.acks().ordinal());
+        output.writeInt(connection.maxInFlight());
+        output.writeByte(connection.idempotence().ordinal());
+        output.writeInt(connection.sendWindow());
+    }
+
+    private static Connection readConnection(DataInputStream input) throws IOException {
+        return Connection.builder()
+                .bootstrapServer(readValue(input))
+                .produces(MessageType.values()[input.readByte()])
+                .consumes(MessageType.values()[input.readByte()])
+                .producers(input.readInt())
+                .lingerMs(input.readInt())
+                .batchSize(input.readInt())
+                .compression(Compression.values()[input.readByte()])
+                .acks(Acks.values()[input.readByte()])
+                .maxInFlight(input.readInt())
+                .idempotence(Idempotence.values()[input.readByte()])
+                .sendWindow(input.readInt())
+                .build();
+    }
+
+    private static void writeStep(Step step, DataOutputStream output) throws IOException {
+        writeString(step.name(), output);
+        writeValue(step.replyTopic(), output);
+        output.writeLong(step.timeout().toNanos());
+        output.writeInt(step.transactionSize());
+        output.writeInt(step.messages().length);
+        for (Message message : step.messages()) {
+            writeValue(message.topic(), output);
+            writeValue(message.key(), output);
+            writeValue(message.value(), output);
+            writeValue(message.schema(), output);
+        }
+        output.writeInt(step.assertions().length);
+        for (Assertion assertion : step.assertions()) {
+            writeValue(assertion.topic(), output);
+            writeCorrelation(assertion.correlation(), output);
+            output.writeInt(assertion.assertions().length);
+            for (MessageAssertion messageAssertion : assertion.assertions()) {
+                writeString(messageAssertion.path(), output);
+                output.writeByte(messageAssertion.operator().ordinal());
+                writeValue(messageAssertion.value(), output);
+            }
+        }
+        writeConsumer(step.consumer(), output);
+    }
+
+    private static void writeConsumer(Consumer consumer, DataOutputStream output) throws IOException {
+        output.writeBoolean(consumer != null);
+        if (consumer != null) {
+            writeValue(consumer.topic(), output);
+            writeValue(consumer.group(), output);
+            output.writeInt(consumer.consumers());
+            output.writeInt(consumer.fetchMinBytes());
+            output.writeInt(consumer.maxPollRecords());
+            output.writeByte(consumer.commit().ordinal());
+        }
+    }
+
+    private static Consumer readConsumer(DataInputStream input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        return Consumer.builder()
+                .topic(readValue(input))
+                .group(readValue(input))
+                .consumers(input.readInt())
+                .fetchMinBytes(input.readInt())
+                .maxPollRecords(input.readInt())
+                .commit(CommitStrategy.values()[input.readByte()])
+                .build();
+    }
+
+    private static Step readStep(DataInputStream input) throws IOException {
+        var builder = Step.builder()
+                .name(readString(input))
+                .replyTopic(readValue(input))
+                .timeout(Duration.ofNanos(input.readLong()))
+                .transactionSize(input.readInt());
+        var messages = input.readInt();
+        for (int i = 0; i < messages; ++i) {
+            builder.message(Message.builder()
+                    .topic(readValue(input))
+                    .key(readValue(input))
+                    .value(readValue(input))
+                    .schema(readValue(input))
+                    .build());
+        }
+        var assertions = input.readInt();
+        for (int i = 0; i < assertions; ++i) {
+            var assertion = Assertion.builder()
+                    .topic(readValue(input))
+                    .correlation(readCorrelation(input));
+            var messageAssertions = input.readInt();
+            for (int j = 0; j < messageAssertions; ++j) {
+                assertion.assertion(MessageAssertion.builder()
+                        .path(readString(input))
+                        .operator(Operator.values()[input.readByte()])
+                        .value(readValue(input))
+                        .build());
+            }
+            builder.assertion(assertion.build());
+        }
+        return builder.consumer(readConsumer(input)).build();
+    }
+
+    private static void writeCorrelation(Correlation correlation, DataOutputStream output) throws IOException {
+        if (correlation == null) {
+            output.writeByte(MISSING);
+        } else {
+            output.writeByte(correlation.source().ordinal() + 1);
+            if (correlation.source() == CorrelationSource.FIELD) {
+                writeString(correlation.path(), output);
+            }
+        }
+    }
+
+    private static Correlation readCorrelation(DataInputStream input) throws IOException {
+        var tag = input.readByte();
+        if (tag == MISSING) {
+            return null;
+        }
+        return switch (CorrelationSource.values()[tag - 1]) {
+            case HEADER -> Correlation.header();
+            case FIELD -> Correlation.field(readString(input));
+        };
+    }
+
+    private static void writeValue(PropertyValue value, DataOutputStream output) throws IOException {
+        if (value == null) {
+            output.writeByte(MISSING);
+        } else if (value == PropertyValue.NULL) {
+            output.writeByte(NULL);
+        } else if (value instanceof PropertyStringValue text) {
+            output.writeByte(TEXT);
+            writeString(text.content(), output);
+        } else if (value instanceof PropertyReferenceValue reference) {
+            output.writeByte(REFERENCE);
+            writeString(reference.property(), output);
+        } else if (value instanceof PropertyNumberValue number && (number.value() instanceof Long
+                || number.value() instanceof Integer)) {
+            output.writeByte(LONG);
+            output.writeLong(number.value().longValue());
+        } else if (value instanceof PropertyNumberValue number) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(number.value().doubleValue());
+        } else {
+            throw new IOException("Value not supported! value=" + value);
+        }
+    }
+
+    private static PropertyValue readValue(DataInputStream input) throws IOException {
+        var type = input.readByte();
+        return switch (type) {
+            case MISSING -> null;
+            case NULL -> PropertyValue.NULL;
+            case TEXT -> PropertyValue.fromText(readString(input));
+            case REFERENCE -> PropertyValue.fromReference(readString(input));
+            case LONG -> new PropertyNumberValue(input.readLong());
+            case DOUBLE -> new PropertyNumberValue(input.readDouble());
+            default -> throw new IOException("Invalid value type! type=" + type);
+        };
+    }
+
+    /* writeUTF is limited to 64KB, multiline payloads can be larger. */
+    private static void writeString(String value, DataOutputStream output) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            var bytes = value.getBytes(UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        var length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        var bytes = input.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("Truncated compiled test plan!");
+        }
+        return new String(bytes, UTF_8);
+    }
+}
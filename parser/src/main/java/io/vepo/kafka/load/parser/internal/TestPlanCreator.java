@@ -5,12 +5,24 @@ import static java.util.Objects.nonNull;
 import static java.util.stream.IntStream.range;
 import static org.apache.commons.text.StringEscapeUtils.unescapeJava;
 
+import io.vepo.kafka.load.parser.Acks;
 import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.CommitStrategy;
+import io.vepo.kafka.load.parser.Compression;
 import io.vepo.kafka.load.parser.Connection;
+import io.vepo.kafka.load.parser.Consumer;
+import io.vepo.kafka.load.parser.Correlation;
+import io.vepo.kafka.load.parser.CorrelationSource;
+import io.vepo.kafka.load.parser.Feeder;
+import io.vepo.kafka.load.parser.FeederFormat;
+import io.vepo.kafka.load.parser.FeederStrategy;
+import io.vepo.kafka.load.parser.Idempotence;
 import io.vepo.kafka.load.parser.Message;
 import io.vepo.kafka.load.parser.MessageAssertion;
 import io.vepo.kafka.load.parser.MessageType;
 import io.vepo.kafka.load.parser.Operator;
+import io.vepo.kafka.load.parser.Profile;
+import io.vepo.kafka.load.parser.ProfileShape;
 import io.vepo.kafka.load.parser.Step;
 import io.vepo.kafka.load.parser.TestPlan;
 import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
@@ -30,8 +42,11 @@ public class TestPlanCreator extends TestPlanBaseListener {
     private static final Pattern TIME_VALUE = Pattern.compile("([0-9]+)([a-z]+)");
     private final TestPlan.TestPlanBuilder testPlanBuilder;
     private Connection.ConnectionBuilder connectionBuilder;
+    private Profile.ProfileBuilder profileBuilder;
+    private Feeder.FeederBuilder feederBuilder;
     private Step.StepBuilder stepBuilder;
     private Message.MessageBuilder messageBuilder;
+    private Consumer.ConsumerBuilder consumerBuilder;
     private Assertion.AssertionBuilder assertionBuilder;
 
     public TestPlanCreator() {
@@ -61,19 +76,44 @@ public class TestPlanCreator extends TestPlanBaseListener {
 
     private static <T> void applyNumberValue(TestPlanParser.ValueContext valueContext, Function<Integer, T> fn) {
         if (nonNull(fn)) {
-            fn.apply(Integer.parseInt(valueContext.NUMBER().getText()));
+            var value = valueContext.NUMBER().getText();
+            try {
+                fn.apply(Integer.parseInt(value));
+            } catch (NumberFormatException nfe) {
+                throw new InvalidTestPlanException("Invalid integer value! value=" + value);
+            }
+        }
+    }
+
+    private static <T> void applyDecimalValue(TestPlanParser.ValueContext valueContext, Function<Double, T> fn) {
+        if (nonNull(fn)) {
+            fn.apply(Double.parseDouble(valueContext.NUMBER().getText()));
         }
     }
 
+    private static PropertyValue reference(TestPlanParser.PropertyReferenceContext propertyReferenceContext) {
+        var name = propertyReferenceContext.IDENTIFIER().getText();
+        if (nonNull(propertyReferenceContext.arguments())) {
+            name += propertyReferenceContext.arguments().getText();
+        }
+        return PropertyValue.fromReference(name);
+    }
+
     private static boolean isEnum(TestPlanParser.AttributeContext attributeContext) {
-        return nonNull(attributeContext.value()) && nonNull(attributeContext.value().ENUM_VALUE());
+        return nonNull(attributeContext.value()) && nonNull(attributeContext.value().IDENTIFIER());
     }
 
-    private static <T, E extends Enum> void applyEnumValue(TestPlanParser.AttributeContext attributeContext,
-                                                           Function<E, T> fn,
-                                                           Class<E> enumClass) {
+    private static <T, E extends Enum<E>> void applyEnumValue(TestPlanParser.AttributeContext attributeContext,
+                                                              Function<E, T> fn,
+                                                              Class<E> enumClass) {
         if (nonNull(fn)) {
-            fn.apply((E) Enum.valueOf(enumClass, attributeContext.value().ENUM_VALUE().getText()));
+            var value = attributeContext.value().IDENTIFIER().getText();
+            try {
+                fn.apply(Enum.valueOf(enumClass, value));
+            } catch (IllegalArgumentException iae) {
+                throw new InvalidTestPlanException("Invalid value! attribute=" + attributeContext.IDENTIFIER().getText()
+                        + " value=" + value + " expected=" + Arrays.toString(enumClass.getEnumConstants()));
+            }
         }
     }
 
@@ -87,7 +127,7 @@ public class TestPlanCreator extends TestPlanBaseListener {
                     fn.apply(PropertyValue.fromText(processString(attributeContext.value().getText())));
                 }
             } else if (nonNull(attributeContext.propertyReference())) {
-                fn.apply(PropertyValue.fromReference(attributeContext.propertyReference().IDENTIFIER().getText()));
+                fn.apply(reference(attributeContext.propertyReference()));
             }
         }
     }
@@ -157,21 +197,90 @@ public class TestPlanCreator extends TestPlanBaseListener {
                     default -> null;
                 });
             } else if (nonNull(ctx.value().NUMBER())) {
+                switch (ctx.IDENTIFIER().getText()) {
+                    case "clients" -> applyNumberValue(ctx.value(), testPlanBuilder::clients);
+                    case "rate" -> applyDecimalValue(ctx.value(), testPlanBuilder::rate);
+                    default -> {
+                    }
+                }
+            }
+        } else if (ctx.parent instanceof TestPlanParser.ConnectionContext) {
+            if (isEnum(ctx)) {
+                switch (ctx.IDENTIFIER().getText()) {
+                    case "produces" -> applyEnumValue(ctx, connectionBuilder::produces, MessageType.class);
+                    case "consumes" -> applyEnumValue(ctx, connectionBuilder::consumes, MessageType.class);
+                    case "compression" -> applyEnumValue(ctx, connectionBuilder::compression, Compression.class);
+                    case "acks" -> applyEnumValue(ctx, connectionBuilder::acks, Acks.class);
+                    case "idempotence" -> applyEnumValue(ctx, connectionBuilder::idempotence, Idempotence.class);
+                    default -> {
+                    }
+                }
+            } else if (nonNull(ctx.value()) && nonNull(ctx.value().NUMBER())) {
                 applyNumberValue(ctx.value(), switch (ctx.IDENTIFIER().getText()) {
-                    case "clients" -> testPlanBuilder::clients;
+                    case "producers" -> connectionBuilder::producers;
+                    case "lingerMs" -> connectionBuilder::lingerMs;
+                    case "batchSize" -> connectionBuilder::batchSize;
+                    case "maxInFlight" -> connectionBuilder::maxInFlight;
+                    case "sendWindow" -> connectionBuilder::sendWindow;
+                    case "acks" -> acks -> connectionBuilder.acks(Acks.fromValue(acks));
+                    default -> null;
+                });
+            } else {
+                applyStringValue(ctx, switch (ctx.IDENTIFIER().getText()) {
+                    case "bootstrapServer" -> connectionBuilder::bootstrapServer;
                     default -> null;
                 });
             }
-        } else if (ctx.parent instanceof TestPlanParser.ConnectionContext) {
+        } else if (ctx.parent instanceof TestPlanParser.StepContext) {
+            if (nonNull(ctx.value()) && nonNull(ctx.value().TIME_VALUE())) {
+                applyDurationValue(ctx.value(), switch (ctx.IDENTIFIER().getText()) {
+                    case "timeout" -> stepBuilder::timeout;
+                    default -> null;
+                });
+            } else if (nonNull(ctx.value()) && nonNull(ctx.value().NUMBER())) {
+                applyNumberValue(ctx.value(), switch (ctx.IDENTIFIER().getText()) {
+                    case "transactionSize" -> stepBuilder::transactionSize;
+                    default -> null;
+                });
+            } else {
+                applyStringValue(ctx, switch (ctx.IDENTIFIER().getText()) {
+                    case "replyTopic" -> stepBuilder::replyTopic;
+                    default -> null;
+                });
+            }
+        } else if (ctx.parent instanceof TestPlanParser.ProfileContext) {
             if (isEnum(ctx)) {
-                applyEnumValue(ctx, switch (ctx.IDENTIFIER().getText()) {
-                    case "produces" -> connectionBuilder::produces;
-                    case "consumes" -> connectionBuilder::consumes;
+                switch (ctx.IDENTIFIER().getText()) {
+                    case "shape" -> applyEnumValue(ctx, profileBuilder::shape, ProfileShape.class);
+                    default -> {
+                    }
+                }
+            } else if (nonNull(ctx.value()) && nonNull(ctx.value().TIME_VALUE())) {
+                applyDurationValue(ctx.value(), switch (ctx.IDENTIFIER().getText()) {
+                    case "period" -> profileBuilder::period;
+                    case "at" -> profileBuilder::at;
+                    case "duration" -> profileBuilder::duration;
+                    default -> null;
+                });
+            } else if (nonNull(ctx.value()) && nonNull(ctx.value().NUMBER())) {
+                applyNumberValue(ctx.value(), switch (ctx.IDENTIFIER().getText()) {
+                    case "from" -> profileBuilder::from;
+                    case "to" -> profileBuilder::to;
+                    case "steps" -> profileBuilder::steps;
                     default -> null;
-                }, MessageType.class);
+                });
+            }
+        } else if (ctx.parent instanceof TestPlanParser.FeederContext) {
+            if (isEnum(ctx)) {
+                switch (ctx.IDENTIFIER().getText()) {
+                    case "format" -> applyEnumValue(ctx, feederBuilder::format, FeederFormat.class);
+                    case "strategy" -> applyEnumValue(ctx, feederBuilder::strategy, FeederStrategy.class);
+                    default -> {
+                    }
+                }
             } else {
                 applyStringValue(ctx, switch (ctx.IDENTIFIER().getText()) {
-                    case "bootstrapServer" -> connectionBuilder::bootstrapServer;
+                    case "file" -> feederBuilder::file;
                     default -> null;
                 });
             }
@@ -180,24 +289,65 @@ public class TestPlanCreator extends TestPlanBaseListener {
                 case "topic" -> messageBuilder::topic;
                 case "key" -> messageBuilder::key;
                 case "value" -> messageBuilder::value;
+                case "schema" -> messageBuilder::schema;
                 default -> null;
             });
+        } else if (ctx.parent instanceof TestPlanParser.ConsumerContext) {
+            if (isEnum(ctx)) {
+                switch (ctx.IDENTIFIER().getText()) {
+                    case "commit" -> applyEnumValue(ctx, consumerBuilder::commit, CommitStrategy.class);
+                    default -> {
+                    }
+                }
+            } else if (nonNull(ctx.value()) && nonNull(ctx.value().NUMBER())) {
+                applyNumberValue(ctx.value(), switch (ctx.IDENTIFIER().getText()) {
+                    case "consumers" -> consumerBuilder::consumers;
+                    case "fetchMinBytes" -> consumerBuilder::fetchMinBytes;
+                    case "maxPollRecords" -> consumerBuilder::maxPollRecords;
+                    default -> null;
+                });
+            } else {
+                applyStringValue(ctx, switch (ctx.IDENTIFIER().getText()) {
+                    case "topic" -> consumerBuilder::topic;
+                    case "group" -> consumerBuilder::group;
+                    default -> null;
+                });
+            }
         } else if (ctx.parent instanceof TestPlanParser.AssertionContext) {
-            applyStringValue(ctx, switch (ctx.IDENTIFIER().getText()) {
-                case "topic" -> assertionBuilder::topic;
-                default -> null;
-            });
+            if (ctx.IDENTIFIER().getText().equals("correlation")) {
+                assertionBuilder.correlation(correlation(ctx));
+            } else {
+                applyStringValue(ctx, switch (ctx.IDENTIFIER().getText()) {
+                    case "topic" -> assertionBuilder::topic;
+                    default -> null;
+                });
+            }
+        }
+    }
+
+    private static Correlation correlation(TestPlanParser.AttributeContext ctx) {
+        if (isEnum(ctx) && ctx.value().IDENTIFIER().getText().equals(CorrelationSource.HEADER.name())) {
+            return Correlation.header();
+        } else if (nonNull(ctx.value()) && nonNull(ctx.value().STRING())) {
+            return Correlation.field(processString(ctx.value().getText()));
         }
+        throw new InvalidTestPlanException("Invalid correlation! It should be HEADER or a path. correlation="
+                + ctx.getText());
     }
 
     @Override
     public void exitMessageAssertion(TestPlanParser.MessageAssertionContext ctx) {
         assertionBuilder.assertion(MessageAssertion.builder()
                 .path(ctx.JSON_PATH().getText())
-                .operator(switch (ctx.OPERATOR().getText()) {
+                .operator(switch (ctx.operator().getText()) {
                     case "==" -> Operator.EQUALS;
-                    default -> throw new IllegalStateException(
-                            "Operator not implemented! operator=" + ctx.OPERATOR().getText());
+                    case "<" -> Operator.LESS_THAN;
+                    case "<=" -> Operator.LESS_THAN_OR_EQUAL_TO;
+                    case ">" -> Operator.GREATER_THAN;
+                    case ">=" -> Operator.GREATER_THAN_OR_EQUAL_TO;
+                    case "contains" -> Operator.CONTAINS;
+                    default -> throw new InvalidTestPlanException(
+                            "Operator not implemented! operator=" + ctx.operator().getText());
                 })
                 .value(extractAssertionValue(ctx))
                 .build());
@@ -215,11 +365,33 @@ public class TestPlanCreator extends TestPlanBaseListener {
                 return NULL;
             }
         } else if (nonNull(ctx.propertyReference())) {
-            return PropertyValue.fromReference(ctx.propertyReference().IDENTIFIER().getText());
+            return reference(ctx.propertyReference());
         }
         throw new IllegalStateException("Type not implemented yet!");
     }
 
+    @Override
+    public void enterProfile(TestPlanParser.ProfileContext ctx) {
+        profileBuilder = Profile.builder();
+    }
+
+    @Override
+    public void exitProfile(TestPlanParser.ProfileContext ctx) {
+        testPlanBuilder.profile(profileBuilder.build());
+        profileBuilder = null;
+    }
+
+    @Override
+    public void enterFeeder(TestPlanParser.FeederContext ctx) {
+        feederBuilder = Feeder.builder().name(ctx.IDENTIFIER().getText());
+    }
+
+    @Override
+    public void exitFeeder(TestPlanParser.FeederContext ctx) {
+        testPlanBuilder.feeder(feederBuilder.build());
+        feederBuilder = null;
+    }
+
     @Override
     public void enterStep(TestPlanParser.StepContext ctx) {
         stepBuilder = Step.builder().name(ctx.IDENTIFIER().getText());
@@ -235,6 +407,17 @@ public class TestPlanCreator extends TestPlanBaseListener {
         stepBuilder.message(messageBuilder.build());
     }
 
+    @Override
+    public void enterConsumer(TestPlanParser.ConsumerContext ctx) {
+        consumerBuilder = Consumer.builder();
+    }
+
+    @Override
+    public void exitConsumer(TestPlanParser.ConsumerContext ctx) {
+        stepBuilder.consumer(consumerBuilder.build());
+        consumerBuilder = null;
+    }
+
     @Override
     public void exitStep(TestPlanParser.StepContext ctx) {
         testPlanBuilder.step(stepBuilder.build());
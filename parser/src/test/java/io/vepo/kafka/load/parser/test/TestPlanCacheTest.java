@@ -0,0 +1,120 @@
+package io.vepo.kafka.load.parser.test;
+
+import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vepo.kafka.load.parser.TestPlanCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Test Plan Cache")
+class TestPlanCacheTest {
+    private static final String TEST_PLAN = """
+            TestPlan Test1 {
+                clients:   25
+                warmUp:    10s
+                execution: 1m
+
+                connection {
+                    bootstrapServer: ${kafka.server}
+                    produces: JSON
+                    producers: 4
+                    compression: ZSTD
+                    acks: 0
+                    idempotence: ENABLED
+                    sendWindow: 8
+                }
+
+                profile {
+                    shape:  SINE
+                    from:   500
+                    to:     2000
+                    period: 20s
+                }
+
+                feeder users {
+                    file: ${users.file}
+                    format: JSONL
+                    strategy: PARTITIONED
+                }
+
+                Step1 {
+                    replyTopic: "replies"
+                    timeout:    2s
+
+                    message {
+                        topic: "topic-1"
+                        key:   ${index}
+                        value: ""\"
+                                {
+                                    "key": "value",
+                                    "index": ${index}
+                                }
+                                ""\"
+                        schema: ${value.schema}
+                    }
+                    assertion {
+                        topic: "topic-1"
+                        correlation: "$.value.index"
+                        $.value.key == "value"
+                        $.value.index >= 0
+                        $.value.ratio < 0.5
+                        $.value.missing == null
+                        $.key contains ${prefix}
+                    }
+                }
+
+                Step2 {
+                    transactionSize: 10
+
+                    message {
+                        topic: "topic-2"
+                        value: "value-${index}"
+                    }
+                }
+
+                Step3 {
+                    consumer {
+                        topic:          "topic-1"
+                        group:          ${group}
+                        consumers:      3
+                        fetchMinBytes:  1024
+                        maxPollRecords: 50
+                        commit:         SYNC
+                    }
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Cached plan is equal to the parsed plan")
+    void cachedPlanTest() throws IOException {
+        var cache = new TestPlanCache(directory);
+        var expected = parseTestPlan(TEST_PLAN);
+        assertEquals(expected, cache.parseTestPlan(TEST_PLAN));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(expected, cache.parseTestPlan(TEST_PLAN));
+    }
+
+    @Test
+    @DisplayName("Invalid cache file is replaced")
+    void invalidCacheFileTest() throws IOException {
+        var cache = new TestPlanCache(directory);
+        var expected = cache.parseTestPlan(TEST_PLAN);
+        try (var files = Files.list(directory)) {
+            var file = files.findFirst().orElseThrow();
+            Files.write(file, new byte[] {0x4B, 0x4C, 0x54});
+        }
+        assertEquals(expected, cache.parseTestPlan(TEST_PLAN));
+        assertEquals(expected, new TestPlanCache(directory).parseTestPlan(TEST_PLAN));
+    }
+}
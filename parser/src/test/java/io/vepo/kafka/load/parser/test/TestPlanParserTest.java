@@ -3,12 +3,19 @@ package io.vepo.kafka.load.parser.test;
 import static io.vepo.kafka.load.parser.TestPlanFactory.parseTestPlan;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.vepo.kafka.load.parser.Acks;
 import io.vepo.kafka.load.parser.Assertion;
+import io.vepo.kafka.load.parser.CommitStrategy;
+import io.vepo.kafka.load.parser.Compression;
 import io.vepo.kafka.load.parser.Connection;
+import io.vepo.kafka.load.parser.Consumer;
+import io.vepo.kafka.load.parser.Idempotence;
 import io.vepo.kafka.load.parser.Message;
 import io.vepo.kafka.load.parser.MessageAssertion;
 import io.vepo.kafka.load.parser.MessageType;
 import io.vepo.kafka.load.parser.Operator;
+import io.vepo.kafka.load.parser.Profile;
+import io.vepo.kafka.load.parser.ProfileShape;
 import io.vepo.kafka.load.parser.PropertyValue;
 import io.vepo.kafka.load.parser.Step;
 import io.vepo.kafka.load.parser.TestPlan;
@@ -16,6 +23,7 @@ import io.vepo.kafka.load.parser.TestPlanFactory;
 import io.vepo.kafka.load.parser.exceptions.InvalidTestPlanException;
 import java.security.InvalidParameterException;
 import java.time.Duration;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -145,6 +153,460 @@ class TestPlanParserTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("Connection tuning, transactions and send window")
+    void parseConnectionTuningTest() {
+        var expected = TestPlan.builder()
+                .name("Test1")
+                .connection(Connection.builder()
+                        .bootstrapServer(PropertyValue.fromText("kafka:9092"))
+                        .producers(8)
+                        .lingerMs(5)
+                        .batchSize(65536)
+                        .compression(Compression.LZ4)
+                        .acks(Acks.LEADER)
+                        .maxInFlight(10)
+                        .idempotence(Idempotence.DISABLED)
+                        .sendWindow(16)
+                        .build())
+                .step(Step.builder()
+                        .name("Step1")
+                        .transactionSize(100)
+                        .message(Message.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .value(PropertyValue.fromText("value"))
+                                .build())
+                        .build())
+                .build();
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                        producers:       8
+                        lingerMs:        5
+                        batchSize:       65536
+                        compression:     LZ4
+                        acks:            1
+                        maxInFlight:     10
+                        idempotence:     DISABLED
+                        sendWindow:      16
+                    }
+
+                    Step1 {
+                        transactionSize: 100
+
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """);
+        assertEquals(expected, actual);
+        assertThrows(InvalidTestPlanException.class, () -> parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                        compression:     BROTLI
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """));
+    }
+
+    @Test
+    @DisplayName("Upper case names are not enum values")
+    void parseUpperCaseNamesTest() {
+        var actual = parseTestPlan("""
+                TestPlan LOAD_1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                        produces:        JSON
+                    }
+
+                    STEP_1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+
+                    S1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+
+                    TOPIC {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """);
+        assertEquals("LOAD_1", actual.name());
+        assertEquals(MessageType.JSON, actual.connection().produces());
+        assertArrayEquals(new String[] {"STEP_1", "S1", "TOPIC"},
+                Stream.of(actual.steps()).map(Step::name).toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("Open model Message Sender")
+    void parseOpenModelTest() {
+        var expected = TestPlan.builder()
+                .name("Test1")
+                .clients(100)
+                .rate(50000)
+                .execution(Duration.ofMinutes(10))
+                .connection(Connection.builder()
+                        .bootstrapServer(PropertyValue.fromText("kafka:9092"))
+                        .build())
+                .step(Step.builder()
+                        .name("Step1")
+                        .message(Message.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .key(PropertyValue.fromReference("index"))
+                                .value(PropertyValue.fromText("value-${index}"))
+                                .build())
+                        .build())
+                .build();
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    clients:   100
+                    rate:      50000
+                    execution: 10m
+
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            key:   ${index}
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """);
+        assertEquals(expected, actual);
+        assertTrue(actual.openModel());
+    }
+
+    private static TestPlan parseRate(String rate) {
+        return parseTestPlan("""
+                TestPlan Test1 {
+                    rate: %s
+
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """.formatted(rate));
+    }
+
+    @Test
+    @DisplayName("Rates are decimal numbers greater than 0")
+    void parseRateTest() {
+        assertEquals(0.5, parseRate("0.5").rate());
+        assertEquals(100_000, parseRate("1e5").rate());
+        assertEquals(2500, parseRate("2.5E3").rate());
+        assertThrows(InvalidTestPlanException.class, () -> parseRate("0"));
+        assertThrows(InvalidTestPlanException.class, () -> parseRate("-1.5"));
+        assertThrows(InvalidTestPlanException.class, () -> parseRate("1e400"));
+        assertThrows(InvalidTestPlanException.class, () -> parseTestPlan("""
+                TestPlan Test1 {
+                    clients: 1.5
+
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+                }
+                """));
+    }
+
+    @Test
+    @DisplayName("Generator references keep their arguments")
+    void parseGeneratorReferenceTest() {
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            key:   ${random.int(1, 1000)}
+                            value: ${random.uuid()}
+                        }
+                    }
+                }
+                """);
+        var message = actual.steps()[0].messages()[0];
+        assertEquals(PropertyValue.fromReference("random.int(1,1000)"), message.key());
+        assertEquals(PropertyValue.fromReference("random.uuid()"), message.value());
+    }
+
+    @Test
+    @DisplayName("Open model with a load profile")
+    void parseProfileTest() {
+        var expected = TestPlan.builder()
+                .name("Test1")
+                .clients(100)
+                .profile(Profile.builder()
+                        .shape(ProfileShape.SPIKE)
+                        .from(1000)
+                        .to(10000)
+                        .at(Duration.ofSeconds(30))
+                        .duration(Duration.ofSeconds(5))
+                        .build())
+                .execution(Duration.ofMinutes(1))
+                .connection(Connection.builder()
+                        .bootstrapServer(PropertyValue.fromText("kafka:9092"))
+                        .build())
+                .step(Step.builder()
+                        .name("Step1")
+                        .message(Message.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .value(PropertyValue.fromText("value-${index}"))
+                                .build())
+                        .build())
+                .build();
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    clients:   100
+                    execution: 1m
+
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    profile {
+                        shape:    SPIKE
+                        from:     1000
+                        to:       10000
+                        at:       30s
+                        duration: 5s
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value-${index}"
+                        }
+                    }
+                }
+                """);
+        assertEquals(expected, actual);
+        assertTrue(actual.openModel());
+    }
+
+    @Test
+    @DisplayName("Assertion with all operators")
+    void parseAssertionOperatorsTest() {
+        var expected = TestPlan.builder()
+                .name("Test1")
+                .clients(1)
+                .cycleTime(Duration.ofSeconds(1))
+                .execution(Duration.ofSeconds(60))
+                .connection(Connection.builder()
+                        .bootstrapServer(PropertyValue.fromText("kafka:9092"))
+                        .build())
+                .step(Step.builder()
+                        .name("Step1")
+                        .message(Message.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .value(PropertyValue.fromText("value"))
+                                .build())
+                        .assertion(Assertion.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .assertion(assertion("$.value.count", Operator.LESS_THAN,
+                                        PropertyValue.fromNumber("10")))
+                                .assertion(assertion("$.value.count", Operator.LESS_THAN_OR_EQUAL_TO,
+                                        PropertyValue.fromNumber("9")))
+                                .assertion(assertion("$.value.count", Operator.GREATER_THAN,
+                                        PropertyValue.fromNumber("0")))
+                                .assertion(assertion("$.value.count", Operator.GREATER_THAN_OR_EQUAL_TO,
+                                        PropertyValue.fromReference("minimum")))
+                                .assertion(assertion("$.value.name", Operator.CONTAINS, PropertyValue.fromText("load")))
+                                .build())
+                        .build())
+                .build();
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    clients:   1
+                    cycleTime: 1s
+                    execution: 60s
+
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.count < 10
+                            $.value.count <= 9
+                            $.value.count > 0
+                            $.value.count >= ${minimum}
+                            $.value.name contains "load"
+                        }
+                    }
+                }
+                """);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("contains is only an operator inside assertions")
+    void parseContainsAsNameTest() {
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    contains {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.contains contains "load"
+                        }
+                    }
+                }
+                """);
+        assertEquals("contains", actual.steps()[0].name());
+        assertEquals(assertion("$.value.contains", Operator.CONTAINS, PropertyValue.fromText("load")),
+                actual.steps()[0].assertions()[0].assertions()[0]);
+        assertThrows(InvalidTestPlanException.class, () -> parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                        assertion {
+                            topic: "topic-1"
+                            $.value.name like "load"
+                        }
+                    }
+                }
+                """));
+    }
+
+    @Test
+    @DisplayName("Consumer step")
+    void parseConsumerTest() {
+        var expected = TestPlan.builder()
+                .name("Test1")
+                .connection(Connection.builder()
+                        .bootstrapServer(PropertyValue.fromText("kafka:9092"))
+                        .consumes(MessageType.JSON)
+                        .build())
+                .step(Step.builder()
+                        .name("Step1")
+                        .message(Message.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .value(PropertyValue.fromText("value"))
+                                .build())
+                        .build())
+                .step(Step.builder()
+                        .name("Step2")
+                        .consumer(Consumer.builder()
+                                .topic(PropertyValue.fromText("topic-1"))
+                                .group(PropertyValue.fromReference("group"))
+                                .consumers(4)
+                                .fetchMinBytes(1024)
+                                .maxPollRecords(100)
+                                .commit(CommitStrategy.ASYNC)
+                                .build())
+                        .build())
+                .build();
+        var actual = parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                        consumes: JSON
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-1"
+                            value: "value"
+                        }
+                    }
+
+                    Step2 {
+                        consumer {
+                            topic:          "topic-1"
+                            group:          ${group}
+                            consumers:      4
+                            fetchMinBytes:  1024
+                            maxPollRecords: 100
+                            commit:         ASYNC
+                        }
+                    }
+                }
+                """);
+        assertEquals(expected, actual);
+        assertTrue(actual.steps()[1].consuming());
+        assertThrows(InvalidTestPlanException.class, () -> parseTestPlan("""
+                TestPlan Test1 {
+                    connection {
+                        bootstrapServer: "kafka:9092"
+                    }
+
+                    Step1 {
+                        consumer {
+                            group: "group-1"
+                        }
+                    }
+                }
+                """));
+    }
+
+    private static MessageAssertion assertion(String path, Operator operator, PropertyValue value) {
+        return MessageAssertion.builder()
+                .path(path)
+                .operator(operator)
+                .value(value)
+                .build();
+    }
+
     @Test
     @DisplayName("Simple Message Sender with only required fields")
     void parseSendMessageOnlyRequiredFieldsTest() {
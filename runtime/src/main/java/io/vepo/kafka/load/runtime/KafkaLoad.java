@@ -1,52 +1,294 @@
 package io.vepo.kafka.load.runtime;
 
-import io.vepo.kafka.load.engine.Result;
+import static io.vepo.kafka.load.engine.report.Reports.fileTimestamp;
+import static java.util.stream.Collectors.toList;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import io.vepo.kafka.load.engine.BenchmarkMatrix;
+import io.vepo.kafka.load.engine.GeneratorProfiler;
+import io.vepo.kafka.load.engine.MatrixBenchmark;
+import io.vepo.kafka.load.engine.MatrixResult;
+import io.vepo.kafka.load.engine.Result;
+import io.vepo.kafka.load.engine.SaturationResult;
+import io.vepo.kafka.load.engine.SaturationSearch;
+import io.vepo.kafka.load.engine.Slo;
 import io.vepo.kafka.load.engine.TestPanExecutor;
 import io.vepo.kafka.load.engine.config.Configuration;
+import io.vepo.kafka.load.parser.Compression;
+import io.vepo.kafka.load.parser.Idempotence;
+import io.vepo.kafka.load.parser.TestPlan;
+import io.vepo.kafka.load.parser.TestPlanCache;
 import io.vepo.kafka.load.parser.TestPlanFactory;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Parameters;
+import picocli.CommandLine.Spec;
 
 
 @Command(name = "kafka-load", mixinStandardHelpOptions = true, version = "Kafka Load 1.0.0",
         description = "Load testing tool for Kafka applications.")
 public class KafkaLoad implements Callable<Integer> {
 
-    @Parameters(paramLabel = "TEST PLAN", description = "One or more test plan to be executed in order")
+    @Spec
+    private CommandSpec spec;
+
+    @Parameters(paramLabel = "TEST PLAN", description = "One or more test plan to be executed in order, or at the "
+            + "same time with --parallel")
     private File[] testPlans;
 
     @Option(names = {"-p", "--properties"}, description = "Properties file used on Test Plan")
     private File propertiesFile;
 
+    @Option(names = {"-r", "--report-dir"}, description = "Directory where the interval reports are written")
+    private File reportDirectory;
+
+    @Option(names = {"--report-interval"}, description = "Interval between reports, in seconds")
+    private Integer reportInterval;
+
+    @Option(names = {"--plan-cache"}, description = "Directory where parsed test plans are cached")
+    private File planCache;
+
+    @Option(names = {"--parallel"}, description = "Parse and execute all test plans at the same time. Can not be "
+            + "combined with --saturate or --matrix, which run one test plan at a time")
+    private boolean parallel;
+
+    @Option(names = {"--fail-fast"}, description = "With --parallel, abort all test plans as soon as one fails. "
+            + "Sequential executions always stop on the first failure")
+    private boolean failFast;
+
+    @Option(names = {"--saturate"}, paramLabel = "SLO", description = "Search the highest rate each test plan "
+            + "sustains within the SLO, e.g. \"p99 < 50ms, errors < 0.1%%\"")
+    private String saturate;
+
+    @Option(names = {"--start-rate"}, description = "With --saturate, rate of the first trial. Defaults to the rate "
+            + "of the test plan")
+    private Integer startRate;
+
+    @Option(names = {"--max-rate"}, description = "With --saturate, highest rate tried")
+    private Integer maxRate;
+
+    @Option(names = {"--matrix"}, description = "Execute each test plan with every combination of --compression, "
+            + "--linger, --batch-size, --idempotence and --transaction-size and compare them")
+    private boolean matrix;
+
+    @Option(names = {"--compression"}, split = ",", description = "With --matrix, compression types compared. "
+            + "Defaults to all of them: ${COMPLETION-CANDIDATES}")
+    private List<Compression> compressions;
+
+    @Option(names = {"--linger"}, split = ",", description = "With --matrix, linger.ms values compared. Defaults to "
+            + "0,5,20")
+    private List<Integer> lingerMs;
+
+    @Option(names = {"--batch-size"}, split = ",", description = "With --matrix, batch.size values compared. "
+            + "Defaults to 16384,65536,262144")
+    private List<Integer> batchSizes;
+
+    @Option(names = {"--idempotence"}, split = ",", description = "With --matrix, idempotence settings compared: "
+            + "${COMPLETION-CANDIDATES}. Defaults to the one of the test plan")
+    private List<Idempotence> idempotence;
+
+    @Option(names = {"--transaction-size"}, split = ",", description = "With --matrix, transaction sizes of the steps "
+            + "compared, 0 sends outside of transactions. Defaults to the ones of the test plan")
+    private List<Integer> transactionSizes;
+
+    @Option(names = {"--repetitions"}, description = "With --matrix, executions of each cell. Defaults to 1")
+    private Integer repetitions;
+
+    @Option(names = {"--fail-generator-bound"}, description = "Fail test plans whose load generator was saturated "
+            + "during the execution: CPU, GC time or scheduling lag over the watchdog thresholds")
+    private boolean failGeneratorBound;
+
+    @Option(names = {"--profile"}, description = "Record the load generator with JDK Flight Recorder and summarize "
+            + "its allocations, GC pauses and safepoints. The recording is written to the report directory")
+    private boolean profile;
+
     public static void main(String[] args) {
-        int exitCode = new CommandLine(new KafkaLoad()).execute(args);
+        int exitCode = new CommandLine(new KafkaLoad()).setCaseInsensitiveEnumValuesAllowed(true).execute(args);
         System.exit(exitCode);
     }
 
     @Override
     public Integer call() throws Exception {
-        var executor =
-                new TestPanExecutor(Optional.ofNullable(propertiesFile)
-                        .map(Configuration::fromFile)
-                        .orElseGet(Configuration::empty));
-        AtomicBoolean success = new AtomicBoolean(true);
-        Stream.of(testPlans).map(TestPlanFactory::parseTestPlan)
-                .forEachOrdered(testPlan -> {
-                    if (success.get()) {
-                        var result = executor.execute(testPlan);
-                        if (result != Result.SUCCESS) {
-                            success.set(false);
+        if (parallel && (saturate != null || matrix)) {
+            throw new ParameterException(spec.commandLine(), "--parallel can not be combined with "
+                    + (saturate != null ? "--saturate" : "--matrix") + ", they run one test plan at a time");
+        }
+        if (!profile) {
+            return run(null);
+        }
+        var profiler = GeneratorProfiler.start(recordingFile());
+        try {
+            return run(profiler);
+        } finally {
+            new ProfileReport(profiler.stop()).print(System.out);
+        }
+    }
+
+    private int run(GeneratorProfiler profiler) throws Exception {
+        var configuration = configuration();
+        if (saturate != null) {
+            return saturate(configuration);
+        } else if (matrix) {
+            return matrix(configuration);
+        }
+        var results = parallel ? executeParallel(configuration) : executeSequential(configuration);
+        if (profiler != null) {
+            profiler.stop();
+            results = results.stream().map(profiler::attach).collect(toList());
+        }
+        var report = new SummaryReport(results);
+        report.print(System.out);
+        if (reportDirectory != null) {
+            report.write(reportDirectory.toPath());
+        }
+        return results.size() == testPlans.length && results.stream().allMatch(Result::successful) ? 0 : 1;
+    }
+
+    private List<Result> executeSequential(Configuration configuration) {
+        var executor = new TestPanExecutor(configuration);
+        var parser = parser();
+        var results = new ArrayList<Result>();
+        for (File file : testPlans) {
+            var result = executor.execute(parser.apply(file));
+            results.add(result);
+            if (!result.successful()) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private List<Result> executeParallel(Configuration configuration) throws InterruptedException {
+        var plans = Stream.of(testPlans).parallel().map(parser()).collect(toList());
+        var executors = plans.stream().map(plan -> new TestPanExecutor(configuration)).collect(toList());
+        var threadCount = new AtomicInteger();
+        var pool = Executors.newFixedThreadPool(plans.size(),
+                task -> new Thread(task, "kafka-load-plan-" + threadCount.getAndIncrement()));
+        try {
+            var futures = IntStream.range(0, plans.size())
+                    .mapToObj(index -> pool.submit(() -> {
+                        try {
+                            var result = executors.get(index).execute(plans.get(index));
+                            if (failFast && !result.successful()) {
+                                executors.forEach(TestPanExecutor::abort);
+                            }
+                            return result;
+                        } catch (RuntimeException e) {
+                            if (failFast) {
+                                executors.forEach(TestPanExecutor::abort);
+                            }
+                            throw e;
                         }
+                    }))
+                    .collect(toList());
+            var results = new ArrayList<Result>();
+            RuntimeException failure = null;
+            for (var future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException ee) {
+                    if (failure == null) {
+                        failure = ee.getCause() instanceof RuntimeException cause ? cause
+                                : new IllegalStateException(ee.getCause());
                     }
-                });
-        return success.get() ? 0 : 1;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int saturate(Configuration configuration) throws IOException {
+        var slo = Slo.parse(saturate);
+        var search = new SaturationSearch(configuration);
+        var parser = parser();
+        var results = new ArrayList<SaturationResult>();
+        for (File file : testPlans) {
+            results.add(search.search(parser.apply(file), slo));
+        }
+        var report = new SaturationReport(results);
+        report.print(System.out);
+        if (reportDirectory != null) {
+            report.write(reportDirectory.toPath());
+        }
+        return results.stream().allMatch(SaturationResult::found) ? 0 : 1;
+    }
+
+    private int matrix(Configuration configuration) throws IOException {
+        var builder = BenchmarkMatrix.builder();
+        Optional.ofNullable(compressions).ifPresent(builder::compressions);
+        Optional.ofNullable(lingerMs).ifPresent(builder::lingerMs);
+        Optional.ofNullable(batchSizes).ifPresent(builder::batchSizes);
+        Optional.ofNullable(idempotence).ifPresent(builder::idempotence);
+        Optional.ofNullable(transactionSizes).ifPresent(builder::transactionSizes);
+        Optional.ofNullable(repetitions).ifPresent(builder::repetitions);
+        var benchmarkMatrix = builder.build();
+        var benchmark = new MatrixBenchmark(configuration);
+        var parser = parser();
+        var results = new ArrayList<MatrixResult>();
+        for (File file : testPlans) {
+            results.add(benchmark.run(parser.apply(file), benchmarkMatrix));
+        }
+        var report = new MatrixReport(results);
+        report.print(System.out);
+        if (reportDirectory != null) {
+            report.write(reportDirectory.toPath());
+        }
+        return results.stream().allMatch(MatrixResult::successful) ? 0 : 1;
+    }
+
+    private Path recordingFile() {
+        var name = "kafka-load-" + fileTimestamp(Instant.now()) + ".jfr";
+        return reportDirectory != null ? reportDirectory.toPath().resolve(name) : Path.of(name);
+    }
+
+    private Function<File, TestPlan> parser() {
+        return Optional.ofNullable(planCache)
+                .map(directory -> new TestPlanCache(directory.toPath()))
+                .<Function<File, TestPlan>>map(cache -> cache::parseTestPlan)
+                .orElse(TestPlanFactory::parseTestPlan);
+    }
+
+    private Configuration configuration() {
+        var configuration = Optional.ofNullable(propertiesFile)
+                .map(Configuration::fromFile)
+                .orElseGet(Configuration::empty);
+        if (reportDirectory != null) {
+            configuration = configuration.with(Configuration.REPORT_DIRECTORY, reportDirectory.getAbsolutePath());
+        }
+        if (reportInterval != null) {
+            configuration = configuration.with(Configuration.REPORT_INTERVAL, reportInterval.toString());
+        }
+        if (startRate != null) {
+            configuration = configuration.with(Configuration.SATURATION_START_RATE, startRate.toString());
+        }
+        if (maxRate != null) {
+            configuration = configuration.with(Configuration.SATURATION_MAX_RATE, maxRate.toString());
+        }
+        if (failGeneratorBound) {
+            configuration = configuration.with(Configuration.WATCHDOG_INVALIDATE, "true");
+        }
+        return configuration;
     }
 }
\ No newline at end of file
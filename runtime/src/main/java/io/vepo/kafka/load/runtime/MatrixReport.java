@@ -0,0 +1,85 @@
+package io.vepo.kafka.load.runtime;
+
+import static io.vepo.kafka.load.engine.report.Reports.fileTimestamp;
+import static io.vepo.kafka.load.engine.report.Reports.millis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.MatrixResult;
+import io.vepo.kafka.load.engine.metrics.MatrixCell;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+public class MatrixReport {
+    private static final String TABLE_FORMAT =
+            "%-1s %-24s %-6s %6s %8s %-8s %5s %14s %8s %10s %10s %10s %10s %7s %10s %6s%n";
+    private static final String CSV_HEADER = "test_plan,compression,linger_ms,batch_size,idempotence,transaction_size,"
+            + "successful,throughput,errors,p50_us,p99_us,p999_us,records,payload_bytes,wire_bytes,cpu_us";
+
+    private final List<MatrixResult> results;
+
+    public MatrixReport(List<MatrixResult> results) {
+        this.results = results;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, TABLE_FORMAT, "", "Test Plan", "Codec", "Linger", "Batch", "Idem", "Txn",
+                "Throughput/s", "Errors", "p50 ms", "p99 ms", "p99.9 ms", "Bytes/rec", "Ratio", "CPU us/rec", "Cores");
+        for (MatrixResult result : results) {
+            var best = result.best().orElse(null);
+            for (MatrixCell cell : result.cells()) {
+                var total = cell.total();
+                out.printf(Locale.ROOT, TABLE_FORMAT, cell == best ? "*" : cell.successful() ? "" : "!",
+                        result.testPlan(), lowerCase(cell.compression()), cell.lingerMs(),
+                        cell.batchSize(), lowerCase(cell.idempotence()), cell.transactionSize(),
+                        String.format(Locale.ROOT, "%.1f", total.throughput()), total.errors(),
+                        millis(total.latency().p50()), millis(total.latency().p99()), millis(total.latency().p999()),
+                        String.format(Locale.ROOT, "%.1f", cell.wireBytesPerRecord()),
+                        String.format(Locale.ROOT, "%.2f", cell.compressionRatio()),
+                        String.format(Locale.ROOT, "%.1f", cell.cpuMicrosPerRecord()),
+                        String.format(Locale.ROOT, "%.2f", cell.cpuCores()));
+            }
+        }
+        for (MatrixResult result : results) {
+            result.best().ifPresentOrElse(
+                    best -> out.printf(Locale.ROOT, "%s: best throughput with compression=%s linger.ms=%d "
+                                    + "batch.size=%d idempotence=%s transactionSize=%d%n", result.testPlan(),
+                            lowerCase(best.compression()), best.lingerMs(), best.batchSize(),
+                            lowerCase(best.idempotence()), best.transactionSize()),
+                    () -> out.printf(Locale.ROOT, "%s: no successful cell%n", result.testPlan()));
+        }
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var file = directory.resolve("kafka-load-matrix-" + fileTimestamp(Instant.now()) + ".csv");
+        try (var csv = Files.newBufferedWriter(file, UTF_8)) {
+            csv.write(CSV_HEADER);
+            csv.newLine();
+            for (MatrixResult result : results) {
+                for (MatrixCell cell : result.cells()) {
+                    csv.write(line(result.testPlan(), cell));
+                    csv.newLine();
+                }
+            }
+        }
+        return file;
+    }
+
+    private static String line(String testPlan, MatrixCell cell) {
+        var total = cell.total();
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%s,%d,%b,%.1f,%d,%d,%d,%d,%d,%d,%d,%d", testPlan,
+                lowerCase(cell.compression()), cell.lingerMs(), cell.batchSize(), lowerCase(cell.idempotence()),
+                cell.transactionSize(), cell.successful(), total.throughput(), total.errors(), total.latency().p50().toNanos() / 1000,
+                total.latency().p99().toNanos() / 1000, total.latency().p999().toNanos() / 1000, cell.records(),
+                cell.payloadBytes(), cell.wireBytes(), cell.cpuTime().toNanos() / 1000);
+    }
+
+    private static String lowerCase(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,26 @@
+package io.vepo.kafka.load.runtime;
+
+import static io.vepo.kafka.load.engine.report.Reports.millis;
+import io.vepo.kafka.load.engine.metrics.GeneratorProfile;
+import java.io.PrintStream;
+import java.util.Locale;
+
+public class ProfileReport {
+    private final GeneratorProfile profile;
+
+    public ProfileReport(GeneratorProfile profile) {
+        this.profile = profile;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "Generator profile: %s%n", profile.recording());
+        out.printf(Locale.ROOT, "  Allocated:   %.1f MiB, %.0f bytes/message over %d messages%n",
+                profile.allocatedBytes() / (1024.0 * 1024.0), profile.allocatedBytesPerMessage(),
+                profile.messages());
+        out.printf(Locale.ROOT, "  GC pauses:   %d collections, %s ms total, %s ms longest%n", profile.collections(),
+                millis(profile.gcPauses()), millis(profile.longestGcPause()));
+        out.printf(Locale.ROOT, "  Safepoints:  %d, %s ms total, %.2f%% of %s s%n", profile.safepoints(),
+                millis(profile.safepointTime()), profile.pausedShare() * 100.0,
+                String.format(Locale.ROOT, "%.1f", profile.duration().toMillis() / 1000.0));
+    }
+}
@@ -0,0 +1,74 @@
+package io.vepo.kafka.load.runtime;
+
+import static io.vepo.kafka.load.engine.report.Reports.fileTimestamp;
+import static io.vepo.kafka.load.engine.report.Reports.millis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.SaturationResult;
+import io.vepo.kafka.load.engine.metrics.SaturationTrial;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+public class SaturationReport {
+    private static final String TABLE_FORMAT = "%-30s %12s %-6s %10s %14s %10s %12s %12s %12s %12s%n";
+    private static final String CSV_HEADER =
+            "test_plan,rate,within_slo,achieved,throughput,errors,p50_us,p99_us,p999_us,max_us";
+
+    private final List<SaturationResult> results;
+
+    public SaturationReport(List<SaturationResult> results) {
+        this.results = results;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, TABLE_FORMAT, "Test Plan", "Rate/s", "SLO", "Achieved", "Throughput/s", "Errors",
+                "p50 ms", "p99 ms", "p99.9 ms", "Max ms");
+        for (SaturationResult result : results) {
+            for (SaturationTrial trial : result.curve()) {
+                var total = trial.total();
+                out.printf(Locale.ROOT, TABLE_FORMAT, result.testPlan(), trial.rate(),
+                        trial.withinSlo() ? "ok" : "miss", String.format(Locale.ROOT, "%.1f%%", trial.achieved() * 100),
+                        String.format(Locale.ROOT, "%.1f", total.throughput()), total.errors(),
+                        millis(total.latency().p50()), millis(total.latency().p99()),
+                        millis(total.latency().p999()), millis(total.latency().max()));
+            }
+        }
+        for (SaturationResult result : results) {
+            if (result.found()) {
+                out.printf(Locale.ROOT, "%s: highest rate within %s is %d/s%n", result.testPlan(), result.slo(),
+                        result.rate());
+            } else {
+                out.printf(Locale.ROOT, "%s: no rate within %s%n", result.testPlan(), result.slo());
+            }
+        }
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var file = directory.resolve("kafka-load-saturation-" + fileTimestamp(Instant.now()) + ".csv");
+        try (var csv = Files.newBufferedWriter(file, UTF_8)) {
+            csv.write(CSV_HEADER);
+            csv.newLine();
+            for (SaturationResult result : results) {
+                for (SaturationTrial trial : result.curve()) {
+                    csv.write(line(result.testPlan(), trial));
+                    csv.newLine();
+                }
+            }
+        }
+        return file;
+    }
+
+    private static String line(String testPlan, SaturationTrial trial) {
+        var total = trial.total();
+        return String.format(Locale.ROOT, "%s,%d,%b,%.3f,%.1f,%d,%d,%d,%d,%d", testPlan, trial.rate(),
+                trial.withinSlo(), trial.achieved(), total.throughput(), total.errors(),
+                total.latency().p50().toNanos() / 1000, total.latency().p99().toNanos() / 1000,
+                total.latency().p999().toNanos() / 1000, total.latency().max().toNanos() / 1000);
+    }
+}
@@ -0,0 +1,78 @@
+package io.vepo.kafka.load.runtime;
+
+import static io.vepo.kafka.load.engine.report.Reports.fileTimestamp;
+import static io.vepo.kafka.load.engine.report.Reports.millis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vepo.kafka.load.engine.Result;
+import io.vepo.kafka.load.engine.metrics.GeneratorProfile;
+import io.vepo.kafka.load.engine.metrics.GeneratorSample;
+import io.vepo.kafka.load.engine.metrics.Statistics;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+public class SummaryReport {
+    private static final String TABLE_FORMAT = "%-1s %-30s %-15s %12s %10s %14s %12s %12s %12s %12s%n";
+    private static final String CSV_HEADER = "test_plan,status,count,errors,throughput,p50_us,p99_us,p999_us,max_us,"
+            + "generator_bound_intervals,allocated_bytes_per_message,gc_pauses_us,safepoint_us,paused_share";
+
+    private final List<Result> results;
+
+    public SummaryReport(List<Result> results) {
+        this.results = results;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, TABLE_FORMAT, "", "Test Plan", "Status", "Messages", "Errors", "Throughput/s", "p50 ms",
+                "p99 ms", "p99.9 ms", "Max ms");
+        for (Result result : results) {
+            var total = result.total();
+            out.printf(Locale.ROOT, TABLE_FORMAT, result.generatorBound() ? "!" : "", result.testPlan(),
+                    result.status(), total.count(), total.errors(), String.format(Locale.ROOT, "%.1f",
+                            total.throughput()), millis(total.latency().p50()), millis(total.latency().p99()),
+                    millis(total.latency().p999()), millis(total.latency().max()));
+        }
+        for (Result result : results) {
+            if (result.generatorBound()) {
+                out.printf(Locale.ROOT, "%s: load generator bound on %d of %d measured intervals, latencies may "
+                        + "describe the generator and not Kafka%n", result.testPlan(), result.generatorBoundIntervals(),
+                        result.generator().stream().filter(GeneratorSample::measured).count());
+            }
+        }
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var file = directory.resolve("kafka-load-summary-" + fileTimestamp(Instant.now()) + ".csv");
+        try (var csv = Files.newBufferedWriter(file, UTF_8)) {
+            csv.write(CSV_HEADER);
+            csv.newLine();
+            for (Result result : results) {
+                csv.write(line(result.testPlan(), result.status(), result.total(), result.generatorBoundIntervals()));
+                csv.write(profile(result.profile()));
+                csv.newLine();
+            }
+        }
+        return file;
+    }
+
+    private static String line(String testPlan, Result.Status status, Statistics total, long generatorBound) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%d,%d,%d,%d,%d", testPlan, status, total.count(),
+                total.errors(), total.throughput(), total.latency().p50().toNanos() / 1000,
+                total.latency().p99().toNanos() / 1000, total.latency().p999().toNanos() / 1000,
+                total.latency().max().toNanos() / 1000, generatorBound);
+    }
+
+    private static String profile(GeneratorProfile profile) {
+        if (profile == null) {
+            return ",,,,";
+        }
+        return String.format(Locale.ROOT, ",%.1f,%d,%d,%.4f", profile.allocatedBytesPerMessage(),
+                profile.gcPauses().toNanos() / 1000, profile.safepointTime().toNanos() / 1000, profile.pausedShare());
+    }
+}
@@ -3,5 +3,7 @@ module io.vepo.kafka.load.runtime {
     requires io.vepo.kafka.load.engine;
     requires io.vepo.kafka.load.parser;
 
+    exports io.vepo.kafka.load.runtime to io.vepo.kafka.load.runtime.test;
+
     opens io.vepo.kafka.load.runtime to info.picocli;
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package io.vepo.kafka.load.runtime.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vepo.kafka.load.runtime.KafkaLoad;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+public class KafkaLoadTest {
+    @TempDir
+    Path directory;
+
+    private Path properties;
+    private Path reports;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = Files.writeString(directory.resolve("loopback.properties"), "transport=loopback\n");
+        reports = directory.resolve("reports");
+    }
+
+    private static String execute(int expectedExitCode, String... args) {
+        var err = new StringWriter();
+        var commandLine = new CommandLine(new KafkaLoad()).setCaseInsensitiveEnumValuesAllowed(true);
+        commandLine.setErr(new PrintWriter(err));
+        assertEquals(expectedExitCode, commandLine.execute(args));
+        return err.toString();
+    }
+
+    private String plan(String name, String execution, boolean failing) throws IOException {
+        var assertion = failing ? """
+                        assertion {
+                            topic: "topic-%s"
+                            $.value.name contains "missing"
+                        }
+                """.formatted(name) : "";
+        return Files.writeString(directory.resolve(name + ".plan"), """
+                TestPlan %s {
+                    clients:   2
+                    cycleTime: 10ms
+                    execution: %s
+
+                    connection {
+                        bootstrapServer: "loopback"
+                    }
+
+                    Step1 {
+                        message {
+                            topic: "topic-%s"
+                            value: "{\\"name\\": \\"kafka-load-${index}\\"}"
+                        }
+                %s    }
+                }
+                """.formatted(name, execution, name, assertion)).toString();
+    }
+
+    private String[] arguments(String... arguments) {
+        return Stream.concat(Stream.of("-p", properties.toString(), "-r", reports.toString()), Stream.of(arguments))
+                .toArray(String[]::new);
+    }
+
+    private List<String> summaryLines() throws IOException {
+        try (var files = Files.list(reports)) {
+            var file = files.filter(path -> path.getFileName().toString().startsWith("kafka-load-summary-"))
+                    .findFirst()
+                    .orElseThrow();
+            return Files.readAllLines(file, UTF_8);
+        }
+    }
+
+    private List<String> summary() throws IOException {
+        return summaryLines().stream()
+                .skip(1)
+                .map(line -> line.substring(0, line.indexOf(',', line.indexOf(',') + 1)))
+                .sorted()
+                .collect(toList());
+    }
+
+    @Test
+    @DisplayName("Searches and benchmarks can not run in parallel")
+    void parallelSearchTest() {
+        assertTrue(execute(2, "--parallel", "--saturate", "p99 < 50ms", "plan.kafka")
+                .contains("--parallel can not be combined with --saturate"));
+        assertTrue(execute(2, "--parallel", "--matrix", "plan.kafka")
+                .contains("--parallel can not be combined with --matrix"));
+    }
+
+    @Test
+    @DisplayName("Test plans executed in parallel")
+    void parallelTest() throws IOException {
+        var first = plan("First", "500ms", false);
+        var second = plan("Second", "500ms", false);
+        execute(0, arguments("--parallel", first, second));
+        assertEquals(List.of("First,SUCCESS", "Second,SUCCESS"), summary());
+    }
+
+    @Test
+    @DisplayName("Without fail fast, parallel test plans run to their end when one fails")
+    void parallelFailureTest() throws IOException {
+        var failing = plan("Failing", "500ms", true);
+        var passing = plan("Passing", "1s", false);
+        execute(1, arguments("--parallel", failing, passing));
+        assertEquals(List.of("Failing,ERROR", "Passing,SUCCESS"), summary());
+    }
+
+    @Test
+    @DisplayName("With fail fast, the first failure aborts the other parallel test plans")
+    void failFastTest() throws IOException {
+        var failing = plan("Failing", "500ms", true);
+        var longer = plan("Longer", "60s", false);
+        assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> execute(1, arguments("--parallel", "--fail-fast", failing, longer)));
+        assertEquals(List.of("Failing,ERROR", "Longer,ABORTED"), summary());
+    }
+
+    @Test
+    @DisplayName("Sequential test plans stop on the first failure")
+    void sequentialFailureTest() throws IOException {
+        var failing = plan("Failing", "500ms", true);
+        var never = plan("Never", "500ms", false);
+        execute(1, arguments(failing, never));
+        assertEquals(List.of("Failing,ERROR"), summary());
+    }
+
+    @Test
+    @DisplayName("Profiled runs have the profile of each test plan on the summary")
+    void profileTest() throws IOException {
+        var first = plan("First", "500ms", false);
+        var second = plan("Second", "500ms", false);
+        execute(0, arguments("--profile", first, second));
+        var lines = summaryLines();
+        var header = List.of(lines.get(0).split(","));
+        var allocated = header.indexOf("allocated_bytes_per_message");
+        assertTrue(allocated > 0, lines.get(0));
+        assertEquals(header.size() - 4, allocated);
+        assertEquals(3, lines.size());
+        for (var line : lines.subList(1, lines.size())) {
+            var columns = line.split(",", -1);
+            assertEquals(header.size(), columns.length, line);
+            assertTrue(Double.parseDouble(columns[allocated]) >= 0, line);
+            assertTrue(Double.parseDouble(columns[header.indexOf("paused_share")]) < 1, line);
+        }
+        try (var files = Files.list(reports)) {
+            assertTrue(files.anyMatch(path -> path.getFileName().toString().endsWith(".jfr")));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+open module io.vepo.kafka.load.runtime.test {
+    requires info.picocli;
+    requires io.vepo.kafka.load.engine;
+    requires io.vepo.kafka.load.runtime;
+    requires org.junit.jupiter.api;
+}